@@ -0,0 +1,32 @@
+package com.turkcell.benchmarks;
+
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * Embedded Broker
+ * Benchmark process'i içinde tek node'lu KRaft Kafka broker'ı - ZooKeeper ve Docker gerekmez
+ * Topic'ler verilen partition sayısıyla baştan oluşturulur; servisler broker'a getBootstrapServers ile bağlanır
+ */
+public final class EmbeddedBroker implements AutoCloseable {
+	private final EmbeddedKafkaKraftBroker broker;
+
+	public EmbeddedBroker(int partitions, String... topics) {
+		this.broker = new EmbeddedKafkaKraftBroker(1, partitions, topics);
+		// Tek broker: iç topic'ler (consumer offset'leri, transaction log) tek kopya tutulur
+		broker.brokerProperty("offsets.topic.replication.factor", "1");
+		broker.brokerProperty("transaction.state.log.replication.factor", "1");
+		broker.brokerProperty("transaction.state.log.min.isr", "1");
+		// product-service'in consumer grubu katıldığı anda partition alır
+		broker.brokerProperty("group.initial.rebalance.delay.ms", "0");
+		broker.afterPropertiesSet();
+	}
+
+	public String getBootstrapServers() {
+		return broker.getBrokersAsString();
+	}
+
+	@Override
+	public void close() {
+		broker.destroy();
+	}
+}
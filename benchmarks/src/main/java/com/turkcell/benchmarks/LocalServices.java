@@ -0,0 +1,154 @@
+package com.turkcell.benchmarks;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local Services
+ * Servisleri depodaki configurations/<servis> ayarlarıyla, paketlenmiş jar'larından başlatır - yalnızca veritabanı
+ * (H2), Kafka (gömülü broker), discovery (Eureka kapalı) ve portlar değişir
+ * Üzerine yazılan ayarlar out dizininde <servis>.yml olarak durur
+ */
+public final class LocalServices {
+
+	private LocalServices() {
+	}
+
+	/**
+	 * @param h2Database H2 veritabanı: mem:&lt;ad&gt; ya da file:&lt;mutlak yol&gt;
+	 */
+	public static ServiceProcess productService(Path root, Path out, String bootstrapServers, String h2Database,
+			List<String> extraArgs, HttpClient client) throws IOException, InterruptedException {
+		int port = ServiceProcess.freePort();
+		String r2dbcDatabase = h2Database.startsWith("file:")
+				? "file:///" + h2Database.substring("file:".length())
+				: "mem:///" + h2Database.substring("mem:".length());
+		Path config = out.resolve("product-service.yml");
+		Files.writeString(config, """
+				# Benchmark tarafından üretildi - configurations/product-service ayarlarının üzerine yazar
+				server:
+				  port: %d
+				spring:
+				  application:
+				    name: product-service
+				  autoconfigure:
+				    exclude:
+				      - org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration
+				      - org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration
+				  cloud:
+				    config:
+				      enabled: false
+				    function:
+				      definition: orderCreated
+				    stream:
+				      kafka:
+				        binder:
+				          brokers: %s
+				  kafka:
+				    bootstrap-servers: %s
+				  datasource:
+				    url: jdbc:h2:%s;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1
+				    driver-class-name: org.h2.Driver
+				    username: sa
+				    password: ""
+				  jpa:
+				    database-platform: org.hibernate.dialect.H2Dialect
+				eureka:
+				  client:
+				    enabled: false
+				management:
+				  endpoints:
+				    web:
+				      exposure:
+				        include: health,metrics
+				product:
+				  reactive-read:
+				    port: %d
+				    r2dbc:
+				      url: r2dbc:h2:%s;DB_CLOSE_DELAY=-1
+				      username: sa
+				      password: ""
+				""".formatted(port, bootstrapServers, bootstrapServers, h2Database, ServiceProcess.freePort(),
+				r2dbcDatabase));
+
+		List<String> launch = new ArrayList<>();
+		// H2 product-service'te test kapsamında - PropertiesLauncher ile jar'ın yanına eklenir
+		launch.add("-Dloader.path=" + location("org.h2.Driver") + "," + location("io.r2dbc.h2.H2ConnectionFactory"));
+		launch.add("-cp");
+		launch.add(ServiceProcess.jar(root, "product-service").toString());
+		launch.add("org.springframework.boot.loader.launch.PropertiesLauncher");
+		launch.add(configLocation(root, "product-service", config));
+		launch.addAll(extraArgs);
+		return ServiceProcess.start("product-service", launch, port, out, client);
+	}
+
+	public static ServiceProcess orderService(Path root, Path out, String bootstrapServers, List<String> extraArgs,
+			HttpClient client) throws IOException, InterruptedException {
+		int port = ServiceProcess.freePort();
+		List<String> launch = new ArrayList<>(List.of("-jar", ServiceProcess.jar(root, "order-service").toString(),
+				"--server.port=" + port,
+				"--spring.kafka.bootstrap-servers=" + bootstrapServers,
+				"--spring.cloud.stream.kafka.binder.brokers=" + bootstrapServers,
+				"--eureka.client.enabled=false"));
+		launch.addAll(extraArgs);
+		return ServiceProcess.start("order-service", launch, port, out, client);
+	}
+
+	/**
+	 * Gateway instance listesini registryFeedUrl'deki akıştan alır (discovery-server yerine DiscoveryStandIn)
+	 */
+	public static ServiceProcess gateway(Path root, Path out, String bootstrapServers, String registryFeedUrl,
+			List<String> extraArgs, HttpClient client) throws IOException, InterruptedException {
+		int port = ServiceProcess.freePort();
+		Path config = out.resolve("gateway-server.yml");
+		Files.writeString(config, """
+				# Benchmark tarafından üretildi - configurations/gateway-server ayarlarının üzerine yazar
+				server:
+				  port: %d
+				spring:
+				  application:
+				    name: gateway-server
+				  cloud:
+				    config:
+				      enabled: false
+				    stream:
+				      kafka:
+				        binder:
+				          brokers: %s
+				  kafka:
+				    bootstrap-servers: %s
+				eureka:
+				  client:
+				    enabled: false
+				gateway:
+				  registry-feed:
+				    url: %s
+				""".formatted(port, bootstrapServers, bootstrapServers, registryFeedUrl));
+
+		List<String> launch = new ArrayList<>(List.of("-jar", ServiceProcess.jar(root, "gateway-server").toString(),
+				configLocation(root, "gateway-server", config)));
+		launch.addAll(extraArgs);
+		return ServiceProcess.start("gateway-server", launch, port, out, client);
+	}
+
+	/**
+	 * Sonraki konum öncekinin üzerine yazar
+	 */
+	private static String configLocation(Path root, String service, Path overrides) {
+		Path configurations = root.resolve("configurations").resolve(service);
+		return "--spring.config.location=file:" + configurations.resolve("application.yml") + ",file:"
+				+ configurations.resolve("application-dev.yml") + ",file:" + overrides;
+	}
+
+	private static Path location(String className) {
+		try {
+			return Path.of(Class.forName(className).getProtectionDomain().getCodeSource().getLocation().toURI());
+		} catch (Exception ex) {
+			throw new IllegalStateException(className + " benchmark classpath'inde bulunamadı", ex);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.turkcell.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resources
+ * Benchmark'ın açtığı kaynaklar - ters sırada kapatılır (önce yük ve ölçüm, sonra servisler, en son broker)
+ * Ctrl+C ile kesilen çalıştırmada servis process'leri de shutdown hook ile kapatılır
+ */
+public final class Resources implements AutoCloseable {
+	private final List<AutoCloseable> resources = new ArrayList<>();
+
+	public Resources() {
+		Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+	}
+
+	public synchronized <T extends AutoCloseable> T add(T resource) {
+		resources.add(resource);
+		return resource;
+	}
+
+	@Override
+	public synchronized void close() {
+		for (int i = resources.size() - 1; i >= 0; i--) {
+			try {
+				resources.get(i).close();
+			} catch (Exception ex) {
+				System.err.println("Kapatılamadı: " + ex.getMessage());
+			}
+		}
+		resources.clear();
+	}
+}
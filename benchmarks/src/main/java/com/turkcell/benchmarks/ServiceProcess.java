@@ -0,0 +1,132 @@
+package com.turkcell.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Service Process
+ * Bir servisi paketlenmiş jar'ından ayrı bir JVM olarak başlatır ve /actuator/health UP olana kadar bekler
+ * Çıktı out dizinindeki <servis>.log'a yazılır; JAVA_OPTS ortam değişkeni servis JVM'lerine aktarılır
+ */
+public final class ServiceProcess implements AutoCloseable {
+	private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+	private final String name;
+	private final Process process;
+	private final int port;
+	private final Path log;
+
+	private ServiceProcess(String name, Process process, int port, Path log) {
+		this.name = name;
+		this.process = process;
+		this.port = port;
+		this.log = log;
+	}
+
+	/**
+	 * @param launch java'dan sonraki argümanlar (ör. -jar app.jar --server.port=...)
+	 */
+	public static ServiceProcess start(String name, List<String> launch, int port, Path out, HttpClient client)
+			throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		String javaOpts = System.getenv("JAVA_OPTS");
+		if (javaOpts != null && !javaOpts.isBlank()) {
+			command.addAll(List.of(javaOpts.trim().split("\\s+")));
+		}
+		command.addAll(launch);
+		Path log = out.resolve(name + ".log");
+		Process process = new ProcessBuilder(command)
+				.redirectErrorStream(true)
+				.redirectOutput(log.toFile())
+				.start();
+		ServiceProcess service = new ServiceProcess(name, process, port, log);
+		try {
+			service.awaitHealthy(client);
+		} catch (IOException | InterruptedException | RuntimeException ex) {
+			service.close();
+			throw ex;
+		}
+		return service;
+	}
+
+	/**
+	 * target/ altındaki çalıştırılabilir jar (spring-boot-maven-plugin'in ürettiği, .original olmayan)
+	 */
+	public static Path jar(Path root, String module) throws IOException {
+		Path target = root.resolve(module).resolve("target");
+		if (Files.isDirectory(target)) {
+			try (Stream<Path> files = Files.list(target)) {
+				List<Path> jars = files.filter(file -> file.getFileName().toString().endsWith(".jar")).toList();
+				if (!jars.isEmpty()) {
+					return jars.get(0);
+				}
+			}
+		}
+		throw new IllegalStateException(module + " jar'ı bulunamadı - önce: (cd " + module
+				+ " && mvn -DskipTests package)");
+	}
+
+	public static int freePort() {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	public int port() {
+		return port;
+	}
+
+	public String baseUrl() {
+		return "http://localhost:" + port;
+	}
+
+	private void awaitHealthy(HttpClient client) throws IOException, InterruptedException {
+		HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl() + "/actuator/health"))
+				.timeout(Duration.ofSeconds(2))
+				.GET()
+				.build();
+		long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+		while (System.nanoTime() < deadline) {
+			if (!process.isAlive()) {
+				throw new IllegalStateException(name + " açılmadan sonlandı - bkz. " + log);
+			}
+			try {
+				if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+					return;
+				}
+			} catch (IOException ex) {
+				// Port henüz dinlenmiyor
+			}
+			Thread.sleep(200);
+		}
+		throw new IllegalStateException(name + " " + STARTUP_TIMEOUT.toSeconds() + " sn içinde UP olmadı - bkz. " + log);
+	}
+
+	@Override
+	public void close() {
+		process.destroy();
+		try {
+			if (!process.waitFor(15, TimeUnit.SECONDS)) {
+				process.destroyForcibly().waitFor();
+			}
+		} catch (InterruptedException ex) {
+			process.destroyForcibly();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.turkcell.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Zipf Sampler
+ * 0..n-1 arasında, k. sıranın olasılığı 1/(k+1)^s ile orantılı indeks üretir - birkaç ürün siparişlerin büyük
+ * kısmını alır (aynı partition'a ve aynı satıra yığılma); s = 0 eşit dağılımdır
+ * Kümülatif dağılım bir kez hesaplanır, her örnek bir ikili aramadır
+ */
+public final class ZipfSampler {
+	private final double[] cdf;
+
+	public ZipfSampler(int n, double exponent) {
+		cdf = new double[n];
+		double sum = 0;
+		for (int k = 0; k < n; k++) {
+			sum += 1.0 / Math.pow(k + 1, exponent);
+			cdf[k] = sum;
+		}
+		for (int k = 0; k < n; k++) {
+			cdf[k] /= sum;
+		}
+	}
+
+	public int next() {
+		double u = ThreadLocalRandom.current().nextDouble();
+		int index = Arrays.binarySearch(cdf, u);
+		return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+	}
+
+	/**
+	 * İlk k sıranın toplam payı - rapora yazılır
+	 */
+	public double share(int k) {
+		return k <= 0 ? 0 : cdf[Math.min(k, cdf.length) - 1];
+	}
+}
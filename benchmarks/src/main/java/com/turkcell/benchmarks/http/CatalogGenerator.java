@@ -0,0 +1,150 @@
+package com.turkcell.benchmarks.http;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Catalog Generator
+ * Tohumdan (seed) belirlenimci sentetik katalog: i. ürünün ID'si ve içeriği her çalıştırmada aynıdır, bu yüzden
+ * milyonlarca ürünün ID'si bellekte tutulmadan productId(i) ile yeniden üretilir
+ *
+ * Uzunluklar gerçek kataloglardaki gibi sağa çarpık (log-normal) dağılır: ad medyanı ~45 karakter (8..200),
+ * açıklama medyanı ~300 karakter (40..1000 - içe aktarım sınırı); fiyat 5..50.000 TRY arası log-normal, stok 0..500
+ */
+final class CatalogGenerator {
+	static final String CSV_HEADER = "id,name,description,price,currency,stock";
+
+	private static final String[] BRANDS = { "Arçelik", "Vestel", "Beko", "Casper", "Monster", "Philips", "Samsung",
+			"Lenovo", "Xiaomi", "Anker", "Logitech", "Tefal", "Karaca", "Paşabahçe", "Koton", "Mavi", "LC Waikiki",
+			"Decathlon", "Nike", "Adidas", "Faber-Castell", "Eti", "Ülker", "Altınyıldız" };
+	private static final String[] ADJECTIVES = { "Kablosuz", "Akıllı", "Paslanmaz Çelik", "Ergonomik", "Şarjlı",
+			"Katlanabilir", "Su Geçirmez", "Mekanik", "Organik", "Pamuklu", "Dijital", "Taşınabilir", "Profesyonel",
+			"Mini", "Ultra İnce", "Yapışmaz", "Ahşap", "Seramik", "Hafif", "Sessiz" };
+	private static final String[] NOUNS = { "Kulaklık", "Klavye", "Mouse", "Monitör", "Tencere Seti", "Çaydanlık",
+			"Blender", "Süpürge", "Laptop Çantası", "Powerbank", "Koşu Ayakkabısı", "Mont", "Kot Pantolon",
+			"Defter", "Kalem Seti", "Bardak Takımı", "Masa Lambası", "Hoparlör", "Akıllı Saat", "Tişört",
+			"Ütü", "Kahve Makinesi", "Tava", "Sırt Çantası" };
+	private static final String[] ATTRIBUTES = { "Siyah", "Beyaz", "Lacivert", "Kırmızı", "Gri", "128 GB", "256 GB",
+			"1,5 L", "2 Kişilik", "6'lı", "XL", "M", "42 Numara", "USB-C", "Bluetooth 5.3", "24 cm", "1200 W",
+			"RGB", "Türkçe Q", "A4" };
+	private static final String[] SENTENCES = { "Günlük kullanım için tasarlanmıştır",
+			"Uzun ömürlü malzemeden üretilmiştir", "Kolay temizlenir ve bulaşık makinesinde yıkanabilir",
+			"Kutu içeriğinde kullanım kılavuzu ve garanti belgesi bulunur", "Hafif gövdesi sayesinde kolayca taşınır",
+			"İki yıl üretici garantilidir", "Tek şarjla gün boyu kullanım sunar",
+			"Ergonomik yapısı uzun süreli kullanımda konfor sağlar", "Enerji verimliliği sınıfı A++'dır",
+			"Ürün rengi ekran ayarlarına göre farklılık gösterebilir", "Hızlı kargo ile aynı gün gönderilir",
+			"Çevre dostu ambalajla teslim edilir", "Kaymaz tabanı sayesinde sabit durur",
+			"Tüm cihazlarla uyumludur", "Yumuşak dokulu kumaşı cildi tahriş etmez",
+			"Paslanmaya ve çizilmeye karşı dayanıklıdır", "Sessiz motoru rahatsız etmez",
+			"Şık tasarımıyla her ortama uyum sağlar" };
+
+	private final long seed;
+
+	CatalogGenerator(long seed) {
+		this.seed = seed;
+	}
+
+	String productId(long index) {
+		// Sürüm 4 / IETF varyantı biçiminde; üst yarı tohumdan, alt yarı sıradan
+		return new UUID((seed << 32) | 0x4000L, 0x8000_0000_0000_0000L | index).toString();
+	}
+
+	Product product(long index, int revision) {
+		SplittableRandom random = new SplittableRandom(mix(mix(seed ^ index) + revision));
+		String name = name(random);
+		String description = description(random);
+		BigDecimal price = BigDecimal.valueOf(Math.min(Math.max(Math.exp(5 + 1.5 * gaussian(random)), 5), 50_000))
+				.setScale(2, RoundingMode.HALF_UP);
+		return new Product(name, description, price, random.nextInt(501));
+	}
+
+	/**
+	 * Kataloğu içe aktarım CSV'si olarak yazar - metinlerde tırnak ve satır sonu yoktur, her ürün tek satırdır
+	 */
+	void writeCsv(Path file, long count) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write(CSV_HEADER);
+			writer.write('\n');
+			for (long i = 0; i < count; i++) {
+				Product product = product(i, 0);
+				writer.write(productId(i));
+				writer.write(",\"");
+				writer.write(product.name());
+				writer.write("\",\"");
+				writer.write(product.description());
+				writer.write("\",");
+				writer.write(product.price().toPlainString());
+				writer.write(",TRY,");
+				writer.write(Integer.toString(product.stock()));
+				writer.write('\n');
+				if ((i + 1) % 1_000_000 == 0) {
+					System.out.printf("  %,d ürün yazıldı%n", i + 1);
+				}
+			}
+		}
+	}
+
+	private static String name(SplittableRandom random) {
+		int target = length(random, 45, 0.45, 8, 200);
+		StringBuilder name = new StringBuilder(pick(random, BRANDS)).append(' ').append(pick(random, ADJECTIVES))
+				.append(' ').append(pick(random, NOUNS));
+		while (name.length() < target) {
+			name.append(' ').append(pick(random, ATTRIBUTES));
+		}
+		return truncate(name, 200);
+	}
+
+	private static String description(SplittableRandom random) {
+		int target = length(random, 300, 0.6, 40, 1000);
+		StringBuilder description = new StringBuilder();
+		while (description.length() < target) {
+			if (!description.isEmpty()) {
+				description.append(". ");
+			}
+			description.append(pick(random, SENTENCES));
+		}
+		return truncate(description.append('.'), 1000);
+	}
+
+	private static int length(SplittableRandom random, int median, double sigma, int min, int max) {
+		return (int) Math.min(Math.max(median * Math.exp(sigma * gaussian(random)), min), max);
+	}
+
+	/**
+	 * Box-Muller - SplittableRandom'da nextGaussian yok
+	 */
+	private static double gaussian(SplittableRandom random) {
+		return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+	}
+
+	/**
+	 * MurmurHash3 sonlandırıcısı - ardışık tohumlar SplittableRandom'da birbirinin kaydırılmış akışını üretmesin
+	 */
+	private static long mix(long value) {
+		value = (value ^ (value >>> 33)) * 0xFF51_AFD7_ED55_8CCDL;
+		value = (value ^ (value >>> 33)) * 0xC4CE_B9FE_1A85_EC53L;
+		return value ^ (value >>> 33);
+	}
+
+	private static String pick(SplittableRandom random, String[] words) {
+		return words[random.nextInt(words.length)];
+	}
+
+	private static String truncate(StringBuilder text, int maxLength) {
+		if (text.length() <= maxLength) {
+			return text.toString();
+		}
+		int end = text.lastIndexOf(" ", maxLength);
+		return text.substring(0, end > 0 ? end : maxLength);
+	}
+
+	record Product(String name, String description, BigDecimal price, int stock) {
+	}
+}
@@ -0,0 +1,82 @@
+package com.turkcell.benchmarks.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Discovery Stand-In
+ * discovery-server'ın /registry/changes akışını benchmark process'i içinde taklit eder: bağlanan gateway'e
+ * sabit instance listesini (snapshot), ardından "ready" gönderir ve bağlantıyı heartbeat'le canlı tutar
+ * Gateway'in push tabanlı load balancer'ı (PushServiceInstanceListSupplier) böylece Eureka olmadan çalışır
+ */
+final class DiscoveryStandIn implements AutoCloseable {
+	static final String PATH = "/registry/changes";
+	private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(10);
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final String snapshot;
+
+	DiscoveryStandIn(String application, String host, int port) throws IOException {
+		this.snapshot = snapshot(application, host, port);
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(executor);
+		server.createContext(PATH, this::stream);
+		server.start();
+	}
+
+	String feedUrl() {
+		return "http://localhost:" + server.getAddress().getPort() + PATH;
+	}
+
+	private void stream(HttpExchange exchange) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+		exchange.sendResponseHeaders(200, 0);
+		try (OutputStream body = exchange.getResponseBody()) {
+			send(body, "snapshot", snapshot);
+			send(body, "ready", "1");
+			while (true) {
+				Thread.sleep(HEARTBEAT_INTERVAL);
+				send(body, "heartbeat", "1");
+			}
+		} catch (IOException | InterruptedException ex) {
+			// Gateway bağlantıyı kapattı ya da stand-in durduruldu
+		}
+	}
+
+	private static void send(OutputStream body, String event, String data) throws IOException {
+		body.write(("event:" + event + "\ndata:" + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+		body.flush();
+	}
+
+	private static String snapshot(String application, String host, int port) throws JsonProcessingException {
+		return new ObjectMapper().writeValueAsString(Map.of(
+				"application", application.toUpperCase(Locale.ROOT),
+				"version", 1,
+				"instances", List.of(Map.of(
+						"instanceId", host + ":" + application + ":" + port,
+						"host", host,
+						"port", port,
+						"secure", false,
+						"metadata", Map.of()))));
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,21 @@
+package com.turkcell.benchmarks.http;
+
+/**
+ * Ölçülen product-service uç noktaları - rapor ve .hgrm dosyaları bu adlarla yazılır
+ */
+enum Endpoint {
+	LIST("GET /api/v1/products"),
+	GET("GET /api/v1/products/{id}"),
+	CREATE("POST /api/v1/products"),
+	UPDATE("PUT /api/v1/products/{id}");
+
+	private final String label;
+
+	Endpoint(String label) {
+		this.label = label;
+	}
+
+	String label() {
+		return label;
+	}
+}
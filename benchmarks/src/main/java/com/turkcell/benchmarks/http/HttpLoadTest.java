@@ -0,0 +1,239 @@
+package com.turkcell.benchmarks.http;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.benchmarks.EmbeddedBroker;
+import com.turkcell.benchmarks.LocalServices;
+import com.turkcell.benchmarks.Resources;
+import com.turkcell.benchmarks.ServiceProcess;
+import com.turkcell.benchmarks.ZipfSampler;
+
+/**
+ * REST yolları için yük testi: GET /api/v1/products, GET /{id}, POST, PUT - doğrudan product-service'e ve
+ * gateway-server üzerinden
+ *
+ * Gömülü KRaft broker'ı (yazmalar product-changes'e olay yayınlar), H2 dosya veritabanıyla product-service'i ve
+ * instance listesini DiscoveryStandIn'den alan gateway-server'ı tek makinede başlatır. Sentetik katalog
+ * (CatalogGenerator) CSV içe aktarımıyla parça parça yüklenir, ardından her hedef için ısınma ve ölçüm
+ * çalıştırmaları açık model yükle (OpenModelLoad) yapılır; iki hedef aynı veritabanını ve aynı karışımı görür
+ * Servisler depodaki configurations/ ayarlarıyla çalışır (yalnızca veritabanı, broker, discovery ve portlar değişir)
+ *
+ * İlerleme satırları SLF4J ile loglanır, sonuç tabloları stdout'a yazılır
+ *
+ * Çıktılar (out dizini): summary.csv, <hedef>-<uç nokta>.hgrm (düzeltilmiş gecikme, tüm istekler),
+ * <hedef>-<uç nokta>-errors.hgrm (2xx dışı ve başarısız istekler), catalog-<n>-<tohum>.csv
+ * (sonraki çalıştırmalarda yeniden kullanılır), servis logları
+ */
+public class HttpLoadTest {
+	private static final Logger log = LoggerFactory.getLogger(HttpLoadTest.class);
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options;
+		try {
+			options = LoadTestOptions.parse(args);
+		} catch (IllegalArgumentException ex) {
+			System.err.println(ex.getMessage());
+			System.exit(1);
+			return;
+		}
+		Files.createDirectories(options.out());
+		CatalogGenerator catalog = new CatalogGenerator(options.seed());
+		Path csv = options.out().resolve("catalog-" + options.products() + "-" + options.seed() + ".csv");
+		if (!Files.exists(csv)) {
+			log.info("katalog üretiliyor: {} ürün → {}", String.format("%,d", options.products()), csv);
+			Path partial = csv.resolveSibling(csv.getFileName() + ".tmp");
+			catalog.writeCsv(partial, options.products());
+			Files.move(partial, csv);
+		}
+		if (options.catalogOnly()) {
+			System.out.println("Katalog: " + csv);
+			return;
+		}
+		boolean viaGateway = options.targets().contains("gateway");
+		// Jar'lar yoksa broker başlatılmadan durulur
+		ServiceProcess.jar(options.root(), "product-service");
+		if (viaGateway) {
+			ServiceProcess.jar(options.root(), "gateway-server");
+		}
+
+		HttpClient client = HttpClient.newBuilder()
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+		try (Resources resources = new Resources()) {
+			log.info("Kafka broker başlatılıyor...");
+			EmbeddedBroker broker = resources.add(new EmbeddedBroker(1, "product-changes", "order-topic"));
+			String bootstrapServers = broker.getBootstrapServers();
+
+			log.info("product-service başlatılıyor...");
+			Path database = options.out().resolve("h2").resolve("catalog");
+			Files.deleteIfExists(database.resolveSibling("catalog.mv.db"));
+			Files.deleteIfExists(database.resolveSibling("catalog.trace.db"));
+			ServiceProcess productService = resources.add(LocalServices.productService(options.root(),
+					options.out(), bootstrapServers, "file:" + database, options.productServiceArgs(), client));
+			importCatalog(client, productService, csv, options.products(), options.importChunk());
+
+			ServiceProcess gateway = null;
+			if (viaGateway) {
+				DiscoveryStandIn discovery = resources.add(new DiscoveryStandIn("product-service", "localhost",
+						productService.port()));
+				log.info("gateway-server başlatılıyor...");
+				gateway = resources.add(LocalServices.gateway(options.root(), options.out(), bootstrapServers,
+						discovery.feedUrl(), options.gatewayArgs(), client));
+				awaitRoute(client, gateway, catalog.productId(0));
+			}
+
+			ZipfSampler sampler = new ZipfSampler(options.products(), options.skew());
+			System.out.printf("katalog=%,d ürün, skew=%.2f (en popüler 1 ürün %%%.1f, ilk %%1 %%%.1f erişim), "
+					+ "karışım=%s%n", options.products(), options.skew(), sampler.share(1) * 100,
+					sampler.share(Math.max(options.products() / 100, 1)) * 100, options.mix());
+			OpenModelLoad load = resources.add(new OpenModelLoad(client, catalog, options.products(), sampler,
+					options.mix(), options.maxInFlight()));
+
+			List<String> summary = new ArrayList<>();
+			summary.add("target,endpoint,rate,duration_s,ok,4xx,5xx,failed,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,"
+					+ "uncorrected_p50_ms,uncorrected_p99_ms,error_p99_ms");
+			for (String target : options.targets()) {
+				String baseUrl = target.equals("gateway") ? gateway.baseUrl() : productService.baseUrl();
+				if (!options.warmup().isZero()) {
+					log.info("[{}] ısınma: {} istek/sn, {} sn", target, options.rate(), options.warmup().toSeconds());
+					load.run(baseUrl, options.rate(), options.warmup(), options.maxInFlight());
+				}
+				log.info("[{}] ölçüm: {} istek/sn, {} sn", target, options.rate(), options.duration().toSeconds());
+				Map<Endpoint, OpenModelLoad.Stats> results = load.run(baseUrl, options.rate(), options.duration(),
+						options.maxInFlight());
+				for (Map.Entry<Endpoint, OpenModelLoad.Stats> entry : results.entrySet()) {
+					report(options, target, entry.getKey(), entry.getValue(), summary);
+				}
+			}
+			Files.write(options.out().resolve("summary.csv"), summary);
+			System.out.println();
+			System.out.println("Sonuçlar: " + options.out());
+		}
+	}
+
+	/**
+	 * CSV importChunk satırlık parçalar halinde (her biri başlıklı) gönderilir - tek istekte milyonlarca satır
+	 * yüklemek yerine istek gövdesi ve transaction sınırlı kalır
+	 */
+	private static void importCatalog(HttpClient client, ServiceProcess productService, Path csv, int products,
+			int chunkSize) throws IOException, InterruptedException {
+		log.info("katalog içe aktarılıyor: {} ürün, parça başına {}", String.format("%,d", products),
+				String.format("%,d", chunkSize));
+		URI imports = URI.create(productService.baseUrl() + "/api/v1/products/imports");
+		ObjectMapper objectMapper = new ObjectMapper();
+		long started = System.nanoTime();
+		long inserted = 0;
+		try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+			String header = reader.readLine();
+			StringBuilder chunk = new StringBuilder();
+			int lines = 0;
+			String line;
+			do {
+				line = reader.readLine();
+				if (line != null) {
+					chunk.append(line).append('\n');
+					lines++;
+				}
+				if (lines == chunkSize || (line == null && lines > 0)) {
+					HttpRequest request = HttpRequest.newBuilder(imports)
+							.timeout(Duration.ofMinutes(10))
+							.header("Content-Type", "text/csv; charset=UTF-8")
+							.POST(HttpRequest.BodyPublishers.ofString(header + "\n" + chunk, StandardCharsets.UTF_8))
+							.build();
+					HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+					JsonNode report = response.statusCode() == 201 ? objectMapper.readTree(response.body()) : null;
+					if (report == null || report.path("insertedCount").asLong() != lines) {
+						throw new IllegalStateException("Katalog yüklenemedi: HTTP " + response.statusCode() + " "
+								+ response.body());
+					}
+					inserted += lines;
+					log.info("  {} / {}", String.format("%,d", inserted), String.format("%,d", products));
+					chunk.setLength(0);
+					lines = 0;
+				}
+			} while (line != null);
+		}
+		log.info("içe aktarım {} sn", String.format("%.1f", (System.nanoTime() - started) / 1e9));
+	}
+
+	/**
+	 * Gateway UP olduğunda stand-in akışı henüz alınmamış olabilir - ürün route'u 200 dönene kadar beklenir
+	 */
+	private static void awaitRoute(HttpClient client, ServiceProcess gateway, String productId)
+			throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(gateway.baseUrl() + "/api/v1/products/" + productId))
+				.timeout(Duration.ofSeconds(5))
+				.GET()
+				.build();
+		long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+		int status = 0;
+		while (System.nanoTime() < deadline) {
+			status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			if (status == 200) {
+				return;
+			}
+			Thread.sleep(500);
+		}
+		throw new IllegalStateException("gateway product-service'e yönlendirmiyor (son durum " + status + ")");
+	}
+
+	private static void report(LoadTestOptions options, String target, Endpoint endpoint,
+			OpenModelLoad.Stats stats, List<String> summary) throws IOException {
+		Histogram corrected = stats.corrected;
+		Histogram uncorrected = stats.uncorrected;
+		Histogram errors = stats.errors;
+		StringBuilder line = new StringBuilder();
+		for (double percentile : PERCENTILES) {
+			line.append(String.format(Locale.ROOT, " p%s=%.2f", percentile == 99.9 ? "99.9" : (int) percentile,
+					millis(corrected, percentile)));
+		}
+		System.out.printf("  %-28s 2xx=%d 4xx=%d 5xx=%d hata=%d  ms:%s max=%.2f  (düzeltilmemiş p99=%.2f, "
+				+ "2xx dışı p99=%.2f)%n", endpoint.label(), stats.success.sum(), stats.clientErrors.sum(),
+				stats.serverErrors.sum(), stats.failures.sum(), line, corrected.getMaxValue() / 1000.0,
+				millis(uncorrected, 99), millis(errors, 99));
+		String name = endpoint.name().toLowerCase(Locale.ROOT);
+		summary.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f",
+				target, name, options.rate(), options.duration().toSeconds(),
+				stats.success.sum(), stats.clientErrors.sum(), stats.serverErrors.sum(), stats.failures.sum(),
+				millis(corrected, 50), millis(corrected, 90), millis(corrected, 99), millis(corrected, 99.9),
+				corrected.getMaxValue() / 1000.0, millis(uncorrected, 50), millis(uncorrected, 99),
+				millis(errors, 99)));
+		writeHgrm(options.out().resolve(target + "-" + name + ".hgrm"), corrected);
+		if (errors.getTotalCount() > 0) {
+			writeHgrm(options.out().resolve(target + "-" + name + "-errors.hgrm"), errors);
+		}
+	}
+
+	private static void writeHgrm(Path file, Histogram histogram) throws IOException {
+		try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+			histogram.outputPercentileDistribution(hgrm, 1000.0);
+		}
+	}
+
+	private static double millis(Histogram histogram, double percentile) {
+		return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+	}
+}
@@ -0,0 +1,131 @@
+package com.turkcell.benchmarks.http;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load Test Options
+ * --ad=değer biçimindeki komut satırı seçenekleri; servis argümanları tekrarlanabilir
+ *
+ * @param products           Sentetik katalogdaki ürün sayısı
+ * @param seed               Katalog tohumu - aynı tohum aynı kataloğu üretir
+ * @param importChunk        Katalog içe aktarımında istek başına satır
+ * @param rate               Tüm uç noktalar için toplam hedef istek hızı (istek/sn)
+ * @param duration           Her hedef için ölçüm süresi
+ * @param warmup             Her hedef için ölçülmeyen ısınma süresi
+ * @param skew               Ürün erişiminin Zipf üssü (0 = eşit dağılım)
+ * @param mix                Uç nokta ağırlıkları
+ * @param targets            Sırayla ölçülen hedefler: direct (product-service), gateway (gateway-server üzerinden)
+ * @param maxInFlight        Aynı anda yanıt beklenen en fazla istek
+ * @param catalogOnly        Yalnızca katalog CSV'sini üretip çık (ör. PostgreSQL'e içe aktarmak için)
+ * @param root               Depo kök dizini
+ * @param out                Raporların yazılacağı dizin
+ * @param productServiceArgs product-service'e eklenecek argümanlar
+ * @param gatewayArgs        gateway-server'a eklenecek argümanlar
+ */
+record LoadTestOptions(int products, long seed, int importChunk, int rate, Duration duration, Duration warmup,
+		double skew, Map<Endpoint, Integer> mix, List<String> targets, int maxInFlight, boolean catalogOnly, Path root,
+		Path out, List<String> productServiceArgs, List<String> gatewayArgs) {
+
+	static final String USAGE = """
+			Kullanım: HttpLoadTest [seçenekler]
+			  --products=1000000          katalogdaki ürün sayısı
+			  --seed=42                   katalog tohumu
+			  --import-chunk=100000       içe aktarım isteği başına satır
+			  --rate=500                  toplam hedef hız (istek/sn)
+			  --duration=60               hedef başına ölçüm süresi (sn)
+			  --warmup=15                 hedef başına ısınma süresi (sn)
+			  --skew=0.99                 Zipf üssü (0 = eşit dağılım)
+			  --mix=get:80,update:10,create:10
+			                              uç nokta ağırlıkları: list, get, create, update
+			                              (list tüm kataloğu döner - büyük katalogda bilinçli açın)
+			  --targets=direct,gateway    ölçülecek hedefler
+			  --max-in-flight=10000       aynı anda bekleyen en fazla istek
+			  --catalog-only=false        yalnızca katalog CSV'sini üret
+			  --root=..                   depo kök dizini
+			  --out=<root>/target/http-load-test
+			  --product-service-arg=...   product-service argümanı (tekrarlanabilir)
+			  --gateway-arg=...           gateway-server argümanı (tekrarlanabilir)""";
+
+	static LoadTestOptions parse(String[] args) {
+		int products = 1_000_000;
+		long seed = 42;
+		int importChunk = 100_000;
+		int rate = 500;
+		Duration duration = Duration.ofSeconds(60);
+		Duration warmup = Duration.ofSeconds(15);
+		double skew = 0.99;
+		Map<Endpoint, Integer> mix = mix("get:80,update:10,create:10");
+		List<String> targets = List.of("direct", "gateway");
+		int maxInFlight = 10_000;
+		boolean catalogOnly = false;
+		Path root = Path.of("..");
+		Path out = null;
+		List<String> productServiceArgs = new ArrayList<>();
+		List<String> gatewayArgs = new ArrayList<>();
+
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (!arg.startsWith("--") || eq < 0) {
+				throw new IllegalArgumentException("Geçersiz seçenek: " + arg + "\n" + USAGE);
+			}
+			String value = arg.substring(eq + 1);
+			switch (arg.substring(2, eq)) {
+				case "products" -> products = Integer.parseInt(value);
+				case "seed" -> seed = Long.parseLong(value);
+				case "import-chunk" -> importChunk = Integer.parseInt(value);
+				case "rate" -> rate = Integer.parseInt(value);
+				case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+				case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+				case "skew" -> skew = Double.parseDouble(value);
+				case "mix" -> mix = mix(value);
+				case "targets" -> targets = List.of(value.split(","));
+				case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+				case "catalog-only" -> catalogOnly = Boolean.parseBoolean(value);
+				case "root" -> root = Path.of(value);
+				case "out" -> out = Path.of(value);
+				case "product-service-arg" -> productServiceArgs.add(value);
+				case "gateway-arg" -> gatewayArgs.add(value);
+				default -> throw new IllegalArgumentException("Bilinmeyen seçenek: " + arg + "\n" + USAGE);
+			}
+		}
+		if (products <= 0 || importChunk <= 0 || rate <= 0 || maxInFlight <= 0 || duration.isZero() || skew < 0) {
+			throw new IllegalArgumentException("Geçersiz seçenek değeri\n" + USAGE);
+		}
+		for (String target : targets) {
+			if (!target.equals("direct") && !target.equals("gateway")) {
+				throw new IllegalArgumentException("Bilinmeyen hedef: " + target + " (direct, gateway)");
+			}
+		}
+		root = root.toAbsolutePath().normalize();
+		return new LoadTestOptions(products, seed, importChunk, rate, duration, warmup, skew, mix, targets,
+				maxInFlight, catalogOnly, root, out != null ? out.toAbsolutePath() : root.resolve("target/http-load-test"),
+				List.copyOf(productServiceArgs), List.copyOf(gatewayArgs));
+	}
+
+	private static Map<Endpoint, Integer> mix(String value) {
+		Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+		for (String entry : value.split(",")) {
+			String[] parts = entry.trim().split(":");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Geçersiz karışım: " + entry + " (ör. get:80)");
+			}
+			int weight = Integer.parseInt(parts[1].trim());
+			if (weight < 0) {
+				throw new IllegalArgumentException("Ağırlık negatif olamaz: " + entry);
+			}
+			if (weight > 0) {
+				mix.put(Endpoint.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+			}
+		}
+		if (mix.isEmpty()) {
+			throw new IllegalArgumentException("Karışımda en az bir uç nokta olmalı: " + value);
+		}
+		return mix;
+	}
+}
@@ -0,0 +1,201 @@
+package com.turkcell.benchmarks.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.benchmarks.ZipfSampler;
+
+/**
+ * Open Model Load
+ * Uç nokta karışımıyla açık model yük: i. istek başlangıçtan i / hız saniye sonra gönderilir, önceki isteklerin
+ * yanıtı beklenmez - sistem yavaşladığında gönderim hızı düşmez, gecikme birikir
+ *
+ * Her uç nokta için iki histogram tutulur:
+ *   - düzeltilmiş: planlanan gönderim anından yanıta (coordinated omission düzeltmesi - kullanıcının gördüğü)
+ *   - düzeltilmemiş: gerçek gönderim anından yanıta (yalnızca servis süresi - karşılaştırma için)
+ * Histogramlara her istek girer - 4xx/5xx yanıtlar ve zaman aşımına uğrayan ya da bağlanamayan istekler de,
+ * sonuçlandıkları ana kadar geçen süreyle: aşırı yükte düşen istekler yüzdelikleri aşağı çekmez
+ * 2xx dışı ve başarısız istekler ayrıca kendi düzeltilmiş histogramlarında tutulur ve durum sınıfına göre sayılır
+ * Yanıt bekleyen istek sayısı maxInFlight'ı aşarsa zamanlayıcı bekler; bu gecikme düzeltilmiş histograma yansır
+ *
+ * Ürünler Zipf sırasıyla seçilir; sıra, katalog indeksine çarpımsal bir karıştırmayla eşlenir - popüler ürünler
+ * katalogun başına (ve aynı shard'a) yığılmaz
+ */
+final class OpenModelLoad implements AutoCloseable {
+	private static final long HIGHEST_MICROS = Duration.ofMinutes(10).toNanos() / 1000;
+	// Asal; katalog boyutu bunun katı olmadıkça sıra → indeks eşlemesi birebirdir
+	private static final long SCATTER = 2_654_435_761L;
+
+	private final HttpClient client;
+	private final CatalogGenerator catalog;
+	private final int products;
+	private final ZipfSampler sampler;
+	private final Endpoint[] endpoints;
+	private final int[] cumulativeWeights;
+	private final Semaphore inFlight;
+	private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicLong revisions = new AtomicLong();
+	private final AtomicLong creates = new AtomicLong();
+
+	OpenModelLoad(HttpClient client, CatalogGenerator catalog, int products, ZipfSampler sampler,
+			Map<Endpoint, Integer> mix, int maxInFlight) {
+		this.client = client;
+		this.catalog = catalog;
+		this.products = products;
+		this.sampler = sampler;
+		this.endpoints = mix.keySet().toArray(Endpoint[]::new);
+		this.cumulativeWeights = new int[endpoints.length];
+		int sum = 0;
+		for (int i = 0; i < endpoints.length; i++) {
+			sum += mix.get(endpoints[i]);
+			cumulativeWeights[i] = sum;
+		}
+		this.inFlight = new Semaphore(maxInFlight);
+	}
+
+	/**
+	 * Hedef hızla süre boyunca istek gönderir ve tüm yanıtlar gelene kadar bekler
+	 */
+	Map<Endpoint, Stats> run(String baseUrl, int rate, Duration duration, int maxInFlight)
+			throws InterruptedException {
+		Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+		for (Endpoint endpoint : endpoints) {
+			stats.put(endpoint, new Stats());
+		}
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+		double intervalNanos = 1e9 / rate;
+		for (long i = 0;; i++) {
+			long intended = start + (long) (i * intervalNanos);
+			if (intended >= end) {
+				break;
+			}
+			long wait;
+			while ((wait = intended - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			inFlight.acquire();
+			Endpoint endpoint = nextEndpoint();
+			HttpRequest request;
+			try {
+				request = request(baseUrl, endpoint);
+			} catch (JsonProcessingException ex) {
+				inFlight.release();
+				throw new IllegalStateException(ex);
+			}
+			Stats endpointStats = stats.get(endpoint);
+			senders.execute(() -> send(request, intended, endpointStats));
+		}
+		inFlight.acquire(maxInFlight);
+		inFlight.release(maxInFlight);
+		return stats;
+	}
+
+	private Endpoint nextEndpoint() {
+		int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+		int i = 0;
+		while (cumulativeWeights[i] <= pick) {
+			i++;
+		}
+		return endpoints[i];
+	}
+
+	private HttpRequest request(String baseUrl, Endpoint endpoint) throws JsonProcessingException {
+		HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+		return switch (endpoint) {
+			case LIST -> builder.uri(URI.create(baseUrl + "/api/v1/products")).GET().build();
+			case GET -> builder.uri(URI.create(baseUrl + "/api/v1/products/" + catalog.productId(nextIndex())))
+					.GET()
+					.build();
+			case CREATE -> builder.uri(URI.create(baseUrl + "/api/v1/products"))
+					.header("Content-Type", "application/json")
+					// Katalog dışındaki indekslerden - içe aktarılan ürünlerle çakışmaz
+					.POST(HttpRequest.BodyPublishers.ofString(body(catalog.product(
+							(long) products + creates.getAndIncrement(), 0))))
+					.build();
+			case UPDATE -> builder.uri(URI.create(baseUrl + "/api/v1/products/" + catalog.productId(nextIndex())))
+					.header("Content-Type", "application/json")
+					// If-Match yok: aynı popüler ürüne eşzamanlı güncellemeler 412 yerine son yazan kazanır
+					.PUT(HttpRequest.BodyPublishers.ofString(body(catalog.product(nextIndex(),
+							(int) revisions.incrementAndGet()))))
+					.build();
+		};
+	}
+
+	private long nextIndex() {
+		return Math.floorMod(sampler.next() * SCATTER, (long) products);
+	}
+
+	private String body(CatalogGenerator.Product product) throws JsonProcessingException {
+		return objectMapper.writeValueAsString(Map.of(
+				"name", product.name(),
+				"description", product.description(),
+				"price", Map.of("amount", product.price(), "currency", "TRY"),
+				"stock", Map.of("quantity", product.stock())));
+	}
+
+	private void send(HttpRequest request, long intended, Stats stats) {
+		long sent = System.nanoTime();
+		int status = 0;
+		try {
+			status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+		} catch (Exception ex) {
+			if (ex instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+		} finally {
+			long now = System.nanoTime();
+			long correctedMicros = Math.min(Math.max((now - intended) / 1000, 0), HIGHEST_MICROS);
+			stats.corrected.recordValue(correctedMicros);
+			stats.uncorrected.recordValue(Math.min(Math.max((now - sent) / 1000, 0), HIGHEST_MICROS));
+			if (status / 100 != 2) {
+				stats.errors.recordValue(correctedMicros);
+			}
+			switch (status / 100) {
+				case 2 -> stats.success.increment();
+				case 4 -> stats.clientErrors.increment();
+				case 5 -> stats.serverErrors.increment();
+				default -> stats.failures.increment();
+			}
+			inFlight.release();
+		}
+	}
+
+	@Override
+	public void close() {
+		senders.close();
+	}
+
+	/**
+	 * Bir uç noktanın tek çalıştırmadaki sonuçları; gecikmeler mikrosaniye
+	 */
+	static final class Stats {
+		final Histogram corrected = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+		final Histogram uncorrected = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+		// Yalnızca 2xx dışı ve başarısız istekler (düzeltilmiş)
+		final Histogram errors = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+		final LongAdder success = new LongAdder();
+		final LongAdder clientErrors = new LongAdder();
+		final LongAdder serverErrors = new LongAdder();
+		// Bağlantı hatası, zaman aşımı
+		final LongAdder failures = new LongAdder();
+	}
+}
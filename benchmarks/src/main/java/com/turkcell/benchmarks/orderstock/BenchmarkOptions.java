@@ -0,0 +1,92 @@
+package com.turkcell.benchmarks.orderstock;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark Options
+ * --ad=değer biçimindeki komut satırı seçenekleri; servis argümanları tekrarlanabilir
+ *
+ * @param rates              Sırayla uygulanan hedef sipariş hızları (sipariş/sn)
+ * @param duration           Her hızın uygulandığı süre
+ * @param warmup             İlk hızla ölçülmeyen ısınma süresi
+ * @param products           Katalogdaki ürün sayısı
+ * @param skew               Ürün popülerliğinin Zipf üssü (0 = eşit dağılım)
+ * @param partitions         order-topic ve product-changes partition sayısı
+ * @param maxInFlight        Aynı anda yanıt beklenen en fazla sipariş isteği
+ * @param drainTimeout       Her adımdan sonra bekleyen siparişlerin uygulanması için tanınan süre
+ * @param root               Depo kök dizini (servis jar'ları ve configurations/ buradan okunur)
+ * @param out                Raporların yazılacağı dizin
+ * @param productServiceArgs product-service'e eklenecek argümanlar (ör. --spring.cloud.stream.bindings.orderCreated-in-0.consumer.concurrency=3)
+ * @param orderServiceArgs   order-service'e eklenecek argümanlar
+ */
+record BenchmarkOptions(List<Integer> rates, Duration duration, Duration warmup, int products, double skew,
+		int partitions, int maxInFlight, Duration drainTimeout, Path root, Path out, List<String> productServiceArgs,
+		List<String> orderServiceArgs) {
+
+	static final String USAGE = """
+			Kullanım: OrderStockBenchmark [seçenekler]
+			  --rates=200,500,1000        hedef sipariş hızları (sipariş/sn)
+			  --duration=30               her hız için süre (sn)
+			  --warmup=10                 ısınma süresi (sn)
+			  --products=1000             katalogdaki ürün sayısı
+			  --skew=1.0                  Zipf üssü (0 = eşit dağılım)
+			  --partitions=3              topic partition sayısı
+			  --max-in-flight=5000        aynı anda bekleyen en fazla istek
+			  --drain-timeout=60          adım sonunda bekleme süresi (sn)
+			  --root=..                   depo kök dizini
+			  --out=<root>/target/order-stock-benchmark
+			  --product-service-arg=...   product-service argümanı (tekrarlanabilir)
+			  --order-service-arg=...     order-service argümanı (tekrarlanabilir)""";
+
+	static BenchmarkOptions parse(String[] args) {
+		List<Integer> rates = List.of(200, 500, 1000);
+		Duration duration = Duration.ofSeconds(30);
+		Duration warmup = Duration.ofSeconds(10);
+		int products = 1000;
+		double skew = 1.0;
+		int partitions = 3;
+		int maxInFlight = 5000;
+		Duration drainTimeout = Duration.ofSeconds(60);
+		Path root = Path.of("..");
+		Path out = null;
+		List<String> productServiceArgs = new ArrayList<>();
+		List<String> orderServiceArgs = new ArrayList<>();
+
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (!arg.startsWith("--") || eq < 0) {
+				throw new IllegalArgumentException("Geçersiz seçenek: " + arg + "\n" + USAGE);
+			}
+			String value = arg.substring(eq + 1);
+			switch (arg.substring(2, eq)) {
+				case "rates" -> rates = Arrays.stream(value.split(",")).map(String::trim).map(Integer::valueOf).toList();
+				case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+				case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+				case "products" -> products = Integer.parseInt(value);
+				case "skew" -> skew = Double.parseDouble(value);
+				case "partitions" -> partitions = Integer.parseInt(value);
+				case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+				case "drain-timeout" -> drainTimeout = Duration.ofSeconds(Long.parseLong(value));
+				case "root" -> root = Path.of(value);
+				case "out" -> out = Path.of(value);
+				case "product-service-arg" -> productServiceArgs.add(value);
+				case "order-service-arg" -> orderServiceArgs.add(value);
+				default -> throw new IllegalArgumentException("Bilinmeyen seçenek: " + arg + "\n" + USAGE);
+			}
+		}
+		if (rates.isEmpty() || rates.stream().anyMatch(rate -> rate <= 0)) {
+			throw new IllegalArgumentException("Hızlar pozitif olmalı: " + rates);
+		}
+		if (products <= 0 || partitions <= 0 || maxInFlight <= 0 || duration.isZero() || skew < 0) {
+			throw new IllegalArgumentException("Geçersiz seçenek değeri\n" + USAGE);
+		}
+		root = root.toAbsolutePath().normalize();
+		return new BenchmarkOptions(rates, duration, warmup, products, skew, partitions, maxInFlight, drainTimeout,
+				root, out != null ? out.toAbsolutePath() : root.resolve("target/order-stock-benchmark"),
+				List.copyOf(productServiceArgs), List.copyOf(orderServiceArgs));
+	}
+}
@@ -0,0 +1,70 @@
+package com.turkcell.benchmarks.orderstock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Lag Sampler
+ * Her saniye order-topic'in son offset'leri ile product-service consumer grubunun commit ettiği offset'lerin
+ * farkını (tüketilmeyi bekleyen sipariş sayısı) Timeline'a yazar
+ * Sürekli artan lag, hattın hedef hızı kaldıramadığını gösterir
+ */
+final class LagSampler implements AutoCloseable {
+	static final String TOPIC = "order-topic";
+	static final String GROUP = "product-service";
+
+	private final Admin admin;
+	private final Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+	private final Timeline timeline;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("lag-sampler").daemon().factory());
+
+	LagSampler(String bootstrapServers, int partitions, Timeline timeline) {
+		Properties properties = new Properties();
+		properties.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		this.admin = Admin.create(properties);
+		for (int partition = 0; partition < partitions; partition++) {
+			latest.put(new TopicPartition(TOPIC, partition), OffsetSpec.latest());
+		}
+		this.timeline = timeline;
+		scheduler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+	}
+
+	private void sample() {
+		try {
+			long now = System.nanoTime();
+			Map<TopicPartition, ListOffsetsResultInfo> ends = admin.listOffsets(latest).all()
+					.get(900, TimeUnit.MILLISECONDS);
+			Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(GROUP)
+					.partitionsToOffsetAndMetadata().get(900, TimeUnit.MILLISECONDS);
+			long lag = 0;
+			for (Map.Entry<TopicPartition, ListOffsetsResultInfo> end : ends.entrySet()) {
+				OffsetAndMetadata offset = committed.get(end.getKey());
+				lag += end.getValue().offset() - (offset != null ? offset.offset() : 0);
+			}
+			timeline.lag(now, lag);
+		} catch (Exception ex) {
+			// Ölçüm atlanır - o saniyenin lag'i boş kalır
+			if (ex instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+		admin.close();
+	}
+}
@@ -0,0 +1,130 @@
+package com.turkcell.benchmarks.orderstock;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.turkcell.benchmarks.ZipfSampler;
+
+/**
+ * Order Load
+ * POST /api/v1/orders için açık model yük: i. sipariş başlangıçtan i / hız saniye sonra gönderilir, önceki
+ * isteklerin yanıtı beklenmez - sistem yavaşladığında gönderim hızı düşmez, gecikme birikir
+ * Gecikmeler gerçek gönderim anından değil planlanan andan ölçülür (coordinated omission düzeltmesi)
+ * Yanıt bekleyen istek sayısı maxInFlight'ı aşarsa zamanlayıcı bekler; bu gecikme de ölçüme yansır
+ */
+final class OrderLoad implements AutoCloseable {
+	private static final long HIGHEST_MICROS = Duration.ofMinutes(10).toNanos() / 1000;
+
+	private final HttpClient client;
+	private final URI ordersUri;
+	private final List<String> productIds;
+	private final ZipfSampler sampler;
+	private final StockTracker tracker;
+	private final Timeline timeline;
+	private final Semaphore inFlight;
+	private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+	private final Histogram httpLatency = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+
+	OrderLoad(HttpClient client, String orderServiceUrl, List<String> productIds, ZipfSampler sampler,
+			StockTracker tracker, Timeline timeline, int maxInFlight) {
+		this.client = client;
+		this.ordersUri = URI.create(orderServiceUrl + "/api/v1/orders");
+		this.productIds = productIds;
+		this.sampler = sampler;
+		this.tracker = tracker;
+		this.timeline = timeline;
+		this.inFlight = new Semaphore(maxInFlight);
+	}
+
+	/**
+	 * Hedef hızla süre boyunca sipariş gönderir; son isteğin planlandığı anda döner (yanıtlar beklenmez)
+	 */
+	Result run(int rate, Duration duration) throws InterruptedException {
+		LongAdder sent = new LongAdder();
+		LongAdder failed = new LongAdder();
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+		double intervalNanos = 1e9 / rate;
+		for (long i = 0;; i++) {
+			long intended = start + (long) (i * intervalNanos);
+			if (intended >= end) {
+				break;
+			}
+			long wait;
+			while ((wait = intended - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			inFlight.acquire();
+			String productId = productIds.get(sampler.next());
+			tracker.expect(productId, intended);
+			senders.execute(() -> send(productId, intended, sent, failed));
+		}
+		return new Result(start, end, sent, failed);
+	}
+
+	/**
+	 * Sipariş isteğinin kabul edilme gecikmesi (mikrosaniye)
+	 */
+	Histogram httpLatency() {
+		return httpLatency;
+	}
+
+	/**
+	 * Yanıtı beklenen istekler bitene kadar bekler
+	 */
+	void awaitResponses(int maxInFlight) throws InterruptedException {
+		inFlight.acquire(maxInFlight);
+		inFlight.release(maxInFlight);
+	}
+
+	private void send(String productId, long intended, LongAdder sent, LongAdder failed) {
+		HttpRequest request = HttpRequest.newBuilder(ordersUri)
+				.timeout(Duration.ofSeconds(30))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString("{\"productId\":\"" + productId + "\",\"quantity\":1}"))
+				.build();
+		boolean ok = false;
+		try {
+			ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+		} catch (Exception ex) {
+			if (ex instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+		} finally {
+			long now = System.nanoTime();
+			if (ok) {
+				httpLatency.recordValue(Math.min(Math.max((now - intended) / 1000, 0), HIGHEST_MICROS));
+				sent.increment();
+				timeline.sent(now);
+			} else {
+				tracker.cancel(productId, intended);
+				failed.increment();
+				timeline.failed(now);
+			}
+			inFlight.release();
+		}
+	}
+
+	@Override
+	public void close() {
+		senders.close();
+	}
+
+	/**
+	 * sent/failed yanıtlar geldikçe artar - awaitResponses'tan sonra kesindir
+	 */
+	record Result(long startNanos, long endNanos, LongAdder sent, LongAdder failed) {
+	}
+}
@@ -0,0 +1,228 @@
+package com.turkcell.benchmarks.orderstock;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.benchmarks.EmbeddedBroker;
+import com.turkcell.benchmarks.LocalServices;
+import com.turkcell.benchmarks.Resources;
+import com.turkcell.benchmarks.ServiceProcess;
+import com.turkcell.benchmarks.ZipfSampler;
+
+/**
+ * Sipariş → stok hattı için uçtan uca throughput benchmark'ı
+ * OrdersController.createOrder → order-topic → OrderCreatedConsumer → stok düşümü → product-changes
+ *
+ * Gömülü KRaft broker'ı ve iki servisi (product-service H2 ile, order-service) tek makinede başlatır, kataloğu
+ * CSV içe aktarımıyla yükler, ardından her hedef hızı açık model yükle uygular:
+ *   - throughput: gönderim süresi içinde stoka yansıyan sipariş / süre
+ *   - uçtan uca gecikme yüzdelikleri: planlanan gönderim anından stok değişikliğinin product-changes'te görülmesine
+ *   - order-topic lag'i: saniye başına, product-service consumer grubu için
+ * Servisler depodaki configurations/product-service ayarlarıyla çalışır (yalnızca veritabanı, broker ve portlar
+ * değişir) - consumer/producer değişiklikleri karşılaştırılırken aynı komut iki sürüm için çalıştırılır
+ *
+ * Çıktılar (out dizini): summary.csv, timeline.csv, e2e-<hız>.hgrm, servis logları
+ */
+public class OrderStockBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(OrderStockBenchmark.class);
+	private static final int INITIAL_STOCK = 1_000_000_000;
+
+	public static void main(String[] args) throws Exception {
+		BenchmarkOptions options;
+		try {
+			options = BenchmarkOptions.parse(args);
+		} catch (IllegalArgumentException ex) {
+			System.err.println(ex.getMessage());
+			System.exit(1);
+			return;
+		}
+		Files.createDirectories(options.out());
+		// Jar'lar yoksa broker başlatılmadan durulur
+		ServiceProcess.jar(options.root(), "product-service");
+		ServiceProcess.jar(options.root(), "order-service");
+
+		HttpClient client = HttpClient.newBuilder()
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+		try (Resources resources = new Resources()) {
+			log.info("Kafka broker başlatılıyor...");
+			EmbeddedBroker broker = resources.add(new EmbeddedBroker(options.partitions(), LagSampler.TOPIC,
+					StockTracker.TOPIC));
+			String bootstrapServers = broker.getBootstrapServers();
+
+			log.info("product-service başlatılıyor...");
+			ServiceProcess productService = resources.add(LocalServices.productService(options.root(),
+					options.out(), bootstrapServers, "mem:products", options.productServiceArgs(), client));
+			log.info("order-service başlatılıyor...");
+			ServiceProcess orderService = resources.add(LocalServices.orderService(options.root(), options.out(),
+					bootstrapServers, options.orderServiceArgs(), client));
+
+			List<String> productIds = importCatalog(client, productService, options.products());
+			ZipfSampler sampler = new ZipfSampler(productIds.size(), options.skew());
+			System.out.printf("katalog=%d ürün, skew=%.2f (en popüler 1 ürün %%%.1f, ilk %%1 %%%.1f sipariş)%n",
+					productIds.size(), options.skew(), sampler.share(1) * 100,
+					sampler.share(Math.max(productIds.size() / 100, 1)) * 100);
+
+			long runSeconds = options.warmup().toSeconds() + options.rates().size()
+					* (options.duration().toSeconds() + options.drainTimeout().toSeconds()) + 120;
+			Timeline timeline = new Timeline(System.nanoTime(), (int) Math.min(runSeconds, Integer.MAX_VALUE));
+			StockTracker tracker = resources.add(new StockTracker(bootstrapServers, options.partitions(), productIds,
+					INITIAL_STOCK, timeline));
+			resources.add(new LagSampler(bootstrapServers, options.partitions(), timeline));
+			OrderLoad load = resources.add(new OrderLoad(client, orderService.baseUrl(), productIds, sampler, tracker,
+					timeline, options.maxInFlight()));
+
+			if (!options.warmup().isZero()) {
+				log.info("ısınma: {} sipariş/sn, {} sn", options.rates().get(0), options.warmup().toSeconds());
+				timeline.phase(System.nanoTime(), "warmup");
+				load.run(options.rates().get(0), options.warmup());
+				load.awaitResponses(options.maxInFlight());
+				drain(tracker, options.drainTimeout());
+			}
+
+			List<String> summary = new ArrayList<>();
+			summary.add("rate,duration_s,sent,failed,applied_in_window,throughput,unapplied,drain_ms,max_lag,"
+					+ "e2e_p50_ms,e2e_p90_ms,e2e_p99_ms,e2e_p999_ms,e2e_max_ms,http_p50_ms,http_p99_ms");
+			for (int rate : options.rates()) {
+				tracker.latency().reset();
+				load.httpLatency().reset();
+				timeline.phase(System.nanoTime(), "rate-" + rate);
+
+				long appliedBefore = tracker.applied();
+				OrderLoad.Result result = load.run(rate, options.duration());
+				long appliedInWindow = tracker.applied() - appliedBefore;
+				load.awaitResponses(options.maxInFlight());
+				long drainStart = System.nanoTime();
+				long unapplied = drain(tracker, options.drainTimeout());
+				long drainMillis = (System.nanoTime() - drainStart) / 1_000_000;
+				long maxLag = timeline.maxLag(result.startNanos(), System.nanoTime());
+
+				Histogram e2e = tracker.latency().copy();
+				Histogram http = load.httpLatency().copy();
+				double seconds = options.duration().toNanos() / 1e9;
+				double throughput = appliedInWindow / seconds;
+				System.out.printf("%nhız=%d sipariş/sn süre=%ds gönderilen=%d hata=%d%n", rate,
+						options.duration().toSeconds(), result.sent().sum(), result.failed().sum());
+				System.out.printf("throughput=%.1f sipariş/sn (süre içinde stoka yansıyan %d), boşaltma=%d ms, "
+						+ "uygulanmayan=%d, max lag=%d%n", throughput, appliedInWindow, drainMillis, unapplied, maxLag);
+				System.out.printf("uçtan uca ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n", millis(e2e, 50),
+						millis(e2e, 90), millis(e2e, 99), millis(e2e, 99.9), e2e.getMaxValue() / 1000.0);
+				System.out.printf("sipariş isteği ms: p50=%.2f p99=%.2f%n", millis(http, 50), millis(http, 99));
+				summary.add(String.format(Locale.ROOT,
+						"%d,%d,%d,%d,%d,%.1f,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f", rate,
+						options.duration().toSeconds(), result.sent().sum(), result.failed().sum(), appliedInWindow,
+						throughput, unapplied, drainMillis, maxLag, millis(e2e, 50), millis(e2e, 90), millis(e2e, 99),
+						millis(e2e, 99.9), e2e.getMaxValue() / 1000.0, millis(http, 50), millis(http, 99)));
+				try (PrintStream hgrm = new PrintStream(Files.newOutputStream(options.out().resolve("e2e-" + rate
+						+ ".hgrm")), true, StandardCharsets.UTF_8)) {
+					e2e.outputPercentileDistribution(hgrm, 1000.0);
+				}
+			}
+
+			Files.write(options.out().resolve("summary.csv"), summary);
+			timeline.write(options.out().resolve("timeline.csv"));
+			printServiceLatency(client, productService);
+			System.out.println();
+			System.out.println("Sonuçlar: " + options.out());
+		}
+	}
+
+	/**
+	 * Ürünler sabit ID'lerle tek CSV içe aktarımında yazılır; stok benchmark boyunca tükenmeyecek kadar yüksektir
+	 */
+	private static List<String> importCatalog(HttpClient client, ServiceProcess productService, int count)
+			throws IOException, InterruptedException {
+		List<String> productIds = new ArrayList<>(count);
+		StringBuilder csv = new StringBuilder("id,name,description,price,currency,stock\n");
+		for (int i = 0; i < count; i++) {
+			String id = UUID.randomUUID().toString();
+			productIds.add(id);
+			csv.append(id).append(",Ürün ").append(i).append(",Benchmark ürünü,")
+					.append(10 + i % 90).append(".90,TRY,").append(INITIAL_STOCK).append('\n');
+		}
+		HttpRequest request = HttpRequest.newBuilder(URI.create(productService.baseUrl() + "/api/v1/products/imports"))
+				.timeout(Duration.ofMinutes(5))
+				.header("Content-Type", "text/csv; charset=UTF-8")
+				.POST(HttpRequest.BodyPublishers.ofString(csv.toString(), StandardCharsets.UTF_8))
+				.build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		JsonNode report = new ObjectMapper().readTree(response.body());
+		if (response.statusCode() != 201 || report.path("insertedCount").asLong() != count) {
+			throw new IllegalStateException("Katalog yüklenemedi: HTTP " + response.statusCode() + " " + response.body());
+		}
+		return List.copyOf(productIds);
+	}
+
+	/**
+	 * Gönderilen tüm siparişler stoka yansıyana ya da süre dolana kadar bekler
+	 *
+	 * @return Süresinde yansımayan sipariş sayısı
+	 */
+	private static long drain(StockTracker tracker, Duration timeout) throws InterruptedException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (tracker.outstanding() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		long unapplied = tracker.outstanding() > 0 ? tracker.forgetOutstanding() : 0;
+		if (unapplied > 0) {
+			log.warn("{} sipariş {} sn içinde stoka yansımadı", unapplied, timeout.toSeconds());
+		}
+		return unapplied;
+	}
+
+	/**
+	 * product-service'in kendi ölçtüğü sipariş → stok süresi (olay yayınlama ve okuma hariç) - karşılaştırma için
+	 */
+	private static void printServiceLatency(HttpClient client, ServiceProcess productService) {
+		try {
+			HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(productService.baseUrl()
+					+ "/actuator/metrics/product.order.stock.latency")).GET().build(),
+					HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() != 200) {
+				return;
+			}
+			double count = 0;
+			double total = 0;
+			double max = 0;
+			for (JsonNode measurement : new ObjectMapper().readTree(response.body()).path("measurements")) {
+				switch (measurement.path("statistic").asText()) {
+					case "COUNT" -> count = measurement.path("value").asDouble();
+					case "TOTAL_TIME" -> total = measurement.path("value").asDouble();
+					case "MAX" -> max = measurement.path("value").asDouble();
+					default -> {
+					}
+				}
+			}
+			System.out.printf("%nproduct-service product.order.stock.latency: sipariş=%.0f ortalama=%.2f ms "
+					+ "max (son pencere)=%.2f ms%n", count, count > 0 ? total / count * 1000 : 0, max * 1000);
+		} catch (IOException ex) {
+			log.warn("product-service metriği okunamadı: {}", ex.getMessage());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static double millis(Histogram histogram, double percentile) {
+		return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+	}
+}
@@ -0,0 +1,200 @@
+package com.turkcell.benchmarks.orderstock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Stock Tracker
+ * product-changes topic'ini okuyarak hangi siparişlerin stoka yansıdığını izler
+ *
+ * Her ürün için gönderilen siparişlerin planlanan gönderim anları FIFO kuyrukta tutulur; UPDATED olayında stok
+ * önceki değere göre kaç azaldıysa kuyruğun başından o kadar sipariş uygulanmış sayılır ve gecikmeleri kaydedilir
+ * Olaylar ürün ID'siyle anahtarlandığından aynı ürünün olayları sırayla gelir; eski sürümler atlanır
+ * Aynı ürüne aynı milisaniyelerde giden siparişlerin order-service'e varış sırası değişebilir - eşleştirme bu
+ * ölçüde yaklaşıktır, toplam sayı ve dağılım etkilenmez
+ *
+ * Ölçülen gecikme: siparişin planlanan gönderim anından product-service'in stoku düşüp olayını yayınlamasına,
+ * benchmark'ın olayı okumasına kadar (HTTP, order-topic, consumer, veritabanı, product-changes)
+ */
+final class StockTracker implements AutoCloseable {
+	static final String TOPIC = "product-changes";
+	private static final long HIGHEST_MICROS = Duration.ofMinutes(10).toNanos() / 1000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, ProductState> products = new HashMap<>();
+	private final Histogram latency = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+	private final AtomicLong outstanding = new AtomicLong();
+	private final AtomicLong applied = new AtomicLong();
+	private final KafkaConsumer<byte[], byte[]> consumer;
+	private final Timeline timeline;
+	private final Thread thread;
+
+	StockTracker(String bootstrapServers, int partitions, List<String> productIds, int initialStock,
+			Timeline timeline) {
+		for (String productId : productIds) {
+			products.put(productId, new ProductState(initialStock));
+		}
+		this.timeline = timeline;
+
+		Properties properties = new Properties();
+		properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+		properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+		properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+		properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+		properties.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 10);
+		this.consumer = new KafkaConsumer<>(properties);
+		List<TopicPartition> assignment = new ArrayList<>();
+		for (int partition = 0; partition < partitions; partition++) {
+			assignment.add(new TopicPartition(TOPIC, partition));
+		}
+		// Grup yok - tüm partition'lar doğrudan atanır, rebalance beklenmez
+		consumer.assign(assignment);
+
+		this.thread = Thread.ofPlatform().name("stock-tracker").daemon().start(this::poll);
+	}
+
+	/**
+	 * Sipariş gönderilmeden önce çağrılır
+	 */
+	void expect(String productId, long intendedNanos) {
+		products.get(productId).pending.add(intendedNanos);
+		outstanding.incrementAndGet();
+	}
+
+	/**
+	 * Sipariş order-service'e ulaşmadıysa beklenenlerden çıkarılır
+	 */
+	void cancel(String productId, long intendedNanos) {
+		if (products.get(productId).pending.remove(intendedNanos)) {
+			outstanding.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Gönderilmiş ama stoka henüz yansımamış sipariş sayısı
+	 */
+	long outstanding() {
+		return outstanding.get();
+	}
+
+	/**
+	 * Başlangıçtan bu yana stoka yansıyan sipariş sayısı
+	 */
+	long applied() {
+		return applied.get();
+	}
+
+	/**
+	 * Uçtan uca gecikme (mikrosaniye) - adımlar arasında sıfırlanır
+	 */
+	Histogram latency() {
+		return latency;
+	}
+
+	/**
+	 * Süresinde uygulanmayan siparişler bir sonraki adımın eşleştirmesini bozmasın diye unutulur
+	 */
+	long forgetOutstanding() {
+		long forgotten = 0;
+		for (ProductState state : products.values()) {
+			while (state.pending.poll() != null) {
+				forgotten++;
+			}
+		}
+		outstanding.addAndGet(-forgotten);
+		return forgotten;
+	}
+
+	private void poll() {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				for (ConsumerRecord<byte[], byte[]> record : consumer.poll(Duration.ofMillis(100))) {
+					if (record.value() != null) {
+						onEvent(record.value());
+					}
+				}
+			}
+		} catch (WakeupException ex) {
+			// close() çağrıldı
+		} finally {
+			consumer.close();
+		}
+	}
+
+	private void onEvent(byte[] value) {
+		JsonNode event;
+		try {
+			event = objectMapper.readTree(value);
+		} catch (Exception ex) {
+			return;
+		}
+		if (!"UPDATED".equals(event.path("type").asText())) {
+			return;
+		}
+		ProductState state = products.get(event.path("productId").asText());
+		long version = event.path("version").asLong(-1);
+		if (state == null || version <= state.version) {
+			return;
+		}
+		long stock = event.path("product").path("stock").path("quantity").asLong();
+		long reduced = state.stock - stock;
+		state.stock = stock;
+		state.version = version;
+
+		long now = System.nanoTime();
+		long count = 0;
+		for (long i = 0; i < reduced; i++) {
+			Long intended = state.pending.poll();
+			if (intended == null) {
+				break;
+			}
+			latency.recordValue(Math.min(Math.max((now - intended) / 1000, 0), HIGHEST_MICROS));
+			count++;
+		}
+		outstanding.addAndGet(-count);
+		applied.addAndGet(count);
+		timeline.applied(now, count);
+	}
+
+	@Override
+	public void close() {
+		consumer.wakeup();
+		try {
+			thread.join(5000);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * stock ve version yalnızca tracker thread'inde değişir
+	 */
+	private static final class ProductState {
+		private final ConcurrentLinkedQueue<Long> pending = new ConcurrentLinkedQueue<>();
+		private long stock;
+		private long version = -1;
+
+		private ProductState(long stock) {
+			this.stock = stock;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.turkcell.benchmarks.orderstock;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Timeline
+ * Benchmark başlangıcından itibaren saniye başına sayaçlar: gönderilen, başarısız, stoku düşülen sipariş ve
+ * product-service consumer grubunun order-topic gecikmesi (lag)
+ */
+final class Timeline {
+	private final long startNanos;
+	private final AtomicLongArray sent;
+	private final AtomicLongArray failed;
+	private final AtomicLongArray applied;
+	private final AtomicLongArray lag;
+	private final AtomicReferenceArray<String> phase;
+
+	Timeline(long startNanos, int maxSeconds) {
+		this.startNanos = startNanos;
+		this.sent = new AtomicLongArray(maxSeconds);
+		this.failed = new AtomicLongArray(maxSeconds);
+		this.applied = new AtomicLongArray(maxSeconds);
+		this.lag = new AtomicLongArray(maxSeconds);
+		this.phase = new AtomicReferenceArray<>(maxSeconds);
+		for (int i = 0; i < maxSeconds; i++) {
+			lag.set(i, -1);
+		}
+	}
+
+	void sent(long nanos) {
+		increment(sent, nanos);
+	}
+
+	void failed(long nanos) {
+		increment(failed, nanos);
+	}
+
+	void applied(long nanos, long count) {
+		int second = second(nanos);
+		if (second >= 0) {
+			applied.addAndGet(second, count);
+		}
+	}
+
+	void lag(long nanos, long value) {
+		int second = second(nanos);
+		if (second >= 0) {
+			lag.accumulateAndGet(second, value, Math::max);
+		}
+	}
+
+	void phase(long nanos, String name) {
+		int second = second(nanos);
+		if (second >= 0) {
+			phase.compareAndSet(second, null, name);
+		}
+	}
+
+	/**
+	 * fromNanos ile toNanos arasındaki saniyelerde görülen en yüksek lag
+	 */
+	long maxLag(long fromNanos, long toNanos) {
+		long max = 0;
+		long from = Math.max((fromNanos - startNanos) / 1_000_000_000L, 0);
+		long to = Math.min((toNanos - startNanos) / 1_000_000_000L, lag.length() - 1);
+		for (long second = from; second <= to; second++) {
+			max = Math.max(max, lag.get((int) second));
+		}
+		return max;
+	}
+
+	void write(Path file) throws IOException {
+		int last = -1;
+		for (int second = 0; second < lag.length(); second++) {
+			if (sent.get(second) + failed.get(second) + applied.get(second) > 0 || lag.get(second) >= 0) {
+				last = second;
+			}
+		}
+		String current = "";
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+			writer.println("second,phase,sent,failed,applied,lag");
+			for (int second = 0; second <= last; second++) {
+				current = phase.get(second) != null ? phase.get(second) : current;
+				writer.printf("%d,%s,%d,%d,%d,%s%n", second, current, sent.get(second), failed.get(second),
+						applied.get(second), lag.get(second) >= 0 ? Long.toString(lag.get(second)) : "");
+			}
+		}
+	}
+
+	private void increment(AtomicLongArray counters, long nanos) {
+		int second = second(nanos);
+		if (second >= 0) {
+			counters.incrementAndGet(second);
+		}
+	}
+
+	private int second(long nanos) {
+		long second = (nanos - startNanos) / 1_000_000_000L;
+		return second < 0 || second >= lag.length() ? -1 : (int) second;
+	}
+}
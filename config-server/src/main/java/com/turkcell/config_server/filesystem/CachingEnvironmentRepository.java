@@ -0,0 +1,153 @@
+package com.turkcell.config_server.filesystem;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.core.Ordered;
+
+/**
+ * Caching Environment Repository
+ * Native (dosya sistemi) repository'nin önüne konan cache - her application/profile/label için
+ * birleştirilmiş property source listesi bir kez üretilir ve bellekten servis edilir
+ * Environment version'ı içerik hash'idir: dosyalar değişmedikçe restart sonrası da aynı kalır
+ * Her kayıt render'a başlandığı andaki nesli taşır - invalidation'dan önceki nesilden kalan kayıt okunurken reddedilir
+ */
+public class CachingEnvironmentRepository implements EnvironmentRepository, SearchPathLocator, Ordered {
+	private static final Logger log = LoggerFactory.getLogger(CachingEnvironmentRepository.class);
+
+	private final NativeEnvironmentRepository delegate;
+	private final ConcurrentMap<CacheKey, Cached> cache;
+	private final AtomicLong generation = new AtomicLong();
+
+	public CachingEnvironmentRepository(NativeEnvironmentRepository delegate) {
+		this(delegate, new ConcurrentHashMap<>());
+	}
+
+	CachingEnvironmentRepository(NativeEnvironmentRepository delegate, ConcurrentMap<CacheKey, Cached> cache) {
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	@Override
+	public Environment findOne(String application, String profile, String label) {
+		return findOne(application, profile, label, false);
+	}
+
+	@Override
+	public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+		CacheKey key = new CacheKey(application, profile, label, includeOrigin);
+		Cached cached = cache.get(key);
+		if (cached != null) {
+			if (cached.generation() == generation.get()) {
+				return cached.environment();
+			}
+			cache.remove(key, cached);
+		}
+
+		// Render sırasında ya da render ile cache'e yazma arasında dosya değişirse eski içerik cache'te kalmamalı
+		long renderedAt = generation.get();
+		Environment rendered = delegate.findOne(application, profile, label, includeOrigin);
+		rendered.setVersion(contentVersion(rendered));
+		Cached entry = new Cached(renderedAt, rendered);
+		Cached existing = cache.putIfAbsent(key, entry);
+		if (generation.get() != renderedAt) {
+			cache.remove(key, entry);
+			return rendered;
+		}
+		return existing != null && existing.generation() == renderedAt ? existing.environment() : rendered;
+	}
+
+	/**
+	 * Tüm cache'i düşürür - tek bir dosya birden fazla uygulamayı etkileyebildiği için
+	 * (ör. ortak application.yml) seçici invalidation yapılmaz
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		int evicted = cache.size();
+		cache.clear();
+		log.info("Config cache temizlendi ({} environment)", evicted);
+	}
+
+	/**
+	 * İzlenecek dizinler - search location'ların placeholder'dan önceki kısmı
+	 * (ör. file:../configurations/{application}/ için ../configurations)
+	 */
+	public List<Path> getWatchRoots() {
+		Set<Path> roots = new LinkedHashSet<>();
+		for (String location : delegate.getSearchLocations()) {
+			if (!location.startsWith("file:")) {
+				continue;
+			}
+			String path = location.substring("file:".length());
+			int placeholder = path.indexOf('{');
+			if (placeholder >= 0) {
+				path = path.substring(0, placeholder);
+			}
+			Path root = Path.of(path).toAbsolutePath().normalize();
+			if (Files.isDirectory(root)) {
+				roots.add(root);
+			}
+		}
+		return List.copyOf(roots);
+	}
+
+	@Override
+	public Locations getLocations(String application, String profile, String label) {
+		return delegate.getLocations(application, profile, label);
+	}
+
+	@Override
+	public int getOrder() {
+		return delegate.getOrder();
+	}
+
+	private static String contentVersion(Environment environment) {
+		MessageDigest digest = sha256();
+		for (PropertySource source : environment.getPropertySources()) {
+			digest.update(source.getName().getBytes(StandardCharsets.UTF_8));
+			Map<String, String> sorted = new TreeMap<>();
+			source.getSource().forEach((key, value) -> sorted.put(String.valueOf(key), String.valueOf(value)));
+			sorted.forEach((key, value) -> {
+				digest.update(key.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '=');
+				digest.update(value.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			});
+		}
+		return HexFormat.of().formatHex(digest.digest(), 0, 12);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 desteklenmiyor", ex);
+		}
+	}
+
+	record CacheKey(String application, String profile, String label, boolean includeOrigin) {
+	}
+
+	record Cached(long generation, Environment environment) {
+	}
+}
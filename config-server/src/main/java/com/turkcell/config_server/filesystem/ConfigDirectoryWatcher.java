@@ -0,0 +1,131 @@
+package com.turkcell.config_server.filesystem;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Config Directory Watcher
+ * Konfigürasyon dizinlerini (alt dizinleriyle birlikte) WatchService ile izler
+ * Herhangi bir dosya değişikliğinde verilen callback'i çağırır - polling yoktur
+ */
+public class ConfigDirectoryWatcher implements SmartLifecycle {
+	private static final Logger log = LoggerFactory.getLogger(ConfigDirectoryWatcher.class);
+
+	private final List<Path> roots;
+	private final Runnable onChange;
+	private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+	private volatile WatchService watchService;
+	private volatile Thread thread;
+
+	public ConfigDirectoryWatcher(List<Path> roots, Runnable onChange) {
+		this.roots = roots;
+		this.onChange = onChange;
+	}
+
+	@Override
+	public void start() {
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			for (Path root : roots) {
+				registerTree(root);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Config dizinleri izlenemiyor: " + roots, ex);
+		}
+		thread = Thread.ofPlatform().daemon().name("config-dir-watcher").start(this::watch);
+		log.info("Config dizinleri izleniyor: {}", roots);
+	}
+
+	@Override
+	public void stop() {
+		WatchService current = watchService;
+		watchService = null;
+		if (current != null) {
+			try {
+				current.close();
+			}
+			catch (IOException ex) {
+				log.debug("WatchService kapatılamadı", ex);
+			}
+		}
+		directories.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return watchService != null;
+	}
+
+	private void watch() {
+		WatchService current = watchService;
+		while (current != null) {
+			WatchKey key;
+			try {
+				key = current.take();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (ClosedWatchServiceException ex) {
+				return;
+			}
+
+			Path directory = directories.get(key);
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == ENTRY_CREATE && directory != null) {
+					// Sonradan eklenen uygulama dizinleri de izlenmeli
+					Path created = directory.resolve((Path) event.context());
+					if (Files.isDirectory(created)) {
+						registerQuietly(created);
+					}
+				}
+			}
+			if (!key.reset()) {
+				directories.remove(key);
+			}
+			// Aynı take() turundaki tüm olaylar (editörlerin temp+rename yazımları dahil) tek invalidation'a iner
+			onChange.run();
+			current = watchService;
+		}
+	}
+
+	private void registerQuietly(Path directory) {
+		try {
+			registerTree(directory);
+		}
+		catch (IOException | ClosedWatchServiceException ex) {
+			log.warn("Dizin izlemeye eklenemedi: {}", directory, ex);
+		}
+	}
+
+	private void registerTree(Path root) throws IOException {
+		try (Stream<Path> tree = Files.walk(root)) {
+			for (Path directory : (Iterable<Path>) tree.filter(Files::isDirectory)::iterator) {
+				WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE, OVERFLOW);
+				directories.put(key, directory);
+			}
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.turkcell.config_server.filesystem;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentProperties;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentRepositoryFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * Filesystem Config Backend
+ * "filesystem" profili ile config-server git yerine yerel configurations/ dizininden servis eder
+ * Native repository cache'lenir, dizin değişiklikleri WatchService ile cache'i düşürür
+ * Yanıtlar ETag taşır - If-None-Match gönderen istemciler değişmemiş konfigürasyon için 304 alır
+ */
+@Configuration
+@Profile("filesystem")
+public class FilesystemConfigBackendConfiguration {
+
+	/**
+	 * Tek EnvironmentRepository bean'i - varsayılan git repository'si ConditionalOnMissingBean ile devre dışı kalır
+	 */
+	@Bean
+	public CachingEnvironmentRepository cachingEnvironmentRepository(NativeEnvironmentRepositoryFactory factory,
+			NativeEnvironmentProperties properties) {
+		return new CachingEnvironmentRepository(factory.build(properties));
+	}
+
+	@Bean
+	public ConfigDirectoryWatcher configDirectoryWatcher(CachingEnvironmentRepository repository) {
+		return new ConfigDirectoryWatcher(repository.getWatchRoots(), repository::invalidate);
+	}
+
+	@Bean
+	public FilterRegistrationBean<ShallowEtagHeaderFilter> configEtagFilter() {
+		FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+		registration.addUrlPatterns("/*");
+		return registration;
+	}
+}
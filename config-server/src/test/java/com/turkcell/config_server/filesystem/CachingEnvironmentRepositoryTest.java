@@ -0,0 +1,110 @@
+package com.turkcell.config_server.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentProperties;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentRepository;
+import org.springframework.core.env.StandardEnvironment;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Geçici bir config kökü üzerinde native repository + cache
+ * Render ile cache'e yazma arasına düşen invalidation eski içeriği cache'te bırakmaz; dosya değişikliği
+ * WatchService üzerinden version'ı değiştirir
+ */
+class CachingEnvironmentRepositoryTest {
+	@TempDir
+	Path root;
+
+	@Test
+	void invalidationBetweenRenderAndPutDoesNotLeaveTheOldRenderCached() throws IOException {
+		write("eski");
+		CachingEnvironmentRepository[] repository = new CachingEnvironmentRepository[1];
+		boolean[] changeBeforePut = { true };
+		// Render bitti, cache'e yazılmadan hemen önce dosya değişir ve watcher invalidate eder
+		ConcurrentMap<CachingEnvironmentRepository.CacheKey, CachingEnvironmentRepository.Cached> cache =
+				new ConcurrentHashMap<>() {
+					@Override
+					public CachingEnvironmentRepository.Cached putIfAbsent(CachingEnvironmentRepository.CacheKey key,
+							CachingEnvironmentRepository.Cached value) {
+						if (changeBeforePut[0]) {
+							changeBeforePut[0] = false;
+							writeQuietly("yeni");
+							repository[0].invalidate();
+						}
+						return super.putIfAbsent(key, value);
+					}
+				};
+		repository[0] = new CachingEnvironmentRepository(nativeRepository(), cache);
+
+		Environment racing = repository[0].findOne("demo", "default", null);
+		assertThat(greeting(racing)).isEqualTo("eski");
+
+		Environment next = repository[0].findOne("demo", "default", null);
+		assertThat(greeting(next)).isEqualTo("yeni");
+		assertThat(next.getVersion()).isNotEqualTo(racing.getVersion());
+		// Yeni nesil render'ı cache'lenir
+		assertThat(repository[0].findOne("demo", "default", null)).isSameAs(next);
+	}
+
+	@Test
+	void fileChangeUnderTheRootChangesTheVersion() throws IOException {
+		write("eski");
+		CachingEnvironmentRepository repository = new CachingEnvironmentRepository(nativeRepository());
+		ConfigDirectoryWatcher watcher = new ConfigDirectoryWatcher(repository.getWatchRoots(), repository::invalidate);
+		watcher.start();
+		try {
+			Environment before = repository.findOne("demo", "default", null);
+			assertThat(repository.findOne("demo", "default", null)).isSameAs(before);
+
+			write("yeni");
+			Environment after = before;
+			long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+			while (after.getVersion().equals(before.getVersion()) && System.nanoTime() < deadline) {
+				LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+				after = repository.findOne("demo", "default", null);
+			}
+
+			assertThat(after.getVersion()).isNotEqualTo(before.getVersion());
+			assertThat(greeting(after)).isEqualTo("yeni");
+		}
+		finally {
+			watcher.stop();
+		}
+	}
+
+	private NativeEnvironmentRepository nativeRepository() {
+		NativeEnvironmentProperties properties = new NativeEnvironmentProperties();
+		properties.setSearchLocations(new String[] { "file:" + root + "/" });
+		return new NativeEnvironmentRepository(new StandardEnvironment(), properties, ObservationRegistry.NOOP);
+	}
+
+	private void write(String greeting) throws IOException {
+		Files.writeString(root.resolve("demo.yml"), "greeting: " + greeting + "\n");
+	}
+
+	private void writeQuietly(String greeting) {
+		try {
+			write(greeting);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static Object greeting(Environment environment) {
+		return environment.getPropertySources().get(0).getSource().get("greeting");
+	}
+}
@@ -0,0 +1,14 @@
+package com.turkcell.discovery_server.feed;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bir uygulamanın o anki UP instance listesi
+ * İstemciler listeyi olduğu gibi değiştirir, kaçırılan olaylar sorun yaratmaz
+ */
+public record ApplicationSnapshot(String application, long version, List<Instance> instances) {
+
+	public record Instance(String instanceId, String host, int port, boolean secure, Map<String, String> metadata) {
+	}
+}
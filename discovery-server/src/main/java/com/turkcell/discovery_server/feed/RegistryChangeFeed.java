@@ -0,0 +1,162 @@
+package com.turkcell.discovery_server.feed;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRenewedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+
+/**
+ * Registry Change Feed
+ * Eureka registry olaylarını dinler ve değişen uygulamanın güncel instance listesini
+ * bağlı tüm SSE istemcilerine gönderir
+ * Eureka olayları registry güncellenmeden önce yayınlandığı için snapshot kısa bir gecikmeyle alınır,
+ * aynı pencerede gelen olaylar tek bir snapshot'ta birleşir
+ */
+@Component
+public class RegistryChangeFeed implements DisposableBean {
+	private static final Logger log = LoggerFactory.getLogger(RegistryChangeFeed.class);
+
+	private final PeerAwareInstanceRegistry registry;
+	private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+	private final Set<String> pendingApplications = ConcurrentHashMap.newKeySet();
+	private final ConcurrentHashMap<String, Set<String>> lastPublished = new ConcurrentHashMap<>();
+	private final AtomicLong version = new AtomicLong();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "registry-change-feed");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final long debounceMillis;
+
+	public RegistryChangeFeed(PeerAwareInstanceRegistry registry,
+			@Value("${registry-feed.debounce:50ms}") Duration debounce,
+			@Value("${registry-feed.heartbeat-interval:10s}") Duration heartbeatInterval) {
+		this.registry = registry;
+		this.debounceMillis = debounce.toMillis();
+		scheduler.scheduleAtFixedRate(this::heartbeat, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(),
+				TimeUnit.MILLISECONDS);
+	}
+
+	@EventListener
+	public void onRegistered(EurekaInstanceRegisteredEvent event) {
+		schedule(event.getInstanceInfo().getAppName());
+	}
+
+	@EventListener
+	public void onCanceled(EurekaInstanceCanceledEvent event) {
+		schedule(event.getAppName());
+	}
+
+	@EventListener
+	public void onRenewed(EurekaInstanceRenewedEvent event) {
+		// Renew olayları durum değişikliklerini (UP/DOWN/OUT_OF_SERVICE) de taşır;
+		// instance listesi değişmediyse snapshot gönderilmez
+		schedule(event.getAppName());
+	}
+
+	/**
+	 * Yeni bağlanan istemciye önce tüm registry'nin snapshot'ını gönderir
+	 */
+	public SseEmitter subscribe() {
+		SseEmitter emitter = new SseEmitter(0L);
+		emitter.onCompletion(() -> emitters.remove(emitter));
+		emitter.onTimeout(() -> emitters.remove(emitter));
+		emitter.onError(error -> emitters.remove(emitter));
+
+		// Önce listeye eklenir ki ilk snapshot sırasında olan değişiklik kaçmasın;
+		// istemci version'ı daha eski olan snapshot'ları yok sayar
+		emitters.add(emitter);
+		try {
+			for (Application application : registry.getSortedApplications()) {
+				emitter.send(SseEmitter.event().name("snapshot").data(snapshot(application.getName())));
+			}
+			emitter.send(SseEmitter.event().name("ready").data(version.get()));
+		} catch (IOException e) {
+			emitter.completeWithError(e);
+		}
+		return emitter;
+	}
+
+	private void schedule(String appName) {
+		String application = appName.toUpperCase(Locale.ROOT);
+		if (pendingApplications.add(application)) {
+			scheduler.schedule(() -> publish(application), debounceMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void publish(String application) {
+		pendingApplications.remove(application);
+		ApplicationSnapshot snapshot = snapshot(application);
+		Set<String> instanceIds = Set.copyOf(snapshot.instances().stream()
+				.map(ApplicationSnapshot.Instance::instanceId)
+				.toList());
+		Set<String> previous = lastPublished.put(application, instanceIds);
+		if (instanceIds.equals(previous)) {
+			return;
+		}
+		log.info("Registry değişikliği yayınlanıyor: {} -> {} instance", application, instanceIds.size());
+		send("snapshot", snapshot);
+	}
+
+	private ApplicationSnapshot snapshot(String application) {
+		Application registered = registry.getApplication(application);
+		List<ApplicationSnapshot.Instance> instances = registered == null ? List.of()
+				: registered.getInstances().stream()
+						.filter(instance -> instance.getStatus() == InstanceInfo.InstanceStatus.UP)
+						.map(RegistryChangeFeed::toInstance)
+						.toList();
+		return new ApplicationSnapshot(application, version.incrementAndGet(), instances);
+	}
+
+	private static ApplicationSnapshot.Instance toInstance(InstanceInfo info) {
+		boolean secure = info.isPortEnabled(InstanceInfo.PortType.SECURE);
+		return new ApplicationSnapshot.Instance(
+				info.getInstanceId(),
+				info.getHostName(),
+				secure ? info.getSecurePort() : info.getPort(),
+				secure,
+				info.getMetadata());
+	}
+
+	private void heartbeat() {
+		send("heartbeat", version.get());
+	}
+
+	private void send(String name, Object data) {
+		for (SseEmitter emitter : emitters) {
+			try {
+				emitter.send(SseEmitter.event().name(name).data(data));
+			} catch (IOException | IllegalStateException e) {
+				emitters.remove(emitter);
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		scheduler.shutdownNow();
+		emitters.forEach(SseEmitter::complete);
+	}
+}
@@ -0,0 +1,25 @@
+package com.turkcell.discovery_server.feed;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Registry değişikliklerini server-sent events olarak yayınlar
+ * GET /registry/changes
+ * Eureka istemcilerinin 30 saniyelik delta polling'ine push tabanlı alternatif
+ */
+@RestController
+public class RegistryFeedController {
+	private final RegistryChangeFeed feed;
+
+	public RegistryFeedController(RegistryChangeFeed feed) {
+		this.feed = feed;
+	}
+
+	@GetMapping(path = "/registry/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter changes() {
+		return feed.subscribe();
+	}
+}
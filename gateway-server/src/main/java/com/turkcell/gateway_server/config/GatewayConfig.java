@@ -1,20 +1,38 @@
 package com.turkcell.gateway_server.config;
 
+import java.util.Set;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 
+import com.turkcell.gateway_server.notifications.ProductChangeStreamProperties;
+import com.turkcell.gateway_server.resilience.StaleResponseCacheFilter;
+import com.turkcell.gateway_server.resilience.StaleResponseProperties;
+
 @Configuration
+@EnableConfigurationProperties({ StaleResponseProperties.class, ProductChangeStreamProperties.class })
 public class GatewayConfig {
+	private static final Set<String> FAILURE_STATUS_CODES = Set.of("500", "502", "503", "504");
+
+	private final StaleResponseCacheFilter staleResponseCacheFilter;
+
+	public GatewayConfig(StaleResponseCacheFilter staleResponseCacheFilter) {
+		this.staleResponseCacheFilter = staleResponseCacheFilter;
+	}
+
 	@Bean
 	public RouteLocator routeLocator(RouteLocatorBuilder builder) {
 		return builder
 				.routes()
 				.route("product-service", r -> r
 						.path("/api/v1/products/**")
-						.filters(f -> f.retry(config -> config.setRetries(3)))
+						.filters(f -> isolated(f, "product-service")
+								.retry(config -> config.setRetries(3)))
 						.uri("lb://product-service"))
 				.route("fallback1", r -> r
 						.path("/***")
@@ -22,4 +40,17 @@ public class GatewayConfig {
 						.uri("no://op"))
 				.build();
 	}
+
+	/**
+	 * Route'u kendi circuit breaker'ı ve bulkhead'i ile izole eder
+	 * Breaker/bulkhead ayarları resilience4j.*.configs.{routeId} altından okunur
+	 */
+	private GatewayFilterSpec isolated(GatewayFilterSpec filters, String routeId) {
+		return filters
+				.filter(staleResponseCacheFilter)
+				.circuitBreaker(config -> config
+						.setName(routeId)
+						.setFallbackUri("forward:/fallback/" + routeId)
+						.setStatusCodes(FAILURE_STATUS_CODES));
+	}
 }
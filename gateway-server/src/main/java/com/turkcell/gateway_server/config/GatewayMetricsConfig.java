@@ -0,0 +1,11 @@
+package com.turkcell.gateway_server.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.turkcell.gateway_server.metrics.GatewayMetricsProperties;
+
+@Configuration
+@EnableConfigurationProperties(GatewayMetricsProperties.class)
+public class GatewayMetricsConfig {
+}
@@ -0,0 +1,14 @@
+package com.turkcell.gateway_server.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+import com.turkcell.gateway_server.discovery.RegistryFeedLoadBalancerConfiguration;
+import com.turkcell.gateway_server.discovery.RegistryFeedProperties;
+
+@Configuration
+@EnableConfigurationProperties(RegistryFeedProperties.class)
+@LoadBalancerClients(defaultConfiguration = RegistryFeedLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
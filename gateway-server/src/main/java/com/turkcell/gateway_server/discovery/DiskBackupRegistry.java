@@ -0,0 +1,39 @@
+package com.turkcell.gateway_server.discovery;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.netflix.discovery.BackupRegistry;
+import com.netflix.discovery.shared.Applications;
+
+/**
+ * Disk Backup Registry
+ * Eureka client'ının ilk fetch'i başarısız olduğunda (discovery-server kapalı/yavaş)
+ * son bilinen registry'yi diskteki snapshot'tan yükler
+ * eureka.client.backup-registry-impl ile Eureka tarafından no-arg constructor ile oluşturulur
+ */
+public class DiskBackupRegistry implements BackupRegistry {
+	private static final Logger log = LoggerFactory.getLogger(DiskBackupRegistry.class);
+
+	@Override
+	public Applications fetchRegistry() {
+		try {
+			Applications applications = RegistrySnapshotFile.read().orElse(null);
+			if (applications != null) {
+				log.info("Registry diskteki snapshot'tan yüklendi: {} uygulama ({})",
+						applications.size(), RegistrySnapshotFile.path());
+			}
+			return applications;
+		} catch (IOException e) {
+			log.warn("Registry snapshot'ı okunamadı: {}", RegistrySnapshotFile.path(), e);
+			return null;
+		}
+	}
+
+	@Override
+	public Applications fetchRegistry(String[] includeRemoteRegions) {
+		return fetchRegistry();
+	}
+}
@@ -0,0 +1,41 @@
+package com.turkcell.gateway_server.discovery;
+
+import java.util.List;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Push Service Instance List Supplier
+ * Registry akışı canlıyken instance listesini RegistryFeedClient'tan alır
+ * Akış canlı değilse veya servis akışta yoksa delegate'e (Eureka polling) düşer
+ * Eureka'da instance yoksa (ilk fetch henüz başarılı olmadıysa) diskteki registry snapshot'ı kullanılır
+ */
+public class PushServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+	private final RegistryFeedClient feed;
+	private final RegistrySnapshotSeed seed;
+
+	public PushServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, RegistryFeedClient feed,
+			RegistrySnapshotSeed seed) {
+		super(delegate);
+		this.feed = feed;
+		this.seed = seed;
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return Flux.defer(() -> {
+			if (feed.isLive()) {
+				var pushed = feed.getInstances(getServiceId());
+				if (pushed.isPresent()) {
+					return Flux.just(pushed.get());
+				}
+			}
+			return delegate.get()
+					.map(polled -> polled.isEmpty() ? seed.getInstances(getServiceId()).orElse(polled) : polled);
+		});
+	}
+}
@@ -0,0 +1,175 @@
+package com.turkcell.gateway_server.discovery;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+/**
+ * Registry Feed Client
+ * discovery-server'ın registry değişiklik akışına gateway başına tek bağlantı açar
+ * ve servis başına güncel instance listesini tutar
+ * Akış canlı değilken (bağlantı yok, "ready" gelmedi veya heartbeat kesildi) isLive() false döner
+ * ve load balancer Eureka polling'ine düşer
+ */
+@Component
+public class RegistryFeedClient {
+	private static final Logger log = LoggerFactory.getLogger(RegistryFeedClient.class);
+	private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE = new ParameterizedTypeReference<>() {
+	};
+
+	private final WebClient webClient;
+	private final ObjectMapper objectMapper;
+	private final RegistryFeedProperties properties;
+
+	private volatile Map<String, List<ServiceInstance>> instances = Map.of();
+	private volatile Map<String, Long> versions = Map.of();
+	private Map<String, List<ServiceInstance>> pendingInstances;
+	private Map<String, Long> pendingVersions;
+	private volatile boolean live;
+	private Disposable subscription;
+
+	public RegistryFeedClient(WebClient.Builder webClientBuilder, ObjectMapper objectMapper,
+			RegistryFeedProperties properties) {
+		this.webClient = webClientBuilder.build();
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		subscription = feed(webClient.get()
+				.uri(properties.getUrl())
+				.accept(MediaType.TEXT_EVENT_STREAM)
+				.retrieve()
+				.bodyToFlux(SSE_TYPE))
+				.subscribe();
+	}
+
+	/**
+	 * Bağlantı koptuğunda veya sunucu akışı kapattığında yeniden bağlanır
+	 * Kapanan akış minReconnectBackoff sonra, hata artan beklemeyle (en fazla maxReconnectBackoff) yeniden denenir
+	 * Olay alınmış bir bağlantının hatası bekleme dizisini sıfırlar
+	 */
+	Flux<ServerSentEvent<String>> feed(Flux<ServerSentEvent<String>> connection) {
+		return connection
+				.doOnSubscribe(s -> onConnect())
+				.timeout(properties.getStaleAfter())
+				.doOnNext(this::onEvent)
+				.doOnError(this::onDisconnect)
+				.doOnComplete(() -> live = false)
+				.repeatWhen(completions -> completions.delayElements(properties.getMinReconnectBackoff()))
+				.retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getMinReconnectBackoff())
+						.maxBackoff(properties.getMaxReconnectBackoff())
+						.transientErrors(true));
+	}
+
+	public boolean isLive() {
+		return live;
+	}
+
+	public Optional<List<ServiceInstance>> getInstances(String serviceId) {
+		return Optional.ofNullable(instances.get(serviceId.toLowerCase(Locale.ROOT)));
+	}
+
+	private synchronized void onConnect() {
+		live = false;
+		pendingInstances = new ConcurrentHashMap<>();
+		pendingVersions = new ConcurrentHashMap<>();
+	}
+
+	private synchronized void onEvent(ServerSentEvent<String> event) {
+		if ("snapshot".equals(event.event())) {
+			apply(event.data());
+		} else if ("ready".equals(event.event()) && pendingInstances != null) {
+			// İlk tam snapshot tamamlandı - eski durumu tamamen değiştir
+			instances = pendingInstances;
+			versions = pendingVersions;
+			pendingInstances = null;
+			pendingVersions = null;
+			live = true;
+			log.info("Registry akışı canlı: {} servis", instances.size());
+		}
+	}
+
+	private void apply(String json) {
+		RegistrySnapshot snapshot;
+		try {
+			snapshot = objectMapper.readValue(json, RegistrySnapshot.class);
+		} catch (JsonProcessingException e) {
+			log.warn("Registry snapshot'ı okunamadı", e);
+			return;
+		}
+		String serviceId = snapshot.application().toLowerCase(Locale.ROOT);
+		Map<String, List<ServiceInstance>> targetInstances = pendingInstances != null ? pendingInstances : instances;
+		Map<String, Long> targetVersions = pendingVersions != null ? pendingVersions : versions;
+
+		Long current = targetVersions.get(serviceId);
+		if (current != null && current > snapshot.version()) {
+			return;
+		}
+		List<ServiceInstance> serviceInstances = snapshot.instances().stream()
+				.map(instance -> (ServiceInstance) new DefaultServiceInstance(
+						instance.instanceId(),
+						serviceId,
+						instance.host(),
+						instance.port(),
+						instance.secure(),
+						instance.metadata()))
+				.sorted(Comparator.comparing(ServiceInstance::getInstanceId))
+				.toList();
+
+		if (pendingInstances != null) {
+			targetInstances.put(serviceId, serviceInstances);
+			targetVersions.put(serviceId, snapshot.version());
+		} else {
+			instances = copyWith(instances, serviceId, serviceInstances);
+			versions = copyWith(versions, serviceId, snapshot.version());
+		}
+	}
+
+	private static <V> Map<String, V> copyWith(Map<String, V> source, String key, V value) {
+		Map<String, V> copy = new ConcurrentHashMap<>(source);
+		copy.put(key, value);
+		return copy;
+	}
+
+	private void onDisconnect(Throwable error) {
+		if (live) {
+			log.warn("Registry akışı koptu, Eureka polling'ine dönülüyor: {}", error.toString());
+		}
+		live = false;
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (subscription != null) {
+			subscription.dispose();
+		}
+	}
+}
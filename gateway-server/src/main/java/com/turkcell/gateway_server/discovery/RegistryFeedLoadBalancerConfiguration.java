@@ -0,0 +1,23 @@
+package com.turkcell.gateway_server.discovery;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Her load balancer client context'i için push tabanlı instance listesi
+ * Component scan dışında kalması için @Configuration ile işaretlenmemiştir,
+ * LoadBalancerConfig üzerinden @LoadBalancerClients ile bağlanır
+ */
+public class RegistryFeedLoadBalancerConfiguration {
+
+	@Bean
+	public ServiceInstanceListSupplier pushServiceInstanceListSupplier(ConfigurableApplicationContext context,
+			RegistryFeedClient feed, RegistrySnapshotSeed seed) {
+		ServiceInstanceListSupplier polling = ServiceInstanceListSupplier.builder()
+				.withDiscoveryClient()
+				.withCaching()
+				.build(context);
+		return new PushServiceInstanceListSupplier(polling, feed, seed);
+	}
+}
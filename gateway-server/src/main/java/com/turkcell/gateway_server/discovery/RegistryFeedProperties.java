@@ -0,0 +1,73 @@
+package com.turkcell.gateway_server.discovery;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "gateway.registry-feed")
+public class RegistryFeedProperties {
+	/**
+	 * false ise load balancer sadece Eureka polling'ini kullanır
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * discovery-server'ın registry değişiklik akışı
+	 */
+	private String url = "http://localhost:8761/registry/changes";
+
+	/**
+	 * Bu süre boyunca hiçbir olay (heartbeat dahil) gelmezse akış kopmuş sayılır ve polling'e dönülür
+	 */
+	private Duration staleAfter = Duration.ofSeconds(30);
+
+	/**
+	 * Akış kapandıktan sonra ve ilk hatalı denemeden sonra yeniden bağlanmadan önceki bekleme
+	 */
+	private Duration minReconnectBackoff = Duration.ofSeconds(1);
+
+	/**
+	 * Yeniden bağlanma denemeleri arasındaki maksimum bekleme
+	 */
+	private Duration maxReconnectBackoff = Duration.ofSeconds(30);
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public Duration getStaleAfter() {
+		return staleAfter;
+	}
+
+	public void setStaleAfter(Duration staleAfter) {
+		this.staleAfter = staleAfter;
+	}
+
+	public Duration getMinReconnectBackoff() {
+		return minReconnectBackoff;
+	}
+
+	public void setMinReconnectBackoff(Duration minReconnectBackoff) {
+		this.minReconnectBackoff = minReconnectBackoff;
+	}
+
+	public Duration getMaxReconnectBackoff() {
+		return maxReconnectBackoff;
+	}
+
+	public void setMaxReconnectBackoff(Duration maxReconnectBackoff) {
+		this.maxReconnectBackoff = maxReconnectBackoff;
+	}
+}
@@ -0,0 +1,13 @@
+package com.turkcell.gateway_server.discovery;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * discovery-server'ın /registry/changes akışındaki snapshot olayı
+ */
+public record RegistrySnapshot(String application, long version, List<Instance> instances) {
+
+	public record Instance(String instanceId, String host, int port, boolean secure, Map<String, String> metadata) {
+	}
+}
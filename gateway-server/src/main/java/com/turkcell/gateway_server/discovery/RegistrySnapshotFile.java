@@ -0,0 +1,55 @@
+package com.turkcell.gateway_server.discovery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.discovery.converters.jackson.EurekaJsonJacksonCodec;
+import com.netflix.discovery.shared.Applications;
+
+/**
+ * Registry Snapshot File
+ * Son başarılı Eureka fetch'inin diskteki kopyası - Eureka'nın kendi JSON formatında saklanır
+ * Eureka client'ı Spring dışında (reflection ile) oluşturduğu için yol Spring property'si değil,
+ * registry.snapshot.path system property'si ile değiştirilir
+ */
+public final class RegistrySnapshotFile {
+	private static final ObjectMapper MAPPER = new EurekaJsonJacksonCodec().getObjectMapper(Applications.class);
+
+	public static Path path() {
+		String configured = System.getProperty("registry.snapshot.path");
+		if (configured != null && !configured.isBlank()) {
+			return Path.of(configured);
+		}
+		return Path.of(System.getProperty("user.home"), ".gateway-server", "registry-snapshot.json");
+	}
+
+	public static Optional<Applications> read() throws IOException {
+		Path path = path();
+		if (!Files.isRegularFile(path)) {
+			return Optional.empty();
+		}
+		return Optional.of(MAPPER.readValue(path.toFile(), Applications.class));
+	}
+
+	/**
+	 * Önce geçici dosyaya yazar, sonra atomik olarak taşır - yarım yazılmış snapshot okunmaz
+	 */
+	public static void write(Applications applications) throws IOException {
+		Path path = path();
+		Files.createDirectories(path.toAbsolutePath().getParent());
+		Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), "registry-snapshot", ".tmp");
+		try {
+			MAPPER.writeValue(temp.toFile(), applications);
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private RegistrySnapshotFile() {
+	}
+}
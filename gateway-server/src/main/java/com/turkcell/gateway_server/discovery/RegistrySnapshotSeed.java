@@ -0,0 +1,71 @@
+package com.turkcell.gateway_server.discovery;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.netflix.eureka.EurekaServiceInstance;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+
+/**
+ * Registry Snapshot Seed
+ * Diskteki son bilinen registry'yi bean oluşturulurken, Eureka client'ının ilk uzak fetch'inden önce yükler
+ * İlk başarılı fetch'e (HeartbeatEvent) kadar Eureka'da instance'ı olmayan servisler için kullanılır;
+ * discovery-server hiç yanıt vermese de gateway son bilinen instance'lara yönlendirebilir
+ * Eureka registry'si bir kez dolduktan sonra devre dışı kalır - servisin gerçekten kalkmış instance'larına
+ * yönlendirilmez
+ */
+@Component
+public class RegistrySnapshotSeed {
+	private static final Logger log = LoggerFactory.getLogger(RegistrySnapshotSeed.class);
+
+	private volatile Applications applications;
+
+	public RegistrySnapshotSeed() {
+		try {
+			applications = RegistrySnapshotFile.read().orElse(null);
+			if (applications != null) {
+				log.info("Registry snapshot'ı yüklendi, ilk Eureka fetch'ine kadar kullanılacak: {} uygulama ({})",
+						applications.size(), RegistrySnapshotFile.path());
+			}
+		} catch (IOException e) {
+			log.warn("Registry snapshot'ı okunamadı: {}", RegistrySnapshotFile.path(), e);
+		}
+	}
+
+	/**
+	 * Snapshot'ta servisin UP instance'ı yoksa veya Eureka fetch'i başarılı olduysa boş döner
+	 */
+	public Optional<List<ServiceInstance>> getInstances(String serviceId) {
+		Applications seed = applications;
+		if (seed == null) {
+			return Optional.empty();
+		}
+		Application application = seed.getRegisteredApplications(serviceId);
+		if (application == null) {
+			return Optional.empty();
+		}
+		List<ServiceInstance> instances = application.getInstancesAsIsFromEureka().stream()
+				.filter(instance -> instance.getStatus() == InstanceInfo.InstanceStatus.UP)
+				.map(instance -> (ServiceInstance) new EurekaServiceInstance(instance))
+				.toList();
+		return instances.isEmpty() ? Optional.empty() : Optional.of(instances);
+	}
+
+	@EventListener
+	public void onRegistryFetched(HeartbeatEvent event) {
+		if (applications != null) {
+			applications = null;
+			log.info("Eureka registry'si alındı, registry snapshot'ı devre dışı");
+		}
+	}
+}
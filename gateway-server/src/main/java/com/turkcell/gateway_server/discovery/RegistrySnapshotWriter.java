@@ -0,0 +1,54 @@
+package com.turkcell.gateway_server.discovery;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Applications;
+
+/**
+ * Registry Snapshot Writer
+ * Her başarılı Eureka fetch'inden sonra (HeartbeatEvent) registry'yi diske yazar
+ * Registry hash'i değişmediyse dosyaya dokunulmaz
+ * Eureka client'ı kapalıysa (eureka.client.enabled=false) hiçbir şey yazılmaz
+ */
+@Component
+public class RegistrySnapshotWriter {
+	private static final Logger log = LoggerFactory.getLogger(RegistrySnapshotWriter.class);
+
+	private final ObjectProvider<EurekaClient> eurekaClient;
+	private volatile String lastWrittenHash;
+
+	public RegistrySnapshotWriter(ObjectProvider<EurekaClient> eurekaClient) {
+		this.eurekaClient = eurekaClient;
+	}
+
+	@EventListener
+	public void onRegistryFetched(HeartbeatEvent event) {
+		EurekaClient client = eurekaClient.getIfAvailable();
+		if (client == null) {
+			return;
+		}
+		Applications applications = client.getApplications();
+		if (applications == null || applications.size() == 0) {
+			// Boş registry ile son bilinen iyi snapshot'ın üzerine yazma
+			return;
+		}
+		String hash = applications.getReconcileHashCode();
+		if (hash.equals(lastWrittenHash)) {
+			return;
+		}
+		try {
+			RegistrySnapshotFile.write(applications);
+			lastWrittenHash = hash;
+		} catch (IOException e) {
+			log.warn("Registry snapshot'ı yazılamadı: {}", RegistrySnapshotFile.path(), e);
+		}
+	}
+}
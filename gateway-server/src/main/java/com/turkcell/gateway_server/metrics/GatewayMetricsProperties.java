@@ -0,0 +1,60 @@
+package com.turkcell.gateway_server.metrics;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "gateway.metrics")
+public class GatewayMetricsProperties {
+	/**
+	 * Bu süreyi aşan istekler upstream süresiyle birlikte loglanır
+	 */
+	private Duration slowRequestThreshold = Duration.ofSeconds(1);
+
+	/**
+	 * Histogram üst sınırı - daha yavaş istekler bu değere sabitlenir, histogram büyümez
+	 */
+	private Duration highestTrackableLatency = Duration.ofMinutes(1);
+
+	/**
+	 * HDR hassasiyeti (1-5) - 2 basamak her seriyi birkaç KB'da tutar
+	 */
+	private int significantDigits = 2;
+
+	/**
+	 * Maksimum route/instance/status serisi - fazlası tek bir overflow serisinde toplanır
+	 */
+	private int maxSeries = 512;
+
+	public Duration getSlowRequestThreshold() {
+		return slowRequestThreshold;
+	}
+
+	public void setSlowRequestThreshold(Duration slowRequestThreshold) {
+		this.slowRequestThreshold = slowRequestThreshold;
+	}
+
+	public Duration getHighestTrackableLatency() {
+		return highestTrackableLatency;
+	}
+
+	public void setHighestTrackableLatency(Duration highestTrackableLatency) {
+		this.highestTrackableLatency = highestTrackableLatency;
+	}
+
+	public int getSignificantDigits() {
+		return significantDigits;
+	}
+
+	public void setSignificantDigits(int significantDigits) {
+		this.significantDigits = significantDigits;
+	}
+
+	public int getMaxSeries() {
+		return maxSeries;
+	}
+
+	public void setMaxSeries(int maxSeries) {
+		this.maxSeries = maxSeries;
+	}
+}
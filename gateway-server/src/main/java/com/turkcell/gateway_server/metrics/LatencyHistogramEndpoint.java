@@ -0,0 +1,42 @@
+package com.turkcell.gateway_server.metrics;
+
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latency Histogram Endpoint
+ * GET /actuator/latencyhistograms
+ * Tüm serilerin ham histogramlarını base64 olarak döner (node'lar arası offline birleştirme için)
+ */
+@Component
+@Endpoint(id = "latencyhistograms")
+public class LatencyHistogramEndpoint {
+	private final LatencyHistogramRegistry registry;
+
+	public LatencyHistogramEndpoint(LatencyHistogramRegistry registry) {
+		this.registry = registry;
+	}
+
+	@ReadOperation
+	public List<HistogramDump> dump() {
+		Base64.Encoder encoder = Base64.getEncoder();
+		return registry.getSeries().stream()
+				.map(series -> new HistogramDump(
+						series.getKey().route(),
+						series.getKey().instance(),
+						series.getKey().status(),
+						series.getCount(),
+						series.getRequestBytes(),
+						series.getResponseBytes(),
+						encoder.encodeToString(series.encodeHistogram())))
+				.toList();
+	}
+
+	public record HistogramDump(String route, String instance, int status, long count, long requestBytes,
+			long responseBytes, String histogram) {
+	}
+}
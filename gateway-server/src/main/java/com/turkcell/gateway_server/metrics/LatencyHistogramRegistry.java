@@ -0,0 +1,100 @@
+package com.turkcell.gateway_server.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Latency Histogram Registry
+ * Her route/instance/status için bir LatencySeries tutar
+ * Serileri Micrometer percentile gauge'ları ve byte sayaçları olarak yayınlar
+ * En fazla maxSeries seri açılır (artı overflow); yer ayırma ekleme ile aynı computeIfAbsent içinde yapılır
+ */
+@Component
+public class LatencyHistogramRegistry {
+	private static final double[] PERCENTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+	private final ConcurrentMap<LatencySeriesKey, LatencySeries> series = new ConcurrentHashMap<>();
+	private final AtomicInteger reservedSeries = new AtomicInteger();
+	private final MeterRegistry meterRegistry;
+	private final long highestTrackableMicros;
+	private final int significantDigits;
+	private final int maxSeries;
+
+	public LatencyHistogramRegistry(MeterRegistry meterRegistry, GatewayMetricsProperties properties) {
+		this.meterRegistry = meterRegistry;
+		this.highestTrackableMicros = properties.getHighestTrackableLatency().toNanos() / 1000;
+		this.significantDigits = properties.getSignificantDigits();
+		this.maxSeries = properties.getMaxSeries();
+	}
+
+	public void record(LatencySeriesKey key, long latencyMicros, long requestBytes, long responseBytes) {
+		seriesFor(key).record(latencyMicros, requestBytes, responseBytes);
+	}
+
+	public Collection<LatencySeries> getSeries() {
+		return Collections.unmodifiableCollection(series.values());
+	}
+
+	private LatencySeries seriesFor(LatencySeriesKey key) {
+		LatencySeries existing = series.get(key);
+		if (existing != null) {
+			return existing;
+		}
+		// null dönerse anahtar eklenmez - sınır dolmuşsa istek overflow serisine yazılır
+		LatencySeries created = series.computeIfAbsent(key, k -> reserveSlot() ? register(k) : null);
+		return created != null ? created : series.computeIfAbsent(LatencySeriesKey.OVERFLOW, this::register);
+	}
+
+	private boolean reserveSlot() {
+		int reserved;
+		do {
+			reserved = reservedSeries.get();
+			if (reserved >= maxSeries) {
+				return false;
+			}
+		} while (!reservedSeries.compareAndSet(reserved, reserved + 1));
+		return true;
+	}
+
+	private LatencySeries register(LatencySeriesKey key) {
+		LatencySeries created = new LatencySeries(key, highestTrackableMicros, significantDigits);
+		Tags tags = Tags.of(
+				"route", key.route(),
+				"instance", key.instance(),
+				"status", String.valueOf(key.status()));
+
+		for (double percentile : PERCENTILES) {
+			Gauge.builder("gateway.route.latency", created, s -> s.getPercentileMillis(percentile * 100))
+					.tags(tags)
+					.tag("percentile", String.valueOf(percentile))
+					.baseUnit("milliseconds")
+					.register(meterRegistry);
+		}
+		Gauge.builder("gateway.route.latency.max", created, LatencySeries::getMaxMillis)
+				.tags(tags)
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+		FunctionCounter.builder("gateway.route.requests", created, LatencySeries::getCount)
+				.tags(tags)
+				.register(meterRegistry);
+		FunctionCounter.builder("gateway.route.request.bytes", created, LatencySeries::getRequestBytes)
+				.tags(tags)
+				.baseUnit("bytes")
+				.register(meterRegistry);
+		FunctionCounter.builder("gateway.route.response.bytes", created, LatencySeries::getResponseBytes)
+				.tags(tags)
+				.baseUnit("bytes")
+				.register(meterRegistry);
+		return created;
+	}
+}
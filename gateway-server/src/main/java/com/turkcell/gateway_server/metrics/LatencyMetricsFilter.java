@@ -0,0 +1,150 @@
+package com.turkcell.gateway_server.metrics;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Latency Metrics Filter
+ * En dıştaki gateway filter'ı - toplam istek süresini ölçer, request/response byte'larını sayar
+ * Sonuçları route, upstream instance ve status code bazında kaydeder
+ */
+@Component
+public class LatencyMetricsFilter implements GlobalFilter, Ordered {
+	private static final Logger log = LoggerFactory.getLogger(LatencyMetricsFilter.class);
+
+	private final LatencyHistogramRegistry registry;
+	private final long slowRequestThresholdNanos;
+
+	public LatencyMetricsFilter(LatencyHistogramRegistry registry, GatewayMetricsProperties properties) {
+		this.registry = registry;
+		this.slowRequestThresholdNanos = properties.getSlowRequestThreshold().toNanos();
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		long start = System.nanoTime();
+		AtomicLong requestBytes = new AtomicLong();
+		AtomicLong responseBytes = new AtomicLong();
+
+		ServerWebExchange counted = exchange.mutate()
+				.request(new CountingRequest(exchange.getRequest(), requestBytes))
+				.response(new CountingResponse(exchange.getResponse(), responseBytes))
+				.build();
+
+		return chain.filter(counted)
+				.doFinally(signal -> record(counted, signal, start, requestBytes.get(), responseBytes.get()));
+	}
+
+	private void record(ServerWebExchange exchange, SignalType signal, long start, long requestBytes,
+			long responseBytes) {
+		long end = System.nanoTime();
+		long totalNanos = end - start;
+		LatencySeriesKey key = new LatencySeriesKey(routeId(exchange), instance(exchange), status(exchange, signal));
+		registry.record(key, totalNanos / 1000, requestBytes, responseBytes);
+
+		if (totalNanos >= slowRequestThresholdNanos) {
+			Long upstreamStart = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_START_ATTR);
+			long upstreamMillis = upstreamStart == null ? -1 : (end - upstreamStart) / 1_000_000;
+			log.warn("Slow request {} {} route={} instance={} status={} total={}ms upstream={}ms requestBytes={} responseBytes={}",
+					exchange.getRequest().getMethod(),
+					exchange.getRequest().getPath().value(),
+					key.route(),
+					key.instance(),
+					key.status(),
+					totalNanos / 1_000_000,
+					upstreamMillis,
+					requestBytes,
+					responseBytes);
+		}
+	}
+
+	private static String routeId(ServerWebExchange exchange) {
+		Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+		return route == null ? "unmatched" : route.getId();
+	}
+
+	private static String instance(ServerWebExchange exchange) {
+		URI requestUrl = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+		if (requestUrl == null || requestUrl.getHost() == null) {
+			return "none";
+		}
+		return requestUrl.getPort() < 0 ? requestUrl.getHost() : requestUrl.getHost() + ":" + requestUrl.getPort();
+	}
+
+	private static int status(ServerWebExchange exchange, SignalType signal) {
+		HttpStatusCode status = exchange.getResponse().getStatusCode();
+		if (status != null) {
+			return status.value();
+		}
+		if (signal == SignalType.ON_ERROR) {
+			return 500;
+		}
+		// İstemci yanıt tamamlanmadan bağlantıyı kapattı
+		return signal == SignalType.CANCEL ? 499 : 200;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	private static class CountingRequest extends ServerHttpRequestDecorator {
+		private final AtomicLong bytes;
+
+		CountingRequest(ServerHttpRequest delegate, AtomicLong bytes) {
+			super(delegate);
+			this.bytes = bytes;
+		}
+
+		@Override
+		public Flux<DataBuffer> getBody() {
+			return super.getBody().doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()));
+		}
+	}
+
+	private static class CountingResponse extends ServerHttpResponseDecorator {
+		private final AtomicLong bytes;
+
+		CountingResponse(ServerHttpResponse delegate, AtomicLong bytes) {
+			super(delegate);
+			this.bytes = bytes;
+		}
+
+		@Override
+		public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+			return super.writeWith(Flux.from(body).doOnNext(this::count));
+		}
+
+		@Override
+		public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+			return super.writeAndFlushWith(Flux.from(body).map(inner -> Flux.from(inner).doOnNext(this::count)));
+		}
+
+		private void count(DataBuffer buffer) {
+			bytes.addAndGet(buffer.readableByteCount());
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.turkcell.gateway_server.metrics;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency Series
+ * Tek bir route/instance/status kombinasyonunun gecikme histogramı ve byte sayaçları
+ * Kayıt işlemi kilitsizdir, histogram aralığı sabit olduğu için bellek büyümez
+ */
+public class LatencySeries {
+	private final LatencySeriesKey key;
+	private final ConcurrentHistogram histogram;
+	private final long highestTrackableMicros;
+	private final LongAdder requestBytes = new LongAdder();
+	private final LongAdder responseBytes = new LongAdder();
+
+	LatencySeries(LatencySeriesKey key, long highestTrackableMicros, int significantDigits) {
+		this.key = key;
+		this.highestTrackableMicros = highestTrackableMicros;
+		this.histogram = new ConcurrentHistogram(1, highestTrackableMicros, significantDigits);
+		this.histogram.setStartTimeStamp(System.currentTimeMillis());
+	}
+
+	public void record(long latencyMicros, long requestBytes, long responseBytes) {
+		histogram.recordValue(Math.max(1, Math.min(latencyMicros, highestTrackableMicros)));
+		this.requestBytes.add(requestBytes);
+		this.responseBytes.add(responseBytes);
+	}
+
+	public LatencySeriesKey getKey() {
+		return key;
+	}
+
+	public long getCount() {
+		return histogram.getTotalCount();
+	}
+
+	public double getPercentileMillis(double percentile) {
+		return histogram.getValueAtPercentile(percentile) / 1000.0;
+	}
+
+	public double getMaxMillis() {
+		return histogram.getMaxValue() / 1000.0;
+	}
+
+	public long getRequestBytes() {
+		return requestBytes.sum();
+	}
+
+	public long getResponseBytes() {
+		return responseBytes.sum();
+	}
+
+	/**
+	 * Histogramı sıkıştırılmış HdrHistogram V2 formatında döner
+	 * (HistogramLogWriter ile aynı format - farklı gateway node'larının dump'ları offline birleştirilebilir)
+	 */
+	public byte[] encodeHistogram() {
+		Histogram snapshot = histogram.copy();
+		snapshot.setEndTimeStamp(System.currentTimeMillis());
+		ByteBuffer buffer = ByteBuffer.allocate(snapshot.getNeededByteBufferCapacity());
+		int length = snapshot.encodeIntoCompressedByteBuffer(buffer);
+		byte[] encoded = new byte[length];
+		buffer.flip();
+		buffer.get(encoded);
+		return encoded;
+	}
+}
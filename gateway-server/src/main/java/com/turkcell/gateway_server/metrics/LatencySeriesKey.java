@@ -0,0 +1,5 @@
+package com.turkcell.gateway_server.metrics;
+
+public record LatencySeriesKey(String route, String instance, int status) {
+	static final LatencySeriesKey OVERFLOW = new LatencySeriesKey("overflow", "overflow", 0);
+}
@@ -0,0 +1,30 @@
+package com.turkcell.gateway_server.metrics;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Upstream Timing Filter
+ * Netty routing filter'ından hemen önce çalışır ve isteğin gateway'den çıktığı anı işaretler
+ * Böylece upstream'de geçen süre gateway filter'larında geçen süreden ayrılabilir
+ */
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+	public static final String UPSTREAM_START_ATTR = UpstreamTimingFilter.class.getName() + ".upstreamStart";
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		exchange.getAttributes().put(UPSTREAM_START_ATTR, System.nanoTime());
+		return chain.filter(exchange);
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE - 1;
+	}
+}
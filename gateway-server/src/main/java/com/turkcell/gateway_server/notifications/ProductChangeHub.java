@@ -0,0 +1,103 @@
+package com.turkcell.gateway_server.notifications;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Product Change Hub
+ * Tek upstream aboneliğinden gelen olayları bağlı tüm SSE istemcilerine dağıtır
+ * Olay JSON'a bir kez çevrilir, istemci başına sadece filtre ve buffer maliyeti kalır
+ * Yavaş istemcilerin buffer'ı dolunca en eski olay atılır ve istemciye lag olayı gönderilir
+ */
+@Component
+public class ProductChangeHub {
+	private static final Logger log = LoggerFactory.getLogger(ProductChangeHub.class);
+
+	private final Sinks.Many<Frame> sink = Sinks.many().multicast().directBestEffort();
+	private final AtomicInteger connectedClients = new AtomicInteger();
+	private final ObjectMapper objectMapper;
+	private final Counter receivedEvents;
+	private final Counter droppedEvents;
+	private final int clientBufferSize;
+	private final Duration heartbeatInterval;
+
+	public ProductChangeHub(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+			ProductChangeStreamProperties properties) {
+		this.objectMapper = objectMapper;
+		this.clientBufferSize = properties.getClientBufferSize();
+		this.heartbeatInterval = properties.getHeartbeatInterval();
+		this.receivedEvents = Counter.builder("gateway.product.changes.received").register(meterRegistry);
+		this.droppedEvents = Counter.builder("gateway.product.changes.dropped").register(meterRegistry);
+		Gauge.builder("gateway.product.changes.clients", connectedClients, AtomicInteger::get)
+				.register(meterRegistry);
+	}
+
+	public void publish(ProductChangedEvent event) {
+		receivedEvents.increment();
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			log.warn("Ürün değişikliği serileştirilemedi: {}", event.productId(), e);
+			return;
+		}
+		sink.emitNext(new Frame(event.productId(), event.type(), json),
+				Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+	}
+
+	/**
+	 * @param productIds Takip edilecek ürünler - boşsa tüm değişiklikler gönderilir
+	 */
+	public Flux<ServerSentEvent<String>> subscribe(Set<String> productIds) {
+		AtomicLong lag = new AtomicLong();
+
+		Flux<ServerSentEvent<String>> changes = sink.asFlux()
+				.filter(frame -> productIds.isEmpty() || productIds.contains(frame.productId()))
+				.onBackpressureBuffer(clientBufferSize, dropped -> {
+					lag.incrementAndGet();
+					droppedEvents.increment();
+				}, BufferOverflowStrategy.DROP_OLDEST)
+				.flatMapIterable(frame -> toEvents(frame, lag.getAndSet(0)), 1);
+
+		Flux<ServerSentEvent<String>> heartbeats = Flux.interval(heartbeatInterval)
+				.map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build());
+
+		return Flux.merge(1, changes, heartbeats)
+				.doOnSubscribe(subscription -> connectedClients.incrementAndGet())
+				.doFinally(signal -> connectedClients.decrementAndGet());
+	}
+
+	private static List<ServerSentEvent<String>> toEvents(Frame frame, long dropped) {
+		ServerSentEvent<String> change = ServerSentEvent.<String>builder(frame.json())
+				.event(frame.type())
+				.build();
+		if (dropped == 0) {
+			return List.of(change);
+		}
+		ServerSentEvent<String> lag = ServerSentEvent.<String>builder("{\"dropped\":" + dropped + "}")
+				.event("lag")
+				.build();
+		return List.of(lag, change);
+	}
+
+	private record Frame(String productId, String type, String json) {
+	}
+}
@@ -0,0 +1,47 @@
+package com.turkcell.gateway_server.notifications;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Ürün değişikliklerini server-sent events olarak yayınlar
+ * GET /api/v1/products/changes?ids=id1,id2
+ * Gateway'in kendi endpoint'idir, product-service'e yönlendirilmez
+ */
+@RestController
+@RequestMapping("/api/v1/products/changes")
+public class ProductChangeStreamController {
+	private final ProductChangeHub hub;
+	private final int maxProductIds;
+
+	public ProductChangeStreamController(ProductChangeHub hub, ProductChangeStreamProperties properties) {
+		this.hub = hub;
+		this.maxProductIds = properties.getMaxProductIdsPerClient();
+	}
+
+	@GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<String>> stream(@RequestParam(name = "ids", required = false) String ids) {
+		Set<String> productIds = ids == null ? Set.of()
+				: Arrays.stream(ids.split(","))
+						.map(String::trim)
+						.filter(id -> !id.isEmpty())
+						.collect(Collectors.toUnmodifiableSet());
+		if (productIds.size() > maxProductIds) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+					"En fazla " + maxProductIds + " ürün takip edilebilir");
+		}
+		return hub.subscribe(productIds);
+	}
+}
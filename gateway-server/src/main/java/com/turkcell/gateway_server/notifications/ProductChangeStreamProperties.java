@@ -0,0 +1,47 @@
+package com.turkcell.gateway_server.notifications;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "gateway.product-changes")
+public class ProductChangeStreamProperties {
+	/**
+	 * İstemci başına bekleyen olay sayısı - dolunca en eski olay atılır
+	 */
+	private int clientBufferSize = 256;
+
+	/**
+	 * Boşta bağlantıları açık tutmak için gönderilen heartbeat aralığı
+	 */
+	private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+	/**
+	 * Tek istemcinin filtreleyebileceği maksimum ürün sayısı
+	 */
+	private int maxProductIdsPerClient = 1000;
+
+	public int getClientBufferSize() {
+		return clientBufferSize;
+	}
+
+	public void setClientBufferSize(int clientBufferSize) {
+		this.clientBufferSize = clientBufferSize;
+	}
+
+	public Duration getHeartbeatInterval() {
+		return heartbeatInterval;
+	}
+
+	public void setHeartbeatInterval(Duration heartbeatInterval) {
+		this.heartbeatInterval = heartbeatInterval;
+	}
+
+	public int getMaxProductIdsPerClient() {
+		return maxProductIdsPerClient;
+	}
+
+	public void setMaxProductIdsPerClient(int maxProductIdsPerClient) {
+		this.maxProductIdsPerClient = maxProductIdsPerClient;
+	}
+}
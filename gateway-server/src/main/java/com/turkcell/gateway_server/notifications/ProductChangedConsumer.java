@@ -0,0 +1,49 @@
+package com.turkcell.gateway_server.notifications;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.KafkaNull;
+import org.springframework.messaging.Message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Gateway instance'ı başına tek upstream aboneliği
+ * Binding'in group'u olmadığı için her gateway node'u tüm değişiklikleri alır
+ * Mesaj ham olarak alınır: silinen ürünün DELETED olayını izleyen tombstone (boş değerli kayıt) payload'u KafkaNull'dır,
+ * POJO'ya dönüştürülmeye çalışılmadan atlanır; diğer kayıtlar burada ProductChangedEvent'e çevrilir
+ */
+@Configuration
+public class ProductChangedConsumer {
+	private static final Logger log = LoggerFactory.getLogger(ProductChangedConsumer.class);
+
+	@Bean
+	public Consumer<Message<?>> productChanged(ProductChangeHub hub, ObjectMapper objectMapper) {
+		return message -> {
+			Object payload = message.getPayload();
+			if (payload instanceof KafkaNull) {
+				return;
+			}
+			ProductChangedEvent event;
+			try {
+				event = payload instanceof String json
+						? objectMapper.readValue(json, ProductChangedEvent.class)
+						: objectMapper.readValue((byte[]) payload, ProductChangedEvent.class);
+			} catch (IOException e) {
+				// Tekrar denemek sonucu değiştirmez - kayıt atlanır, sonraki olaylar işlenmeye devam eder
+				Object key = message.getHeaders().get(KafkaHeaders.RECEIVED_KEY);
+				log.warn("Okunamayan ürün değişikliği atlandı (key={})",
+						key instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : key, e);
+				return;
+			}
+			hub.publish(event);
+		};
+	}
+}
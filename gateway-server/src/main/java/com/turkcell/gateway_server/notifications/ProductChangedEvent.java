@@ -0,0 +1,10 @@
+package com.turkcell.gateway_server.notifications;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * product-service'in product-changes topic'ine yazdığı olay
+ * product alanı istemcilere olduğu gibi iletilir; version DELETED olaylarında null'dır
+ */
+public record ProductChangedEvent(String productId, String type, JsonNode product, Long version, long occurredAt) {
+}
@@ -0,0 +1,71 @@
+package com.turkcell.gateway_server.resilience;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Fallback Controller
+ * Circuit breaker açıkken veya bulkhead doluyken route'un fallback'i olarak çalışır
+ * Varsa son başarılı yanıtı stale olarak sunar, yoksa Retry-After ile 503 döner
+ */
+@RestController
+@RequestMapping("/fallback")
+public class FallbackController {
+	private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+	private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(5);
+
+	private final StaleResponseCache cache;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+	public FallbackController(StaleResponseCache cache, CircuitBreakerRegistry circuitBreakerRegistry) {
+		this.cache = cache;
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+	}
+
+	@RequestMapping("/{routeId}")
+	public ResponseEntity<byte[]> fallback(@PathVariable String routeId, ServerWebExchange exchange) {
+		String key = exchange.getAttribute(StaleResponseCacheFilter.CACHE_KEY_ATTR);
+		if (HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+			var stale = cache.get(routeId, key);
+			if (stale.isPresent()) {
+				long ageSeconds = (System.currentTimeMillis() - stale.get().storedAt()) / 1000;
+				ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+						.header(HttpHeaders.AGE, String.valueOf(ageSeconds))
+						.header(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+				if (stale.get().contentType() != null) {
+					builder.contentType(stale.get().contentType());
+				}
+				return builder.body(stale.get().body());
+			}
+		}
+
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter(routeId, exchange).toSeconds()))
+				.build();
+	}
+
+	private Duration retryAfter(String routeId, ServerWebExchange exchange) {
+		Throwable cause = exchange.getAttribute(CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+		if (cause instanceof BulkheadFullException) {
+			return BULKHEAD_RETRY_AFTER;
+		}
+		return circuitBreakerRegistry.find(routeId)
+				.map(breaker -> Duration.ofMillis(
+						breaker.getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1)))
+				.filter(wait -> wait.toSeconds() > 0)
+				.orElse(DEFAULT_RETRY_AFTER);
+	}
+}
@@ -0,0 +1,69 @@
+package com.turkcell.gateway_server.resilience;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Resilience Metrics Config
+ * Resilience4j'nin hazır metriklerine (durum, çağrı sayıları) ek olarak
+ * devre durum geçişlerini ve bulkhead tarafından reddedilen çağrıları sayar
+ */
+@Configuration
+public class ResilienceMetricsConfig {
+
+	@Bean
+	public RegistryEventConsumer<CircuitBreaker> circuitBreakerTransitionMetrics(MeterRegistry meterRegistry) {
+		return new RegistryEventConsumer<>() {
+			@Override
+			public void onEntryAddedEvent(EntryAddedEvent<CircuitBreaker> event) {
+				CircuitBreaker breaker = event.getAddedEntry();
+				breaker.getEventPublisher().onStateTransition(transition -> Counter
+						.builder("gateway.circuitbreaker.transitions")
+						.tag("name", breaker.getName())
+						.tag("from", transition.getStateTransition().getFromState().name())
+						.tag("to", transition.getStateTransition().getToState().name())
+						.register(meterRegistry)
+						.increment());
+			}
+
+			@Override
+			public void onEntryRemovedEvent(EntryRemovedEvent<CircuitBreaker> event) {
+			}
+
+			@Override
+			public void onEntryReplacedEvent(EntryReplacedEvent<CircuitBreaker> event) {
+			}
+		};
+	}
+
+	@Bean
+	public RegistryEventConsumer<Bulkhead> bulkheadRejectionMetrics(MeterRegistry meterRegistry) {
+		return new RegistryEventConsumer<>() {
+			@Override
+			public void onEntryAddedEvent(EntryAddedEvent<Bulkhead> event) {
+				Bulkhead bulkhead = event.getAddedEntry();
+				Counter rejected = Counter.builder("gateway.bulkhead.rejected")
+						.tag("name", bulkhead.getName())
+						.register(meterRegistry);
+				bulkhead.getEventPublisher().onCallRejected(rejection -> rejected.increment());
+			}
+
+			@Override
+			public void onEntryRemovedEvent(EntryRemovedEvent<Bulkhead> event) {
+			}
+
+			@Override
+			public void onEntryReplacedEvent(EntryReplacedEvent<Bulkhead> event) {
+			}
+		};
+	}
+}
@@ -0,0 +1,112 @@
+package com.turkcell.gateway_server.resilience;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stale Response Cache
+ * Route başına son başarılı GET yanıtlarını sınırlı bir LRU içinde tutar
+ * LRU hem giriş sayısıyla hem toplam gövde boyutuyla sınırlıdır; hangisi aşılırsa en eski yanıtlar atılır
+ * Devre açıldığında fallback bu yanıtları "stale" olarak sunar
+ */
+@Component
+public class StaleResponseCache {
+	private final ConcurrentMap<String, RouteEntries> routes = new ConcurrentHashMap<>();
+	private final int maxEntriesPerRoute;
+	private final long maxBytesPerRoute;
+	private final long maxStalenessMillis;
+
+	public StaleResponseCache(StaleResponseProperties properties) {
+		this.maxEntriesPerRoute = properties.getMaxEntriesPerRoute();
+		this.maxBytesPerRoute = properties.getMaxBytesPerRoute();
+		this.maxStalenessMillis = properties.getMaxStaleness().toMillis();
+	}
+
+	public void put(String routeId, String key, CachedResponse response) {
+		if (response.body().length > maxBytesPerRoute) {
+			return;
+		}
+		RouteEntries entries = routes.computeIfAbsent(routeId, id -> new RouteEntries());
+		synchronized (entries) {
+			entries.put(key, response);
+		}
+	}
+
+	public Optional<CachedResponse> get(String routeId, String key) {
+		RouteEntries entries = routes.get(routeId);
+		if (entries == null || key == null) {
+			return Optional.empty();
+		}
+		CachedResponse response;
+		synchronized (entries) {
+			response = entries.get(key);
+		}
+		if (response == null || System.currentTimeMillis() - response.storedAt() > maxStalenessMillis) {
+			return Optional.empty();
+		}
+		return Optional.of(response);
+	}
+
+	public void evict(String routeId, String key) {
+		RouteEntries entries = routes.get(routeId);
+		if (entries != null) {
+			synchronized (entries) {
+				entries.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Route'un cache'lenmiş gövde boyutu toplamı
+	 */
+	public long getBytes(String routeId) {
+		RouteEntries entries = routes.get(routeId);
+		if (entries == null) {
+			return 0;
+		}
+		synchronized (entries) {
+			return entries.bytes;
+		}
+	}
+
+	/**
+	 * Erişim sıralı LRU - gövde boyutlarının toplamını tutar; çağıran route'un kilidini tutar
+	 */
+	private class RouteEntries {
+		private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+		private long bytes;
+
+		CachedResponse get(String key) {
+			return entries.get(key);
+		}
+
+		void put(String key, CachedResponse response) {
+			CachedResponse previous = entries.put(key, response);
+			if (previous != null) {
+				bytes -= previous.body().length;
+			}
+			bytes += response.body().length;
+			Iterator<CachedResponse> eldest = entries.values().iterator();
+			while (entries.size() > maxEntriesPerRoute || bytes > maxBytesPerRoute) {
+				bytes -= eldest.next().body().length;
+				eldest.remove();
+			}
+		}
+
+		void remove(String key) {
+			CachedResponse removed = entries.remove(key);
+			if (removed != null) {
+				bytes -= removed.body().length;
+			}
+		}
+	}
+
+	public record CachedResponse(byte[] body, MediaType contentType, long storedAt) {
+	}
+}
@@ -0,0 +1,126 @@
+package com.turkcell.gateway_server.resilience;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.turkcell.gateway_server.resilience.StaleResponseCache.CachedResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stale Response Cache Filter
+ * Başarılı GET yanıtlarının bir kopyasını StaleResponseCache'e yazar
+ * Yazma istekleri (PUT/POST/DELETE) ilgili kaydı siler
+ * Yanıtı NettyWriteResponseFilter yazar - kayıt dekoratörünün görülmesi için ondan önce çalışır
+ * Fallback'in ürettiği yanıtlar (stale dahil) cache'e yazılmaz, aksi halde stale yanıtın yaşı sıfırlanırdı
+ */
+@Component
+public class StaleResponseCacheFilter implements GatewayFilter, Ordered {
+	public static final String CACHE_KEY_ATTR = StaleResponseCacheFilter.class.getName() + ".cacheKey";
+
+	private final StaleResponseCache cache;
+	private final int maxBodyBytes;
+
+	public StaleResponseCacheFilter(StaleResponseCache cache, StaleResponseProperties properties) {
+		this.cache = cache;
+		this.maxBodyBytes = properties.getMaxBodyBytes();
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+		if (route == null) {
+			return chain.filter(exchange);
+		}
+		String key = cacheKey(exchange.getRequest().getURI());
+		exchange.getAttributes().put(CACHE_KEY_ATTR, key);
+
+		if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+			cache.evict(route.getId(), key);
+			return chain.filter(exchange);
+		}
+
+		ServerHttpResponse recording = new RecordingResponse(exchange, route.getId(), key);
+		return chain.filter(exchange.mutate().response(recording).build());
+	}
+
+	@Override
+	public int getOrder() {
+		return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+	}
+
+	static String cacheKey(URI uri) {
+		return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+	}
+
+	private class RecordingResponse extends ServerHttpResponseDecorator {
+		private final ServerWebExchange exchange;
+		private final String routeId;
+		private final String key;
+
+		RecordingResponse(ServerWebExchange exchange, String routeId, String key) {
+			super(exchange.getResponse());
+			this.exchange = exchange;
+			this.routeId = routeId;
+			this.key = key;
+		}
+
+		@Override
+		public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+			if (!HttpStatus.OK.equals(getStatusCode())
+					|| exchange.getAttribute(CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR) != null) {
+				return super.writeWith(body);
+			}
+			BodyCopy copy = new BodyCopy();
+			Flux<? extends DataBuffer> recorded = Flux.from(body)
+					.doOnNext(copy::append)
+					.doOnComplete(() -> {
+						if (!copy.oversized) {
+							cache.put(routeId, key, new CachedResponse(copy.bytes.toByteArray(),
+									getHeaders().getContentType(), System.currentTimeMillis()));
+						}
+					});
+			return super.writeWith(recorded);
+		}
+	}
+
+	private class BodyCopy {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		private boolean oversized;
+
+		void append(DataBuffer buffer) {
+			if (oversized || bytes.size() + buffer.readableByteCount() > maxBodyBytes) {
+				// Sınırı aşan yanıt cache'lenmeyecek, kopyalamaya gerek yok
+				oversized = true;
+				return;
+			}
+			try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+				while (iterator.hasNext()) {
+					ByteBuffer chunk = iterator.next();
+					byte[] chunkBytes = new byte[chunk.remaining()];
+					chunk.get(chunkBytes);
+					bytes.write(chunkBytes, 0, chunkBytes.length);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.turkcell.gateway_server.resilience;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "gateway.stale-cache")
+public class StaleResponseProperties {
+	/**
+	 * Route başına saklanacak maksimum yanıt sayısı
+	 */
+	private int maxEntriesPerRoute = 10_000;
+
+	/**
+	 * Bu boyuttan büyük yanıtlar cache'lenmez
+	 */
+	private int maxBodyBytes = 256 * 1024;
+
+	/**
+	 * Route başına toplam gövde boyutu - aşılınca en uzun süredir okunmayan yanıtlar atılır
+	 * Giriş sınırı tek başına yetmez: 10.000 x 256 KB route başına ~2.5 GB eder
+	 */
+	private long maxBytesPerRoute = 32L * 1024 * 1024;
+
+	/**
+	 * Devre açıkken bu süreden eski yanıtlar artık sunulmaz
+	 */
+	private Duration maxStaleness = Duration.ofMinutes(10);
+
+	public int getMaxEntriesPerRoute() {
+		return maxEntriesPerRoute;
+	}
+
+	public void setMaxEntriesPerRoute(int maxEntriesPerRoute) {
+		this.maxEntriesPerRoute = maxEntriesPerRoute;
+	}
+
+	public int getMaxBodyBytes() {
+		return maxBodyBytes;
+	}
+
+	public void setMaxBodyBytes(int maxBodyBytes) {
+		this.maxBodyBytes = maxBodyBytes;
+	}
+
+	public long getMaxBytesPerRoute() {
+		return maxBytesPerRoute;
+	}
+
+	public void setMaxBytesPerRoute(long maxBytesPerRoute) {
+		this.maxBytesPerRoute = maxBytesPerRoute;
+	}
+
+	public Duration getMaxStaleness() {
+		return maxStaleness;
+	}
+
+	public void setMaxStaleness(Duration maxStaleness) {
+		this.maxStaleness = maxStaleness;
+	}
+}
@@ -0,0 +1,94 @@
+package com.turkcell.gateway_server.discovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Yeniden bağlanma politikası sanal zamanda - kapanan akış sıkı döngüye girmez, hata beklemesi sınırlıdır
+ * ve olay almış bir bağlantının hatası beklemeyi sıfırlar
+ */
+class RegistryFeedClientTest {
+	private static final ServerSentEvent<String> READY = ServerSentEvent.<String>builder().event("ready").build();
+
+	private final RegistryFeedClient client = new RegistryFeedClient(WebClient.builder(), new ObjectMapper(),
+			properties());
+
+	@Test
+	void closedStreamIsReopenedAfterTheMinimumBackoff() {
+		List<Long> connects = new CopyOnWriteArrayList<>();
+		Flux<ServerSentEvent<String>> connection = Flux.defer(() -> {
+			connects.add(now());
+			return Flux.just(READY);
+		});
+
+		StepVerifier.withVirtualTime(() -> client.feed(connection))
+				.expectNext(READY)
+				.then(() -> assertThat(client.isLive()).isFalse())
+				.thenAwait(Duration.ofMillis(999))
+				.then(() -> assertThat(connects).hasSize(1))
+				.thenAwait(Duration.ofMillis(1))
+				.expectNext(READY)
+				.thenAwait(Duration.ofSeconds(10))
+				.expectNextCount(10)
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+
+		assertThat(connects).hasSize(12);
+	}
+
+	@Test
+	void failedConnectsBackOffUpToTheMaximumAndResetAfterAnEvent() {
+		List<Long> connects = new CopyOnWriteArrayList<>();
+		Flux<ServerSentEvent<String>> connection = Flux.defer(() -> {
+			connects.add(now());
+			int attempt = connects.size();
+			if (attempt == 8) {
+				// Olay alan bağlantı sonradan koparsa yeniden bağlanma en kısa beklemeyle başlar
+				return Flux.just(READY).concatWith(Flux.error(new IOException("connection reset")));
+			}
+			return attempt < 8 ? Flux.error(new IOException("connection refused")) : Flux.never();
+		});
+
+		StepVerifier.withVirtualTime(() -> client.feed(connection))
+				.thenAwait(Duration.ofMinutes(1))
+				.expectNext(READY)
+				.then(() -> assertThat(client.isLive()).isFalse())
+				.thenAwait(Duration.ofMinutes(1))
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+
+		assertThat(connects).hasSizeGreaterThanOrEqualTo(9);
+		for (int i = 1; i < 8; i++) {
+			assertThat(connects.get(i) - connects.get(i - 1)).isBetween(1_000L, 4_000L);
+		}
+		// Sıfırlanmasaydı bekleme en az 2 sn olurdu (4 sn ± %50 jitter)
+		assertThat(connects.get(8) - connects.get(7)).isBetween(1_000L, 1_500L);
+	}
+
+	private static long now() {
+		return Schedulers.parallel().now(TimeUnit.MILLISECONDS);
+	}
+
+	private static RegistryFeedProperties properties() {
+		RegistryFeedProperties properties = new RegistryFeedProperties();
+		properties.setMinReconnectBackoff(Duration.ofSeconds(1));
+		properties.setMaxReconnectBackoff(Duration.ofSeconds(4));
+		properties.setStaleAfter(Duration.ofMinutes(10));
+		return properties;
+	}
+}
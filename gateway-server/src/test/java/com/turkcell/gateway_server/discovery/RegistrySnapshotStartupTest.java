@@ -0,0 +1,121 @@
+package com.turkcell.gateway_server.discovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * discovery-server'a hiç ulaşılamadan açılan gateway, diskteki registry snapshot'ındaki instance'a yönlendirir
+ * Eureka'nın backup registry'si bilinçli olarak tanımlı değil - yönlendirme yalnızca snapshot seed'ine dayanır
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"eureka.client.fetch-registry=true",
+		"eureka.client.eureka-server-connect-timeout-seconds=1" })
+class RegistrySnapshotStartupTest {
+	private static final HttpServer upstream = startUpstream();
+	private static final Path snapshot = writeSnapshot();
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private RegistrySnapshotSeed seed;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@DynamicPropertySource
+	static void unreachableDiscovery(DynamicPropertyRegistry registry) {
+		registry.add("eureka.client.service-url.defaultZone", () -> "http://localhost:" + closedPort() + "/eureka/");
+	}
+
+	@AfterAll
+	static void cleanUp() throws IOException {
+		upstream.stop(0);
+		System.clearProperty("registry.snapshot.path");
+		Files.deleteIfExists(snapshot);
+	}
+
+	@Test
+	void routesToTheSnapshotInstanceUntilEurekaFetchSucceeds() {
+		webTestClient.get().uri("/api/v1/products/p-1").exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("{\"id\":\"p-1\"}");
+
+		// Başarılı fetch sonrası snapshot kullanılmaz - servisin kalkmış instance'larına yönlendirilmez
+		eventPublisher.publishEvent(new HeartbeatEvent(this, 1L));
+		assertThat(seed.getInstances("product-service")).isEmpty();
+	}
+
+	private static Path writeSnapshot() {
+		try {
+			Path path = Files.createTempFile("registry-snapshot", ".json");
+			System.setProperty("registry.snapshot.path", path.toString());
+			Application application = new Application("PRODUCT-SERVICE");
+			application.addInstance(InstanceInfo.Builder.newBuilder()
+					.setAppName("PRODUCT-SERVICE")
+					.setInstanceId("localhost:product-service:" + upstream.getAddress().getPort())
+					.setHostName("localhost")
+					.setIPAddr("127.0.0.1")
+					.setPort(upstream.getAddress().getPort())
+					.setDataCenterInfo(new MyDataCenterInfo(MyDataCenterInfo.Name.MyOwn))
+					.setStatus(InstanceInfo.InstanceStatus.UP)
+					.build());
+			Applications applications = new Applications();
+			applications.addApplication(application);
+			RegistrySnapshotFile.write(applications);
+			return path;
+		} catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static int closedPort() {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		} catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static HttpServer startUpstream() {
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			server.createContext("/api/v1/products", exchange -> {
+				String id = exchange.getRequestURI().getPath().substring("/api/v1/products/".length());
+				byte[] body = ("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+				exchange.sendResponseHeaders(200, body.length);
+				exchange.getResponseBody().write(body);
+				exchange.close();
+			});
+			server.start();
+			return server;
+		} catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.turkcell.gateway_server.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Seri sınırı - sınırı aşan anahtarlar overflow serisinde toplanır, eşzamanlı ilk isteklerde de sınır aşılmaz
+ */
+class LatencyHistogramRegistryTest {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void keysBeyondTheCapAreRecordedInTheOverflowSeries() {
+		LatencyHistogramRegistry registry = registry(2);
+
+		registry.record(key("a"), 1_000, 10, 100);
+		registry.record(key("b"), 2_000, 10, 100);
+		registry.record(key("c"), 3_000, 10, 100);
+		registry.record(key("d"), 4_000, 10, 100);
+		registry.record(key("a"), 5_000, 10, 100);
+
+		assertThat(registry.getSeries())
+				.extracting(LatencySeries::getKey)
+				.containsExactlyInAnyOrder(key("a"), key("b"), LatencySeriesKey.OVERFLOW);
+		assertThat(series(registry, LatencySeriesKey.OVERFLOW).getCount()).isEqualTo(2);
+		assertThat(series(registry, key("a")).getCount()).isEqualTo(2);
+		assertThat(meterRegistry.find("gateway.route.requests").tag("route", "overflow").functionCounter().count())
+				.isEqualTo(2);
+	}
+
+	@Test
+	void concurrentFirstRequestsDoNotExceedTheCap() throws InterruptedException {
+		int maxSeries = 8;
+		int keys = 200;
+		LatencyHistogramRegistry registry = registry(maxSeries);
+		CountDownLatch start = new CountDownLatch(1);
+		try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+			for (int i = 0; i < keys; i++) {
+				String route = "route-" + i;
+				executor.execute(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					registry.record(key(route), 1_000, 0, 0);
+				});
+			}
+			start.countDown();
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(registry.getSeries()).hasSize(maxSeries + 1);
+		assertThat(registry.getSeries().stream().mapToLong(LatencySeries::getCount).sum()).isEqualTo(keys);
+		assertThat(series(registry, LatencySeriesKey.OVERFLOW).getCount()).isEqualTo(keys - maxSeries);
+		// Her seri için tek max gauge'ı - kayıt dışı kalan seri yok
+		assertThat(meterRegistry.find("gateway.route.latency.max").gauges()).hasSize(maxSeries + 1);
+	}
+
+	private LatencyHistogramRegistry registry(int maxSeries) {
+		GatewayMetricsProperties properties = new GatewayMetricsProperties();
+		properties.setMaxSeries(maxSeries);
+		return new LatencyHistogramRegistry(meterRegistry, properties);
+	}
+
+	private static LatencySeriesKey key(String route) {
+		return new LatencySeriesKey(route, "localhost:8081", 200);
+	}
+
+	private static LatencySeries series(LatencyHistogramRegistry registry, LatencySeriesKey key) {
+		return registry.getSeries().stream().filter(s -> s.getKey().equals(key)).findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,106 @@
+package com.turkcell.gateway_server.notifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.test.StepVerifier;
+
+/**
+ * Hub dağıtımı - filtre, yavaş istemcinin diğerlerini bekletmemesi ve lag olayı
+ */
+class ProductChangeHubTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ProductChangeHub hub = new ProductChangeHub(objectMapper, meterRegistry, properties(2));
+
+	@Test
+	void subscriberReceivesOnlyTheRequestedProducts() {
+		StepVerifier.create(hub.subscribe(Set.of("p-2")))
+				.then(() -> {
+					hub.publish(event("p-1", "UPDATED"));
+					hub.publish(event("p-2", "UPDATED"));
+					hub.publish(event("p-3", "DELETED"));
+					hub.publish(event("p-2", "DELETED"));
+				})
+				.assertNext(sse -> {
+					assertThat(sse.event()).isEqualTo("UPDATED");
+					assertThat(sse.data()).contains("\"productId\":\"p-2\"");
+				})
+				.assertNext(sse -> assertThat(sse.event()).isEqualTo("DELETED"))
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+
+		assertThat(meterRegistry.get("gateway.product.changes.clients").gauge().value()).isZero();
+	}
+
+	@Test
+	void slowSubscriberDoesNotBlockOthersAndIsToldHowManyEventsItMissed() {
+		List<ServerSentEvent<String>> fast = new CopyOnWriteArrayList<>();
+		Disposable fastSubscription = hub.subscribe(Set.of()).subscribe(fast::add);
+		SlowSubscriber slow = new SlowSubscriber();
+		hub.subscribe(Set.of()).subscribe(slow);
+
+		// Yavaş istemci hiç istek yapmazken yayın bekletilmez; hızlı istemci tüm olayları hemen alır
+		for (int i = 1; i <= 10; i++) {
+			hub.publish(event("p-" + i, "UPDATED"));
+		}
+		assertThat(fast).extracting(ServerSentEvent::event).hasSize(10).containsOnly("UPDATED");
+		assertThat(slow.received).isEmpty();
+
+		slow.request(20);
+		assertThat(slow.received).extracting(ServerSentEvent::event).contains("lag");
+		ServerSentEvent<String> lag = slow.received.stream().filter(sse -> "lag".equals(sse.event())).findFirst()
+				.orElseThrow();
+		long missed = 10 - slow.received.stream().filter(sse -> "UPDATED".equals(sse.event())).count();
+		assertThat(lag.data()).isEqualTo("{\"dropped\":" + missed + "}");
+		// Buffer'da kalan en yeni olaylar kaybolmaz
+		assertThat(slow.received.get(slow.received.size() - 1).data()).contains("\"productId\":\"p-10\"");
+		assertThat(meterRegistry.get("gateway.product.changes.dropped").counter().count()).isEqualTo(missed);
+		assertThat(meterRegistry.get("gateway.product.changes.clients").gauge().value()).isEqualTo(2);
+
+		fastSubscription.dispose();
+		slow.dispose();
+		assertThat(meterRegistry.get("gateway.product.changes.clients").gauge().value()).isZero();
+	}
+
+	private ProductChangedEvent event(String productId, String type) {
+		return new ProductChangedEvent(productId, type, objectMapper.createObjectNode().put("id", productId), 1L,
+				System.currentTimeMillis());
+	}
+
+	private static ProductChangeStreamProperties properties(int clientBufferSize) {
+		ProductChangeStreamProperties properties = new ProductChangeStreamProperties();
+		properties.setClientBufferSize(clientBufferSize);
+		properties.setHeartbeatInterval(Duration.ofHours(1));
+		return properties;
+	}
+
+	/**
+	 * Abone olup kendiliğinden hiç istek yapmayan istemci
+	 */
+	private static final class SlowSubscriber extends BaseSubscriber<ServerSentEvent<String>> {
+		private final List<ServerSentEvent<String>> received = new CopyOnWriteArrayList<>();
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+		}
+
+		@Override
+		protected void hookOnNext(ServerSentEvent<String> value) {
+			received.add(value);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.turkcell.gateway_server.notifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.test.StepVerifier;
+
+/**
+ * Hub'a yayınlanan olay, gateway'in kendi SSE endpoint'ine bağlı istemciye ulaşır
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductChangeStreamControllerTest {
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ProductChangeHub hub;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void publishedEventReachesTheSubscribedClient() {
+		// İstemci bağlandıktan sonra yayınla - bağlanmadan önceki olaylar istemciye gönderilmez
+		CompletableFuture<Void> publisher = CompletableFuture.runAsync(() -> {
+			while (meterRegistry.get("gateway.product.changes.clients").gauge().value() < 1) {
+				LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+			}
+			hub.publish(event("p-2"));
+			hub.publish(event("p-1"));
+		});
+
+		StepVerifier.create(webTestClient.get().uri("/api/v1/products/changes?ids=p-1")
+				.accept(MediaType.TEXT_EVENT_STREAM)
+				.exchange()
+				.expectStatus().isOk()
+				.returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+				})
+				.getResponseBody())
+				.assertNext(sse -> {
+					assertThat(sse.event()).isEqualTo("UPDATED");
+					assertThat(sse.data()).contains("\"productId\":\"p-1\"", "\"version\":3");
+				})
+				.thenCancel()
+				.verify(Duration.ofSeconds(10));
+		publisher.join();
+	}
+
+	private ProductChangedEvent event(String productId) {
+		return new ProductChangedEvent(productId, "UPDATED", objectMapper.createObjectNode().put("id", productId), 3L,
+				System.currentTimeMillis());
+	}
+}
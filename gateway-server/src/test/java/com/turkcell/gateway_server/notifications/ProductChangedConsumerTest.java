@@ -0,0 +1,90 @@
+package com.turkcell.gateway_server.notifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.SubscribableChannel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+
+/**
+ * Kafka binder üzerinden uçtan uca - ürün ID'si anahtarlı olaylar hub'a ulaşır,
+ * silinen ürünün tombstone'u (null değerli kayıt) hata üretmeden atlanır
+ */
+@SpringBootTest(properties = {
+		"spring.cloud.function.definition=productChanged",
+		"spring.cloud.stream.bindings.productChanged-in-0.destination=" + ProductChangedConsumerTest.TOPIC,
+		"spring.cloud.stream.bindings.productChanged-in-0.content-type=application/json",
+		"spring.cloud.stream.kafka.binder.brokers=${spring.embedded.kafka.brokers}",
+		// Binding hazır olmadan gönderilen kayıtlar da okunsun
+		"spring.cloud.stream.kafka.bindings.productChanged-in-0.consumer.start-offset=earliest" })
+@EmbeddedKafka(topics = ProductChangedConsumerTest.TOPIC, partitions = 1)
+class ProductChangedConsumerTest {
+	static final String TOPIC = "product-changes";
+
+	@Autowired
+	private ProductChangeHub hub;
+
+	@Autowired
+	private EmbeddedKafkaBroker broker;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	@Qualifier("errorChannel")
+	private SubscribableChannel errorChannel;
+
+	@Test
+	void keyedEventsReachTheHubAndTombstonesAreSkipped() {
+		List<Message<?>> errors = new CopyOnWriteArrayList<>();
+		errorChannel.subscribe(errors::add);
+		List<ServerSentEvent<String>> received = new CopyOnWriteArrayList<>();
+		Disposable subscription = hub.subscribe(Set.of()).filter(sse -> sse.event() != null).subscribe(received::add);
+
+		Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+		try (KafkaProducer<String, String> producer = new KafkaProducer<>(producerProps, new StringSerializer(),
+				new StringSerializer())) {
+			producer.send(new ProducerRecord<>(TOPIC, "p-1", event("p-1", "DELETED", null)));
+			producer.send(new ProducerRecord<>(TOPIC, "p-1", null));
+			producer.send(new ProducerRecord<>(TOPIC, "p-2", event("p-2", "UPDATED", 4L)));
+		}
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+		while (received.size() < 2 && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+		}
+		subscription.dispose();
+
+		assertThat(received).extracting(ServerSentEvent::event).containsExactly("DELETED", "UPDATED");
+		assertThat(received.get(0).data()).contains("\"productId\":\"p-1\"");
+		assertThat(received.get(1).data()).contains("\"productId\":\"p-2\"", "\"version\":4", "\"name\":\"p-2\"");
+		assertThat(meterRegistry.get("gateway.product.changes.received").counter().count()).isEqualTo(2);
+		assertThat(errors).isEmpty();
+	}
+
+	private static String event(String productId, String type, Long version) {
+		String product = version == null ? "null" : "{\"id\":\"" + productId + "\",\"name\":\"" + productId + "\"}";
+		return "{\"productId\":\"" + productId + "\",\"type\":\"" + type + "\",\"product\":" + product
+				+ ",\"version\":" + version + ",\"occurredAt\":1700000000000}";
+	}
+}
@@ -0,0 +1,133 @@
+package com.turkcell.gateway_server.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * product-service route'u upstream hata verdiğinde: devre açılır, açıkken cache'teki son başarılı yanıt
+ * stale olarak sunulur; cache'te yanıt yoksa Retry-After ile 503 döner
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductRouteFallbackTest {
+	private static final AtomicInteger upstreamStatus = new AtomicInteger(200);
+	private static final AtomicInteger upstreamCalls = new AtomicInteger();
+	private static final HttpServer upstream = startUpstream();
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+
+	@Autowired
+	private StaleResponseCache staleResponseCache;
+
+	@DynamicPropertySource
+	static void productService(DynamicPropertyRegistry registry) {
+		registry.add("spring.cloud.discovery.client.simple.instances.product-service[0].uri",
+				() -> "http://localhost:" + upstream.getAddress().getPort());
+	}
+
+	@AfterAll
+	static void stopUpstream() {
+		upstream.stop(0);
+	}
+
+	@BeforeEach
+	void resetUpstream() {
+		upstreamStatus.set(200);
+		circuitBreakerRegistry.circuitBreaker("product-service").reset();
+	}
+
+	@Test
+	void openCircuitServesTheLastSuccessfulResponseAsStale() {
+		webTestClient.get().uri("/api/v1/products/p-1").exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("{\"id\":\"p-1\"}");
+
+		long storedAt = staleResponseCache.get("product-service", "/api/v1/products/p-1").orElseThrow().storedAt();
+
+		upstreamStatus.set(500);
+		openCircuit();
+		int callsWhenOpened = upstreamCalls.get();
+
+		webTestClient.get().uri("/api/v1/products/p-1").exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentType(MediaType.APPLICATION_JSON)
+				.expectHeader().valueEquals(HttpHeaders.WARNING, "110 - \"Response is Stale\"")
+				.expectHeader().exists(HttpHeaders.AGE)
+				.expectBody(String.class).isEqualTo("{\"id\":\"p-1\"}");
+		// Açık devre isteği upstream'e iletmez; sunulan stale yanıt cache'i tazelemez
+		assertThat(upstreamCalls.get()).isEqualTo(callsWhenOpened);
+		assertThat(staleResponseCache.get("product-service", "/api/v1/products/p-1").orElseThrow().storedAt())
+				.isEqualTo(storedAt);
+	}
+
+	@Test
+	void openCircuitWithoutCachedResponseReturns503WithRetryAfter() {
+		upstreamStatus.set(500);
+		openCircuit();
+
+		webTestClient.get().uri("/api/v1/products/never-cached").exchange()
+				.expectStatus().isEqualTo(503)
+				.expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "7");
+		// Yazmalar stale yanıtla karşılanmaz
+		webTestClient.put().uri("/api/v1/products/p-1").contentType(MediaType.APPLICATION_JSON).bodyValue("{}")
+				.exchange()
+				.expectStatus().isEqualTo(503)
+				.expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "7");
+	}
+
+	/**
+	 * Hatalı yanıtlarla (retry dahil) failure-rate eşiği aşılana kadar istek gönderir
+	 */
+	private void openCircuit() {
+		CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("product-service");
+		for (int i = 0; i < 10 && breaker.getState() != CircuitBreaker.State.OPEN; i++) {
+			webTestClient.get().uri("/api/v1/products/failing-" + i).exchange();
+		}
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	private static HttpServer startUpstream() {
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			server.createContext("/api/v1/products", exchange -> {
+				upstreamCalls.incrementAndGet();
+				int status = upstreamStatus.get();
+				String id = exchange.getRequestURI().getPath().substring("/api/v1/products/".length());
+				byte[] body = ("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+				exchange.sendResponseHeaders(status, status == 200 ? body.length : -1);
+				if (status == 200) {
+					exchange.getResponseBody().write(body);
+				}
+				exchange.close();
+			});
+			server.start();
+			return server;
+		} catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.turkcell.gateway_server.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import com.turkcell.gateway_server.resilience.StaleResponseCache.CachedResponse;
+
+/**
+ * Route başına LRU - giriş sayısı ve toplam gövde boyutu sınırı, en uzun süredir okunmayan yanıt önce atılır
+ */
+class StaleResponseCacheTest {
+	private static final String ROUTE = "product-service";
+
+	@Test
+	void byteBudgetEvictsTheLeastRecentlyReadResponses() {
+		StaleResponseCache cache = cache(100, 300);
+
+		cache.put(ROUTE, "a", response(100));
+		cache.put(ROUTE, "b", response(100));
+		cache.put(ROUTE, "c", response(100));
+		cache.get(ROUTE, "a");
+		cache.put(ROUTE, "d", response(150));
+
+		assertThat(cache.get(ROUTE, "a")).isPresent();
+		assertThat(cache.get(ROUTE, "b")).isEmpty();
+		assertThat(cache.get(ROUTE, "c")).isEmpty();
+		assertThat(cache.get(ROUTE, "d")).isPresent();
+		assertThat(cache.getBytes(ROUTE)).isEqualTo(250);
+	}
+
+	@Test
+	void replacedAndEvictedResponsesGiveTheirBytesBack() {
+		StaleResponseCache cache = cache(100, 300);
+
+		cache.put(ROUTE, "a", response(200));
+		cache.put(ROUTE, "a", response(50));
+		cache.put(ROUTE, "b", response(100));
+		assertThat(cache.getBytes(ROUTE)).isEqualTo(150);
+
+		cache.evict(ROUTE, "a");
+		assertThat(cache.getBytes(ROUTE)).isEqualTo(100);
+		assertThat(cache.getBytes("other-route")).isZero();
+	}
+
+	@Test
+	void entryLimitStillAppliesAndOversizedResponsesAreNotCached() {
+		StaleResponseCache cache = cache(2, 300);
+
+		cache.put(ROUTE, "a", response(10));
+		cache.put(ROUTE, "b", response(10));
+		cache.put(ROUTE, "c", response(10));
+		cache.put(ROUTE, "huge", response(301));
+
+		assertThat(cache.get(ROUTE, "a")).isEmpty();
+		assertThat(cache.get(ROUTE, "b")).isPresent();
+		assertThat(cache.get(ROUTE, "c")).isPresent();
+		assertThat(cache.get(ROUTE, "huge")).isEmpty();
+		assertThat(cache.getBytes(ROUTE)).isEqualTo(20);
+	}
+
+	private static StaleResponseCache cache(int maxEntries, long maxBytes) {
+		StaleResponseProperties properties = new StaleResponseProperties();
+		properties.setMaxEntriesPerRoute(maxEntries);
+		properties.setMaxBytesPerRoute(maxBytes);
+		return new StaleResponseCache(properties);
+	}
+
+	private static CachedResponse response(int bytes) {
+		return new CachedResponse(new byte[bytes], MediaType.APPLICATION_JSON, System.currentTimeMillis());
+	}
+}
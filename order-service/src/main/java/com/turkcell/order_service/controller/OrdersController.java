@@ -1,12 +1,18 @@
 package com.turkcell.order_service.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -17,22 +23,36 @@ public class OrdersController {
 		this.streamBridge = streamBridge;
 	}
 
+	/**
+	 * Sipariş olayı ürün ID'siyle anahtarlanır: aynı ürünün siparişleri aynı partition'a düşer ve
+	 * product-service'te sırayla işlenir (stok güncellemeleri birbiriyle çakışmaz)
+	 */
 	@PostMapping()
 	public String createOrder(@RequestBody CreateOrderDto dto) {
-		OrderCreatedEvent event = new OrderCreatedEvent(dto.productId());
-
-		Message<OrderCreatedEvent> message = MessageBuilder.withPayload(event).build();
+		if (dto.productId() == null || dto.productId().isBlank()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "productId zorunludur");
+		}
+		if (dto.quantity() != null && dto.quantity() <= 0) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "quantity pozitif olmalıdır");
+		}
+		OrderCreatedEvent event = new OrderCreatedEvent(UUID.randomUUID().toString(), dto.productId(),
+				dto.quantity() == null ? 1 : dto.quantity(), System.currentTimeMillis());
+
+		// Binder'ın key serializer'ı byte dizisi bekler
+		Message<OrderCreatedEvent> message = MessageBuilder.withPayload(event)
+				.setHeader(KafkaHeaders.KEY, dto.productId().getBytes(StandardCharsets.UTF_8))
+				.build();
 
 		streamBridge.send("orderCreated-out-0", message);
-
-		streamBridge.send("orderCreated-out-0", event);
-		// Kafka eventi fırlat..
-		return dto.productId();
+		return event.orderId();
 	}
 
-	record CreateOrderDto(String productId) {
+	record CreateOrderDto(String productId, Integer quantity) {
 	}
 
-	record OrderCreatedEvent(String productId) {
+	/**
+	 * @param createdAt Siparişin oluşturulduğu an (epoch ms) - uçtan uca gecikme ölçümü için
+	 */
+	record OrderCreatedEvent(String orderId, String productId, int quantity, long createdAt) {
 	}
-}
\ No newline at end of file
+}
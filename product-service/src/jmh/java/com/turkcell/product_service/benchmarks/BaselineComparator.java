@@ -0,0 +1,177 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Baseline Comparator
+ * JMH JSON sonucunu saklanan baseline ile karşılaştırır
+ * Kontroller: primary metric (throughput düşüşü / ortalama süre artışı) ve gc.alloc.rate.norm (op başına byte artışı)
+ * Allocation regresyonu build'i her zaman kırar; throughput/süre regresyonu yalnızca raporlanır,
+ * failOnThroughputRegression=true ise build'i kırar (ölçüm makineye ve yüke bağlıdır)
+ *
+ * Baseline yalnızca benchmark adı, skor ve birimden oluşur - JVM yolu, sürümü gibi ortam bilgisi saklanmaz
+ *
+ * Argümanlar: result.json baseline.json maxThroughputRegression% maxAllocationRegression% [updateBaseline]
+ * [failOnThroughputRegression]
+ */
+public final class BaselineComparator {
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+    /**
+     * Çok küçük allocation'larda (ör. 24 B/op) yüzde eşiği anlamsızlaşmasın diye mutlak tolerans
+     */
+    private static final double ALLOC_ABSOLUTE_TOLERANCE_BYTES = 16;
+
+    public static void main(String[] args) throws IOException {
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        double maxThroughputRegression = Double.parseDouble(args[2]);
+        double maxAllocationRegression = Double.parseDouble(args[3]);
+        boolean update = args.length > 4 && Boolean.parseBoolean(args[4]);
+        boolean failOnThroughputRegression = args.length > 5 && Boolean.parseBoolean(args[5]);
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Score> current = scores(mapper.readTree(resultFile.toFile()));
+
+        if (update || !Files.exists(baselineFile)) {
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            writeBaseline(mapper, current, baselineFile);
+            System.out.println("Baseline güncellendi: " + baselineFile);
+            return;
+        }
+
+        Map<String, Score> baseline = readBaseline(mapper.readTree(baselineFile.toFile()));
+
+        List<String> allocationRegressions = new ArrayList<>();
+        List<String> throughputRegressions = new ArrayList<>();
+        System.out.printf("%-75s %14s %14s %8s %12s %12s %8s%n",
+                "benchmark", "baseline", "current", "Δ%", "B/op base", "B/op now", "Δ%");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            String name = entry.getKey();
+            if (name.endsWith(':' + ALLOC_NORM)) {
+                continue;
+            }
+            Score base = baseline.get(name);
+            if (base == null) {
+                System.out.printf("%-75s %s%n", name, "(baseline yok)");
+                continue;
+            }
+            Score now = entry.getValue();
+            double scoreChange = percentChange(base.score(), now.score());
+            double worse = now.isThroughput() ? -scoreChange : scoreChange;
+
+            double baseAlloc = scoreOf(baseline.get(name + ':' + ALLOC_NORM));
+            double nowAlloc = scoreOf(current.get(name + ':' + ALLOC_NORM));
+            double allocChange = percentChange(baseAlloc, nowAlloc);
+
+            System.out.printf("%-75s %14.3f %14.3f %+8.1f %12.1f %12.1f %+8.1f%n",
+                    name, base.score(), now.score(), scoreChange, baseAlloc, nowAlloc, allocChange);
+
+            if (worse > maxThroughputRegression) {
+                throughputRegressions.add(String.format("%s: performans %%%.1f kötüleşti (%s)",
+                        name, worse, now.unit()));
+            }
+            if (!Double.isNaN(allocChange) && allocChange > maxAllocationRegression
+                    && nowAlloc - baseAlloc > ALLOC_ABSOLUTE_TOLERANCE_BYTES) {
+                allocationRegressions.add(String.format("%s: allocation %.0f -> %.0f B/op", name, baseAlloc, nowAlloc));
+            }
+        }
+
+        if (!throughputRegressions.isEmpty()) {
+            System.err.println();
+            System.err.println("Baseline'a göre performans regresyonu"
+                    + (failOnThroughputRegression ? ":" : " (yalnızca rapor, jmh.fail-on-throughput-regression=false):"));
+            throughputRegressions.forEach(regression -> System.err.println("  - " + regression));
+        }
+        if (!allocationRegressions.isEmpty()) {
+            System.err.println();
+            System.err.println("Baseline'a göre allocation regresyonu:");
+            allocationRegressions.forEach(regression -> System.err.println("  - " + regression));
+        }
+        if (!allocationRegressions.isEmpty() || (failOnThroughputRegression && !throughputRegressions.isEmpty())) {
+            System.exit(1);
+        }
+        System.out.println("Baseline'a göre build'i kıran regresyon yok");
+    }
+
+    /**
+     * JMH sonucu -> benchmark adı + parametreler -> skor; allocation "ad:gc.alloc.rate.norm" anahtarıyla ayrı tutulur
+     */
+    private static Map<String, Score> scores(JsonNode results) {
+        Map<String, Score> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.turkcell.product_service.benchmarks.", ""));
+            JsonNode params = result.path("params");
+            for (Map.Entry<String, JsonNode> param : params.properties()) {
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            String name = key.toString();
+            indexed.put(name, score(result.path("primaryMetric")));
+            JsonNode alloc = result.path("secondaryMetrics").path(ALLOC_NORM);
+            if (!alloc.isMissingNode()) {
+                indexed.put(name + ':' + ALLOC_NORM, score(alloc));
+            }
+        }
+        return indexed;
+    }
+
+    private static Score score(JsonNode metric) {
+        return new Score(metric.path("score").asDouble(), metric.path("scoreUnit").asText());
+    }
+
+    private static Map<String, Score> readBaseline(JsonNode baseline) {
+        Map<String, Score> indexed = new LinkedHashMap<>();
+        for (JsonNode entry : baseline) {
+            indexed.put(entry.path("benchmark").asText(),
+                    new Score(entry.path("score").asDouble(), entry.path("unit").asText()));
+        }
+        return indexed;
+    }
+
+    private static void writeBaseline(ObjectMapper mapper, Map<String, Score> scores, Path baselineFile)
+            throws IOException {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        scores.forEach((name, score) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("benchmark", name);
+            entry.put("score", score.score());
+            entry.put("unit", score.unit());
+            entries.add(entry);
+        });
+        mapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(baselineFile.toFile(), entries);
+    }
+
+    private static double scoreOf(Score score) {
+        return score == null ? Double.NaN : score.score();
+    }
+
+    private static double percentChange(double base, double now) {
+        if (Double.isNaN(base) || Double.isNaN(now) || base == 0) {
+            return Double.NaN;
+        }
+        return (now - base) / base * 100.0;
+    }
+
+    /**
+     * Birim "ops/..." ise throughput (yüksek iyi), aksi halde op başına süre (düşük iyi)
+     */
+    private record Score(double score, String unit) {
+        boolean isThroughput() {
+            return unit.startsWith("ops/");
+        }
+    }
+
+    private BaselineComparator() {
+        // Utility class - private constructor
+    }
+}
@@ -0,0 +1,77 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain Benchmark
+ * Her istekte çalışan value object oluşturma ve Product.reconstruct maliyeti
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainBenchmark {
+
+    private BigDecimal amount;
+    private Product.ProductId productId;
+    private Price price;
+    private Stock stock;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal("1249.90");
+        productId = Product.ProductId.generate();
+        price = new Price(amount, Currency.TRY);
+        stock = new Stock(42);
+    }
+
+    @Benchmark
+    public Currency currencyFromCode(CurrencyInput input) {
+        return Currency.fromCode(input.code);
+    }
+
+    @Benchmark
+    public Price priceConstruction() {
+        return new Price(amount, Currency.TRY);
+    }
+
+    @Benchmark
+    public Product.ProductId productIdFromString() {
+        return Product.ProductId.fromString("3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01");
+    }
+
+    @Benchmark
+    public Product productReconstruct() {
+        return Product.reconstruct(productId, "Mekanik Klavye", "Türkçe Q düzenli mekanik klavye", price, stock,
+                0);
+    }
+
+    @State(Scope.Thread)
+    public static class CurrencyInput {
+
+        /**
+         * Veritabanından gelen normal kod ve kullanıcı girdisi gibi normalize edilmesi gereken kod
+         */
+        @Param({ "TRY", " usd " })
+        public String code;
+    }
+}
@@ -0,0 +1,182 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.application.usecases.GetProductByIdUseCase;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.routing.ReadYourWritesAdapter;
+import com.turkcell.product_service.web.json.JsonSegments;
+import com.turkcell.product_service.web.json.JsonSegmentsHttpMessageConverter;
+import com.turkcell.product_service.web.json.ProductJsonCache;
+import com.turkcell.product_service.web.json.ProductJsonCacheProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JSON Cache Benchmark
+ * İstek başına serileştirme maliyeti: Jackson ile her seferinde yazma vs ProductJsonCache'teki hazır byte'lar
+ * Her iki yol da Spring MVC'nin kullandığı converter ile (MappingJackson2 / JsonSegments) aynı boş output stream'e yazar
+ * Veri erişimi bellekteki ProductQueryPort'tan gelir, ölçülen yalnızca serileştirme + gövde yazımıdır
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonCacheBenchmark {
+
+    @Param({ "1", "10000" })
+    public int productCount;
+
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private ProductJsonCache productJsonCache;
+    private JsonSegmentsHttpMessageConverter converter;
+    private ProductListResponse listResponse;
+    private ProductResponse singleResponse;
+    private HttpOutputMessage discardingOutput;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<ProductResponse> responses = ProductFixtures.entities(productCount).stream()
+                .map(entity -> new ProductResponse(
+                        entity.getId(),
+                        entity.getName(),
+                        entity.getDescription(),
+                        new PriceDto(entity.getPriceAmount(), entity.getPriceCurrency()),
+                        new StockDto(entity.getStockQuantity()),
+                        entity.getVersion()))
+                .toList();
+        listResponse = new ProductListResponse(responses, responses.size());
+        singleResponse = responses.get(responses.size() / 2);
+
+        ProductQueryPort queryPort = new InMemoryQueryPort(responses);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        productJsonCache = new ProductJsonCache(queryPort, new GetProductByIdUseCase(queryPort),
+                new ReadYourWritesAdapter(), objectMapper, new ProductJsonCacheProperties());
+        converter = new JsonSegmentsHttpMessageConverter();
+        discardingOutput = new DiscardingOutputMessage();
+
+        // Cache'i ısıt - ölçülen istekler hit'tir
+        productJsonCache.products();
+    }
+
+    @Benchmark
+    public void jacksonSingle() throws IOException {
+        jacksonConverter.write(singleResponse, MediaType.APPLICATION_JSON, discardingOutput);
+    }
+
+    @Benchmark
+    public void cachedSingle() throws IOException {
+        converter.write(productJsonCache.product(singleResponse.getId()).segments(), MediaType.APPLICATION_JSON,
+                discardingOutput);
+    }
+
+    @Benchmark
+    public void jacksonList() throws IOException {
+        jacksonConverter.write(listResponse, MediaType.APPLICATION_JSON, discardingOutput);
+    }
+
+    @Benchmark
+    public void cachedList() throws IOException {
+        JsonSegments body = productJsonCache.products();
+        converter.write(body, MediaType.APPLICATION_JSON, discardingOutput);
+    }
+
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            headers.clear();
+            return headers;
+        }
+    }
+
+    private static final class InMemoryQueryPort implements ProductQueryPort {
+        private final List<ProductResponse> responses;
+        private final List<ProductVersion> versions;
+        private final Map<String, ProductResponse> byId;
+
+        InMemoryQueryPort(List<ProductResponse> responses) {
+            this.responses = responses;
+            this.versions = responses.stream()
+                    .map(response -> new ProductVersion(response.getId(), response.getVersion()))
+                    .toList();
+            this.byId = responses.stream().collect(Collectors.toMap(ProductResponse::getId, Function.identity()));
+        }
+
+        @Override
+        public Optional<ProductResponse> findById(Product.ProductId id, ProductFields fields) {
+            return Optional.ofNullable(byId.get(id.toString()));
+        }
+
+        @Override
+        public List<ProductResponse> findAll(ProductFields fields) {
+            return responses;
+        }
+
+        @Override
+        public List<ProductResponse> findPageAfter(String afterId, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProductPageResponse search(ProductSearchCriteria criteria, ProductFields fields) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Long> findVersion(Product.ProductId id) {
+            return Optional.ofNullable(byId.get(id.toString())).map(ProductResponse::getVersion);
+        }
+
+        @Override
+        public List<ProductVersion> findAllVersions() {
+            return versions;
+        }
+
+        @Override
+        public List<ProductResponse> findByIds(Collection<String> ids) {
+            return ids.stream().map(byId::get).toList();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapper Benchmark
+ * ProductMapper.toDomain (her okuma) ve toEntity (her yazma) dönüşümleri
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+    private ProductEntity entity;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        entity = ProductFixtures.entities(1).get(0);
+        product = ProductMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Product toDomain() {
+        return ProductMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ProductEntity toEntity() {
+        return ProductMapper.toEntity(product);
+    }
+}
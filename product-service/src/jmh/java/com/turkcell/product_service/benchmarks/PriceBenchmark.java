@@ -0,0 +1,81 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price Benchmark
+ * Alt birim (long) tabanlı Price ile önceki BigDecimal tabanlı aritmetiğin karşılaştırması
+ * legacy* benchmark'ları eski Price'ın birebir hesaplama yolunu çalıştırır, gc.alloc.rate.norm farkı kazancı gösterir
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PriceBenchmark {
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private Price price;
+    private Price otherPrice;
+    private BigDecimal percentage;
+    private BigDecimal legacyAmount;
+    private BigDecimal legacyOtherAmount;
+
+    @Setup
+    public void setUp() {
+        price = new Price(new BigDecimal("1249.90"), Currency.TRY);
+        otherPrice = new Price(new BigDecimal("999.99"), Currency.TRY);
+        percentage = new BigDecimal("12.5");
+        legacyAmount = price.getAmount();
+        legacyOtherAmount = otherPrice.getAmount();
+    }
+
+    @Benchmark
+    public Price increaseByPercentage() {
+        return price.increaseByPercentage(percentage);
+    }
+
+    @Benchmark
+    public Price increaseByBasisPoints() {
+        return price.increaseByBasisPoints(1250);
+    }
+
+    @Benchmark
+    public BigDecimal legacyIncreaseByPercentage() {
+        BigDecimal multiplier = BigDecimal.ONE.add(percentage.divide(HUNDRED));
+        return legacyAmount.multiply(multiplier);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return price.isGreaterThan(otherPrice);
+    }
+
+    @Benchmark
+    public boolean legacyCompare() {
+        return legacyAmount.compareTo(legacyOtherAmount) > 0;
+    }
+
+    /**
+     * price_amount kolonundan okunan değer -> Price
+     */
+    @Benchmark
+    public Price fromColumnValue() {
+        return new Price(legacyAmount, Currency.TRY);
+    }
+}
@@ -0,0 +1,71 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Product Fixtures
+ * Benchmark'lar için deterministik (sabit seed) ürün verisi ve bellek içi H2 veritabanı
+ */
+final class ProductFixtures {
+    private static final String[] CURRENCIES = { "TRY", "USD", "EUR", "GBP" };
+    /**
+     * Gerçekçi uzunlukta (~300 karakter) açıklama - kolon sınırı 1000 karakterdir
+     */
+    private static final String DESCRIPTION = "Benchmark için üretilmiş ürün açıklaması. ".repeat(7);
+
+    static List<ProductEntity> entities(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<ProductEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(new ProductEntity(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    "Ürün " + i,
+                    DESCRIPTION + i,
+                    BigDecimal.valueOf(random.nextLong(100, 1_000_000), 2),
+                    CURRENCIES[random.nextInt(CURRENCIES.length)],
+                    random.nextInt(0, 500),
+                    0L));
+        }
+        return entities;
+    }
+
+    /**
+     * Entity'lerle doldurulmuş bellek içi H2 veritabanı (ProductEntity şeması)
+     * Tek bağlantı kullanılır - ölçüme bağlantı açma maliyeti girmez
+     */
+    static SingleConnectionDataSource h2Database(String name, List<ProductEntity> entities) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS products");
+        jdbcTemplate.execute("""
+                CREATE TABLE products (
+                    id VARCHAR(255) NOT NULL PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    description VARCHAR(1000) NOT NULL,
+                    price_amount NUMERIC(19, 2) NOT NULL,
+                    price_currency VARCHAR(3) NOT NULL,
+                    stock_quantity INTEGER NOT NULL,
+                    version BIGINT NOT NULL)
+                """);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (id, name, description, price_amount, price_currency, stock_quantity, version) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                entities.stream()
+                        .map(e -> new Object[] { e.getId(), e.getName(), e.getDescription(), e.getPriceAmount(),
+                                e.getPriceCurrency(), e.getStockQuantity(), e.getVersion() })
+                        .toList());
+        return dataSource;
+    }
+
+    private ProductFixtures() {
+        // Utility class - private constructor
+    }
+}
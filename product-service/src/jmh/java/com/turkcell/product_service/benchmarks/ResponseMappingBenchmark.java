@@ -0,0 +1,163 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.usecases.GetAllProductsUseCase;
+import com.turkcell.product_service.application.usecases.GetProductByIdUseCase;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Response Mapping Benchmark
+ * Veritabanı satırından HTTP gövdesine kadar tüm okuma yolu, bellek içi H2 üzerinde
+ * getAllProducts / getProductById: CQRS projeksiyonu (JdbcProductQueryAdapter) ile gerçek use case'ler
+ * domainPath*: önceki yol - satır -> ProductEntity -> Product.reconstruct -> ProductResponse
+ * domainPath* JPA persistence context ve dirty checking maliyetini içermez, yani fark gerçek kazancın alt sınırıdır
+ * getAllProductsSparseJson: ?fields=name,price,stock - description hiç SELECT edilmez; gövde boyutları setup'ta yazdırılır
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseMappingBenchmark {
+    private static final String SELECT = "SELECT id, name, description, price_amount, price_currency, stock_quantity, version FROM products";
+
+    private static final RowMapper<ProductEntity> ENTITY_ROW_MAPPER = (rs, rowNum) -> new ProductEntity(
+            rs.getString(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getBigDecimal(4),
+            rs.getString(5),
+            rs.getInt(6),
+            rs.getLong(7));
+
+    @Param({ "1", "10000" })
+    public int productCount;
+
+    private static final ProductFields LIST_FIELDS = ProductFields.parse("name,price,stock");
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private GetAllProductsUseCase getAllProductsUseCase;
+    private GetProductByIdUseCase getProductByIdUseCase;
+    private ObjectMapper objectMapper;
+    private String existingId;
+
+    @Setup
+    public void setUp() {
+        List<ProductEntity> entities = ProductFixtures.entities(productCount);
+        dataSource = ProductFixtures.h2Database("response-mapping-" + productCount, entities);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcProductQueryAdapter queryAdapter = new JdbcProductQueryAdapter(jdbcTemplate);
+        getAllProductsUseCase = new GetAllProductsUseCase(queryAdapter);
+        getProductByIdUseCase = new GetProductByIdUseCase(queryAdapter);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        existingId = entities.get(entities.size() / 2).getId();
+
+        try {
+            System.out.printf("%n[payload] productCount=%d full=%d bytes sparse(name,price,stock)=%d bytes%n",
+                    productCount,
+                    objectMapper.writeValueAsBytes(getAllProductsUseCase.execute()).length,
+                    objectMapper.writeValueAsBytes(getAllProductsUseCase.execute(LIST_FIELDS)).length);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    /**
+     * GET /api/v1/products - JSON serileştirme hariç
+     */
+    @Benchmark
+    public ProductListResponse getAllProducts() {
+        return getAllProductsUseCase.execute();
+    }
+
+    /**
+     * GET /api/v1/products - controller'ın döndüğü gövdenin byte'larına kadar
+     */
+    @Benchmark
+    public byte[] getAllProductsJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getAllProductsUseCase.execute());
+    }
+
+    /**
+     * GET /api/v1/products?fields=name,price,stock - gövdenin byte'larına kadar
+     */
+    @Benchmark
+    public byte[] getAllProductsSparseJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getAllProductsUseCase.execute(LIST_FIELDS));
+    }
+
+    /**
+     * GET /api/v1/products/{id} - primary key lookup
+     */
+    @Benchmark
+    public ProductResponse getProductById() {
+        return getProductByIdUseCase.execute(existingId);
+    }
+
+    @Benchmark
+    public ProductListResponse domainPathGetAllProducts() {
+        List<ProductResponse> responses = jdbcTemplate.query(SELECT, ENTITY_ROW_MAPPER).stream()
+                .map(ProductMapper::toDomain)
+                .map(ResponseMappingBenchmark::toProductResponse)
+                .collect(Collectors.toList());
+        return new ProductListResponse(responses, responses.size());
+    }
+
+    @Benchmark
+    public ProductResponse domainPathGetProductById() {
+        Product.ProductId productId = Product.ProductId.fromString(existingId);
+        ProductEntity entity = jdbcTemplate.query(SELECT + " WHERE id = ?", ENTITY_ROW_MAPPER, productId.toString()).get(0);
+        return toProductResponse(ProductMapper.toDomain(entity));
+    }
+
+    private static ProductResponse toProductResponse(Product product) {
+        PriceDto priceDto = new PriceDto(
+                product.getPrice().getAmount(),
+                product.getPrice().getCurrency().getCode());
+
+        StockDto stockDto = new StockDto(product.getStock().getQuantity());
+
+        return new ProductResponse(
+                product.getId().toString(),
+                product.getName(),
+                product.getDescription(),
+                priceDto,
+                stockDto);
+    }
+}
@@ -0,0 +1,142 @@
+package com.turkcell.product_service.application.dtos;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+
+/**
+ * Bulk Repricing Request DTO
+ * POST /api/v1/products/repricing - filtreye uyan tüm ürünlerin fiyatı aynı yüzdeyle değiştirilir
+ * Filtre alanları null ise filtre dışıdır; fiyat aralığı currency ile birlikte verilmelidir
+ * Hesap Product.increasePriceByPercentage / decreasePriceByPercentage ile aynıdır: yüzde baz puana çevrilir,
+ * yeni kuruş = kuruş * (10000 ± bp) / 10000, seçilen yuvarlama ile (varsayılan HALF_EVEN - domain ile birebir)
+ */
+public class BulkRepricingRequest {
+    @NotNull(message = "Yön boş olamaz (INCREASE ya da DECREASE)")
+    private Direction direction;
+
+    @NotNull(message = "Yüzde boş olamaz")
+    @DecimalMin(value = "0", inclusive = false, message = "Yüzde pozitif olmalıdır")
+    @Digits(integer = 6, fraction = 2, message = "Yüzde en fazla 2 ondalık basamaklı olmalıdır")
+    private BigDecimal percentage;
+
+    private Rounding rounding = Rounding.HALF_EVEN;
+
+    private String currency;
+
+    @PositiveOrZero(message = "Minimum fiyat negatif olamaz")
+    private BigDecimal minPrice;
+
+    @Positive(message = "Maksimum fiyat pozitif olmalıdır")
+    private BigDecimal maxPrice;
+
+    private Boolean inStock;
+
+    public BulkRepricingRequest() {
+    }
+
+    public BulkRepricingRequest(Direction direction, BigDecimal percentage, Rounding rounding, String currency,
+            BigDecimal minPrice, BigDecimal maxPrice, Boolean inStock) {
+        this.direction = direction;
+        this.percentage = percentage;
+        this.rounding = rounding;
+        this.currency = currency;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.inStock = inStock;
+    }
+
+    /**
+     * Fiyat değişikliğinin yönü
+     */
+    public enum Direction {
+        INCREASE,
+        DECREASE
+    }
+
+    /**
+     * Yeni fiyatın kuruşa yuvarlanması - fiyatlar negatif olmadığından DOWN/UP taban/tavan ile aynıdır
+     */
+    public enum Rounding {
+        /** Banker's rounding - Price'ın yüzde hesaplarıyla aynı */
+        HALF_EVEN,
+        HALF_UP,
+        DOWN,
+        UP
+    }
+
+    /**
+     * İşaretli baz puan (1 bp = %0.01) - artışta pozitif, azalışta negatif
+     * Yüzde 2 ondalığa kadar olduğundan dönüşüm tamdır; fiyat %100'den fazla azaltılamaz
+     */
+    public long signedBasisPoints() {
+        long basisPoints = percentage.movePointRight(2).longValueExact();
+        if (direction == Direction.DECREASE) {
+            if (basisPoints > 10_000) {
+                throw new IllegalArgumentException("Fiyat %100'den fazla azaltılamaz: " + percentage);
+            }
+            return -basisPoints;
+        }
+        return basisPoints;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public void setDirection(Direction direction) {
+        this.direction = direction;
+    }
+
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(BigDecimal percentage) {
+        this.percentage = percentage;
+    }
+
+    public Rounding getRounding() {
+        return rounding;
+    }
+
+    public void setRounding(Rounding rounding) {
+        this.rounding = rounding;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public Boolean getInStock() {
+        return inStock;
+    }
+
+    public void setInStock(Boolean inStock) {
+        this.inStock = inStock;
+    }
+}
@@ -0,0 +1,13 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Product Changes Backfill
+ * product-changes topic'ine tüm kataloğun gönderilmesinin ilerlemesi - GET /actuator/productchanges
+ *
+ * @param cursor      Gönderilen son ürünün ID'si - sonraki sayfa bundan büyük ID'lerle başlar (başlamadıysa null)
+ * @param published   Katalogdan okunup UPDATED olarak gönderilen ürün sayısı
+ * @param republished Sayfa okunduktan sonra değiştiği ya da silindiği için güncel haliyle yeniden gönderilen ürün sayısı
+ * @param complete    Katalogun sonuna gelindi
+ */
+public record ProductChangesBackfill(String cursor, long published, long republished, boolean complete) {
+}
@@ -0,0 +1,99 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Product Fields - sparse fieldset
+ * ?fields=name,price gibi istemcinin istediği ProductResponse alanları
+ * Okuma tarafı yalnızca bu alanların kolonlarını SELECT eder, istenmeyen alanlar yanıtta yer almaz
+ * id her zaman dahildir
+ */
+public final class ProductFields {
+
+    public enum Field {
+        ID("id"),
+        NAME("name"),
+        DESCRIPTION("description"),
+        PRICE("price"),
+        STOCK("stock");
+
+        private final String jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+        }
+
+        public String getJsonName() {
+            return jsonName;
+        }
+    }
+
+    public static final ProductFields ALL = new ProductFields(EnumSet.allOf(Field.class));
+
+    private final Set<Field> fields;
+
+    private ProductFields(EnumSet<Field> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * fields parametresini çözümler - null veya boş değer tüm alanlar demektir
+     */
+    public static ProductFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<Field> selected = EnumSet.of(Field.ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromJsonName(trimmed));
+        }
+        return selected.size() == Field.values().length ? ALL : new ProductFields(selected);
+    }
+
+    public boolean contains(Field field) {
+        return fields.contains(field);
+    }
+
+    public Set<Field> getFields() {
+        return fields;
+    }
+
+    public boolean isAll() {
+        return fields.size() == Field.values().length;
+    }
+
+    private static Field fromJsonName(String name) {
+        for (Field field : Field.values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Bilinmeyen alan: " + name + " (geçerli alanlar: id, name, description, price, stock)");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        return fields.equals(((ProductFields) o).fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return fields.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Product Import Report
+ * CSV katalog içe aktarımının sonucu - POST /api/v1/products/imports ve GET /api/v1/products/imports/{id}
+ *
+ * @param rowsRead      Başlık hariç okunan kayıt sayısı
+ * @param acceptedCount Doğrulamayı geçen kayıt sayısı
+ * @param rejectedCount Reddedilen kayıt sayısı - nedenleri /imports/{id}/errors'ta
+ * @param insertedCount Yeni eklenen ürün sayısı
+ * @param updatedCount  Güncellenen mevcut ürün sayısı (aynı ID'li birden fazla satırın yalnızca sonuncusu yazılır)
+ * @param createdAt     Başlangıç zamanı (epoch ms)
+ * @param finishedAt    Bitiş zamanı (epoch ms) - sürüyorsa null
+ */
+public record ProductImportReport(
+        String id,
+        Status status,
+        long rowsRead,
+        long acceptedCount,
+        long rejectedCount,
+        long insertedCount,
+        long updatedCount,
+        String error,
+        long createdAt,
+        Long finishedAt) {
+
+    /**
+     * FAILED: dosya okunamadı ya da yazılamadı (ürünlere hiçbir satır yazılmamıştır) veya ürünler yazıldıktan
+     * sonra olaylar gönderilemedi (insertedCount/updatedCount yazılanları gösterir)
+     */
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,55 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Product Page Response DTO
+ */
+public class ProductPageResponse {
+    private List<ProductResponse> products;
+    private int page;
+    private int size;
+    private long totalCount;
+
+    public ProductPageResponse() {
+    }
+
+    public ProductPageResponse(List<ProductResponse> products, int page, int size, long totalCount) {
+        this.products = products;
+        this.page = page;
+        this.size = size;
+        this.totalCount = totalCount;
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+}
@@ -1,24 +1,51 @@
 package com.turkcell.product_service.application.dtos;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.turkcell.product_service.domain.entities.Product;
+
 /**
  * Product Response DTO
+ * Sparse fieldset (?fields=) ile istenmeyen alanlar null'dır ve JSON'a yazılmaz
+ * version gövdeye yazılmaz, ETag header'ı olarak döner
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProductResponse {
     private String id;
     private String name;
     private String description;
     private PriceDto price;
     private StockDto stock;
+    @JsonIgnore
+    private Long version;
 
     public ProductResponse() {
     }
 
     public ProductResponse(String id, String name, String description, PriceDto price, StockDto stock) {
+        this(id, name, description, price, stock, null);
+    }
+
+    public ProductResponse(String id, String name, String description, PriceDto price, StockDto stock, Long version) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.price = price;
         this.stock = stock;
+        this.version = version;
+    }
+
+    /**
+     * Domain entity'sinin tüm alanlarıyla yanıtı
+     */
+    public static ProductResponse from(Product product) {
+        return new ProductResponse(
+                product.getId().toString(),
+                product.getName(),
+                product.getDescription(),
+                new PriceDto(product.getPrice().getAmount(), product.getPrice().getCurrency().getCode()),
+                new StockDto(product.getStock().getQuantity()),
+                product.getVersion());
     }
 
     public String getId() {
@@ -60,4 +87,12 @@ public class ProductResponse {
     public void setStock(StockDto stock) {
         this.stock = stock;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
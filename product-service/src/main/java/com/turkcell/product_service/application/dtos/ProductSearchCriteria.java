@@ -0,0 +1,76 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Product Search Criteria
+ * GET /api/v1/products/search filtresi - null alanlar filtre dışıdır
+ * Okuma tarafında tek bir parametreli SQL sorgusuna derlenir
+ *
+ * @param name     Ürün adında geçen metin (büyük/küçük harf duyarsız)
+ * @param minPrice Minimum fiyat (dahil) - currency ile birlikte verilmelidir
+ * @param maxPrice Maksimum fiyat (dahil) - currency ile birlikte verilmelidir
+ * @param currency Para birimi kodu
+ * @param inStock  true: stokta olanlar, false: stokta olmayanlar
+ * @param sort     Sıralama - null ise ID sırası
+ * @param page     Sayfa numarası (0'dan başlar)
+ * @param size     Sayfa boyutu
+ */
+public record ProductSearchCriteria(
+        String name,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        String currency,
+        Boolean inStock,
+        Sort sort,
+        int page,
+        int size) {
+
+    /**
+     * Sıralama alanı ve yönü - sort=price (artan), sort=-price (azalan)
+     * Aynı değere sahip satırlar sayfalar arasında kaymasın diye her zaman id ile tamamlanır
+     */
+    public enum Sort {
+        NAME_ASC("name", false),
+        NAME_DESC("name", true),
+        PRICE_ASC("price", false),
+        PRICE_DESC("price", true),
+        STOCK_ASC("stock", false),
+        STOCK_DESC("stock", true);
+
+        private final String field;
+        private final boolean descending;
+
+        Sort(String field, boolean descending) {
+            this.field = field;
+            this.descending = descending;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public boolean isDescending() {
+            return descending;
+        }
+
+        /**
+         * sort parametresini çözümler - null veya boş değer varsayılan sıralamadır (null)
+         */
+        public static Sort parse(String sort) {
+            if (sort == null || sort.isBlank()) {
+                return null;
+            }
+            String value = sort.trim().toLowerCase(Locale.ROOT);
+            boolean descending = value.startsWith("-");
+            String field = descending ? value.substring(1) : value;
+            for (Sort candidate : values()) {
+                if (candidate.field.equals(field) && candidate.descending == descending) {
+                    return candidate;
+                }
+            }
+            throw new IllegalArgumentException("Geçersiz sıralama: " + sort + " (geçerli alanlar: name, price, stock; azalan için -price)");
+        }
+    }
+}
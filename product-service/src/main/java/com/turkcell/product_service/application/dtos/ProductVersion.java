@@ -0,0 +1,8 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Product Version
+ * Ürün ID'si ve kalıcı sürümü - koşullu GET'ler tam satırı okumadan bununla cevaplanır
+ */
+public record ProductVersion(String id, long version) {
+}
@@ -0,0 +1,48 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * Repricing Job
+ * Toplu fiyat değişikliği işinin durumu ve ilerlemesi - GET /api/v1/products/repricing/{id}
+ *
+ * @param percentage     İşaretli yüzde (azalışta negatif)
+ * @param totalCount     İş oluşturulurken filtreye uyan ürün sayısı
+ * @param updatedCount   Fiyatı güncellenmiş ürün sayısı
+ * @param publishedCount Change event'i yayınlanmış ürün sayısı
+ * @param progress       updatedCount / totalCount (0-1)
+ * @param createdAt      Oluşturulma zamanı (epoch ms)
+ * @param updatedAt      Son ilerleme zamanı (epoch ms)
+ */
+public record RepricingJob(
+        String id,
+        Status status,
+        BigDecimal percentage,
+        BulkRepricingRequest.Rounding rounding,
+        String currency,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Boolean inStock,
+        long totalCount,
+        long updatedCount,
+        long publishedCount,
+        double progress,
+        String error,
+        long createdAt,
+        long updatedAt) {
+
+    /**
+     * INTERRUPTED: RUNNING durumunda fakat runner'ının kirası dolmuş (instance durmuş) - devam ettirilebilir
+     */
+    public enum Status {
+        PENDING,
+        RUNNING,
+        INTERRUPTED,
+        COMPLETED,
+        FAILED;
+
+        public boolean isResumable() {
+            return this == PENDING || this == INTERRUPTED || this == FAILED;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.turkcell.product_service.application.events;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+
+/**
+ * Product Changed Event
+ * Bir ürün oluşturulduğunda, güncellendiğinde veya silindiğinde yayınlanır
+ * DELETED olaylarında product ve version alanları null'dır
+ *
+ * @param version Ürünün olaydan sonraki sürümü - ProductResponse gövdesinde yer almaz; tüketiciler aynı ürünün
+ *                eski sürümlü olaylarını bununla ayırt eder
+ */
+public record ProductChangedEvent(String productId, ChangeType type, ProductResponse product, Long version,
+        long occurredAt) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static ProductChangedEvent created(ProductResponse product) {
+        return new ProductChangedEvent(product.getId(), ChangeType.CREATED, product, product.getVersion(),
+                System.currentTimeMillis());
+    }
+
+    public static ProductChangedEvent updated(ProductResponse product) {
+        return new ProductChangedEvent(product.getId(), ChangeType.UPDATED, product, product.getVersion(),
+                System.currentTimeMillis());
+    }
+
+    public static ProductChangedEvent deleted(String productId) {
+        return new ProductChangedEvent(productId, ChangeType.DELETED, null, null, System.currentTimeMillis());
+    }
+}
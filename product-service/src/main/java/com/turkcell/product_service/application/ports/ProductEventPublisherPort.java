@@ -0,0 +1,22 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+
+import java.util.List;
+
+/**
+ * Product Event Publisher Port
+ * Ürün değişikliklerinin dış dünyaya duyurulması için soyutlama
+ * Implementasyonu messaging katmanındadır
+ */
+public interface ProductEventPublisherPort {
+    void publish(ProductChangedEvent event);
+
+    /**
+     * Toplu değişikliklerin olaylarını art arda gönderir - her ürün yine kendi olayıdır,
+     * gruplama gönderim tarafında (ör. Kafka producer batch'leri) yapılır
+     */
+    default void publishAll(List<ProductChangedEvent> events) {
+        events.forEach(this::publish);
+    }
+}
@@ -0,0 +1,79 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.ProductImportReport;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.domain.entities.Product;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Product Import Port
+ * CSV katalog içe aktarımının veritabanı tarafı: doğrulanmış satırlar önce ara tabloya akıtılır,
+ * ardından tek bir küme tabanlı upsert ile ürünlere yazılır - bellek kullanımı dosya boyutundan bağımsızdır
+ */
+public interface ProductImportPort {
+
+    /**
+     * İçe aktarımı RUNNING olarak kaydeder
+     */
+    ProductImportReport start(String importId);
+
+    Optional<ProductImportReport> find(String importId);
+
+    /**
+     * Satırların yazılacağı oturumu açar - kapatıldığında ara tablodaki satırlar silinir
+     */
+    ImportSession open(String importId);
+
+    ProductImportReport complete(String importId, ImportCounts counts);
+
+    void fail(String importId, ImportCounts counts, String error);
+
+    /**
+     * Reddedilen satırları satır numarası sırasıyla tüketiciye akıtır
+     */
+    void forEachError(String importId, Consumer<ImportError> consumer);
+
+    /**
+     * Tek bir içe aktarımın yazma oturumu
+     */
+    interface ImportSession extends AutoCloseable {
+
+        void stage(long lineNumber, Product product);
+
+        void reject(long lineNumber, String reason, String rawLine);
+
+        /**
+         * Ara tablodaki satırları ürünlere yazar - her veritabanında tek transaction
+         * Aynı ID'li birden fazla satır varsa satır numarası en büyük olan kazanır
+         */
+        MergeResult merge();
+
+        /**
+         * Yazılan ürünlerin yeni hâlini en fazla batchSize'lık gruplar hâlinde tüketiciye verir
+         */
+        void forEachMerged(int batchSize, Consumer<MergedBatch> consumer);
+
+        @Override
+        void close();
+    }
+
+    record ImportCounts(long rowsRead, long acceptedCount, long rejectedCount, long insertedCount,
+            long updatedCount) {
+    }
+
+    record MergeResult(long insertedCount, long updatedCount) {
+    }
+
+    /**
+     * @param created Yeni eklenen ürünler
+     * @param updated Güncellenen mevcut ürünler
+     */
+    record MergedBatch(List<ProductResponse> created, List<ProductResponse> updated) {
+    }
+
+    record ImportError(long lineNumber, String reason, String rawLine) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.domain.entities.Product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Product Query Port - CQRS okuma tarafı
+ * Okumalar domain davranışına ihtiyaç duymaz: sonuçlar doğrudan response DTO'larına projekte edilir,
+ * persistence context, dirty checking ve Product.reconstruct atlanır
+ * Yazma tarafı ProductRepository üzerinden domain modeliyle çalışmaya devam eder
+ */
+public interface ProductQueryPort {
+
+    /**
+     * ID'ye göre ürün projeksiyonu
+     *
+     * @param id     Ürün ID'si
+     * @param fields Okunacak alanlar - diğer alanlar null döner (sürüm her zaman okunur)
+     * @return Bulunan ürün (varsa)
+     */
+    Optional<ProductResponse> findById(Product.ProductId id, ProductFields fields);
+
+    default Optional<ProductResponse> findById(Product.ProductId id) {
+        return findById(id, ProductFields.ALL);
+    }
+
+    /**
+     * Tüm ürünlerin projeksiyonu
+     *
+     * @param fields Okunacak alanlar - diğer alanlar null döner
+     * @return Ürün listesi
+     */
+    List<ProductResponse> findAll(ProductFields fields);
+
+    default List<ProductResponse> findAll() {
+        return findAll(ProductFields.ALL);
+    }
+
+    /**
+     * ID sırasıyla sayfa - afterId'den büyük ID'li ilk limit ürün (keyset sayfalama: derin sayfalar da offset taramaz)
+     *
+     * @param afterId Önceki sayfanın son ID'si - ilk sayfa için null
+     * @param limit   En fazla ürün sayısı
+     * @return ID'ye göre artan sırada ürünler
+     */
+    List<ProductResponse> findPageAfter(String afterId, int limit);
+
+    /**
+     * Filtreye uyan ürünlerin bir sayfası ve toplam eşleşme sayısı
+     *
+     * @param criteria Doğrulanmış arama kriterleri
+     * @param fields   Okunacak alanlar - diğer alanlar null döner
+     * @return Sayfa ve toplam sayı
+     */
+    ProductPageResponse search(ProductSearchCriteria criteria, ProductFields fields);
+
+    /**
+     * Ürünün yalnızca sürüm kolonunu okur (ETag / If-None-Match kontrolü için)
+     *
+     * @param id Ürün ID'si
+     * @return Ürünün sürümü (ürün varsa)
+     */
+    Optional<Long> findVersion(Product.ProductId id);
+
+    /**
+     * Tüm ürünlerin ID ve sürümleri, findAll ile aynı sırada
+     *
+     * @return Ürün ID ve sürüm listesi
+     */
+    List<ProductVersion> findAllVersions();
+
+    /**
+     * Verilen ID'lerin projeksiyonu - bulunamayan ID'ler sonuçta yer almaz, sıra garanti edilmez
+     *
+     * @param ids Ürün ID'leri
+     * @return Bulunan ürünler
+     */
+    List<ProductResponse> findByIds(Collection<String> ids);
+}
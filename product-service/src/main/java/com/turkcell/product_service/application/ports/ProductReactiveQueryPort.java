@@ -0,0 +1,32 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.domain.entities.Product;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Product Reactive Query Port
+ * Okuma tarafının non-blocking karşılığı - yazmalar bloklayan ProductRepository üzerinden devam eder
+ * Dependency Inversion Principle: Application katmanı R2DBC'yi bilmez
+ */
+public interface ProductReactiveQueryPort {
+
+    Mono<Product> findById(Product.ProductId id);
+
+    /**
+     * Filtreye uyan ürünlerin bir sayfası - filtre boşsa tüm ürünler
+     */
+    Flux<Product> findPage(ProductFilter filter, int page, int size);
+
+    Mono<Long> count(ProductFilter filter);
+
+    /**
+     * Fiyat aralığı, para birimi ve stok filtresi - null alanlar filtre dışıdır
+     * Fiyat aralığı yalnızca currency ile birlikte anlamlıdır: tutarlar para birimleri arasında karşılaştırılamaz
+     */
+    record ProductFilter(BigDecimal minPrice, BigDecimal maxPrice, String currency, Boolean inStock) {
+        public static final ProductFilter NONE = new ProductFilter(null, null, null, null);
+    }
+}
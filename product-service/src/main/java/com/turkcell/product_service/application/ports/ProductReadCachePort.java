@@ -0,0 +1,12 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.domain.entities.Product;
+
+/**
+ * Product Read Cache Port
+ * Okuma tarafındaki cache'lerin yazma sonrası geçersiz kılınması için soyutlama
+ * Yazma use case'leri değişiklik veritabanına yazıldıktan sonra çağırır
+ */
+public interface ProductReadCachePort {
+    void evict(Product.ProductId id);
+}
@@ -0,0 +1,70 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.RepricingJob;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Product Repricing Port
+ * Toplu fiyat değişikliğinin veritabanı tarafı: fiyatlar küme tabanlı UPDATE'lerle chunk chunk değiştirilir,
+ * iş durumu (cursor, sayaçlar, kira) veritabanında tutulur - yarıda kalan iş kaldığı chunk'tan devam eder
+ * Bir işi aynı anda yalnızca kirayı (lease) tutan runner ilerletebilir
+ */
+public interface ProductRepricingPort {
+
+    /**
+     * İşi PENDING olarak kaydeder ve filtreye uyan ürünleri sayar
+     *
+     * @param jobId   Yeni işin ID'si
+     * @param request Doğrulanmış istek
+     * @return Kaydedilen iş
+     */
+    RepricingJob create(String jobId, BulkRepricingRequest request);
+
+    Optional<RepricingJob> find(String jobId);
+
+    /**
+     * İşi runner adına kiralar ve RUNNING yapar - iş PENDING, FAILED ya da kirası dolmuş RUNNING olmalıdır
+     *
+     * @return Kira alındıysa true
+     */
+    boolean claim(String jobId, String runnerId);
+
+    /**
+     * Sonraki chunk'ı tek transaction'da fiyatlar, cursor'ı ilerletir ve kirayı uzatır
+     * Kira başka bir runner'a geçtiyse IllegalStateException fırlatır
+     *
+     * @return Güncellenen ürünlerin yeni hâli - güncellenecek ürün kalmadıysa boş
+     */
+    Optional<RepricedChunk> repriceNextChunk(String jobId, String runnerId);
+
+    /**
+     * Fiyatı güncellenmiş fakat change event'i yayınlandığı işaretlenmemiş ürünler (yarıda kalmış işin son chunk'ı)
+     */
+    List<RepricedChunk> unpublished(String jobId);
+
+    /**
+     * Chunk'ın change event'lerinin yayınlandığını kaydeder
+     */
+    void markPublished(String jobId, RepricedChunk chunk);
+
+    void complete(String jobId, String runnerId);
+
+    /**
+     * İşi FAILED yapar - kira artık bu runner'da değilse hiçbir şey yapmaz
+     */
+    void fail(String jobId, String runnerId, String error);
+
+    /**
+     * Tek bir veritabanında (shard'lı kurulumda bir shard'da) aynı transaction'da güncellenmiş ürünler
+     *
+     * @param partition Ürünlerin bulunduğu veritabanı
+     * @param products  Ürünlerin güncellemeden sonraki hâli
+     * @param cursor    Chunk'ın son ürün ID'si
+     */
+    record RepricedChunk(String partition, List<ProductResponse> products, String cursor) {
+    }
+}
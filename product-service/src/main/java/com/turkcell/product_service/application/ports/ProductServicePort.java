@@ -1,10 +1,20 @@
 package com.turkcell.product_service.application.ports;
 
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest;
 import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductImportReport;
 import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.RepricingJob;
 import com.turkcell.product_service.application.dtos.UpdateProductRequest;
 
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Optional;
+
 /**
  * Product Service Port Interface
  * Application layer'ın dış dünyaya açılan interface'i
@@ -14,9 +24,37 @@ public interface ProductServicePort {
 
     ProductResponse getProductById(String id);
 
+    ProductResponse getProductById(String id, ProductFields fields);
+
     ProductListResponse getAllProducts();
 
+    ProductListResponse getAllProducts(ProductFields fields);
+
+    ProductPageResponse searchProducts(ProductSearchCriteria criteria, ProductFields fields);
+
     ProductResponse updateProduct(String id, UpdateProductRequest request);
 
+    ProductResponse updateProduct(String id, UpdateProductRequest request, Long expectedVersion);
+
     void deleteProduct(String id);
+
+    void deleteProduct(String id, Long expectedVersion);
+
+    RepricingJob startRepricing(BulkRepricingRequest request);
+
+    RepricingJob getRepricingJob(String jobId);
+
+    RepricingJob resumeRepricing(String jobId);
+
+    ProductImportReport importProducts(Reader csv);
+
+    ProductImportReport getImport(String importId);
+
+    void writeImportErrors(String importId, Writer writer);
+
+    /**
+     * @param orderId Sipariş ID'si - verilirse aynı sipariş için stok bir kez düşülür; null ise kontrol yapılmaz
+     * @return Güncellenen ürün; sipariş daha önce işlendiyse boş
+     */
+    Optional<ProductResponse> reduceStock(String orderId, String id, int quantity);
 }
@@ -0,0 +1,22 @@
+package com.turkcell.product_service.application.ports;
+
+import java.util.function.Supplier;
+
+/**
+ * Read Consistency Port
+ * Okumaların replica'dan mı primary'den mi yapılacağına dair soyutlama
+ * Okuma tarafındaki cache'ler istemcinin kendi yazmasını görmesi gereken isteklerde devre dışı kalır
+ * ve yalnızca primary'den okunan sonuçlarla doldurulur
+ */
+public interface ReadConsistencyPort {
+
+    /**
+     * İstemci read-your-writes penceresinde - okumalar primary'den yapılır, cache'lenmiş sonuç kullanılmamalı
+     */
+    boolean isPrimaryRequired();
+
+    /**
+     * Verilen okumayı, içinde açılan salt okunur transaction'lar da dahil primary'de çalıştırır
+     */
+    <T> T readFromPrimary(Supplier<T> read);
+}
@@ -1,13 +1,23 @@
 package com.turkcell.product_service.application.services;
 
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest;
 import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductImportReport;
 import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.RepricingJob;
 import com.turkcell.product_service.application.dtos.UpdateProductRequest;
 import com.turkcell.product_service.application.ports.ProductServicePort;
 import com.turkcell.product_service.application.usecases.*;
 import org.springframework.stereotype.Service;
 
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Optional;
+
 /**
  * Product Service Implementation
  * ProductServicePort interface'ini implement eder
@@ -18,20 +28,32 @@ public class ProductService implements ProductServicePort {
     private final CreateProductUseCase createProductUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
     private final GetAllProductsUseCase getAllProductsUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
     private final UpdateProductUseCase updateProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
+    private final BulkRepricingUseCase bulkRepricingUseCase;
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ReduceStockUseCase reduceStockUseCase;
 
     public ProductService(
             CreateProductUseCase createProductUseCase,
             GetProductByIdUseCase getProductByIdUseCase,
             GetAllProductsUseCase getAllProductsUseCase,
+            SearchProductsUseCase searchProductsUseCase,
             UpdateProductUseCase updateProductUseCase,
-            DeleteProductUseCase deleteProductUseCase) {
+            DeleteProductUseCase deleteProductUseCase,
+            BulkRepricingUseCase bulkRepricingUseCase,
+            ImportProductsUseCase importProductsUseCase,
+            ReduceStockUseCase reduceStockUseCase) {
         this.createProductUseCase = createProductUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
         this.getAllProductsUseCase = getAllProductsUseCase;
+        this.searchProductsUseCase = searchProductsUseCase;
         this.updateProductUseCase = updateProductUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
+        this.bulkRepricingUseCase = bulkRepricingUseCase;
+        this.importProductsUseCase = importProductsUseCase;
+        this.reduceStockUseCase = reduceStockUseCase;
     }
 
     @Override
@@ -44,18 +66,78 @@ public class ProductService implements ProductServicePort {
         return getProductByIdUseCase.execute(id);
     }
 
+    @Override
+    public ProductResponse getProductById(String id, ProductFields fields) {
+        return getProductByIdUseCase.execute(id, fields);
+    }
+
     @Override
     public ProductListResponse getAllProducts() {
         return getAllProductsUseCase.execute();
     }
 
+    @Override
+    public ProductListResponse getAllProducts(ProductFields fields) {
+        return getAllProductsUseCase.execute(fields);
+    }
+
+    @Override
+    public ProductPageResponse searchProducts(ProductSearchCriteria criteria, ProductFields fields) {
+        return searchProductsUseCase.execute(criteria, fields);
+    }
+
     @Override
     public ProductResponse updateProduct(String id, UpdateProductRequest request) {
         return updateProductUseCase.execute(id, request);
     }
 
+    @Override
+    public ProductResponse updateProduct(String id, UpdateProductRequest request, Long expectedVersion) {
+        return updateProductUseCase.execute(id, request, expectedVersion);
+    }
+
     @Override
     public void deleteProduct(String id) {
         deleteProductUseCase.execute(id);
     }
+
+    @Override
+    public void deleteProduct(String id, Long expectedVersion) {
+        deleteProductUseCase.execute(id, expectedVersion);
+    }
+
+    @Override
+    public RepricingJob startRepricing(BulkRepricingRequest request) {
+        return bulkRepricingUseCase.start(request);
+    }
+
+    @Override
+    public RepricingJob getRepricingJob(String jobId) {
+        return bulkRepricingUseCase.get(jobId);
+    }
+
+    @Override
+    public RepricingJob resumeRepricing(String jobId) {
+        return bulkRepricingUseCase.resume(jobId);
+    }
+
+    @Override
+    public ProductImportReport importProducts(Reader csv) {
+        return importProductsUseCase.execute(csv);
+    }
+
+    @Override
+    public ProductImportReport getImport(String importId) {
+        return importProductsUseCase.get(importId);
+    }
+
+    @Override
+    public void writeImportErrors(String importId, Writer writer) {
+        importProductsUseCase.writeErrors(importId, writer);
+    }
+
+    @Override
+    public Optional<ProductResponse> reduceStock(String orderId, String id, int quantity) {
+        return reduceStockUseCase.execute(orderId, id, quantity);
+    }
 }
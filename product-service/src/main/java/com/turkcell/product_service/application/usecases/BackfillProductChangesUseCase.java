@@ -0,0 +1,129 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductChangesBackfill;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.application.ports.ReadConsistencyPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Backfill Product Changes Use Case
+ * Kataloğu ID sırasıyla sayfa sayfa okuyup her ürün için anahtarlı UPDATED olayı gönderir - deploy'dan beri
+ * değişmemiş ürünler de log-compacted product-changes topic'ine girer, topic tek başına tam katalog olur
+ * Kaldığı yer (cursor) bellekte tutulur: her step() bir sayfa gönderir, hata alan sayfa sonraki step()'te tekrarlanır;
+ * yeniden başlatmada baştan gönderilir - aynı anahtarlı olaylar compaction'da tek kayda iner
+ *
+ * Sayfa okunduktan sonra ürün güncellenir ya da silinirse yazmanın kendi olayı backfill olayından önce gönderilmiş
+ * olabilir ve topic'te eski hal kalırdı: sayfa gönderildikten sonra primary'den tekrar okunur, sürümü değişen ürünün
+ * güncel hali, silinen ürün için DELETED + tombstone yeniden gönderilir
+ * Adımlar ReentrantLock ile sıralanır: synchronized içinde veritabanını beklemek virtual thread'in carrier'ını sabitlerdi
+ */
+@Service
+public class BackfillProductChangesUseCase {
+    private static final Logger log = LoggerFactory.getLogger(BackfillProductChangesUseCase.class);
+
+    private final ProductQueryPort productQueryPort;
+    private final ProductEventPublisherPort productEventPublisher;
+    private final ReadConsistencyPort readConsistency;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private String cursor;
+    private long published;
+    private long republished;
+    private boolean complete;
+
+    public BackfillProductChangesUseCase(ProductQueryPort productQueryPort,
+            ProductEventPublisherPort productEventPublisher, ReadConsistencyPort readConsistency) {
+        this.productQueryPort = productQueryPort;
+        this.productEventPublisher = productEventPublisher;
+        this.readConsistency = readConsistency;
+    }
+
+    /**
+     * Sonraki sayfayı gönderir - complete true olana kadar tekrarlanır
+     *
+     * @param pageSize Sayfa başına ürün
+     */
+    public ProductChangesBackfill step(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Sayfa boyutu pozitif olmalı: " + pageSize);
+        }
+        lock.lock();
+        try {
+            if (complete) {
+                return status();
+            }
+            String after = cursor;
+            List<ProductResponse> page = readConsistency.readFromPrimary(
+                    () -> productQueryPort.findPageAfter(after, pageSize));
+            if (!page.isEmpty()) {
+                productEventPublisher.publishAll(page.stream().map(ProductChangedEvent::updated).toList());
+                republished += republishChanged(page);
+                published += page.size();
+                cursor = page.get(page.size() - 1).getId();
+            }
+            if (page.size() < pageSize) {
+                complete = true;
+                log.info("product-changes backfill tamamlandı: {} ürün, {} yeniden gönderim", published, republished);
+            }
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public ProductChangesBackfill status() {
+        lock.lock();
+        try {
+            return new ProductChangesBackfill(cursor, published, republished, complete);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * İlerlemeyi sıfırlar - sonraki step() kataloğun başından gönderir
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            cursor = null;
+            published = 0;
+            republished = 0;
+            complete = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int republishChanged(List<ProductResponse> page) {
+        List<String> ids = page.stream().map(ProductResponse::getId).toList();
+        Map<String, ProductResponse> current = new HashMap<>();
+        readConsistency.readFromPrimary(() -> productQueryPort.findByIds(ids))
+                .forEach(product -> current.put(product.getId(), product));
+        List<ProductChangedEvent> events = new ArrayList<>();
+        for (ProductResponse sent : page) {
+            ProductResponse now = current.get(sent.getId());
+            if (now == null) {
+                events.add(ProductChangedEvent.deleted(sent.getId()));
+            } else if (!Objects.equals(now.getVersion(), sent.getVersion())) {
+                events.add(ProductChangedEvent.updated(now));
+            }
+        }
+        if (!events.isEmpty()) {
+            productEventPublisher.publishAll(events);
+        }
+        return events.size();
+    }
+}
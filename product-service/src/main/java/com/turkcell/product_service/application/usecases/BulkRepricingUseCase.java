@@ -0,0 +1,127 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.RepricingJob;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+import com.turkcell.product_service.application.ports.ProductReadCachePort;
+import com.turkcell.product_service.application.ports.ProductRepricingPort;
+import com.turkcell.product_service.application.ports.ProductRepricingPort.RepricedChunk;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.web.exceptions.RepricingJobConflictException;
+import com.turkcell.product_service.web.exceptions.RepricingJobNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bulk Repricing Use Case
+ * Filtreye uyan ürünlerin fiyatını tek tek yükleyip kaydetmek yerine veritabanında küme tabanlı UPDATE'lerle değiştirir
+ * İş arka planda çalışır: her chunk'tan sonra ürünlerin read cache'i boşaltılır ve UPDATED olayları toplu gönderilir,
+ * ardından chunk yayınlandı olarak işaretlenir - yarıda kalan iş yayınlanmamış chunk'tan başlayarak devam ettirilir
+ */
+@Service
+public class BulkRepricingUseCase {
+    private static final Logger log = LoggerFactory.getLogger(BulkRepricingUseCase.class);
+
+    private final ProductRepricingPort repricingPort;
+    private final ProductEventPublisherPort productEventPublisher;
+    private final ProductReadCachePort productReadCache;
+    private final TaskExecutor taskExecutor;
+
+    public BulkRepricingUseCase(ProductRepricingPort repricingPort, ProductEventPublisherPort productEventPublisher,
+            ProductReadCachePort productReadCache, @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.repricingPort = repricingPort;
+        this.productEventPublisher = productEventPublisher;
+        this.productReadCache = productReadCache;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * İşi oluşturur ve arka planda başlatır
+     *
+     * @return Başlangıç durumu - ilerleme get(id) ile izlenir
+     */
+    public RepricingJob start(BulkRepricingRequest request) {
+        validate(request);
+        String jobId = UUID.randomUUID().toString();
+        RepricingJob job = repricingPort.create(jobId, request);
+        log.info("Toplu fiyat değişikliği {} başlıyor: %{} ({}), {} ürün", jobId, job.percentage(), job.rounding(),
+                job.totalCount());
+        return launch(jobId);
+    }
+
+    /**
+     * Yarıda kalmış (INTERRUPTED), başarısız ya da başlatılamamış işi kaldığı yerden devam ettirir
+     */
+    public RepricingJob resume(String jobId) {
+        RepricingJob job = get(jobId);
+        if (!job.status().isResumable()) {
+            throw new RepricingJobConflictException("İş devam ettirilemez: " + jobId + " (" + job.status() + ")");
+        }
+        return launch(jobId);
+    }
+
+    public RepricingJob get(String jobId) {
+        return repricingPort.find(jobId)
+                .orElseThrow(() -> new RepricingJobNotFoundException("Fiyat değişikliği işi bulunamadı: " + jobId));
+    }
+
+    private RepricingJob launch(String jobId) {
+        String runnerId = UUID.randomUUID().toString();
+        if (!repricingPort.claim(jobId, runnerId)) {
+            throw new RepricingJobConflictException("İş başka bir runner tarafından çalıştırılıyor: " + jobId);
+        }
+        taskExecutor.execute(() -> run(jobId, runnerId));
+        return get(jobId);
+    }
+
+    void run(String jobId, String runnerId) {
+        try {
+            for (RepricedChunk chunk : repricingPort.unpublished(jobId)) {
+                publish(jobId, chunk);
+            }
+            Optional<RepricedChunk> chunk;
+            while ((chunk = repricingPort.repriceNextChunk(jobId, runnerId)).isPresent()) {
+                publish(jobId, chunk.get());
+            }
+            repricingPort.complete(jobId, runnerId);
+            log.info("Toplu fiyat değişikliği {} tamamlandı", jobId);
+        } catch (RuntimeException ex) {
+            log.error("Toplu fiyat değişikliği {} durdu - kaldığı yerden devam ettirilebilir", jobId, ex);
+            repricingPort.fail(jobId, runnerId, String.valueOf(ex.getMessage()));
+        }
+    }
+
+    private void publish(String jobId, RepricedChunk chunk) {
+        for (ProductResponse product : chunk.products()) {
+            productReadCache.evict(Product.ProductId.fromString(product.getId()));
+        }
+        productEventPublisher.publishAll(chunk.products().stream().map(ProductChangedEvent::updated).toList());
+        repricingPort.markPublished(jobId, chunk);
+    }
+
+    private static void validate(BulkRepricingRequest request) {
+        if (request.getRounding() == null) {
+            request.setRounding(BulkRepricingRequest.Rounding.HALF_EVEN);
+        }
+        if (request.getCurrency() != null) {
+            request.setCurrency(Currency.fromCode(request.getCurrency()).getCode());
+        } else if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+            throw new IllegalArgumentException("Fiyat aralığı para birimi (currency) ile birlikte verilmelidir");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice().compareTo(request.getMaxPrice()) > 0) {
+            throw new IllegalArgumentException("minPrice, maxPrice'tan büyük olamaz");
+        }
+        // %100'den büyük azalışı reddeder
+        request.signedBasisPoints();
+    }
+}
@@ -1,9 +1,9 @@
 package com.turkcell.product_service.application.usecases;
 
 import com.turkcell.product_service.application.dtos.CreateProductRequest;
-import com.turkcell.product_service.application.dtos.PriceDto;
 import com.turkcell.product_service.application.dtos.ProductResponse;
-import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
 import com.turkcell.product_service.domain.entities.Product;
 import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.domain.valueobjects.Currency;
@@ -17,9 +17,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class CreateProductUseCase {
     private final ProductRepository productRepository;
+    private final ProductEventPublisherPort productEventPublisher;
 
-    public CreateProductUseCase(ProductRepository productRepository) {
+    public CreateProductUseCase(ProductRepository productRepository, ProductEventPublisherPort productEventPublisher) {
         this.productRepository = productRepository;
+        this.productEventPublisher = productEventPublisher;
     }
 
     public ProductResponse execute(CreateProductRequest request) {
@@ -39,21 +41,8 @@ public class CreateProductUseCase {
         Product savedProduct = productRepository.save(product);
 
         // Domain entity'den DTO'ya dönüşüm
-        return toProductResponse(savedProduct);
-    }
-
-    private ProductResponse toProductResponse(Product product) {
-        PriceDto priceDto = new PriceDto(
-                product.getPrice().getAmount(),
-                product.getPrice().getCurrency().getCode());
-
-        StockDto stockDto = new StockDto(product.getStock().getQuantity());
-
-        return new ProductResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getDescription(),
-                priceDto,
-                stockDto);
+        ProductResponse response = ProductResponse.from(savedProduct);
+        productEventPublisher.publish(ProductChangedEvent.created(response));
+        return response;
     }
 }
@@ -0,0 +1,142 @@
+package com.turkcell.product_service.application.usecases;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV Reader
+ * RFC 4180 kayıtlarını akıştan tek tek okur: virgülle ayrılmış alanlar, çift tırnaklı alanlarda virgül,
+ * satır sonu ve "" kaçışı; CRLF ve LF satır sonları, baştaki UTF-8 BOM atlanır
+ * Bellekte yalnızca o anki kayıt tutulur - kayıt maxRecordLength karakteri aşarsa (ör. kapatılmamış tırnak
+ * dosyanın geri kalanını yutuyorsa) okuma IllegalArgumentException ile durur
+ */
+final class CsvReader implements Closeable {
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final StringBuilder raw = new StringBuilder();
+    private int pushback = NONE;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = new BufferedReader(reader, 64 * 1024);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Sonraki kaydın alanları - dosya bittiyse null
+     * Boş satır tek boş alanlı bir kayıt olarak döner
+     */
+    List<String> next() throws IOException {
+        raw.setLength(0);
+        recordLine = line;
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                raw.setLength(0);
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Satır " + recordLine + ": kapatılmamış tırnak");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                fieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Son kaydın başladığı satır (1'den başlar, tırnak içindeki satır sonları da sayılır)
+     */
+    long lineNumber() {
+        return recordLine;
+    }
+
+    /**
+     * Son kaydın satır sonu hariç ham metni - hata raporu için
+     */
+    String raw() {
+        int end = raw.length();
+        while (end > 0 && (raw.charAt(end - 1) == '\n' || raw.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return raw.substring(0, end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != NONE) {
+            c = pushback;
+            pushback = NONE;
+        } else {
+            c = reader.read();
+            if (c == '\n') {
+                line++;
+            }
+        }
+        if (c != -1) {
+            if (raw.length() >= maxRecordLength) {
+                throw new IllegalArgumentException("Satır " + recordLine + ": kayıt " + maxRecordLength
+                        + " karakteri aşıyor");
+            }
+            raw.append((char) c);
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushback = c;
+        if (c != -1) {
+            raw.setLength(raw.length() - 1);
+        }
+    }
+}
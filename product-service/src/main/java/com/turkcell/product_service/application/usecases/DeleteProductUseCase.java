@@ -1,8 +1,12 @@
 package com.turkcell.product_service.application.usecases;
 
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+import com.turkcell.product_service.application.ports.ProductReadCachePort;
 import com.turkcell.product_service.domain.entities.Product;
 import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
+import com.turkcell.product_service.web.exceptions.ProductVersionMismatchException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -11,18 +15,38 @@ import org.springframework.stereotype.Service;
 @Service
 public class DeleteProductUseCase {
     private final ProductRepository productRepository;
+    private final ProductEventPublisherPort productEventPublisher;
+    private final ProductReadCachePort productReadCache;
 
-    public DeleteProductUseCase(ProductRepository productRepository) {
+    public DeleteProductUseCase(ProductRepository productRepository, ProductEventPublisherPort productEventPublisher,
+            ProductReadCachePort productReadCache) {
         this.productRepository = productRepository;
+        this.productEventPublisher = productEventPublisher;
+        this.productReadCache = productReadCache;
     }
 
     public void execute(String id) {
+        execute(id, null);
+    }
+
+    /**
+     * @param expectedVersion If-Match ile beklenen sürüm - verilirse silme tek bir DELETE ... WHERE version = ? ile yapılır
+     */
+    public void execute(String id, Long expectedVersion) {
         Product.ProductId productId = Product.ProductId.fromString(id);
 
-        if (!productRepository.existsById(productId)) {
-            throw new ProductNotFoundException("Ürün bulunamadı: " + id);
+        if (expectedVersion == null) {
+            if (!productRepository.existsById(productId)) {
+                throw new ProductNotFoundException("Ürün bulunamadı: " + id);
+            }
+            productRepository.deleteById(productId);
+        } else if (!productRepository.deleteByIdAndVersion(productId, expectedVersion)) {
+            if (!productRepository.existsById(productId)) {
+                throw new ProductNotFoundException("Ürün bulunamadı: " + id);
+            }
+            throw new ProductVersionMismatchException("Ürün değişmiş: " + id + " (beklenen sürüm " + expectedVersion + ")");
         }
-
-        productRepository.deleteById(productId);
+        productReadCache.evict(productId);
+        productEventPublisher.publish(ProductChangedEvent.deleted(productId.toString()));
     }
 }
@@ -1,49 +1,37 @@
 package com.turkcell.product_service.application.usecases;
 
-import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductFields;
 import com.turkcell.product_service.application.dtos.ProductListResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
-import com.turkcell.product_service.application.dtos.StockDto;
-import com.turkcell.product_service.domain.entities.Product;
-import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Get All Products Use Case
+ * Okuma tarafı - domain modeli yerine ProductQueryPort projeksiyonunu kullanır
  */
 @Service
+@Transactional(readOnly = true)
 public class GetAllProductsUseCase {
-    private final ProductRepository productRepository;
+    private final ProductQueryPort productQueryPort;
 
-    public GetAllProductsUseCase(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    public GetAllProductsUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
     }
 
     public ProductListResponse execute() {
-        List<Product> products = productRepository.findAll();
-
-        List<ProductResponse> productResponses = products.stream()
-                .map(this::toProductResponse)
-                .collect(Collectors.toList());
-
-        return new ProductListResponse(productResponses, productResponses.size());
+        return execute(ProductFields.ALL);
     }
 
-    private ProductResponse toProductResponse(Product product) {
-        PriceDto priceDto = new PriceDto(
-                product.getPrice().getAmount(),
-                product.getPrice().getCurrency().getCode());
+    /**
+     * Yalnızca istenen alanları okur - diğer alanlar null döner
+     */
+    public ProductListResponse execute(ProductFields fields) {
+        List<ProductResponse> productResponses = productQueryPort.findAll(fields);
 
-        StockDto stockDto = new StockDto(product.getStock().getQuantity());
-
-        return new ProductResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getDescription(),
-                priceDto,
-                stockDto);
+        return new ProductListResponse(productResponses, productResponses.size());
     }
 }
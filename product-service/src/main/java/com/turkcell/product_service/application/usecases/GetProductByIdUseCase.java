@@ -1,45 +1,37 @@
 package com.turkcell.product_service.application.usecases;
 
-import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductFields;
 import com.turkcell.product_service.application.dtos.ProductResponse;
-import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
 import com.turkcell.product_service.domain.entities.Product;
-import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Get Product By ID Use Case
+ * Okuma tarafı - domain modeli yerine ProductQueryPort projeksiyonunu kullanır
  */
 @Service
+@Transactional(readOnly = true)
 public class GetProductByIdUseCase {
-    private final ProductRepository productRepository;
+    private final ProductQueryPort productQueryPort;
 
-    public GetProductByIdUseCase(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    public GetProductByIdUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
     }
 
     public ProductResponse execute(String id) {
-        Product.ProductId productId = Product.ProductId.fromString(id);
-
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
-
-        return toProductResponse(product);
+        return execute(id, ProductFields.ALL);
     }
 
-    private ProductResponse toProductResponse(Product product) {
-        PriceDto priceDto = new PriceDto(
-                product.getPrice().getAmount(),
-                product.getPrice().getCurrency().getCode());
-
-        StockDto stockDto = new StockDto(product.getStock().getQuantity());
+    /**
+     * Yalnızca istenen alanları okur - diğer alanlar null döner
+     */
+    public ProductResponse execute(String id, ProductFields fields) {
+        Product.ProductId productId = Product.ProductId.fromString(id);
 
-        return new ProductResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getDescription(),
-                priceDto,
-                stockDto);
+        return productQueryPort.findById(productId, fields)
+                .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
     }
 }
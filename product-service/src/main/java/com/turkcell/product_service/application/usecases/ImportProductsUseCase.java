@@ -0,0 +1,249 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductImportReport;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+import com.turkcell.product_service.application.ports.ProductImportPort;
+import com.turkcell.product_service.application.ports.ProductImportPort.ImportCounts;
+import com.turkcell.product_service.application.ports.ProductImportPort.ImportError;
+import com.turkcell.product_service.application.ports.ProductImportPort.ImportSession;
+import com.turkcell.product_service.application.ports.ProductImportPort.MergeResult;
+import com.turkcell.product_service.application.ports.ProductImportPort.MergedBatch;
+import com.turkcell.product_service.application.ports.ProductReadCachePort;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import com.turkcell.product_service.web.exceptions.ProductImportNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Import Products Use Case
+ * CSV kataloğu istek gövdesinden satır satır okur; her satır Product.create ile aynı kurallardan geçer,
+ * geçenler ara tabloya akıtılır, geçemeyenler nedeniyle birlikte hata raporuna yazılır
+ * Dosya bitince ürünler tek bir küme tabanlı upsert ile yazılır, read cache boşaltılır ve CREATED/UPDATED
+ * olayları toplu gönderilir - dosyanın okunması yarıda kalırsa ürünlere hiçbir satır yazılmaz
+ *
+ * Başlık satırı zorunludur, kolon sırası serbesttir: id (opsiyonel - boşsa yeni ürün), name, description,
+ * price, currency, stock
+ */
+@Service
+public class ImportProductsUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ImportProductsUseCase.class);
+
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+    private static final int EVENT_BATCH_SIZE = 1000;
+    /**
+     * price_amount NUMERIC(19, 2): en fazla 17 tam basamak; üslü gösterim kabul edilmez ("1e999999999" gibi
+     * değerlerin ölçeklenmesi çok pahalıdır)
+     */
+    private static final Pattern AMOUNT = Pattern.compile("-?\\d{1,17}(\\.\\d{1,15})?");
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "description", "price", "currency", "stock");
+
+    private final ProductImportPort importPort;
+    private final ProductEventPublisherPort productEventPublisher;
+    private final ProductReadCachePort productReadCache;
+
+    public ImportProductsUseCase(ProductImportPort importPort, ProductEventPublisherPort productEventPublisher,
+            ProductReadCachePort productReadCache) {
+        this.importPort = importPort;
+        this.productEventPublisher = productEventPublisher;
+        this.productReadCache = productReadCache;
+    }
+
+    /**
+     * Dosyayı sonuna kadar okuyup içe aktarır
+     * Başlık eksikse ya da dosya CSV olarak okunamıyorsa içe aktarım FAILED olur ve IllegalArgumentException fırlatılır
+     *
+     * @param csv UTF-8 CSV akışı - çağıran kapatır
+     * @return Tamamlanan içe aktarımın raporu
+     */
+    public ProductImportReport execute(Reader csv) {
+        String importId = UUID.randomUUID().toString();
+        importPort.start(importId);
+        long rowsRead = 0;
+        long accepted = 0;
+        long rejected = 0;
+        MergeResult merged = new MergeResult(0, 0);
+        try (ImportSession session = importPort.open(importId)) {
+            CsvReader reader = new CsvReader(csv, MAX_RECORD_LENGTH);
+            Header header = header(reader.next());
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                rowsRead++;
+                try {
+                    session.stage(reader.lineNumber(), toProduct(header, fields));
+                    accepted++;
+                } catch (IllegalArgumentException ex) {
+                    session.reject(reader.lineNumber(), String.valueOf(ex.getMessage()), reader.raw());
+                    rejected++;
+                }
+            }
+            merged = session.merge();
+            session.forEachMerged(EVENT_BATCH_SIZE, this::publish);
+            ProductImportReport report = importPort.complete(importId, new ImportCounts(rowsRead, accepted, rejected,
+                    merged.insertedCount(), merged.updatedCount()));
+            log.info("Katalog içe aktarımı {} tamamlandı: {} satır, {} eklendi, {} güncellendi, {} reddedildi",
+                    importId, rowsRead, merged.insertedCount(), merged.updatedCount(), rejected);
+            return report;
+        } catch (IOException ex) {
+            fail(importId, new ImportCounts(rowsRead, accepted, rejected, 0, 0), ex);
+            throw new UncheckedIOException("Katalog dosyası okunamadı", ex);
+        } catch (RuntimeException ex) {
+            // Merge'den sonraki hata (ör. olaylar gönderilemedi) ürünlerin yazıldığı gerçeğini değiştirmez
+            fail(importId, new ImportCounts(rowsRead, accepted, rejected, merged.insertedCount(),
+                    merged.updatedCount()), ex);
+            throw ex;
+        }
+    }
+
+    public ProductImportReport get(String importId) {
+        return importPort.find(importId)
+                .orElseThrow(() -> new ProductImportNotFoundException("İçe aktarım bulunamadı: " + importId));
+    }
+
+    /**
+     * Reddedilen satırları CSV olarak yazar: line, reason, raw
+     */
+    public void writeErrors(String importId, Writer writer) {
+        get(importId);
+        try {
+            writer.write("line,reason,raw\r\n");
+            importPort.forEachError(importId, error -> write(writer, error));
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void publish(MergedBatch batch) {
+        Stream.concat(batch.created().stream(), batch.updated().stream())
+                .forEach(product -> productReadCache.evict(Product.ProductId.fromString(product.getId())));
+        List<ProductChangedEvent> events = new ArrayList<>(batch.created().size() + batch.updated().size());
+        for (ProductResponse product : batch.created()) {
+            events.add(ProductChangedEvent.created(product));
+        }
+        for (ProductResponse product : batch.updated()) {
+            events.add(ProductChangedEvent.updated(product));
+        }
+        productEventPublisher.publishAll(events);
+    }
+
+    private void fail(String importId, ImportCounts counts, Exception ex) {
+        log.warn("Katalog içe aktarımı {} başarısız: {}", importId, ex.getMessage());
+        importPort.fail(importId, counts, String.valueOf(ex.getMessage()));
+    }
+
+    private static Header header(List<String> fields) {
+        if (fields == null) {
+            throw new IllegalArgumentException("Katalog dosyası boş - başlık satırı bekleniyordu");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            columns.putIfAbsent(fields.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV başlığında eksik kolon(lar): " + String.join(", ", missing));
+        }
+        return new Header(columns, fields.size());
+    }
+
+    /**
+     * Satırı Product.create / Product.reconstruct ile aynı doğrulamadan geçirir; products kolonlarına sığmayan
+     * değerler de burada reddedilir - aksi hâlde tek satır tüm upsert'i düşürürdü
+     */
+    private static Product toProduct(Header header, List<String> fields) {
+        if (fields.size() != header.width()) {
+            throw new IllegalArgumentException("Beklenen " + header.width() + " alan, bulunan " + fields.size());
+        }
+        String name = header.field(fields, "name");
+        String description = header.field(fields, "description");
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Ürün adı en fazla " + MAX_NAME_LENGTH + " karakter olabilir");
+        }
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Ürün açıklaması en fazla " + MAX_DESCRIPTION_LENGTH
+                    + " karakter olabilir");
+        }
+        Price price = new Price(amount(header.field(fields, "price")),
+                Currency.fromCode(header.field(fields, "currency")));
+        Stock stock = new Stock(quantity(header.field(fields, "stock")));
+        String id = header.has("id") ? header.field(fields, "id").trim() : "";
+        return id.isEmpty()
+                ? Product.create(name, description, price, stock)
+                : Product.reconstruct(Product.ProductId.fromString(id), name, description, price, stock, 0);
+    }
+
+    private static BigDecimal amount(String value) {
+        String trimmed = value.trim();
+        if (!AMOUNT.matcher(trimmed).matches()) {
+            throw new IllegalArgumentException("Geçersiz fiyat: " + value);
+        }
+        return new BigDecimal(trimmed);
+    }
+
+    private static int quantity(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Geçersiz stok miktarı: " + value);
+        }
+    }
+
+    private static void write(Writer writer, ImportError error) {
+        try {
+            writer.write(Long.toString(error.lineNumber()));
+            writer.write(',');
+            writer.write(quote(error.reason()));
+            writer.write(',');
+            writer.write(quote(error.rawLine()));
+            writer.write("\r\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Başlık satırı: kolon adı (küçük harf) -> alan sırası
+     */
+    private record Header(Map<String, Integer> columns, int width) {
+
+        boolean has(String column) {
+            return columns.containsKey(column);
+        }
+
+        String field(List<String> fields, String column) {
+            return fields.get(columns.get(column));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.ports.ProductReactiveQueryPort;
+import com.turkcell.product_service.application.ports.ProductReactiveQueryPort.ProductFilter;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Product Query Use Case
+ * ID ile getirme, sayfalı listeleme ve fiyat/stok filtresi - hiçbir adım thread bloklamaz
+ */
+@Service
+@ConditionalOnProperty(prefix = "product.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveProductQueryUseCase {
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final ProductReactiveQueryPort productQueryPort;
+
+    public ReactiveProductQueryUseCase(ProductReactiveQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
+    }
+
+    public Mono<ProductResponse> getById(String id) {
+        return Mono.fromSupplier(() -> Product.ProductId.fromString(id))
+                .flatMap(productQueryPort::findById)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException("Ürün bulunamadı: " + id)))
+                .map(ProductResponse::from);
+    }
+
+    public Mono<ProductPageResponse> getPage(ProductFilter filter, int page, int size) {
+        if (page < 0) {
+            return Mono.error(new IllegalArgumentException("Sayfa numarası negatif olamaz"));
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException("Sayfa boyutu 1 ile " + MAX_PAGE_SIZE + " arasında olmalıdır"));
+        }
+        if (filter.minPrice() != null && filter.maxPrice() != null && filter.minPrice().compareTo(filter.maxPrice()) > 0) {
+            return Mono.error(new IllegalArgumentException("Minimum fiyat maksimum fiyattan büyük olamaz"));
+        }
+        // SearchProductsUseCase ile aynı kural: farklı para birimlerindeki tutarlar karşılaştırılamaz
+        if ((filter.minPrice() != null || filter.maxPrice() != null) && filter.currency() == null) {
+            return Mono.error(new IllegalArgumentException("Fiyat filtresi için para birimi (currency) gereklidir"));
+        }
+        if (filter.currency() != null) {
+            if (!Currency.isSupported(filter.currency())) {
+                return Mono.error(new IllegalArgumentException("Desteklenmeyen para birimi: " + filter.currency()));
+            }
+            // Kolondaki kanonik koda çevrilir (try -> TRY)
+            filter = new ProductFilter(filter.minPrice(), filter.maxPrice(),
+                    Currency.fromCode(filter.currency()).getCode(), filter.inStock());
+        }
+        ProductFilter query = filter;
+
+        return Mono.zip(
+                productQueryPort.findPage(query, page, size).map(ProductResponse::from).collectList(),
+                productQueryPort.count(query))
+                .map(result -> new ProductPageResponse(result.getT1(), page, size, result.getT2()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+import com.turkcell.product_service.application.ports.ProductReadCachePort;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Reduce Stock Use Case
+ * Sipariş edilen miktarı ürünün stokundan düşer ve UPDATED olayı yayınlar
+ * Aynı ürüne eşzamanlı yazım olduysa (OptimisticLockingFailureException) ürün yeniden yüklenip en fazla
+ * MAX_ATTEMPTS kez denenir - yetersiz stok IllegalArgumentException olarak çağırana döner
+ *
+ * Sipariş ID'si verildiğinde işlem idempotent'tir: sipariş kaydı (processed_orders) stokla aynı transaction'da
+ * yazılır, tekrar teslim edilen sipariş stoğu ikinci kez düşmez ve olay yayınlamaz
+ */
+@Service
+public class ReduceStockUseCase {
+    static final int MAX_ATTEMPTS = 3;
+
+    private final ProductRepository productRepository;
+    private final ProductEventPublisherPort productEventPublisher;
+    private final ProductReadCachePort productReadCache;
+
+    public ReduceStockUseCase(ProductRepository productRepository, ProductEventPublisherPort productEventPublisher,
+            ProductReadCachePort productReadCache) {
+        this.productRepository = productRepository;
+        this.productEventPublisher = productEventPublisher;
+        this.productReadCache = productReadCache;
+    }
+
+    /**
+     * @param orderId Sipariş ID'si - null ise (eski olaylar) tekrar teslim kontrolü yapılmaz
+     * @return Güncellenen ürün; sipariş daha önce işlendiyse boş
+     */
+    public Optional<ProductResponse> execute(String orderId, String id, int quantity) {
+        Product.ProductId productId = Product.ProductId.fromString(id);
+        // Tekrar teslimde ürün yüklenmez, yetersiz stok hatası da üretilmez
+        if (orderId != null && productRepository.isOrderProcessed(orderId, productId)) {
+            return Optional.empty();
+        }
+        for (int attempt = 1;; attempt++) {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
+            product.reduceStock(quantity);
+            Optional<Product> updatedProduct;
+            try {
+                updatedProduct = orderId == null
+                        ? Optional.of(productRepository.save(product))
+                        : productRepository.saveForOrder(product, orderId);
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw ex;
+                }
+                continue;
+            }
+            if (updatedProduct.isEmpty()) {
+                // Aynı siparişin eşzamanlı başka bir teslimi önce yazdı
+                return Optional.empty();
+            }
+            productReadCache.evict(productId);
+
+            ProductResponse response = ProductResponse.from(updatedProduct.get());
+            productEventPublisher.publish(ProductChangedEvent.updated(response));
+            return Optional.of(response);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Search Products Use Case
+ * Ad, fiyat aralığı, para birimi ve stok filtresi + sıralama + sayfalama
+ * Filtreleme veritabanında yapılır - istemcinin tüm kataloğu indirip kendisinin filtrelemesine gerek kalmaz
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchProductsUseCase {
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final ProductQueryPort productQueryPort;
+
+    public SearchProductsUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
+    }
+
+    public ProductPageResponse execute(ProductSearchCriteria criteria, ProductFields fields) {
+        if (criteria.page() < 0) {
+            throw new IllegalArgumentException("Sayfa numarası negatif olamaz");
+        }
+        if (criteria.size() < 1 || criteria.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Sayfa boyutu 1 ile " + MAX_PAGE_SIZE + " arasında olmalıdır");
+        }
+        if (criteria.minPrice() != null && criteria.minPrice().signum() < 0
+                || criteria.maxPrice() != null && criteria.maxPrice().signum() < 0) {
+            throw new IllegalArgumentException("Fiyat filtresi negatif olamaz");
+        }
+        if (criteria.minPrice() != null && criteria.maxPrice() != null
+                && criteria.minPrice().compareTo(criteria.maxPrice()) > 0) {
+            throw new IllegalArgumentException("Minimum fiyat maksimum fiyattan büyük olamaz");
+        }
+        // Farklı para birimlerindeki tutarlar karşılaştırılamaz (bkz. ProductRepository.findByPriceRange(Price, Price))
+        if ((criteria.minPrice() != null || criteria.maxPrice() != null) && criteria.currency() == null) {
+            throw new IllegalArgumentException("Fiyat filtresi için para birimi (currency) gereklidir");
+        }
+        if (criteria.currency() != null) {
+            // Kolondaki kanonik koda çevrilir (try -> TRY), desteklenmeyen kodlar 400 döner
+            criteria = new ProductSearchCriteria(criteria.name(), criteria.minPrice(), criteria.maxPrice(),
+                    Currency.fromCode(criteria.currency()).getCode(), criteria.inStock(), criteria.sort(),
+                    criteria.page(), criteria.size());
+        }
+
+        return productQueryPort.search(criteria, fields);
+    }
+}
@@ -1,15 +1,17 @@
 package com.turkcell.product_service.application.usecases;
 
-import com.turkcell.product_service.application.dtos.PriceDto;
 import com.turkcell.product_service.application.dtos.ProductResponse;
-import com.turkcell.product_service.application.dtos.StockDto;
 import com.turkcell.product_service.application.dtos.UpdateProductRequest;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+import com.turkcell.product_service.application.ports.ProductReadCachePort;
 import com.turkcell.product_service.domain.entities.Product;
 import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.domain.valueobjects.Currency;
 import com.turkcell.product_service.domain.valueobjects.Price;
 import com.turkcell.product_service.domain.valueobjects.Stock;
 import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
+import com.turkcell.product_service.web.exceptions.ProductVersionMismatchException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -18,17 +20,36 @@ import org.springframework.stereotype.Service;
 @Service
 public class UpdateProductUseCase {
     private final ProductRepository productRepository;
+    private final ProductEventPublisherPort productEventPublisher;
+    private final ProductReadCachePort productReadCache;
 
-    public UpdateProductUseCase(ProductRepository productRepository) {
+    public UpdateProductUseCase(ProductRepository productRepository, ProductEventPublisherPort productEventPublisher,
+            ProductReadCachePort productReadCache) {
         this.productRepository = productRepository;
+        this.productEventPublisher = productEventPublisher;
+        this.productReadCache = productReadCache;
     }
 
     public ProductResponse execute(String id, UpdateProductRequest request) {
+        return execute(id, request, null);
+    }
+
+    /**
+     * @param expectedVersion If-Match ile beklenen sürüm - null ise sürüm kontrolü yapılmaz
+     *                        Her iki durumda da kayıt, yükleme anındaki sürüm veritabanında hâlâ geçerliyse yapılır;
+     *                        arada başka bir güncelleme olduysa OptimisticLockingFailureException fırlar
+     */
+    public ProductResponse execute(String id, UpdateProductRequest request, Long expectedVersion) {
         Product.ProductId productId = Product.ProductId.fromString(id);
 
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
 
+        if (expectedVersion != null && !product.hasVersion(expectedVersion)) {
+            throw new ProductVersionMismatchException("Ürün değişmiş: " + id + " (güncel sürüm " + product.getVersion()
+                    + ", beklenen " + expectedVersion + ")");
+        }
+
         // Ürün bilgilerini güncelle
         product.updateProduct(request.getName(), request.getDescription());
 
@@ -47,22 +68,10 @@ public class UpdateProductUseCase {
 
         // Repository'ye kaydet
         Product updatedProduct = productRepository.save(product);
+        productReadCache.evict(productId);
 
-        return toProductResponse(updatedProduct);
-    }
-
-    private ProductResponse toProductResponse(Product product) {
-        PriceDto priceDto = new PriceDto(
-                product.getPrice().getAmount(),
-                product.getPrice().getCurrency().getCode());
-
-        StockDto stockDto = new StockDto(product.getStock().getQuantity());
-
-        return new ProductResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getDescription(),
-                priceDto,
-                stockDto);
+        ProductResponse response = ProductResponse.from(updatedProduct);
+        productEventPublisher.publish(ProductChangedEvent.updated(response));
+        return response;
     }
 }
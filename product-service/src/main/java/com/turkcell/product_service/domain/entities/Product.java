@@ -15,14 +15,20 @@ public class Product {
     private String description;
     private Price price;
     private Stock stock;
+    /**
+     * Yüklendiği andaki kalıcı sürüm - henüz kaydedilmemiş ürün için null
+     * Kaydederken bu sürüm veritabanındakiyle eşleşmezse eşzamanlı değişiklik vardır ve kayıt reddedilir
+     */
+    private final Long version;
 
     // Private constructor - factory method kullanılacak
-    private Product(ProductId id, String name, String description, Price price, Stock stock) {
+    private Product(ProductId id, String name, String description, Price price, Stock stock, Long version) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.price = price;
         this.stock = stock;
+        this.version = version;
     }
 
     /**
@@ -32,16 +38,17 @@ public class Product {
         validateProductData(name, description, price, stock);
 
         ProductId productId = ProductId.generate();
-        return new Product(productId, name, description, price, stock);
+        return new Product(productId, name, description, price, stock, null);
     }
 
     /**
      * Mevcut ürünü yeniden oluşturur (repository'den yüklerken)
      */
-    public static Product reconstruct(ProductId id, String name, String description, Price price, Stock stock) {
+    public static Product reconstruct(ProductId id, String name, String description, Price price, Stock stock,
+            long version) {
         validateProductData(name, description, price, stock);
 
-        return new Product(id, name, description, price, stock);
+        return new Product(id, name, description, price, stock, version);
     }
 
     private static void validateProductData(String name, String description, Price price, Stock stock) {
@@ -80,6 +87,17 @@ public class Product {
         return stock;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Ürünün beklenen sürümde olup olmadığını kontrol eder (If-Match)
+     */
+    public boolean hasVersion(long expectedVersion) {
+        return version != null && version == expectedVersion;
+    }
+
     // Business methods
     /**
      * Ürün bilgilerini günceller
@@ -157,7 +175,8 @@ public class Product {
         if (percentage < 0) {
             throw new IllegalArgumentException("Yüzde negatif olamaz");
         }
-        this.price = this.price.increaseByPercentage(new java.math.BigDecimal(percentage));
+        // valueOf ondalık gösterimi kullanır (10.1 -> 10.1), new BigDecimal(double) ikili açılımı taşırdı (10.0999...)
+        this.price = this.price.increaseByPercentage(java.math.BigDecimal.valueOf(percentage));
     }
 
     /**
@@ -167,7 +186,7 @@ public class Product {
         if (percentage < 0) {
             throw new IllegalArgumentException("Yüzde negatif olamaz");
         }
-        this.price = this.price.decreaseByPercentage(new java.math.BigDecimal(percentage));
+        this.price = this.price.decreaseByPercentage(java.math.BigDecimal.valueOf(percentage));
     }
 
     @Override
@@ -193,6 +212,7 @@ public class Product {
                 ", description='" + description + '\'' +
                 ", price=" + price +
                 ", stock=" + stock +
+                ", version=" + version +
                 '}';
     }
 
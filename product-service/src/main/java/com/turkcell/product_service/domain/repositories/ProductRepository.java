@@ -1,6 +1,7 @@
 package com.turkcell.product_service.domain.repositories;
 
 import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Price;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,24 @@ public interface ProductRepository {
      */
     Product save(Product product);
 
+    /**
+     * Sipariş için düşülen stoğu kaydeder - ürün ve sipariş kaydı aynı transaction'da yazılır
+     * 
+     * @param product Stoğu düşülmüş ürün
+     * @param orderId Sipariş ID'si
+     * @return Kaydedilen ürün; sipariş daha önce işlendiyse boş (ürün değişmez)
+     */
+    Optional<Product> saveForOrder(Product product, String orderId);
+
+    /**
+     * Siparişin stoğunun daha önce düşülüp düşülmediğini kontrol eder
+     * 
+     * @param orderId   Sipariş ID'si
+     * @param productId Siparişteki ürün - kaydın tutulduğu yeri belirler
+     * @return Sipariş işlendiyse true
+     */
+    boolean isOrderProcessed(String orderId, Product.ProductId productId);
+
     /**
      * ID'ye göre ürün bulur
      * 
@@ -62,9 +81,20 @@ public interface ProductRepository {
      * @param minPrice Minimum fiyat
      * @param maxPrice Maksimum fiyat
      * @return Fiyat aralığındaki ürünler
+     * @deprecated para birimini yok sayar ve double'dan dönüştürür, {@link #findByPriceRange(Price, Price)} kullanın
      */
+    @Deprecated
     List<Product> findByPriceRange(double minPrice, double maxPrice);
 
+    /**
+     * Belirli para birimi ve fiyat aralığındaki ürünleri getirir (sınırlar dahil)
+     * 
+     * @param minPrice Minimum fiyat
+     * @param maxPrice Maksimum fiyat (minPrice ile aynı para biriminde)
+     * @return Fiyat aralığındaki ürünler
+     */
+    List<Product> findByPriceRange(Price minPrice, Price maxPrice);
+
     /**
      * Ürünü siler
      * 
@@ -72,6 +102,15 @@ public interface ProductRepository {
      */
     void deleteById(Product.ProductId id);
 
+    /**
+     * Ürünü yalnızca verilen sürümdeyse siler
+     * 
+     * @param id      Silinecek ürün ID'si
+     * @param version Beklenen sürüm
+     * @return Ürün silindiyse true, ürün yoksa veya sürümü farklıysa false
+     */
+    boolean deleteByIdAndVersion(Product.ProductId id, long version);
+
     /**
      * Ürünün var olup olmadığını kontrol eder
      * 
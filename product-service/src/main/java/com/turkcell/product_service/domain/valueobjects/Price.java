@@ -1,33 +1,78 @@
 package com.turkcell.product_service.domain.valueobjects;
 
 import java.math.BigDecimal;
-import java.util.Objects;
+import java.math.RoundingMode;
 
 /**
  * Price Value Object - DDD'de değer nesnesi
  * Fiyat bilgisini temsil eder ve değişmez (immutable) bir nesnedir
+ *
+ * Miktar, para biriminin alt birimi (kuruş, cent) cinsinden long olarak tutulur
+ * Karşılaştırma ve tam sayı aritmetiği nesne oluşturmaz, yüzde hesapları banker's rounding (HALF_EVEN) ile yuvarlanır
  */
-public final class Price {
-    private final BigDecimal amount;
+public final class Price implements Comparable<Price> {
+    /**
+     * Ondalık basamak sayısı - desteklenen tüm para birimleri 2 basamaklıdır (price_amount kolonu da scale = 2)
+     */
+    public static final int SCALE = 2;
+
+    private static final long MINOR_PER_MAJOR = 100;
+    private static final long BASIS_POINTS_PER_WHOLE = 10_000;
+
+    private final long minorUnits;
     private final Currency currency;
+    /**
+     * getAmount() görünümü - kolondan gelen scale = 2 değer aynen tutulur, hesaplanan fiyatlarda ilk istekte oluşturulur
+     */
+    private BigDecimal amount;
 
+    /**
+     * BigDecimal miktardan fiyat oluşturur - 2 basamaktan fazla hassasiyet HALF_EVEN ile yuvarlanır
+     */
     public Price(BigDecimal amount, Currency currency) {
-        if (amount == null) {
-            throw new IllegalArgumentException("Fiyat miktarı null olamaz");
+        this(toMinorUnits(amount), currency);
+        if (amount.scale() == SCALE) {
+            this.amount = amount;
         }
+    }
+
+    private Price(long minorUnits, Currency currency) {
         if (currency == null) {
             throw new IllegalArgumentException("Para birimi null olamaz");
         }
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+        if (minorUnits < 0) {
             throw new IllegalArgumentException("Fiyat negatif olamaz");
         }
 
-        this.amount = amount;
+        this.minorUnits = minorUnits;
         this.currency = currency;
     }
 
+    /**
+     * Alt birim cinsinden fiyat oluşturur (ör. 1249.90 TRY için 124990)
+     */
+    public static Price ofMinorUnits(long minorUnits, Currency currency) {
+        return new Price(minorUnits, currency);
+    }
+
+    /**
+     * Alt birim cinsinden miktar
+     */
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * Miktarı scale = 2 BigDecimal olarak döner (DTO'lar ve price_amount kolonu için)
+     */
     public BigDecimal getAmount() {
-        return amount;
+        BigDecimal result = amount;
+        if (result == null) {
+            // BigDecimal değişmez olduğu için yarışta iki kez oluşturulması zararsızdır
+            result = BigDecimal.valueOf(minorUnits, SCALE);
+            amount = result;
+        }
+        return result;
     }
 
     public Currency getCurrency() {
@@ -38,46 +83,137 @@ public final class Price {
      * İki fiyatı karşılaştırır (aynı para biriminde olmalı)
      */
     public boolean isGreaterThan(Price other) {
-        if (!this.currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Farklı para birimlerindeki fiyatlar karşılaştırılamaz");
-        }
-        return this.amount.compareTo(other.amount) > 0;
+        return compareTo(other) > 0;
     }
 
     /**
      * İki fiyatı karşılaştırır (aynı para biriminde olmalı)
      */
     public boolean isLessThan(Price other) {
-        if (!this.currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Farklı para birimlerindeki fiyatlar karşılaştırılamaz");
-        }
-        return this.amount.compareTo(other.amount) < 0;
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Aynı para birimindeki fiyatları karşılaştırır
+     */
+    @Override
+    public int compareTo(Price other) {
+        requireSameCurrency(other);
+        return Long.compare(this.minorUnits, other.minorUnits);
     }
 
     /**
      * Fiyatı belirli bir yüzde ile artırır
      */
     public Price increaseByPercentage(BigDecimal percentage) {
-        if (percentage == null || percentage.compareTo(BigDecimal.ZERO) < 0) {
+        if (percentage == null || percentage.signum() < 0) {
             throw new IllegalArgumentException("Yüzde pozitif olmalıdır");
         }
-
-        BigDecimal multiplier = BigDecimal.ONE.add(percentage.divide(new BigDecimal("100")));
-        BigDecimal newAmount = this.amount.multiply(multiplier);
-        return new Price(newAmount, this.currency);
+        return scaleByPercentage(percentage);
     }
 
     /**
      * Fiyatı belirli bir yüzde ile azaltır
      */
     public Price decreaseByPercentage(BigDecimal percentage) {
-        if (percentage == null || percentage.compareTo(BigDecimal.ZERO) < 0) {
+        if (percentage == null || percentage.signum() < 0) {
+            throw new IllegalArgumentException("Yüzde pozitif olmalıdır");
+        }
+        return scaleByPercentage(percentage.negate());
+    }
+
+    /**
+     * Fiyatı baz puan (1 bp = %0.01) kadar artırır - tamamen long aritmetiği
+     */
+    public Price increaseByBasisPoints(long basisPoints) {
+        if (basisPoints < 0) {
+            throw new IllegalArgumentException("Yüzde pozitif olmalıdır");
+        }
+        return scaleByBasisPoints(basisPoints);
+    }
+
+    /**
+     * Fiyatı baz puan (1 bp = %0.01) kadar azaltır - tamamen long aritmetiği
+     */
+    public Price decreaseByBasisPoints(long basisPoints) {
+        if (basisPoints < 0) {
             throw new IllegalArgumentException("Yüzde pozitif olmalıdır");
         }
+        return scaleByBasisPoints(-basisPoints);
+    }
+
+    /**
+     * Aynı para birimindeki iki fiyatı toplar
+     */
+    public Price add(Price other) {
+        requireSameCurrency(other);
+        return new Price(Math.addExact(this.minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Birim fiyatı adet ile çarpar
+     */
+    public Price multiply(long quantity) {
+        return new Price(Math.multiplyExact(this.minorUnits, quantity), currency);
+    }
+
+    /**
+     * En fazla 2 ondalıklı yüzdeler (ör. 12.5) baz puana çevrilip long ile hesaplanır,
+     * daha hassas yüzdeler tek bir BigDecimal işlemiyle hesaplanıp HALF_EVEN ile yuvarlanır
+     */
+    private Price scaleByPercentage(BigDecimal signedPercentage) {
+        if (signedPercentage.scale() <= 2 && signedPercentage.precision() - signedPercentage.scale() <= 16) {
+            return scaleByBasisPoints(signedPercentage.movePointRight(2).longValueExact());
+        }
+        BigDecimal factor = BigDecimal.valueOf(100).add(signedPercentage);
+        return new Price(BigDecimal.valueOf(minorUnits)
+                .multiply(factor)
+                .divide(BigDecimal.valueOf(100), 0, RoundingMode.HALF_EVEN)
+                .longValueExact(), currency);
+    }
+
+    private Price scaleByBasisPoints(long signedBasisPoints) {
+        long numerator = Math.multiplyExact(minorUnits, Math.addExact(BASIS_POINTS_PER_WHOLE, signedBasisPoints));
+        return new Price(divideHalfEven(numerator, BASIS_POINTS_PER_WHOLE), currency);
+    }
+
+    /**
+     * Pozitif bölen ile banker's rounding (HALF_EVEN) tam sayı bölmesi
+     */
+    static long divideHalfEven(long dividend, long divisor) {
+        long quotient = Math.floorDiv(dividend, divisor);
+        long remainder = Math.floorMod(dividend, divisor);
+        long twice = remainder * 2;
+        if (twice > divisor || (twice == divisor && (quotient & 1) != 0)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Fiyat miktarı null olamaz");
+        }
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Fiyat negatif olamaz");
+        }
+        // price_amount kolonundan gelen değerler zaten scale = 2'dir: n / 100 için doubleValue() nesne oluşturmaz ve
+        // n < 2^50 iken (en fazla 15 basamak) d * 100'ün hatası 0.5'in çok altında kalır, yuvarlama tam sonucu verir
+        if (amount.scale() == SCALE && amount.precision() <= 15) {
+            return Math.round(amount.doubleValue() * MINOR_PER_MAJOR);
+        }
+        BigDecimal scaled = amount.scale() == SCALE ? amount : amount.setScale(SCALE, RoundingMode.HALF_EVEN);
+        try {
+            return scaled.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Fiyat miktarı çok büyük: " + amount);
+        }
+    }
 
-        BigDecimal multiplier = BigDecimal.ONE.subtract(percentage.divide(new BigDecimal("100")));
-        BigDecimal newAmount = this.amount.multiply(multiplier);
-        return new Price(newAmount, this.currency);
+    private void requireSameCurrency(Price other) {
+        if (!this.currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Farklı para birimlerindeki fiyatlar karşılaştırılamaz");
+        }
     }
 
     @Override
@@ -87,16 +223,16 @@ public final class Price {
         if (o == null || getClass() != o.getClass())
             return false;
         Price price = (Price) o;
-        return Objects.equals(amount, price.amount) && Objects.equals(currency, price.currency);
+        return minorUnits == price.minorUnits && currency.equals(price.currency);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount, currency);
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
     }
 
     @Override
     public String toString() {
-        return amount + " " + currency.getCode();
+        return getAmount() + " " + currency.getCode();
     }
 }
@@ -0,0 +1,128 @@
+package com.turkcell.product_service.infrastructure.concurrency;
+
+import com.turkcell.product_service.infrastructure.routing.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Virtual Thread Configuration
+ * Web istekleri spring.threads.virtual.enabled ile virtual thread'de çalışır (Tomcat executor'u Boot ayarlar)
+ * Bu sınıf geri kalan parçaları ekler: Kafka consumer thread'leri, havuz boyutuna göre DB semaphore'u
+ * ve carrier thread pinning izleme
+ */
+@Configuration
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfig {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * DataSource'u semaphore ile sarar - BeanPostProcessor olduğu için properties Binder ile okunur
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                VirtualThreadProperties properties = Binder.get(environment)
+                        .bindOrCreate("product.virtual-threads", VirtualThreadProperties.class);
+                int permits = properties.getDbPermits() > 0 ? properties.getDbPermits() : poolSize(dataSource);
+                if (permits <= 0) {
+                    return bean;
+                }
+                log.info("DataSource '{}' {} eşzamanlı bağlantı ile sınırlandı", beanName, permits);
+                return new ConcurrencyLimitingDataSource(dataSource, permits, properties.getDbAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitingDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitingDataSource limiter) {
+                bindLimiterMetrics(limiter, registry);
+            }
+        };
+    }
+
+    /**
+     * Spring Cloud Stream Kafka binder kendi listener container'larını oluşturur -
+     * Boot'un virtual thread ayarı bunlara uygulanmadığı için consumer executor'u burada verilir
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ListenerContainerCustomizer<AbstractMessageListenerContainer<?, ?>> virtualThreadListenerContainerCustomizer() {
+        return (container, destination, group) -> {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(destination + "-consumer-");
+            executor.setVirtualThreads(true);
+            container.getContainerProperties().setListenerTaskExecutor(executor);
+        };
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningEndpoint virtualThreadPinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        return new VirtualThreadPinningEndpoint(monitor);
+    }
+
+    /**
+     * DataSource başka bir sarmalayıcının (ör. ObservedDataSource) içindeyse Hikari unwrap ile bulunur
+     * Read replica'lar açıksa okumalar da sınırdan geçtiği için primary + replica havuzlarının toplamı kullanılır
+     */
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)) {
+                return dataSource.unwrap(ReadWriteRoutingDataSource.class).getTotalPoolSize();
+            }
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                    : 0;
+        } catch (SQLException ex) {
+            return 0;
+        }
+    }
+
+    private static void bindLimiterMetrics(ConcurrencyLimitingDataSource limiter, MeterRegistry registry) {
+        Gauge.builder("product.db.limiter.permits", limiter, ConcurrencyLimitingDataSource::getMaxPermits)
+                .register(registry);
+        Gauge.builder("product.db.limiter.active", limiter, ConcurrencyLimitingDataSource::getActive)
+                .register(registry);
+        Gauge.builder("product.db.limiter.queued", limiter, ConcurrencyLimitingDataSource::getQueued)
+                .register(registry);
+        FunctionCounter.builder("product.db.limiter.acquired", limiter, ConcurrencyLimitingDataSource::getAcquired)
+                .register(registry);
+        FunctionCounter.builder("product.db.limiter.rejected", limiter, ConcurrencyLimitingDataSource::getRejected)
+                .register(registry);
+        FunctionCounter.builder("product.db.limiter.wait", limiter, ConcurrencyLimitingDataSource::getTotalWaitSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.turkcell.product_service.infrastructure.concurrency;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Virtual Thread Pinning Endpoint
+ * GET /actuator/vtpinning - kaynağa göre gruplanmış pinning raporu
+ * DELETE /actuator/vtpinning - raporu sıfırlar (Micrometer sayaçları etkilenmez)
+ */
+@Endpoint(id = "vtpinning")
+public class VirtualThreadPinningEndpoint {
+    private final VirtualThreadPinningMonitor monitor;
+
+    public VirtualThreadPinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public VirtualThreadPinningMonitor.PinningReport pinning() {
+        return monitor.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        monitor.reset();
+    }
+}
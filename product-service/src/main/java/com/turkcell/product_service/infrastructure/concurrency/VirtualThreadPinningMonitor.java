@@ -0,0 +1,172 @@
+package com.turkcell.product_service.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Virtual Thread Pinning Monitor
+ * JFR jdk.VirtualThreadPinned olaylarını uygulama içinden stream eder
+ * Pinning'i (synchronized blok içinde ya da native frame üzerinde bloklanma) kaynak koda göre gruplar,
+ * Micrometer metrikleri ve vtpinning actuator endpoint'i için rapor üretir
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int SAMPLE_STACK_DEPTH = 12;
+    private static final String CONTINUATION_TYPE = "jdk.internal.vm.Continuation";
+
+    private final Duration threshold;
+    private final int maxSites;
+    private final ConcurrentMap<String, PinningSite> sites = new ConcurrentHashMap<>();
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.threshold = properties.getPinningThreshold();
+        this.maxSites = properties.getMaxPinningSites();
+        this.pinnedCounter = Counter.builder("product.virtualthread.pinned")
+                .description("Eşiği aşan carrier thread pinning sayısı")
+                .register(meterRegistry);
+        this.pinnedTimer = Timer.builder("product.virtualthread.pinned.duration")
+                .description("Pinning süresi")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning izleniyor (eşik {}ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public PinningReport report() {
+        List<PinningSiteReport> siteReports = sites.values().stream()
+                .map(PinningSite::toReport)
+                .sorted(Comparator.comparingLong(PinningSiteReport::count).reversed())
+                .toList();
+        long total = siteReports.stream().mapToLong(PinningSiteReport::count).sum();
+        double totalMillis = siteReports.stream().mapToDouble(PinningSiteReport::totalMillis).sum();
+        return new PinningReport(threshold.toMillis(), total, totalMillis, siteReports);
+    }
+
+    public void reset() {
+        sites.clear();
+    }
+
+    void record(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedCounter.increment();
+        pinnedTimer.record(duration);
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = applicationFrame(frames);
+        PinningSite target = sites.get(site);
+        if (target == null) {
+            // Sınırsız farklı stack bellek sızıntısına dönüşmesin
+            String key = sites.size() >= maxSites ? "other" : site;
+            target = sites.computeIfAbsent(key, k -> new PinningSite(k, nativeFrame(frames), sampleStack(frames)));
+        }
+        target.record(duration);
+    }
+
+    /**
+     * JDK/kütüphane dışı ilk frame - pinning'e neden olan uygulama kodu
+     */
+    private static String applicationFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("com.turkcell.")) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    /**
+     * Her virtual thread stack'inin dibinde native Continuation.enterSpecial bulunur - pinning nedeni sayılmaz
+     */
+    private static boolean nativeFrame(List<RecordedFrame> frames) {
+        return frames.stream().anyMatch(frame -> "Native".equals(frame.getType())
+                && !CONTINUATION_TYPE.equals(frame.getMethod().getType().getName()));
+    }
+
+    private static List<String> sampleStack(List<RecordedFrame> frames) {
+        return frames.stream().limit(SAMPLE_STACK_DEPTH).map(VirtualThreadPinningMonitor::describe).toList();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static class PinningSite {
+        private final String site;
+        private final boolean nativeFrame;
+        private final List<String> sampleStack;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile Instant lastSeen;
+
+        PinningSite(String site, boolean nativeFrame, List<String> sampleStack) {
+            this.site = site;
+            this.nativeFrame = nativeFrame;
+            this.sampleStack = sampleStack;
+        }
+
+        void record(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastSeen = Instant.now();
+        }
+
+        PinningSiteReport toReport() {
+            return new PinningSiteReport(site, nativeFrame ? "native-frame" : "monitor", count.sum(),
+                    totalNanos.sum() / 1_000_000.0, maxNanos.get() / 1_000_000.0, lastSeen, sampleStack);
+        }
+    }
+
+    public record PinningReport(long thresholdMillis, long total, double totalMillis, List<PinningSiteReport> sites) {
+    }
+
+    public record PinningSiteReport(String site, String reason, long count, double totalMillis, double maxMillis,
+            Instant lastSeen, List<String> sampleStack) {
+    }
+}
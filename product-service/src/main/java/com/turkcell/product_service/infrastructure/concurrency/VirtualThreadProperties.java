@@ -0,0 +1,64 @@
+package com.turkcell.product_service.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Virtual Thread Properties
+ * Virtual thread modunda DB eşzamanlılık sınırı ve pinning izleme ayarları
+ */
+@ConfigurationProperties(prefix = "product.virtual-threads")
+public class VirtualThreadProperties {
+    /**
+     * Aynı anda DB bağlantısı tutabilecek istek sayısı - 0 ise Hikari maximum-pool-size kullanılır
+     */
+    private int dbPermits = 0;
+
+    /**
+     * Permit için en fazla bekleme süresi - aşılırsa istek SQLTransientConnectionException ile düşer
+     */
+    private Duration dbAcquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Bu süreden uzun carrier thread pinning'leri kaydedilir (JFR jdk.VirtualThreadPinned eşiği)
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+
+    /**
+     * Pinning endpoint'inde tutulacak maksimum farklı kaynak (stack) sayısı
+     */
+    private int maxPinningSites = 100;
+
+    public int getDbPermits() {
+        return dbPermits;
+    }
+
+    public void setDbPermits(int dbPermits) {
+        this.dbPermits = dbPermits;
+    }
+
+    public Duration getDbAcquireTimeout() {
+        return dbAcquireTimeout;
+    }
+
+    public void setDbAcquireTimeout(Duration dbAcquireTimeout) {
+        this.dbAcquireTimeout = dbAcquireTimeout;
+    }
+
+    public Duration getPinningThreshold() {
+        return pinningThreshold;
+    }
+
+    public void setPinningThreshold(Duration pinningThreshold) {
+        this.pinningThreshold = pinningThreshold;
+    }
+
+    public int getMaxPinningSites() {
+        return maxPinningSites;
+    }
+
+    public void setMaxPinningSites(int maxPinningSites) {
+        this.maxPinningSites = maxPinningSites;
+    }
+}
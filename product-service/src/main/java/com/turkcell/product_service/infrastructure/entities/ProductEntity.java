@@ -1,11 +1,15 @@
 package com.turkcell.product_service.infrastructure.entities;
 
 import jakarta.persistence.*;
+
 import java.math.BigDecimal;
 
 /**
  * Product JPA Entity
  * Infrastructure katmanında veritabanı için kullanılır
+ *
+ * Şema ve index'ler src/main/resources/db/migration altındaki Flyway migration'larıyla kurulur,
+ * Hibernate yalnızca doğrular (ddl-auto: validate)
  */
 @Entity
 @Table(name = "products")
@@ -17,6 +21,10 @@ public class ProductEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    /**
+     * Liste/okuma senaryolarında gerekmez - ilk erişimde ayrı bir SELECT ile yüklenir (bytecode enhancement gerekir)
+     */
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "description", nullable = false, length = 1000)
     private String description;
 
@@ -29,17 +37,31 @@ public class ProductEntity {
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity;
 
+    /**
+     * Optimistic locking sürümü - her UPDATE'te artar, ETag'ler bundan üretilir
+     * null ise entity yenidir (save persist eder), değilse merge UPDATE ... WHERE version = ? çalıştırır
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public ProductEntity() {
     }
 
     public ProductEntity(String id, String name, String description, BigDecimal priceAmount, String priceCurrency,
             Integer stockQuantity) {
+        this(id, name, description, priceAmount, priceCurrency, stockQuantity, null);
+    }
+
+    public ProductEntity(String id, String name, String description, BigDecimal priceAmount, String priceCurrency,
+            Integer stockQuantity, Long version) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.priceAmount = priceAmount;
         this.priceCurrency = priceCurrency;
         this.stockQuantity = stockQuantity;
+        this.version = version;
     }
 
     public String getId() {
@@ -89,4 +111,12 @@ public class ProductEntity {
     public void setStockQuantity(Integer stockQuantity) {
         this.stockQuantity = stockQuantity;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,95 @@
+package com.turkcell.product_service.infrastructure.imports;
+
+import com.turkcell.product_service.domain.entities.Product;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * JDBC Batch Staging Writer
+ * COPY'si olmayan veritabanları (H2) için: tek bir PreparedStatement'a batchSize satır eklenip birlikte gönderilir
+ */
+class BatchStagingWriter implements StagingWriter {
+    private static final SQLExceptionTranslator TRANSLATOR = new SQLStateSQLExceptionTranslator();
+    private static final String SQL = "INSERT INTO product_import_staging (" + INSERT_COLUMNS
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final String importId;
+    private final int batchSize;
+    private int pending;
+    private long written;
+
+    BatchStagingWriter(DataSource dataSource, String importId, int batchSize) {
+        this.dataSource = dataSource;
+        this.importId = importId;
+        this.batchSize = batchSize;
+        this.connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            this.statement = connection.prepareStatement(SQL);
+        } catch (SQLException ex) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw TRANSLATOR.translate("Ara tablo yazılamadı", SQL, ex);
+        }
+    }
+
+    @Override
+    public void write(long lineNumber, Product product) {
+        try {
+            statement.setString(1, importId);
+            statement.setLong(2, lineNumber);
+            statement.setString(3, product.getId().toString());
+            statement.setString(4, product.getName());
+            statement.setString(5, product.getDescription());
+            statement.setBigDecimal(6, product.getPrice().getAmount());
+            statement.setString(7, product.getPrice().getCurrency().getCode());
+            statement.setInt(8, product.getStock().getQuantity());
+            statement.addBatch();
+        } catch (SQLException ex) {
+            throw TRANSLATOR.translate("Ara tablo yazılamadı", SQL, ex);
+        }
+        if (++pending == batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public long finish() {
+        flush();
+        return written;
+    }
+
+    @Override
+    public void close() {
+        try {
+            statement.close();
+        } catch (SQLException ex) {
+            // Bağlantı havuza geri verilirken doğrulanır
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void flush() {
+        if (pending == 0) {
+            return;
+        }
+        try {
+            statement.executeBatch();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException ex) {
+            throw TRANSLATOR.translate("Ara tablo yazılamadı", SQL, ex);
+        }
+        written += pending;
+        pending = 0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.turkcell.product_service.infrastructure.imports;
+
+import com.turkcell.product_service.domain.entities.Product;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL COPY Staging Writer
+ * Satırlar tek bir COPY ... FROM STDIN (CSV) akışıyla yazılır: satır başına statement, parametre bağlama ve
+ * sunucu dönüşü yoktur; tampon 64 KB dolunca sunucuya gönderilir
+ * COPY kendi transaction'ında çalışır - endCopy'ye kadar satırlar görünmez, close() yarıda kalan akışı iptal eder
+ */
+class CopyStagingWriter implements StagingWriter {
+    private static final int FLUSH_BYTES = 64 * 1024;
+    private static final SQLExceptionTranslator TRANSLATOR = new SQLStateSQLExceptionTranslator();
+
+    private final DataSource dataSource;
+    private final Connection connection;
+    private final CopyIn copyIn;
+    private final String importId;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 4096);
+
+    CopyStagingWriter(DataSource dataSource, String importId) {
+        this.dataSource = dataSource;
+        this.importId = importId;
+        this.connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY product_import_staging (" + INSERT_COLUMNS + ") FROM STDIN WITH (FORMAT csv)");
+        } catch (SQLException ex) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw TRANSLATOR.translate("COPY başlatılamadı", null, ex);
+        }
+    }
+
+    @Override
+    public void write(long lineNumber, Product product) {
+        buffer.append(importId).append(',')
+                .append(lineNumber).append(',')
+                .append(product.getId()).append(',');
+        quote(product.getName());
+        buffer.append(',');
+        quote(product.getDescription());
+        buffer.append(',')
+                .append(product.getPrice().getAmount().toPlainString()).append(',')
+                .append(product.getPrice().getCurrency().getCode()).append(',')
+                .append(product.getStock().getQuantity()).append('\n');
+        if (buffer.length() >= FLUSH_BYTES) {
+            flush();
+        }
+    }
+
+    @Override
+    public long finish() {
+        flush();
+        try {
+            return copyIn.endCopy();
+        } catch (SQLException ex) {
+            throw TRANSLATOR.translate("COPY tamamlanamadı", null, ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } catch (SQLException ex) {
+            // Bağlantı zaten kopmuş olabilir - havuza geri verilirken doğrulanır
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        buffer.setLength(0);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        } catch (SQLException ex) {
+            throw TRANSLATOR.translate("COPY", null, ex);
+        }
+    }
+
+    private void quote(String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+}
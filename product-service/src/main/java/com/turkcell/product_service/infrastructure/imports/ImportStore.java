@@ -0,0 +1,135 @@
+package com.turkcell.product_service.infrastructure.imports;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.ports.ProductImportPort.MergeResult;
+import com.turkcell.product_service.application.ports.ProductImportPort.MergedBatch;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Import Store
+ * Tek bir veritabanındaki ara tablo ve ürünlere küme tabanlı yazım
+ *
+ * Merge tek transaction'dır: önce ara tablodaki satırların hangilerinin zaten ürün olduğu işaretlenir (olay tipi ve
+ * sayaçlar için), ardından her ID'nin en son satırı tek statement'la ürünlere yazılır -
+ * PostgreSQL'de INSERT ... ON CONFLICT, diğerlerinde (H2) standart MERGE; mevcut ürünlerin sürümü bir artar
+ */
+class ImportStore {
+    /**
+     * Her ID'nin dosyadaki en son satırı
+     */
+    private static final String LATEST = "SELECT id, name, description, price_amount, price_currency, stock_quantity "
+            + "FROM (SELECT s.id, s.name, s.description, s.price_amount, s.price_currency, s.stock_quantity, "
+            + "ROW_NUMBER() OVER (PARTITION BY s.id ORDER BY s.line_number DESC) AS rn "
+            + "FROM product_import_staging s WHERE s.import_id = ?) latest WHERE rn = 1";
+
+    private static final String UPSERT = "INSERT INTO products (id, name, description, price_amount, price_currency, "
+            + "stock_quantity, version) SELECT id, name, description, price_amount, price_currency, stock_quantity, 0 "
+            + "FROM (" + LATEST + ") l "
+            + "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, "
+            + "price_amount = EXCLUDED.price_amount, price_currency = EXCLUDED.price_currency, "
+            + "stock_quantity = EXCLUDED.stock_quantity, version = products.version + 1";
+
+    private static final String MERGE = "MERGE INTO products p USING (" + LATEST + ") l ON p.id = l.id "
+            + "WHEN MATCHED THEN UPDATE SET name = l.name, description = l.description, "
+            + "price_amount = l.price_amount, price_currency = l.price_currency, stock_quantity = l.stock_quantity, "
+            + "version = p.version + 1 "
+            + "WHEN NOT MATCHED THEN INSERT (id, name, description, price_amount, price_currency, stock_quantity, "
+            + "version) VALUES (l.id, l.name, l.description, l.price_amount, l.price_currency, l.stock_quantity, 0)";
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcProductQueryAdapter products;
+    private final int batchSize;
+    private volatile Boolean copySupported;
+
+    ImportStore(String name, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, int batchSize) {
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.products = new JdbcProductQueryAdapter(jdbcTemplate);
+        this.batchSize = batchSize;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    /**
+     * PostgreSQL'de COPY, diğerlerinde JDBC batch
+     */
+    StagingWriter openWriter(String importId) {
+        return copySupported()
+                ? new CopyStagingWriter(jdbcTemplate.getDataSource(), importId)
+                : new BatchStagingWriter(jdbcTemplate.getDataSource(), importId, batchSize);
+    }
+
+    MergeResult merge(String importId) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.update("UPDATE product_import_staging SET existed = TRUE WHERE import_id = ? "
+                    + "AND EXISTS (SELECT 1 FROM products p WHERE p.id = product_import_staging.id)", importId);
+            long[] counts = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id), "
+                    + "COUNT(DISTINCT CASE WHEN existed THEN id END) FROM product_import_staging WHERE import_id = ?",
+                    (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) }, importId);
+            jdbcTemplate.update(copySupported() ? UPSERT : MERGE, importId);
+            return new MergeResult(counts[0] - counts[1], counts[1]);
+        });
+    }
+
+    /**
+     * Yazılan ürünleri ara tablodaki ID sırasıyla batchSize'lık gruplar hâlinde bu veritabanından okur
+     */
+    void forEachMerged(String importId, int batchSize, Consumer<MergedBatch> consumer) {
+        String cursor = "";
+        while (true) {
+            Set<String> existed = new HashSet<>();
+            List<String> ids = jdbcTemplate.query("SELECT DISTINCT id, existed FROM product_import_staging "
+                    + "WHERE import_id = ? AND id > ? ORDER BY id LIMIT ?", (rs, rowNum) -> {
+                        String id = rs.getString(1);
+                        if (rs.getBoolean(2)) {
+                            existed.add(id);
+                        }
+                        return id;
+                    }, importId, cursor, batchSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            List<ProductResponse> created = new ArrayList<>();
+            List<ProductResponse> updated = new ArrayList<>();
+            for (ProductResponse product : products.findByIds(ids)) {
+                (existed.contains(product.getId()) ? updated : created).add(product);
+            }
+            consumer.accept(new MergedBatch(created, updated));
+            cursor = ids.get(ids.size() - 1);
+        }
+    }
+
+    void clear(String importId) {
+        jdbcTemplate.update("DELETE FROM product_import_staging WHERE import_id = ?", importId);
+    }
+
+    private boolean copySupported() {
+        Boolean supported = copySupported;
+        if (supported == null) {
+            supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection
+                    .isWrapperFor(PGConnection.class));
+            copySupported = supported;
+        }
+        return supported;
+    }
+}
@@ -0,0 +1,204 @@
+package com.turkcell.product_service.infrastructure.imports;
+
+import com.turkcell.product_service.application.dtos.ProductImportReport;
+import com.turkcell.product_service.application.ports.ProductImportPort;
+import com.turkcell.product_service.domain.entities.Product;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * JDBC Product Import Adapter
+ * Tek veritabanında bir ImportStore; sharding açıkken her shard için bir tane - her satır sahibi olan shard'ın
+ * ara tablosuna yazılır, merge her shard'da kendi transaction'ında çalışır
+ * Rapor ve reddedilen satırlar ilk store'un veritabanında tutulur; reddedilenler batch'ler hâlinde yazılır
+ */
+public class JdbcProductImportAdapter implements ProductImportPort {
+    private static final Logger log = LoggerFactory.getLogger(JdbcProductImportAdapter.class);
+
+    private static final int MAX_REASON_LENGTH = 1000;
+    private static final int MAX_RAW_LINE_LENGTH = 4000;
+    private static final String SELECT_IMPORT = "SELECT id, status, rows_read, accepted_count, rejected_count, "
+            + "inserted_count, updated_count, error, created_at, finished_at FROM product_imports";
+
+    private static final RowMapper<ProductImportReport> REPORT_MAPPER = (ResultSet rs, int rowNum) ->
+            new ProductImportReport(
+                    rs.getString("id"),
+                    ProductImportReport.Status.valueOf(rs.getString("status")),
+                    rs.getLong("rows_read"),
+                    rs.getLong("accepted_count"),
+                    rs.getLong("rejected_count"),
+                    rs.getLong("inserted_count"),
+                    rs.getLong("updated_count"),
+                    rs.getString("error"),
+                    rs.getLong("created_at"),
+                    rs.getObject("finished_at", Long.class));
+
+    private final List<ImportStore> stores;
+    private final Function<String, String> owner;
+    private final JdbcTemplate reports;
+    private final int batchSize;
+    private final String unavailableReason;
+
+    /**
+     * @param owner             Ürün ID'sinden sahibi olan store'un adı
+     * @param unavailableReason null değilse içe aktarım başlatılamaz (ör. resharding sürüyor)
+     */
+    JdbcProductImportAdapter(List<ImportStore> stores, Function<String, String> owner, int batchSize,
+            String unavailableReason) {
+        if (stores.isEmpty()) {
+            throw new IllegalArgumentException("En az bir veritabanı gerekli");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize pozitif olmalı: " + batchSize);
+        }
+        this.stores = List.copyOf(stores);
+        this.owner = owner;
+        this.reports = stores.get(0).getJdbcTemplate();
+        this.batchSize = batchSize;
+        this.unavailableReason = unavailableReason;
+    }
+
+    @Override
+    public ProductImportReport start(String importId) {
+        reports.update("INSERT INTO product_imports (id, status, created_at) VALUES (?, ?, ?)", importId,
+                ProductImportReport.Status.RUNNING.name(), System.currentTimeMillis());
+        return find(importId).orElseThrow();
+    }
+
+    @Override
+    public Optional<ProductImportReport> find(String importId) {
+        return reports.query(SELECT_IMPORT + " WHERE id = ?", REPORT_MAPPER, importId).stream().findFirst();
+    }
+
+    @Override
+    public ImportSession open(String importId) {
+        if (unavailableReason != null) {
+            throw new IllegalStateException(unavailableReason);
+        }
+        return new JdbcImportSession(importId);
+    }
+
+    @Override
+    public ProductImportReport complete(String importId, ImportCounts counts) {
+        finish(importId, ProductImportReport.Status.COMPLETED, counts, null);
+        return find(importId).orElseThrow();
+    }
+
+    @Override
+    public void fail(String importId, ImportCounts counts, String error) {
+        finish(importId, ProductImportReport.Status.FAILED, counts, truncate(error, MAX_REASON_LENGTH));
+    }
+
+    @Override
+    public void forEachError(String importId, Consumer<ImportError> consumer) {
+        reports.query("SELECT line_number, reason, raw_line FROM product_import_errors WHERE import_id = ? "
+                + "ORDER BY line_number", rs -> {
+                    consumer.accept(new ImportError(rs.getLong(1), rs.getString(2), rs.getString(3)));
+                }, importId);
+    }
+
+    private void finish(String importId, ProductImportReport.Status status, ImportCounts counts, String error) {
+        reports.update("UPDATE product_imports SET status = ?, rows_read = ?, accepted_count = ?, rejected_count = ?, "
+                + "inserted_count = ?, updated_count = ?, error = ?, finished_at = ? WHERE id = ?", status.name(),
+                counts.rowsRead(), counts.acceptedCount(), counts.rejectedCount(), counts.insertedCount(),
+                counts.updatedCount(), error, System.currentTimeMillis(), importId);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    /**
+     * Store başına bir StagingWriter - ilk satır geldiğinde açılır
+     */
+    private class JdbcImportSession implements ImportSession {
+        private final String importId;
+        private final Map<String, StagingWriter> writers = new LinkedHashMap<>();
+        private final List<Object[]> errors = new ArrayList<>();
+
+        JdbcImportSession(String importId) {
+            this.importId = importId;
+        }
+
+        @Override
+        public void stage(long lineNumber, Product product) {
+            String name = owner.apply(product.getId().toString());
+            StagingWriter writer = writers.get(name);
+            if (writer == null) {
+                writer = store(name).openWriter(importId);
+                writers.put(name, writer);
+            }
+            writer.write(lineNumber, product);
+        }
+
+        @Override
+        public void reject(long lineNumber, String reason, String rawLine) {
+            errors.add(new Object[] { importId, lineNumber, truncate(reason, MAX_REASON_LENGTH),
+                    truncate(rawLine, MAX_RAW_LINE_LENGTH) });
+            if (errors.size() == batchSize) {
+                flushErrors();
+            }
+        }
+
+        @Override
+        public MergeResult merge() {
+            flushErrors();
+            long inserted = 0;
+            long updated = 0;
+            for (Map.Entry<String, StagingWriter> entry : writers.entrySet()) {
+                entry.getValue().finish();
+                MergeResult result = store(entry.getKey()).merge(importId);
+                inserted += result.insertedCount();
+                updated += result.updatedCount();
+            }
+            return new MergeResult(inserted, updated);
+        }
+
+        @Override
+        public void forEachMerged(int batchSize, Consumer<MergedBatch> consumer) {
+            for (String name : writers.keySet()) {
+                store(name).forEachMerged(importId, batchSize, consumer);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (Map.Entry<String, StagingWriter> entry : writers.entrySet()) {
+                try {
+                    entry.getValue().close();
+                    store(entry.getKey()).clear(importId);
+                } catch (RuntimeException ex) {
+                    log.warn("İçe aktarım {} ara tablosu temizlenemedi ({})", importId, entry.getKey(), ex);
+                }
+            }
+        }
+
+        private void flushErrors() {
+            if (!errors.isEmpty()) {
+                reports.batchUpdate("INSERT INTO product_import_errors (import_id, line_number, reason, raw_line) "
+                        + "VALUES (?, ?, ?, ?)", errors);
+                errors.clear();
+            }
+        }
+
+        private ImportStore store(String name) {
+            for (ImportStore store : stores) {
+                if (store.getName().equals(name)) {
+                    return store;
+                }
+            }
+            throw new IllegalStateException("Bilinmeyen veritabanı: " + name);
+        }
+    }
+}
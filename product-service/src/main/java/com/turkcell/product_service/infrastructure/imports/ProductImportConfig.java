@@ -0,0 +1,43 @@
+package com.turkcell.product_service.infrastructure.imports;
+
+import com.turkcell.product_service.infrastructure.sharding.ProductShards;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * Product Import Configuration
+ * İçe aktarım ürünlerin bulunduğu veritabanlarına yazar: sharding kapalıyken spring.datasource, açıkken
+ * her satır sahibi olan shard'a
+ * Resharding sürerken içe aktarım başlatılmaz - hedef shard'a yazılan ürünün eski kopyası taşınırken yenisinin
+ * üzerine yazılabilir
+ */
+@Configuration
+public class ProductImportConfig {
+    /**
+     * JDBC batch boyutu ve reddedilen satırların yazım grubu
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    @Bean
+    public JdbcProductImportAdapter productImportAdapter(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ObjectProvider<ProductShards> productShards) {
+        ProductShards shards = productShards.getIfAvailable();
+        if (shards == null) {
+            return new JdbcProductImportAdapter(
+                    List.of(new ImportStore("default", jdbcTemplate, transactionManager, BATCH_SIZE)),
+                    id -> "default", BATCH_SIZE, null);
+        }
+        List<ImportStore> stores = shards.all().stream()
+                .map(shard -> new ImportStore(shard.name(), shard.jdbcTemplate(),
+                        new DataSourceTransactionManager(shard.dataSource()), BATCH_SIZE))
+                .toList();
+        return new JdbcProductImportAdapter(stores, id -> shards.owner(id).name(), BATCH_SIZE,
+                shards.isResharding() ? "Resharding sürerken katalog içe aktarılamaz" : null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.turkcell.product_service.infrastructure.imports;
+
+import com.turkcell.product_service.domain.entities.Product;
+
+/**
+ * Staging Writer
+ * Doğrulanmış satırları product_import_staging tablosuna akıtır - bir içe aktarım ve bir veritabanı için
+ * Satırlar tampon dolduğunda gönderilir, finish() kalanları gönderir; close() bağlantıyı bırakır
+ */
+interface StagingWriter extends AutoCloseable {
+    String INSERT_COLUMNS = "import_id, line_number, id, name, description, price_amount, price_currency, "
+            + "stock_quantity";
+
+    void write(long lineNumber, Product product);
+
+    /**
+     * Tampondaki satırları gönderir
+     *
+     * @return Toplam yazılan satır sayısı
+     */
+    long finish();
+
+    @Override
+    void close();
+}
@@ -22,7 +22,8 @@ public class ProductMapper {
                 product.getDescription(),
                 product.getPrice().getAmount(),
                 product.getPrice().getCurrency().getCode(),
-                product.getStock().getQuantity());
+                product.getStock().getQuantity(),
+                product.getVersion());
     }
 
     /**
@@ -39,7 +40,8 @@ public class ProductMapper {
                 entity.getName(),
                 entity.getDescription(),
                 price,
-                stock);
+                stock,
+                entity.getVersion());
     }
 
     private ProductMapper() {
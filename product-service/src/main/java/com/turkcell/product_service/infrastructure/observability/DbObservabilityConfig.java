@@ -0,0 +1,111 @@
+package com.turkcell.product_service.infrastructure.observability;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * DB Observability Configuration
+ * DataSource'u ObservedDataSource ile sarar, sorgu ve havuz metriklerini Micrometer'a bağlar,
+ * dbqueries actuator endpoint'ini açar
+ */
+@Configuration
+@EnableConfigurationProperties(DbObservabilityProperties.class)
+public class DbObservabilityConfig {
+    private static final Logger log = LoggerFactory.getLogger(DbObservabilityConfig.class);
+
+    @Bean
+    public static ObservedDataSourcePostProcessor observedDataSourcePostProcessor(Environment environment) {
+        return new ObservedDataSourcePostProcessor(environment);
+    }
+
+    @Bean
+    public MeterBinder dbQueryMetrics(DataSource dataSource) {
+        return registry -> {
+            ObservedDataSource observed = unwrap(dataSource, ObservedDataSource.class);
+            if (observed != null) {
+                observed.getMetrics().bindTo(registry);
+            }
+            HikariDataSource pool = unwrap(dataSource, HikariDataSource.class);
+            if (pool != null) {
+                bindPoolMetrics(pool, registry);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "product.db-observability", name = "enabled", matchIfMissing = true)
+    public DbQueriesEndpoint dbQueriesEndpoint(DataSource dataSource) {
+        ObservedDataSource observed = unwrap(dataSource, ObservedDataSource.class);
+        QueryMetrics metrics = observed != null ? observed.getMetrics()
+                : new QueryMetrics(new DbObservabilityProperties());
+        return new DbQueriesEndpoint(metrics, unwrap(dataSource, HikariDataSource.class));
+    }
+
+    /**
+     * Hikari zaten hikaricp.connections.* yayınlar - bunlar doluluk oranını tek bir değer olarak verir
+     */
+    private static void bindPoolMetrics(HikariDataSource pool, MeterRegistry registry) {
+        Gauge.builder("product.db.pool.utilization", pool, p -> DbQueriesEndpoint.poolReport(p).utilization())
+                .description("Aktif bağlantı / maksimum havuz boyutu")
+                .register(registry);
+        Gauge.builder("product.db.pool.saturation", pool, p -> DbQueriesEndpoint.poolReport(p).pending())
+                .description("Havuzdan bağlantı bekleyen thread sayısı")
+                .register(registry);
+    }
+
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * DataSource'u ObservedDataSource ile sarar - BeanPostProcessor olduğu için properties Binder ile okunur
+     * Ordered olduğu için sıralamasız post processor'lardan (ör. ConcurrencyLimitingDataSource) önce çalışır;
+     * böylece gözlem havuzun hemen önünde kalır, bağlantı alma süresi semaphore beklemesini içermez
+     */
+    static class ObservedDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+        private final Environment environment;
+
+        ObservedDataSourcePostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ObservedDataSource) {
+                return bean;
+            }
+            DbObservabilityProperties properties = Binder.get(environment)
+                    .bindOrCreate("product.db-observability", DbObservabilityProperties.class);
+            if (!properties.isEnabled()) {
+                return bean;
+            }
+            log.info("DataSource '{}' sorgu gözlemi ile sarıldı (yavaş sorgu eşiği {}ms)", beanName,
+                    properties.getSlowQueryThreshold().toMillis());
+            return new ObservedDataSource(dataSource, new QueryMetrics(properties));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.turkcell.product_service.infrastructure.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * DB Observability Properties
+ * JDBC seviyesindeki sorgu metrikleri ve yavaş sorgu logu ayarları
+ */
+@ConfigurationProperties(prefix = "product.db-observability")
+public class DbObservabilityProperties {
+    /**
+     * false ise DataSource sarılmaz - sorgu metrikleri ve dbqueries endpoint'i kapanır
+     */
+    private boolean enabled = true;
+
+    /**
+     * Bu süreden uzun süren statement'lar yavaş sorgu loguna düşer
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(250);
+
+    /**
+     * Aynı statement şekli için en fazla bu aralıkta bir yavaş sorgu satırı yazılır, aradakiler sayılıp bir sonrakinde raporlanır
+     */
+    private Duration slowQueryLogInterval = Duration.ofSeconds(10);
+
+    /**
+     * Ayrı izlenecek maksimum statement şekli sayısı - fazlası "other" altında toplanır (metrik kardinalitesi sınırı)
+     */
+    private int maxShapes = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    public Duration getSlowQueryLogInterval() {
+        return slowQueryLogInterval;
+    }
+
+    public void setSlowQueryLogInterval(Duration slowQueryLogInterval) {
+        this.slowQueryLogInterval = slowQueryLogInterval;
+    }
+
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    public void setMaxShapes(int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+}
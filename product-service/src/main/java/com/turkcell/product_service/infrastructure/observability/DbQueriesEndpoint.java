@@ -0,0 +1,62 @@
+package com.turkcell.product_service.infrastructure.observability;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * DB Queries Endpoint
+ * GET /actuator/dbqueries - statement şekli başına süre, satır ve yavaş sorgu raporu + bağlantı havuzu doluluğu
+ * DELETE /actuator/dbqueries - raporu sıfırlar (Micrometer meter'ları etkilenmez)
+ */
+@Endpoint(id = "dbqueries")
+public class DbQueriesEndpoint {
+    private final QueryMetrics metrics;
+    private final HikariDataSource pool;
+
+    /**
+     * @param pool Hikari havuzu - DataSource Hikari değilse null, raporda havuz bilgisi boş döner
+     */
+    public DbQueriesEndpoint(QueryMetrics metrics, HikariDataSource pool) {
+        this.metrics = metrics;
+        this.pool = pool;
+    }
+
+    @ReadOperation
+    public DbQueriesReport queries() {
+        return new DbQueriesReport(poolReport(pool), metrics.report());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        metrics.reset();
+    }
+
+    /**
+     * Havuz henüz açılmadıysa (ilk bağlantıdan önce) tüm değerler 0'dır
+     */
+    static PoolReport poolReport(HikariDataSource pool) {
+        if (pool == null) {
+            return null;
+        }
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        int max = pool.getMaximumPoolSize();
+        if (mxBean == null) {
+            return new PoolReport(max, 0, 0, 0, 0);
+        }
+        int active = mxBean.getActiveConnections();
+        return new PoolReport(max, active, mxBean.getIdleConnections(), mxBean.getThreadsAwaitingConnection(),
+                max == 0 ? 0 : (double) active / max);
+    }
+
+    public record DbQueriesReport(PoolReport pool, QueryMetrics.QueryReport queries) {
+    }
+
+    /**
+     * @param utilization aktif / maksimum bağlantı - 1'e yaklaştıkça pending (bağlantı bekleyen thread) artar
+     */
+    public record PoolReport(int max, int active, int idle, int pending, double utilization) {
+    }
+}
@@ -0,0 +1,306 @@
+package com.turkcell.product_service.infrastructure.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Observed DataSource
+ * JDBC seviyesinde sorgu gözlemi: Connection, Statement ve ResultSet proxy'leri her statement'ın süresini,
+ * okunan/etkilenen satır sayısını ve bağlantı alma bekleme süresini QueryMetrics'e bildirir
+ * JPA, JdbcTemplate ve Flyway dahil DataSource'u kullanan her şey aynı yoldan geçer
+ */
+public class ObservedDataSource extends DelegatingDataSource {
+    private final QueryMetrics metrics;
+
+    public ObservedDataSource(DataSource target, QueryMetrics metrics) {
+        super(target);
+        this.metrics = metrics;
+    }
+
+    public QueryMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return observed(obtainTargetDataSource().getConnection());
+        } finally {
+            metrics.recordAcquire(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return observed(obtainTargetDataSource().getConnection(username, password));
+        } finally {
+            metrics.recordAcquire(System.nanoTime() - start);
+        }
+    }
+
+    private Connection observed(Connection target) {
+        return proxy(Connection.class, new ConnectionHandler(target));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(), new Class<?>[] { type },
+                handler));
+    }
+
+    /**
+     * equals/hashCode/unwrap/isWrapperFor proxy'nin kendisine göre cevaplanır, diğer çağrılar hedefe iletilir
+     */
+    private abstract static class ForwardingHandler implements InvocationHandler {
+        private final Object target;
+
+        ForwardingHandler(Object target) {
+            this.target = target;
+        }
+
+        Object forward(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+
+    /**
+     * Oluşturulan statement'ları SQL şekliyle birlikte sarar - şekil prepare anında bir kez çözülür
+     */
+    private class ConnectionHandler extends ForwardingHandler {
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "prepareStatement", "prepareCall" -> statement(method, forward(proxy, method, args),
+                        metrics.shape((String) args[0]), (Connection) proxy);
+                case "createStatement" -> statement(method, forward(proxy, method, args), null, (Connection) proxy);
+                default -> forward(proxy, method, args);
+            };
+        }
+
+        private Object statement(Method method, Object statement, StatementShape shape, Connection connection) {
+            // Dönüş tipi Statement, PreparedStatement ya da CallableStatement - proxy aynı arayüzü uygular
+            @SuppressWarnings("unchecked")
+            Class<Statement> type = (Class<Statement>) method.getReturnType();
+            return proxy(type, new StatementHandler((Statement) statement, shape, connection));
+        }
+    }
+
+    /**
+     * execute* çağrılarını ölçer - sorgularda satır sayısı ResultSet proxy'si ile sayılır
+     * Statement tek bir thread tarafından kullanılır, alanlar senkronize değildir
+     */
+    private class StatementHandler extends ForwardingHandler {
+        private final Statement target;
+        private final StatementShape preparedShape;
+        private final Connection connection;
+        private StatementShape batchShape;
+        private ResultSetHandler openResult;
+        private StatementShape awaitingShape;
+        private long awaitingNanos;
+
+        StatementHandler(Statement target, StatementShape preparedShape, Connection connection) {
+            super(target);
+            this.target = target;
+            this.preparedShape = preparedShape;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute((Statement) proxy, method, args, name);
+            }
+            switch (name) {
+                case "getResultSet":
+                    Object resultSet = forward(proxy, method, args);
+                    if (resultSet != null && awaitingShape != null) {
+                        StatementShape shape = awaitingShape;
+                        awaitingShape = null;
+                        return counted((ResultSet) resultSet, shape, awaitingNanos, (Statement) proxy);
+                    }
+                    return resultSet;
+                case "addBatch":
+                    if (preparedShape == null && batchShape == null && args != null && args.length == 1) {
+                        batchShape = metrics.shape((String) args[0]);
+                    }
+                    return forward(proxy, method, args);
+                case "getConnection":
+                    return connection;
+                case "close":
+                    finishOpenResult();
+                    return forward(proxy, method, args);
+                default:
+                    return forward(proxy, method, args);
+            }
+        }
+
+        private Object execute(Statement proxy, Method method, Object[] args, String name) throws Throwable {
+            StatementShape shape = shapeFor(args);
+            finishOpenResult();
+            awaitingShape = null;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                long nanos = System.nanoTime() - start;
+                metrics.recordExecution(shape, nanos, true);
+                metrics.recordResult(shape, nanos, -1);
+                throw ex.getTargetException();
+            }
+            long nanos = System.nanoTime() - start;
+            metrics.recordExecution(shape, nanos, false);
+            switch (name) {
+                case "executeQuery":
+                    return counted((ResultSet) result, shape, nanos, proxy);
+                case "executeUpdate", "executeLargeUpdate":
+                    metrics.recordResult(shape, nanos, ((Number) result).longValue());
+                    return result;
+                case "executeBatch":
+                    metrics.recordResult(shape, nanos, affected((int[]) result));
+                    batchShape = null;
+                    return result;
+                case "executeLargeBatch":
+                    metrics.recordResult(shape, nanos, affected((long[]) result));
+                    batchShape = null;
+                    return result;
+                default:
+                    // execute(): sonuç ResultSet ise satırlar getResultSet ile sayılır
+                    if (Boolean.TRUE.equals(result)) {
+                        awaitingShape = shape;
+                        awaitingNanos = nanos;
+                    } else {
+                        metrics.recordResult(shape, nanos, -1);
+                    }
+                    return result;
+            }
+        }
+
+        private StatementShape shapeFor(Object[] args) {
+            if (preparedShape != null) {
+                return preparedShape;
+            }
+            if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                return metrics.shape(sql);
+            }
+            return batchShape != null ? batchShape : StatementShape.OTHER;
+        }
+
+        private ResultSet counted(ResultSet resultSet, StatementShape shape, long nanos, Statement statement) {
+            if (resultSet == null) {
+                return null;
+            }
+            ResultSetHandler handler = new ResultSetHandler(resultSet, shape, nanos, statement);
+            openResult = handler;
+            return proxy(ResultSet.class, handler);
+        }
+
+        private void finishOpenResult() {
+            if (openResult != null) {
+                openResult.finish();
+                openResult = null;
+            }
+        }
+
+        private static long affected(int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                // SUCCESS_NO_INFO (-2) gibi negatif değerler toplama katılmaz
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+
+        private static long affected(long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+    }
+
+    /**
+     * next() true döndükçe satır sayar; ResultSet tükenince, kapanınca ya da statement kapanınca sonucu bir kez bildirir
+     */
+    private class ResultSetHandler extends ForwardingHandler {
+        private final StatementShape shape;
+        private final long executionNanos;
+        private final Statement statement;
+        private long rows;
+        private boolean finished;
+
+        ResultSetHandler(ResultSet target, StatementShape shape, long executionNanos, Statement statement) {
+            super(target);
+            this.shape = shape;
+            this.executionNanos = executionNanos;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    Object hasRow = forward(proxy, method, args);
+                    if (Boolean.TRUE.equals(hasRow)) {
+                        rows++;
+                    } else {
+                        finish();
+                    }
+                    return hasRow;
+                case "close":
+                    finish();
+                    return forward(proxy, method, args);
+                case "getStatement":
+                    return statement;
+                default:
+                    return forward(proxy, method, args);
+            }
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                metrics.recordResult(shape, executionNanos, rows);
+            }
+        }
+    }
+}
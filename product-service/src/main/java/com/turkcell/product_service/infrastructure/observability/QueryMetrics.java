@@ -0,0 +1,287 @@
+package com.turkcell.product_service.infrastructure.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Query Metrics
+ * ObservedDataSource'tan gelen statement çalıştırmalarını şekle (StatementShape) göre toplar
+ * Şekil başına Micrometer Timer (percentile histogram'lı) ve satır sayısı dağılımı, bağlantı alma bekleme süresi
+ * ve örneklenmiş yavaş sorgu logu üretir; dbqueries actuator endpoint'i için rapor döner
+ *
+ * DataSource BeanPostProcessor içinde sarıldığı için MeterRegistry sonradan bindTo ile bağlanır -
+ * o ana kadarki istatistikler kaybolmaz, meter'lar bağlanınca kaydedilir
+ */
+public class QueryMetrics implements MeterBinder {
+    /**
+     * Yavaş sorgular ayrı logger'a yazılır - ayrı bir appender'a ya da structured log çıktısına yönlendirilebilir
+     */
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("product.db.slow-queries");
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+    private static final int MAX_CACHED_SQL_MULTIPLIER = 4;
+
+    private final long slowQueryThresholdNanos;
+    private final long slowQueryLogIntervalNanos;
+    private final int maxShapes;
+    /**
+     * Ham SQL -> şekil: aynı SQL metni her çalıştırmada yeniden normalize edilmez
+     */
+    private final ConcurrentMap<String, StatementShape> shapesBySql = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ShapeStats> stats = new ConcurrentHashMap<>();
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final AtomicLong acquireMaxNanos = new AtomicLong();
+    private volatile MeterRegistry registry;
+    private volatile Timer acquireTimer;
+
+    public QueryMetrics(DbObservabilityProperties properties) {
+        this.slowQueryThresholdNanos = properties.getSlowQueryThreshold().toNanos();
+        this.slowQueryLogIntervalNanos = properties.getSlowQueryLogInterval().toNanos();
+        this.maxShapes = properties.getMaxShapes();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.acquireTimer = Timer.builder("product.db.connection.acquire")
+                .description("Havuzdan bağlantı alma süresi")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.registry = meterRegistry;
+        stats.values().forEach(shapeStats -> shapeStats.register(meterRegistry));
+    }
+
+    /**
+     * SQL metninin şekli - maxShapes dolduysa yeni şekiller OTHER'a düşer
+     */
+    public StatementShape shape(String sql) {
+        StatementShape cached = shapesBySql.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        StatementShape shape = StatementShape.of(sql);
+        if (!stats.containsKey(shape.sql()) && stats.size() >= maxShapes) {
+            shape = StatementShape.OTHER;
+        }
+        // IN listesi boyutu gibi farklarla üreyen ham SQL'ler cache'i sınırsız büyütmesin
+        if (shapesBySql.size() < maxShapes * MAX_CACHED_SQL_MULTIPLIER) {
+            shapesBySql.put(sql, shape);
+        }
+        return shape;
+    }
+
+    public void recordAcquire(long nanos) {
+        acquireCount.increment();
+        acquireNanos.add(nanos);
+        acquireMaxNanos.accumulateAndGet(nanos, Math::max);
+        Timer timer = acquireTimer;
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Statement çalıştırma süresi - execute* çağrısı döner dönmez (satırlar okunmadan) kaydedilir
+     */
+    public void recordExecution(StatementShape shape, long nanos, boolean failed) {
+        statsFor(shape).recordExecution(nanos, failed);
+    }
+
+    /**
+     * Statement sonucu - sorgularda ResultSet kapanınca ya da tükenince okunan satır sayısıyla,
+     * yazmalarda etkilenen satır sayısıyla çağrılır; rows < 0 bilinmiyor demektir
+     * Eşiği aşan çalıştırmalar burada yavaş sorgu loguna düşer
+     */
+    public void recordResult(StatementShape shape, long nanos, long rows) {
+        ShapeStats shapeStats = statsFor(shape);
+        if (rows >= 0) {
+            shapeStats.recordRows(rows);
+        }
+        if (nanos >= slowQueryThresholdNanos) {
+            shapeStats.recordSlow(nanos, rows);
+        }
+    }
+
+    /**
+     * Şekil başına toplam çalıştırma sayısı - sorgu bütçesi testleri iki snapshot arasındaki farkı kullanır
+     */
+    public Map<StatementShape, Long> executionCounts() {
+        Map<StatementShape, Long> counts = new LinkedHashMap<>();
+        stats.values().forEach(shapeStats -> counts.put(shapeStats.shape, shapeStats.count.sum()));
+        return counts;
+    }
+
+    public QueryReport report() {
+        List<ShapeReport> shapeReports = stats.values().stream()
+                .map(ShapeStats::toReport)
+                .sorted(Comparator.comparingDouble(ShapeReport::totalMillis).reversed())
+                .toList();
+        long total = shapeReports.stream().mapToLong(ShapeReport::count).sum();
+        double totalMillis = shapeReports.stream().mapToDouble(ShapeReport::totalMillis).sum();
+        long acquires = acquireCount.sum();
+        AcquireReport acquire = new AcquireReport(acquires,
+                acquires == 0 ? 0 : acquireNanos.sum() / 1_000_000.0 / acquires,
+                acquireMaxNanos.get() / 1_000_000.0);
+        return new QueryReport(Duration.ofNanos(slowQueryThresholdNanos).toMillis(), total, totalMillis, acquire,
+                shapeReports);
+    }
+
+    /**
+     * Endpoint istatistiklerini sıfırlar - Micrometer meter'ları etkilenmez
+     */
+    public void reset() {
+        stats.values().forEach(ShapeStats::reset);
+        acquireCount.reset();
+        acquireNanos.reset();
+        acquireMaxNanos.set(0);
+    }
+
+    private ShapeStats statsFor(StatementShape shape) {
+        ShapeStats existing = stats.get(shape.sql());
+        if (existing != null) {
+            return existing;
+        }
+        ShapeStats created = stats.computeIfAbsent(shape.sql(), key -> new ShapeStats(shape));
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            created.register(meterRegistry);
+        }
+        return created;
+    }
+
+    private class ShapeStats {
+        private final StatementShape shape;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder suppressedSlowLogs = new LongAdder();
+        private final AtomicLong lastSlowLogNanos = new AtomicLong(Long.MIN_VALUE);
+        private volatile Instant lastSlow;
+        private volatile Timer timer;
+        private volatile DistributionSummary rowsSummary;
+
+        ShapeStats(StatementShape shape) {
+            this.shape = shape;
+        }
+
+        void register(MeterRegistry meterRegistry) {
+            Tags tags = Tags.of("shape", shape.id(), "operation", shape.operation(), "table", shape.table());
+            this.timer = Timer.builder("product.db.query")
+                    .description("Statement şekli başına çalıştırma süresi")
+                    .tags(tags)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rowsSummary = DistributionSummary.builder("product.db.query.rows")
+                    .description("Statement başına okunan (sorgu) ya da etkilenen (yazma) satır sayısı")
+                    .baseUnit("rows")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        void recordExecution(long nanos, boolean failed) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            if (failed) {
+                errors.increment();
+            }
+            Timer meter = timer;
+            if (meter != null) {
+                meter.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void recordRows(long rowCount) {
+            rows.add(rowCount);
+            DistributionSummary summary = rowsSummary;
+            if (summary != null) {
+                summary.record(rowCount);
+            }
+        }
+
+        void recordSlow(long nanos, long rowCount) {
+            slow.increment();
+            lastSlow = Instant.now();
+            long now = System.nanoTime();
+            long last = lastSlowLogNanos.get();
+            if ((last != Long.MIN_VALUE && now - last < slowQueryLogIntervalNanos)
+                    || !lastSlowLogNanos.compareAndSet(last, now)) {
+                suppressedSlowLogs.increment();
+                return;
+            }
+            long suppressed = suppressedSlowLogs.sumThenReset();
+            double millis = nanos / 1_000_000.0;
+            slowQueryLog.atWarn()
+                    .addKeyValue("shape", shape.id())
+                    .addKeyValue("operation", shape.operation())
+                    .addKeyValue("table", shape.table())
+                    .addKeyValue("durationMs", millis)
+                    .addKeyValue("rows", rowCount)
+                    .addKeyValue("suppressed", suppressed)
+                    .addKeyValue("sql", shape.sql())
+                    .log("Yavaş sorgu shape={} operation={} table={} durationMs={} rows={} suppressed={} sql={}",
+                            shape.id(), shape.operation(), shape.table(), String.format("%.1f", millis), rowCount,
+                            suppressed, shape.sql());
+        }
+
+        void reset() {
+            count.reset();
+            errors.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+            rows.reset();
+            slow.reset();
+            lastSlow = null;
+        }
+
+        ShapeReport toReport() {
+            long executions = count.sum();
+            double totalMillis = totalNanos.sum() / 1_000_000.0;
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            Timer meter = timer;
+            if (meter != null) {
+                // Micrometer percentile'ları zaman pencereli (son birkaç dakika) hesaplanır
+                for (ValueAtPercentile value : meter.takeSnapshot().percentileValues()) {
+                    percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+                }
+            }
+            return new ShapeReport(shape.id(), shape.operation(), shape.table(), shape.sql(), executions,
+                    errors.sum(), totalMillis, executions == 0 ? 0 : totalMillis / executions,
+                    maxNanos.get() / 1_000_000.0, percentiles, rows.sum(), slow.sum(), lastSlow);
+        }
+    }
+
+    public record QueryReport(long slowQueryThresholdMillis, long totalStatements, double totalMillis,
+            AcquireReport connectionAcquire, List<ShapeReport> shapes) {
+    }
+
+    public record AcquireReport(long count, double meanMillis, double maxMillis) {
+    }
+
+    public record ShapeReport(String shape, String operation, String table, String sql, long count, long errors,
+            double totalMillis, double meanMillis, double maxMillis, Map<String, Double> recentPercentilesMillis,
+            long rows, long slow, Instant lastSlow) {
+    }
+}
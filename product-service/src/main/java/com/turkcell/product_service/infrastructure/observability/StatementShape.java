@@ -0,0 +1,143 @@
+package com.turkcell.product_service.infrastructure.observability;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Statement Shape
+ * Literal'lerden ve parametre sayısından bağımsız SQL şekli - metrikler ve yavaş sorgu logu bu şekle göre gruplanır
+ * String/sayı literal'leri ?'e çevrilir, yorumlar atılır, boşluklar tekilleştirilir, IN (?, ?, ...) listeleri tek
+ * bir (?...) olur; parametre değerleri hiçbir zaman şekle ya da loga girmez
+ *
+ * @param id        normalize SQL'in kısa hash'i (metrik tag'i)
+ * @param operation select, insert, update, delete, merge, call ya da other
+ * @param table     ilk FROM/INTO/UPDATE hedefi, bulunamazsa none
+ * @param sql       normalize SQL
+ */
+public record StatementShape(String id, String operation, String table, String sql) {
+    /**
+     * maxShapes aşıldığında yeni şekillerin toplandığı ortak şekil
+     */
+    public static final StatementShape OTHER = new StatementShape("other", "other", "other", "other");
+
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Set<String> OPERATIONS = Set.of("select", "insert", "update", "delete", "merge", "call");
+
+    public static StatementShape of(String rawSql) {
+        String sql = IN_LIST.matcher(stripLiterals(rawSql)).replaceAll("in (?...)");
+        String operation = operation(sql);
+        return new StatementShape(String.format("%08x", sql.hashCode()), operation, table(sql, operation), sql);
+    }
+
+    /**
+     * Tek geçişte yorumları atar, literal'leri ? yapar ve boşlukları tekilleştirir - tırnaklı tanımlayıcılar korunur
+     */
+    static String stripLiterals(String rawSql) {
+        StringBuilder out = new StringBuilder(rawSql.length());
+        int length = rawSql.length();
+        int i = 0;
+        while (i < length) {
+            char c = rawSql.charAt(i);
+            if (c == '/' && i + 1 < length && rawSql.charAt(i + 1) == '*') {
+                int end = rawSql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                appendSpace(out);
+            } else if (c == '-' && i + 1 < length && rawSql.charAt(i + 1) == '-') {
+                int end = rawSql.indexOf('\n', i + 2);
+                i = end < 0 ? length : end + 1;
+                appendSpace(out);
+            } else if (c == '\'') {
+                i = skipQuoted(rawSql, i, '\'');
+                out.append('?');
+            } else if (c == '"') {
+                int end = skipQuoted(rawSql, i, '"');
+                out.append(rawSql, i, end);
+                i = end;
+            } else if (Character.isWhitespace(c)) {
+                appendSpace(out);
+                i++;
+            } else if (Character.isDigit(c) && (i == 0 || !isIdentifierPart(rawSql.charAt(i - 1)))) {
+                while (i < length && (Character.isDigit(rawSql.charAt(i)) || rawSql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        out.setLength(end);
+        return out.toString();
+    }
+
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == quote) {
+                // '' ve "" kaçışları literal'in parçasıdır
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return sql.length();
+    }
+
+    private static void appendSpace(StringBuilder out) {
+        if (out.length() > 0 && out.charAt(out.length() - 1) != ' ') {
+            out.append(' ');
+        }
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static String operation(String sql) {
+        String first = firstWord(sql, 0);
+        if ("with".equals(first)) {
+            return "select";
+        }
+        return OPERATIONS.contains(first) ? first : "other";
+    }
+
+    private static String table(String sql, String operation) {
+        String keyword = switch (operation) {
+            case "select", "delete" -> "from";
+            case "insert", "merge" -> "into";
+            case "update" -> "update";
+            default -> null;
+        };
+        if (keyword == null) {
+            return "none";
+        }
+        String lower = sql.toLowerCase(Locale.ROOT);
+        int at = "update".equals(keyword) ? lower.indexOf(keyword) : lower.indexOf(" " + keyword + " ");
+        if (at < 0) {
+            return "none";
+        }
+        String table = firstWord(lower, lower.indexOf(keyword, at) + keyword.length()).replace("\"", "");
+        return table.isEmpty() ? "none" : table;
+    }
+
+    private static String firstWord(String sql, int from) {
+        int start = from;
+        while (start < sql.length() && sql.charAt(start) == ' ') {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && (isIdentifierPart(sql.charAt(end)) || sql.charAt(end) == '.'
+                || sql.charAt(end) == '"')) {
+            end++;
+        }
+        return sql.substring(start, end).toLowerCase(Locale.ROOT);
+    }
+}
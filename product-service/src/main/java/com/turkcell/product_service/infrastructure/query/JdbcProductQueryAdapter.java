@@ -0,0 +1,195 @@
+package com.turkcell.product_service.infrastructure.query;
+
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductFields.Field;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.domain.entities.Product;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * JDBC Product Query Adapter
+ * products tablosunu JdbcTemplate ile okur ve satırları doğrudan ProductResponse'a çevirir
+ * Entity yönetilmez (persistence context / dirty checking yok), domain nesnesi oluşturulmaz
+ * Sparse fieldset'lerde yalnızca istenen alanların kolonları SELECT edilir (id ve version her zaman okunur)
+ * Tablo şeması JPA entity'si (ProductEntity) ile aynıdır; veriler yazma tarafında doğrulanmış olarak saklanır
+ * Sorgular salt okunur transaction'da çalışır - read replica'lar açıksa ReadWriteRoutingDataSource bunları replica'ya yönlendirir
+ * product.sharding.enabled=true ise bean olarak oluşturulmaz - ShardedProductQueryAdapter her shard için bir örnek kullanır
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@Transactional(readOnly = true)
+public class JdbcProductQueryAdapter implements ProductQueryPort {
+    /**
+     * IN listesindeki maksimum parametre - sürücülerin parametre sınırlarının altında kalır
+     */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private static final Projection FULL = Projection.of(ProductFields.ALL);
+
+    /**
+     * Alan kombinasyonu başına SQL + RowMapper (en fazla 16 kombinasyon)
+     */
+    private final Map<ProductFields, Projection> projections = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProductQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<ProductResponse> findById(Product.ProductId id, ProductFields fields) {
+        Projection projection = projection(fields);
+        List<ProductResponse> result = jdbcTemplate.query(projection.select() + " WHERE id = ?", projection.rowMapper(),
+                id.toString());
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+
+    @Override
+    public List<ProductResponse> findAll(ProductFields fields) {
+        Projection projection = projection(fields);
+        return jdbcTemplate.query(projection.select(), projection.rowMapper());
+    }
+
+    @Override
+    public List<ProductResponse> findPageAfter(String afterId, int limit) {
+        if (afterId == null) {
+            return jdbcTemplate.query(FULL.select() + " ORDER BY id LIMIT ?", FULL.rowMapper(), limit);
+        }
+        return jdbcTemplate.query(FULL.select() + " WHERE id > ? ORDER BY id LIMIT ?", FULL.rowMapper(), afterId,
+                limit);
+    }
+
+    @Override
+    public ProductPageResponse search(ProductSearchCriteria criteria, ProductFields fields) {
+        Projection projection = projection(fields);
+        ProductSearchQuery query = ProductSearchQuery.compile(criteria, projection.columns());
+        List<ProductResponse> products = new ArrayList<>(criteria.size());
+        long[] totalCount = { 0 };
+        jdbcTemplate.query(query.sql(), (ResultSet rs) -> {
+            products.add(projection.rowMapper().mapRow(rs, products.size()));
+            totalCount[0] = rs.getLong(projection.columnCount() + 1);
+        }, query.args());
+        // Boş sayfada pencere fonksiyonu toplamı taşıyamaz - yalnızca son sayfanın ötesi istendiğinde sayılır
+        if (products.isEmpty() && criteria.page() > 0) {
+            totalCount[0] = jdbcTemplate.queryForObject(query.countSql(), Long.class, query.countArgs());
+        }
+        return new ProductPageResponse(products, criteria.page(), criteria.size(), totalCount[0]);
+    }
+
+    /**
+     * Aramayla eşleşen satırların ID'lerinden filtreyi geçenler - sayfalama ve sıralama yoksayılır
+     * Shard'lı aramanın resharding sırasında iki shard'da bulunan satırları bir kez sayması için
+     */
+    public List<String> findMatchingIds(ProductSearchCriteria criteria, Predicate<String> filter) {
+        ProductSearchQuery query = ProductSearchQuery.compile(criteria, "id");
+        List<String> ids = new ArrayList<>();
+        jdbcTemplate.query(query.idsSql(), (ResultSet rs) -> {
+            String id = rs.getString(1);
+            if (filter.test(id)) {
+                ids.add(id);
+            }
+        }, query.countArgs());
+        return ids;
+    }
+
+    @Override
+    public Optional<Long> findVersion(Product.ProductId id) {
+        List<Long> result = jdbcTemplate.queryForList("SELECT version FROM products WHERE id = ?", Long.class,
+                id.toString());
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+
+    @Override
+    public List<ProductVersion> findAllVersions() {
+        return jdbcTemplate.query("SELECT id, version FROM products",
+                (ResultSet rs, int rowNum) -> new ProductVersion(rs.getString(1), rs.getLong(2)));
+    }
+
+    @Override
+    public List<ProductResponse> findByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> idList = new ArrayList<>(ids);
+        List<ProductResponse> result = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = idList.subList(from, Math.min(from + IN_CHUNK_SIZE, idList.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            result.addAll(jdbcTemplate.query(FULL.select() + " WHERE id IN (" + placeholders + ")", FULL.rowMapper(),
+                    chunk.toArray()));
+        }
+        return result;
+    }
+
+    private Projection projection(ProductFields fields) {
+        return fields.isAll() ? FULL : projections.computeIfAbsent(fields, Projection::of);
+    }
+
+    /**
+     * İstenen alanların kolonları ve bunları sırayla okuyan RowMapper
+     * İstenmeyen alanlar ProductResponse'ta null kalır (JSON'a yazılmaz)
+     */
+    private record Projection(String columns, String select, int columnCount, RowMapper<ProductResponse> rowMapper) {
+
+        static Projection of(ProductFields fields) {
+            StringJoiner columns = new StringJoiner(", ");
+            columns.add("id").add("version");
+            int column = 2;
+            int nameColumn = 0;
+            int descriptionColumn = 0;
+            int priceColumn = 0;
+            int stockColumn = 0;
+            if (fields.contains(Field.NAME)) {
+                columns.add("name");
+                nameColumn = ++column;
+            }
+            if (fields.contains(Field.DESCRIPTION)) {
+                columns.add("description");
+                descriptionColumn = ++column;
+            }
+            if (fields.contains(Field.PRICE)) {
+                columns.add("price_amount").add("price_currency");
+                priceColumn = ++column;
+                column++;
+            }
+            if (fields.contains(Field.STOCK)) {
+                columns.add("stock_quantity");
+                stockColumn = ++column;
+            }
+            return new Projection(columns.toString(), "SELECT " + columns + " FROM products", column,
+                    rowMapper(nameColumn, descriptionColumn, priceColumn, stockColumn));
+        }
+
+        private static RowMapper<ProductResponse> rowMapper(int nameColumn, int descriptionColumn, int priceColumn,
+                int stockColumn) {
+            return (ResultSet rs, int rowNum) -> new ProductResponse(
+                    rs.getString(1),
+                    nameColumn > 0 ? rs.getString(nameColumn) : null,
+                    descriptionColumn > 0 ? rs.getString(descriptionColumn) : null,
+                    priceColumn > 0 ? new PriceDto(rs.getBigDecimal(priceColumn), rs.getString(priceColumn + 1)) : null,
+                    stockColumn > 0 ? new StockDto(rs.getInt(stockColumn)) : null,
+                    rs.getLong(2));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.turkcell.product_service.infrastructure.query;
+
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Product Search Query
+ * ProductSearchCriteria'yı tek bir parametreli SQL sorgusuna derler
+ * Koşullar ProductEntity'deki kompozit index'lerin kolon sırasına göre yazılır:
+ * price_currency + price_amount aralığı/sıralaması idx_products_currency_price ile, ad sıralaması idx_products_name ile karşılanır
+ * Toplam eşleşme sayısı aynı sorguda COUNT(*) OVER () ile döner - ayrı bir COUNT sorgusu gerekmez
+ *
+ * @param sql       Sayfa sorgusu - son kolon toplam eşleşme sayısıdır
+ * @param countSql  Yalnızca boş sayfada (toplam bilinmediğinde) kullanılan COUNT sorgusu
+ * @param idsSql    Eşleşen satırların ID'leri - sıralamasız ve sayfasız, parametreleri countArgs'tır
+ * @param args      Sayfa sorgusunun parametreleri (filtre parametreleri + LIMIT + OFFSET)
+ * @param countArgs COUNT sorgusunun parametreleri
+ */
+record ProductSearchQuery(String sql, String countSql, String idsSql, Object[] args, Object[] countArgs) {
+
+    static ProductSearchQuery compile(ProductSearchCriteria criteria, String columns) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        List<Object> parameters = new ArrayList<>();
+        if (criteria.currency() != null) {
+            where.add("price_currency = ?");
+            parameters.add(criteria.currency());
+        }
+        if (criteria.minPrice() != null) {
+            where.add("price_amount >= ?");
+            parameters.add(criteria.minPrice());
+        }
+        if (criteria.maxPrice() != null) {
+            where.add("price_amount <= ?");
+            parameters.add(criteria.maxPrice());
+        }
+        if (criteria.inStock() != null) {
+            where.add(criteria.inStock() ? "stock_quantity > 0" : "stock_quantity = 0");
+        }
+        if (criteria.name() != null && !criteria.name().isBlank()) {
+            where.add("LOWER(name) LIKE ? ESCAPE '\\'");
+            parameters.add("%" + escapeLike(criteria.name().trim().toLowerCase(Locale.ROOT)) + "%");
+        }
+
+        Object[] countArgs = parameters.toArray();
+        parameters.add(criteria.size());
+        parameters.add((long) criteria.page() * criteria.size());
+
+        String sql = "SELECT " + columns + ", COUNT(*) OVER () AS total_count FROM products" + where
+                + orderBy(criteria.sort()) + " LIMIT ? OFFSET ?";
+        String countSql = "SELECT COUNT(*) FROM products" + where;
+        return new ProductSearchQuery(sql, countSql, "SELECT id FROM products" + where, parameters.toArray(),
+                countArgs);
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort == null) {
+            return " ORDER BY id";
+        }
+        String column = switch (sort.getField()) {
+            case "name" -> "name";
+            case "price" -> "price_amount";
+            case "stock" -> "stock_quantity";
+            default -> throw new IllegalArgumentException("Geçersiz sıralama: " + sort);
+        };
+        String direction = sort.isDescending() ? " DESC" : "";
+        return " ORDER BY " + column + direction + ", id" + direction;
+    }
+
+    /**
+     * LIKE joker karakterlerini (% ve _) ve kaçış karakterini düz metin olarak aranacak hale getirir
+     */
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
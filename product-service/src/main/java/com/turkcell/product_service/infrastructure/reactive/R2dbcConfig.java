@@ -0,0 +1,66 @@
+package com.turkcell.product_service.infrastructure.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * R2DBC Configuration
+ * Havuzlu ConnectionFactory bilinçli olarak bean yapılmaz: Boot, context'te bir R2DBC ConnectionFactory
+ * gördüğünde JDBC DataSource'u (dolayısıyla JPA yazma tarafını) devre dışı bırakır
+ * Dışarıya yalnızca okuma için DatabaseClient açılır
+ * Yalnızca product.reactive-read.enabled=true iken kurulur; kapalıyken R2DBC URL'si gerekmez
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.reactive-read", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(R2dbcReadProperties.class)
+public class R2dbcConfig {
+
+    @Bean
+    public ReadConnectionPool readConnectionPool(R2dbcReadProperties properties) {
+        if (!StringUtils.hasText(properties.getUrl())) {
+            throw new IllegalStateException(
+                    "product.reactive-read.enabled=true iken product.reactive-read.r2dbc.url tanımlı olmalıdır");
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (StringUtils.hasText(properties.getUsername())) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (StringUtils.hasText(properties.getPassword())) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("product-read")
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .build();
+        return new ReadConnectionPool(new ConnectionPool(configuration));
+    }
+
+    @Bean
+    public DatabaseClient readDatabaseClient(ReadConnectionPool readConnectionPool) {
+        return DatabaseClient.create(readConnectionPool.pool());
+    }
+
+    /**
+     * Havuzu context kapanırken serbest bırakan sarmalayıcı
+     */
+    public record ReadConnectionPool(ConnectionPool pool) implements DisposableBean {
+        @Override
+        public void destroy() {
+            pool.disposeLater().block(Duration.ofSeconds(10));
+        }
+    }
+}
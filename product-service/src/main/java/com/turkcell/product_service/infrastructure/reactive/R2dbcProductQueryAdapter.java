@@ -0,0 +1,106 @@
+package com.turkcell.product_service.infrastructure.reactive;
+
+import com.turkcell.product_service.application.ports.ProductReactiveQueryPort;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * R2DBC Product Query Adapter
+ * products tablosunu JPA'sız, doğrudan R2DBC ile okur - bağlantı beklerken thread tutulmaz
+ * Tablo şeması JPA entity'si (ProductEntity) ile aynıdır
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.reactive-read", name = "enabled", havingValue = "true")
+public class R2dbcProductQueryAdapter implements ProductReactiveQueryPort {
+    private static final String COLUMNS = "id, name, description, price_amount, price_currency, stock_quantity, version";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcProductQueryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Product> findById(Product.ProductId id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM products WHERE id = :id")
+                .bind("id", id.toString())
+                .map(R2dbcProductQueryAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public Flux<Product> findPage(ProductFilter filter, int page, int size) {
+        Where where = where(filter);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql("SELECT " + COLUMNS + " FROM products" + where.sql() + " ORDER BY id LIMIT :limit OFFSET :offset")
+                .bind("limit", size)
+                .bind("offset", (long) page * size);
+        for (Map.Entry<String, Object> parameter : where.parameters().entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map(R2dbcProductQueryAdapter::toDomain).all();
+    }
+
+    @Override
+    public Mono<Long> count(ProductFilter filter) {
+        Where where = where(filter);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("SELECT COUNT(*) AS total FROM products" + where.sql());
+        for (Map.Entry<String, Object> parameter : where.parameters().entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map(row -> row.get("total", Long.class)).one();
+    }
+
+    private static Where where(ProductFilter filter) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (filter.currency() != null) {
+            conditions.add("price_currency = :currency");
+            parameters.put("currency", filter.currency());
+        }
+        if (filter.minPrice() != null) {
+            conditions.add("price_amount >= :minPrice");
+            parameters.put("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            conditions.add("price_amount <= :maxPrice");
+            parameters.put("maxPrice", filter.maxPrice());
+        }
+        if (filter.inStock() != null) {
+            conditions.add(filter.inStock() ? "stock_quantity > 0" : "stock_quantity = 0");
+        }
+        String sql = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return new Where(sql, parameters);
+    }
+
+    private static Product toDomain(Readable row) {
+        Currency currency = Currency.fromCode(row.get("price_currency", String.class));
+        Price price = new Price(row.get("price_amount", BigDecimal.class), currency);
+        Stock stock = new Stock(row.get("stock_quantity", Integer.class));
+
+        return Product.reconstruct(
+                Product.ProductId.fromString(row.get("id", String.class)),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                price,
+                stock,
+                row.get("version", Long.class));
+    }
+
+    private record Where(String sql, Map<String, Object> parameters) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.turkcell.product_service.infrastructure.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * R2DBC Read Properties
+ * Reaktif okuma adapter'ının bağlantı havuzu - JDBC DataSource'tan bağımsızdır
+ */
+@ConfigurationProperties(prefix = "product.reactive-read.r2dbc")
+public class R2dbcReadProperties {
+    /**
+     * R2DBC URL (ör. r2dbc:postgresql://localhost:5432/product_service)
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int initialSize = 5;
+
+    private int maxSize = 20;
+
+    private Duration maxIdleTime = Duration.ofMinutes(30);
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getInitialSize() {
+        return initialSize;
+    }
+
+    public void setInitialSize(int initialSize) {
+        this.initialSize = initialSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Duration maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+}
@@ -1,23 +1,56 @@
 package com.turkcell.product_service.infrastructure.repositories;
 
 import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * JPA Product Repository
  * Spring Data JPA interface'i
+ *
+ * description LAZY'dir; domain modeline dönüştürülen sorgular entity graph ile onu aynı SELECT'te okur
+ * (aksi halde dönüşüm session dışında LazyInitializationException verir ya da satır başına ek sorgu çalışır)
  */
 @Repository
 public interface JpaProductRepository extends JpaRepository<ProductEntity, String> {
+    String WITH_DESCRIPTION = "description";
+
+    @EntityGraph(attributePaths = WITH_DESCRIPTION)
+    Optional<ProductEntity> findWithDescriptionById(String id);
+
+    @EntityGraph(attributePaths = WITH_DESCRIPTION)
+    @Query("select p from ProductEntity p")
+    List<ProductEntity> findAllWithDescription();
+
+    @EntityGraph(attributePaths = WITH_DESCRIPTION)
     List<ProductEntity> findByNameContaining(String name);
 
+    @EntityGraph(attributePaths = WITH_DESCRIPTION)
     List<ProductEntity> findByStockQuantityGreaterThan(Integer quantity);
 
+    @EntityGraph(attributePaths = WITH_DESCRIPTION)
     List<ProductEntity> findByStockQuantityEquals(Integer quantity);
 
+    @EntityGraph(attributePaths = WITH_DESCRIPTION)
     List<ProductEntity> findByPriceAmountBetween(BigDecimal minPrice, BigDecimal maxPrice);
+
+    @EntityGraph(attributePaths = WITH_DESCRIPTION)
+    List<ProductEntity> findByPriceCurrencyAndPriceAmountBetween(String priceCurrency, BigDecimal minPrice,
+            BigDecimal maxPrice);
+
+    long countByStockQuantityGreaterThan(Integer quantity);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ProductEntity p where p.id = :id and p.version = :version")
+    int deleteByIdAndVersion(@Param("id") String id, @Param("version") long version);
 }
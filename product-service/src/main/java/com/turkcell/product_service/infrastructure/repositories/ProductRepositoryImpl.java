@@ -2,9 +2,15 @@ package com.turkcell.product_service.infrastructure.repositories;
 
 import com.turkcell.product_service.domain.entities.Product;
 import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.Price;
 import com.turkcell.product_service.infrastructure.entities.ProductEntity;
 import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,13 +19,23 @@ import java.util.stream.Collectors;
 /**
  * Product Repository Implementation
  * Domain repository interface'inin infrastructure implementasyonu
+ * product.sharding.enabled=true ise yerini ShardedProductRepository alır
  */
 @Component
+@ConditionalOnProperty(prefix = "product.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class ProductRepositoryImpl implements ProductRepository {
+    private static final String INSERT_PROCESSED_ORDER = "INSERT INTO processed_orders (order_id, product_id, processed_at) "
+            + "VALUES (?, ?, ?)";
+
     private final JpaProductRepository jpaProductRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
-    public ProductRepositoryImpl(JpaProductRepository jpaProductRepository) {
+    public ProductRepositoryImpl(JpaProductRepository jpaProductRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
         this.jpaProductRepository = jpaProductRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -29,15 +45,39 @@ public class ProductRepositoryImpl implements ProductRepository {
         return ProductMapper.toDomain(savedEntity);
     }
 
+    /**
+     * Sipariş kaydı önce yazılır - tekrar teslim edilen sipariş ürünü güncellemeden primary key'e takılır
+     */
+    @Override
+    public Optional<Product> saveForOrder(Product product, String orderId) {
+        try {
+            return Optional.of(transactionTemplate.execute(status -> {
+                jdbcTemplate.update(INSERT_PROCESSED_ORDER, orderId, product.getId().toString(),
+                        System.currentTimeMillis());
+                // Optimistic lock hatası commit'te değil burada fırlar - sipariş kaydı da geri alınır
+                ProductEntity savedEntity = jpaProductRepository.saveAndFlush(ProductMapper.toEntity(product));
+                return ProductMapper.toDomain(savedEntity);
+            }));
+        } catch (DuplicateKeyException ex) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean isOrderProcessed(String orderId, Product.ProductId productId) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM processed_orders WHERE order_id = ?", Integer.class,
+                orderId).isEmpty();
+    }
+
     @Override
     public Optional<Product> findById(Product.ProductId id) {
-        return jpaProductRepository.findById(id.toString())
+        return jpaProductRepository.findWithDescriptionById(id.toString())
                 .map(ProductMapper::toDomain);
     }
 
     @Override
     public List<Product> findAll() {
-        return jpaProductRepository.findAll().stream()
+        return jpaProductRepository.findAllWithDescription().stream()
                 .map(ProductMapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -64,6 +104,7 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
+    @Deprecated
     public List<Product> findByPriceRange(double minPrice, double maxPrice) {
         return jpaProductRepository
                 .findByPriceAmountBetween(
@@ -74,11 +115,31 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Product> findByPriceRange(Price minPrice, Price maxPrice) {
+        if (minPrice.isGreaterThan(maxPrice)) {
+            return List.of();
+        }
+        return jpaProductRepository
+                .findByPriceCurrencyAndPriceAmountBetween(
+                        minPrice.getCurrency().getCode(),
+                        minPrice.getAmount(),
+                        maxPrice.getAmount())
+                .stream()
+                .map(ProductMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteById(Product.ProductId id) {
         jpaProductRepository.deleteById(id.toString());
     }
 
+    @Override
+    public boolean deleteByIdAndVersion(Product.ProductId id, long version) {
+        return jpaProductRepository.deleteByIdAndVersion(id.toString(), version) > 0;
+    }
+
     @Override
     public boolean existsById(Product.ProductId id) {
         return jpaProductRepository.existsById(id.toString());
@@ -91,6 +152,6 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     @Override
     public long countInStockProducts() {
-        return jpaProductRepository.findByStockQuantityGreaterThan(0).size();
+        return jpaProductRepository.countByStockQuantityGreaterThan(0);
     }
 }
@@ -0,0 +1,155 @@
+package com.turkcell.product_service.infrastructure.repricing;
+
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest;
+import com.turkcell.product_service.application.dtos.RepricingJob;
+import com.turkcell.product_service.application.ports.ProductRepricingPort;
+import com.turkcell.product_service.infrastructure.repricing.RepricingStore.JobRow;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC Product Repricing Adapter
+ * Tek veritabanında bir RepricingStore; sharding açıkken her shard için bir tane - her shard kendi ürünlerini
+ * kendi cursor'ıyla ve kendi transaction'larıyla fiyatlar, shard'lar sırayla işlenir
+ * Kira ilk store'daki satırda alınır (aynı işi devralmak isteyen runner'lar orada sıralanır),
+ * her chunk'ta tüm store'larda uzatılır
+ */
+public class JdbcProductRepricingAdapter implements ProductRepricingPort {
+    private final List<RepricingStore> stores;
+    private final int chunkSize;
+    private final Duration lease;
+
+    JdbcProductRepricingAdapter(List<RepricingStore> stores, int chunkSize, Duration lease) {
+        if (stores.isEmpty()) {
+            throw new IllegalArgumentException("En az bir veritabanı gerekli");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize pozitif olmalı: " + chunkSize);
+        }
+        this.stores = List.copyOf(stores);
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+    }
+
+    @Override
+    public RepricingJob create(String jobId, BulkRepricingRequest request) {
+        long now = System.currentTimeMillis();
+        List<JobRow> rows = new ArrayList<>(stores.size());
+        for (RepricingStore store : stores) {
+            rows.add(store.create(jobId, request, now));
+        }
+        return toJob(rows, now);
+    }
+
+    @Override
+    public Optional<RepricingJob> find(String jobId) {
+        List<JobRow> rows = new ArrayList<>(stores.size());
+        for (RepricingStore store : stores) {
+            Optional<JobRow> row = store.load(jobId);
+            if (row.isEmpty()) {
+                return Optional.empty();
+            }
+            rows.add(row.get());
+        }
+        return Optional.of(toJob(rows, System.currentTimeMillis()));
+    }
+
+    @Override
+    public boolean claim(String jobId, String runnerId) {
+        long now = System.currentTimeMillis();
+        for (RepricingStore store : stores) {
+            if (!store.claim(jobId, runnerId, now, now + lease.toMillis())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<RepricedChunk> repriceNextChunk(String jobId, String runnerId) {
+        for (RepricingStore store : stores) {
+            long now = System.currentTimeMillis();
+            Optional<RepricedChunk> chunk = store.repriceNextChunk(jobId, runnerId, chunkSize, now,
+                    now + lease.toMillis());
+            if (chunk.isPresent()) {
+                renewExcept(store, jobId, runnerId, now + lease.toMillis());
+                return chunk;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<RepricedChunk> unpublished(String jobId) {
+        List<RepricedChunk> chunks = new ArrayList<>();
+        for (RepricingStore store : stores) {
+            store.unpublished(jobId).ifPresent(chunks::add);
+        }
+        return chunks;
+    }
+
+    @Override
+    public void markPublished(String jobId, RepricedChunk chunk) {
+        long now = System.currentTimeMillis();
+        for (RepricingStore store : stores) {
+            if (store.getName().equals(chunk.partition())) {
+                store.markPublished(jobId, chunk, now);
+            }
+        }
+    }
+
+    @Override
+    public void complete(String jobId, String runnerId) {
+        long now = System.currentTimeMillis();
+        for (RepricingStore store : stores) {
+            store.complete(jobId, runnerId, now);
+        }
+    }
+
+    @Override
+    public void fail(String jobId, String runnerId, String error) {
+        long now = System.currentTimeMillis();
+        for (RepricingStore store : stores) {
+            store.fail(jobId, runnerId, error, now);
+        }
+    }
+
+    private void renewExcept(RepricingStore current, String jobId, String runnerId, long leaseUntil) {
+        for (RepricingStore store : stores) {
+            if (store != current && !store.renew(jobId, runnerId, leaseUntil)) {
+                throw new IllegalStateException("Fiyat değişikliği işinin kirası başka bir runner'a geçti: " + jobId
+                        + " (" + store.getName() + ")");
+            }
+        }
+    }
+
+    /**
+     * Durum ve hata kirayı tutan ilk store'dan, sayaçlar tüm store'ların toplamından
+     */
+    private static RepricingJob toJob(List<JobRow> rows, long now) {
+        JobRow first = rows.get(0);
+        long total = 0;
+        long updated = 0;
+        long published = 0;
+        long updatedAt = 0;
+        for (JobRow row : rows) {
+            total += row.totalCount();
+            updated += row.updatedCount();
+            published += row.publishedCount();
+            updatedAt = Math.max(updatedAt, row.updatedAt());
+        }
+        RepricingJob.Status status = RepricingJob.Status.valueOf(first.status());
+        if (status == RepricingJob.Status.RUNNING && first.leaseUntil() != null && first.leaseUntil() < now) {
+            status = RepricingJob.Status.INTERRUPTED;
+        }
+        double progress = status == RepricingJob.Status.COMPLETED || total == 0 ? 1.0
+                : Math.min(1.0, (double) updated / total);
+        return new RepricingJob(first.id(), status, BigDecimal.valueOf(first.basisPoints(), 2), first.rounding(),
+                first.currency(), first.minPrice(), first.maxPrice(), first.inStock(), total, updated, published,
+                progress, first.error(), first.createdAt(), updatedAt);
+    }
+}
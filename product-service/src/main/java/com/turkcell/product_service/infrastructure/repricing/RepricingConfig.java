@@ -0,0 +1,37 @@
+package com.turkcell.product_service.infrastructure.repricing;
+
+import com.turkcell.product_service.infrastructure.sharding.ProductShards;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * Repricing Configuration
+ * Toplu fiyat değişikliği ürünlerin bulunduğu veritabanlarında çalışır: sharding kapalıyken spring.datasource,
+ * açıkken boşaltılanlar dahil her shard (iş satırı da her shard'da tutulur)
+ * Resharding sürerken iş başlatılmamalıdır - taşınan satırlar kaynak ya da hedef shard'ın cursor'ını kaçırabilir
+ */
+@Configuration
+@EnableConfigurationProperties(RepricingProperties.class)
+public class RepricingConfig {
+
+    @Bean
+    public JdbcProductRepricingAdapter productRepricingAdapter(RepricingProperties properties,
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectProvider<ProductShards> productShards) {
+        ProductShards shards = productShards.getIfAvailable();
+        List<RepricingStore> stores = shards == null
+                ? List.of(new RepricingStore("default", jdbcTemplate, transactionManager))
+                : shards.all().stream()
+                        .map(shard -> new RepricingStore(shard.name(), shard.jdbcTemplate(),
+                                new DataSourceTransactionManager(shard.dataSource())))
+                        .toList();
+        return new JdbcProductRepricingAdapter(stores, properties.getChunkSize(), properties.getLease());
+    }
+}
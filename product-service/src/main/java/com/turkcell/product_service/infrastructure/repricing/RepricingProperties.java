@@ -0,0 +1,39 @@
+package com.turkcell.product_service.infrastructure.repricing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Repricing Properties
+ * Toplu fiyat değişikliği işlerinin chunk boyutu ve kira süresi
+ */
+@ConfigurationProperties(prefix = "product.repricing")
+public class RepricingProperties {
+    /**
+     * Tek transaction'da güncellenen ürün sayısı - kilitlerin ve yeniden yapılacak işin üst sınırı
+     */
+    private int chunkSize = 5000;
+
+    /**
+     * Runner'ın işi tuttuğu süre - her chunk'ta uzatılır, dolarsa iş INTERRUPTED görünür ve devralınabilir
+     * Bir chunk'ın süresinden (ve olaylarının yayınlanmasından) uzun olmalıdır
+     */
+    private Duration lease = Duration.ofSeconds(30);
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+}
@@ -0,0 +1,283 @@
+package com.turkcell.product_service.infrastructure.repricing;
+
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest;
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest.Rounding;
+import com.turkcell.product_service.application.ports.ProductRepricingPort.RepricedChunk;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repricing Store
+ * Tek bir veritabanındaki price_change_jobs satırı ve o veritabanındaki ürünlerin küme tabanlı fiyatlanması
+ *
+ * Bir chunk tek transaction'dır: iş satırı kilitlenir (FOR UPDATE) ve kiranın bu runner'da olduğu doğrulanır,
+ * cursor'dan sonraki chunkSize satır id sırasıyla taranır, filtreye uyanların fiyatı küme tabanlı UPDATE ile
+ * (IN listesi başına bir statement) değiştirilir, cursor aynı transaction'da ilerletilir -
+ * chunk ya tamamen uygulanır ya hiç, tekrar edilmez
+ *
+ * Yeni fiyat Price.increaseByBasisPoints / decreaseByBasisPoints ile aynı tam sayı aritmetiğiyle SQL'de hesaplanır:
+ * n = kuruş * (10000 + bp), q = floor(n / 10000), r = n - q * 10000, q seçilen yuvarlamaya göre r ile düzeltilir
+ * Bölme yerine 0.0001 ile çarpılır: NUMERIC çarpımı hem PostgreSQL'de hem H2'de tamdır, bölmenin ölçeği sürücüye göre değişir
+ */
+class RepricingStore {
+    private static final String SELECT_JOB = "SELECT id, status, basis_points, rounding, currency, min_price, "
+            + "max_price, in_stock, total_count, updated_count, published_count, cursor_id, published_cursor_id, "
+            + "scan_complete, lease_owner, lease_until, error, created_at, updated_at FROM price_change_jobs";
+
+    /**
+     * IN listesindeki maksimum parametre - JdbcProductQueryAdapter ile aynı sınır
+     */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private static final RowMapper<JobRow> JOB_MAPPER = (ResultSet rs, int rowNum) -> new JobRow(
+            rs.getString("id"),
+            rs.getString("status"),
+            rs.getLong("basis_points"),
+            Rounding.valueOf(rs.getString("rounding")),
+            rs.getString("currency"),
+            rs.getBigDecimal("min_price"),
+            rs.getBigDecimal("max_price"),
+            rs.getObject("in_stock", Boolean.class),
+            rs.getLong("total_count"),
+            rs.getLong("updated_count"),
+            rs.getLong("published_count"),
+            rs.getString("cursor_id"),
+            rs.getString("published_cursor_id"),
+            rs.getBoolean("scan_complete"),
+            rs.getString("lease_owner"),
+            rs.getObject("lease_until", Long.class),
+            rs.getString("error"),
+            rs.getLong("created_at"),
+            rs.getLong("updated_at"));
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcProductQueryAdapter products;
+
+    RepricingStore(String name, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Olaylar için güncel hâl aynı transaction'da, bu veritabanından okunur (replica gecikmesi yok)
+        this.products = new JdbcProductQueryAdapter(jdbcTemplate);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    JobRow create(String jobId, BulkRepricingRequest request, long now) {
+        Filter filter = new Filter(request.getCurrency(), request.getMinPrice(), request.getMaxPrice(),
+                request.getInStock());
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products" + filter.where(), Long.class,
+                filter.args().toArray());
+        jdbcTemplate.update("INSERT INTO price_change_jobs (id, status, basis_points, rounding, currency, min_price, "
+                + "max_price, in_stock, total_count, created_at, updated_at) VALUES (?, 'PENDING', ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                jobId, request.signedBasisPoints(), request.getRounding().name(), request.getCurrency(),
+                request.getMinPrice(), request.getMaxPrice(), request.getInStock(), total, now, now);
+        return load(jobId).orElseThrow();
+    }
+
+    Optional<JobRow> load(String jobId) {
+        List<JobRow> rows = jdbcTemplate.query(SELECT_JOB + " WHERE id = ?", JOB_MAPPER, jobId);
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    /**
+     * PENDING, FAILED ya da kirası dolmuş RUNNING işi runner'a kiralar
+     */
+    boolean claim(String jobId, String runnerId, long now, long leaseUntil) {
+        return jdbcTemplate.update("UPDATE price_change_jobs SET status = 'RUNNING', lease_owner = ?, lease_until = ?, "
+                + "error = NULL, updated_at = ? WHERE id = ? AND (status IN ('PENDING', 'FAILED') "
+                + "OR (status = 'RUNNING' AND lease_until < ?))", runnerId, leaseUntil, now, jobId, now) == 1;
+    }
+
+    boolean renew(String jobId, String runnerId, long leaseUntil) {
+        return jdbcTemplate.update("UPDATE price_change_jobs SET lease_until = ? WHERE id = ? AND status = 'RUNNING' "
+                + "AND lease_owner = ?", leaseUntil, jobId, runnerId) == 1;
+    }
+
+    /**
+     * Sonraki chunk'ı fiyatlar - bu veritabanında güncellenecek ürün kalmadıysa boş döner
+     */
+    Optional<RepricedChunk> repriceNextChunk(String jobId, String runnerId, int chunkSize, long now, long leaseUntil) {
+        return transactionTemplate.execute(status -> {
+            List<JobRow> locked = jdbcTemplate.query(SELECT_JOB + " WHERE id = ? FOR UPDATE", JOB_MAPPER, jobId);
+            if (locked.isEmpty() || !"RUNNING".equals(locked.get(0).status())
+                    || !runnerId.equals(locked.get(0).leaseOwner())) {
+                throw new IllegalStateException("Fiyat değişikliği işinin kirası başka bir runner'a geçti: " + jobId);
+            }
+            JobRow job = locked.get(0);
+            if (job.scanComplete()) {
+                return Optional.<RepricedChunk>empty();
+            }
+            Filter filter = job.filter();
+            // Chunk primary key aralığıdır: filtre WHERE'de olsaydı planlayıcı filtre index'ini seçip her chunk'ta
+            // aynı satırları yeniden tarayıp sıralayabilirdi; burada her chunk tam chunkSize satırlık bir PK taramasıdır
+            List<Object> selectArgs = new ArrayList<>(filter.args());
+            selectArgs.add(job.cursor());
+            selectArgs.add(chunkSize);
+            List<String> scanned = new ArrayList<>(chunkSize);
+            List<String> ids = new ArrayList<>();
+            jdbcTemplate.query("SELECT id, " + filter.matches() + " FROM products WHERE id > ? ORDER BY id LIMIT ?",
+                    (ResultSet rs) -> {
+                        scanned.add(rs.getString(1));
+                        if (rs.getInt(2) == 1) {
+                            ids.add(rs.getString(1));
+                        }
+                    }, selectArgs.toArray());
+            if (scanned.isEmpty()) {
+                jdbcTemplate.update("UPDATE price_change_jobs SET scan_complete = TRUE, lease_until = ?, updated_at = ? "
+                        + "WHERE id = ?", leaseUntil, now, jobId);
+                return Optional.<RepricedChunk>empty();
+            }
+            String update = "UPDATE products SET price_amount = " + priceExpression(job.basisPoints(), job.rounding())
+                    + ", version = version + 1";
+            int updated = 0;
+            for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+                List<String> part = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+                // Filtre tekrar uygulanır: seçimden sonra filtre dışına çıkan ürün değiştirilmez
+                List<Object> updateArgs = new ArrayList<>(filter.args());
+                updateArgs.addAll(part);
+                updated += jdbcTemplate.update(update + filter.where("id IN ("
+                        + String.join(", ", Collections.nCopies(part.size(), "?")) + ")"), updateArgs.toArray());
+            }
+            String cursor = scanned.get(scanned.size() - 1);
+            jdbcTemplate.update("UPDATE price_change_jobs SET cursor_id = ?, updated_count = updated_count + ?, "
+                    + "scan_complete = ?, lease_until = ?, updated_at = ? WHERE id = ?", cursor, updated,
+                    scanned.size() < chunkSize, leaseUntil, now, jobId);
+            return Optional.of(new RepricedChunk(name, products.findByIds(ids), cursor));
+        });
+    }
+
+    /**
+     * Fiyatlanmış fakat olayları yayınlanmamış aralık (published_cursor_id, cursor_id] - en fazla bir chunk
+     * Aralıktaki ürünler para birimi filtresiyle seçilir: bazıları fiyatlanmamış olabilir, olayları yine güncel hâli taşır
+     */
+    Optional<RepricedChunk> unpublished(String jobId) {
+        return load(jobId)
+                .filter(job -> job.publishedCursor().compareTo(job.cursor()) < 0)
+                .map(job -> {
+                    List<Object> args = new ArrayList<>(List.of(job.publishedCursor(), job.cursor()));
+                    String currency = "";
+                    if (job.currency() != null) {
+                        currency = " AND price_currency = ?";
+                        args.add(job.currency());
+                    }
+                    List<String> ids = jdbcTemplate.queryForList("SELECT id FROM products WHERE id > ? AND id <= ?"
+                            + currency + " ORDER BY id", String.class, args.toArray());
+                    return new RepricedChunk(name, products.findByIds(ids), job.cursor());
+                });
+    }
+
+    void markPublished(String jobId, RepricedChunk chunk, long now) {
+        jdbcTemplate.update("UPDATE price_change_jobs SET published_cursor_id = ?, published_count = published_count + ?, "
+                + "updated_at = ? WHERE id = ? AND published_cursor_id < ?", chunk.cursor(), chunk.products().size(),
+                now, jobId, chunk.cursor());
+    }
+
+    void complete(String jobId, String runnerId, long now) {
+        jdbcTemplate.update("UPDATE price_change_jobs SET status = 'COMPLETED', lease_owner = NULL, lease_until = NULL, "
+                + "updated_at = ? WHERE id = ? AND status = 'RUNNING' AND lease_owner = ?", now, jobId, runnerId);
+    }
+
+    void fail(String jobId, String runnerId, String error, long now) {
+        String message = error.length() > 1000 ? error.substring(0, 1000) : error;
+        jdbcTemplate.update("UPDATE price_change_jobs SET status = 'FAILED', error = ?, lease_owner = NULL, "
+                + "lease_until = NULL, updated_at = ? WHERE id = ? AND status = 'RUNNING' AND lease_owner = ?", message,
+                now, jobId, runnerId);
+    }
+
+    /**
+     * price_amount'un yeni değeri - kuruş cinsinden tam sayı aritmetiği, sonuç 0.01 ile çarpılarak NUMERIC(19, 2)'ye döner
+     * Artış/azalış oranı doğrulanmış bir long olduğundan SQL'e literal olarak yazılır
+     */
+    static String priceExpression(long signedBasisPoints, Rounding rounding) {
+        String numerator = "(price_amount * 100 * " + (10_000 + signedBasisPoints) + ")";
+        String quotient = "FLOOR(" + numerator + " * 0.0001)";
+        String remainder = "(" + numerator + " - " + quotient + " * 10000)";
+        String rounded = switch (rounding) {
+            case DOWN -> quotient;
+            case UP -> quotient + " + CASE WHEN " + remainder + " > 0 THEN 1 ELSE 0 END";
+            case HALF_UP -> quotient + " + CASE WHEN " + remainder + " * 2 >= 10000 THEN 1 ELSE 0 END";
+            case HALF_EVEN -> quotient + " + CASE WHEN " + remainder + " * 2 > 10000 OR (" + remainder
+                    + " * 2 = 10000 AND MOD(" + quotient + ", 2) = 1) THEN 1 ELSE 0 END";
+        };
+        return "(" + rounded + ") * 0.01";
+    }
+
+    /**
+     * İşin ürün filtresi - null alanlar filtre dışıdır
+     */
+    record Filter(String currency, BigDecimal minPrice, BigDecimal maxPrice, Boolean inStock) {
+
+        String where(String... extra) {
+            List<String> conditions = conditions();
+            conditions.addAll(List.of(extra));
+            return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        }
+
+        /**
+         * Satır filtreye uyuyorsa 1, uymuyorsa 0 - parametreleri args() ile aynı sırada
+         */
+        String matches() {
+            List<String> conditions = conditions();
+            return conditions.isEmpty() ? "1" : "CASE WHEN " + String.join(" AND ", conditions) + " THEN 1 ELSE 0 END";
+        }
+
+        private List<String> conditions() {
+            List<String> conditions = new ArrayList<>();
+            if (currency != null) {
+                conditions.add("price_currency = ?");
+            }
+            if (minPrice != null) {
+                conditions.add("price_amount >= ?");
+            }
+            if (maxPrice != null) {
+                conditions.add("price_amount <= ?");
+            }
+            if (inStock != null) {
+                conditions.add(inStock ? "stock_quantity > 0" : "stock_quantity = 0");
+            }
+            return conditions;
+        }
+
+        List<Object> args() {
+            List<Object> args = new ArrayList<>(3);
+            if (currency != null) {
+                args.add(currency);
+            }
+            if (minPrice != null) {
+                args.add(minPrice);
+            }
+            if (maxPrice != null) {
+                args.add(maxPrice);
+            }
+            return args;
+        }
+    }
+
+    /**
+     * price_change_jobs satırı
+     */
+    record JobRow(String id, String status, long basisPoints, Rounding rounding, String currency, BigDecimal minPrice,
+            BigDecimal maxPrice, Boolean inStock, long totalCount, long updatedCount, long publishedCount, String cursor,
+            String publishedCursor, boolean scanComplete, String leaseOwner, Long leaseUntil, String error,
+            long createdAt, long updatedAt) {
+
+        Filter filter() {
+            return new Filter(currency, minPrice, maxPrice, inStock);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.turkcell.product_service.infrastructure.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read Replica Configuration
+ * product.read-replicas.enabled=true ise Boot'un DataSource'u yerine ReadWriteRoutingDataSource kurulur:
+ * primary spring.datasource(.hikari) ayarlarıyla, replica'lar product.read-replicas.replicas ile oluşturulur
+ * Replica'lar gerçek bir replikasyon gerektirmez - iki bağımsız veritabanıyla da yerelde denenebilir
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadReplicas readReplicas(ReadReplicaProperties properties) {
+        List<ReadReplicaProperties.Replica> configured = properties.getReplicas();
+        if (configured.isEmpty()) {
+            throw new IllegalStateException("product.read-replicas.enabled=true fakat replicas listesi boş");
+        }
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < configured.size(); i++) {
+            ReadReplicaProperties.Replica replica = configured.get(i);
+            String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + (i + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            pool.setReadOnly(true);
+            replicas.put(name, pool);
+        }
+        return new ReadReplicas(replicas, properties);
+    }
+
+    /**
+     * Boot'un Hikari DataSource'u ile aynı ayarlarla kurulan primary, routing DataSource'un hedefidir
+     */
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties dataSourceProperties, ReadReplicas readReplicas,
+            Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (!StringUtils.hasText(primary.getPoolName())) {
+            primary.setPoolName("primary");
+        }
+        return new ReadWriteRoutingDataSource(primary, readReplicas);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.getReadYourWritesCookie(), properties.getReadYourWritesWindow()));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,163 @@
+package com.turkcell.product_service.infrastructure.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read Replica Properties
+ * Salt okunur transaction'ların yönlendirileceği replica'lar, sağlık kontrolü ve read-your-writes ayarları
+ */
+@ConfigurationProperties(prefix = "product.read-replicas")
+public class ReadReplicaProperties {
+    /**
+     * false ise tüm trafik spring.datasource'a (primary) gider
+     */
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Replica havuzundan bağlantı alma zaman aşımı - kısa tutulur, aşılırsa okuma primary'ye düşer
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Replikasyon gecikmesini saniye cinsinden dönen sorgu - boşsa gecikme ölçülmez (yalnızca bağlantı kontrolü)
+     */
+    private String lagQuery;
+
+    /**
+     * Gecikmesi bunu aşan replica sağlıklı sayılmaz - read-your-writes-window'dan büyük olamaz
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(1);
+
+    /**
+     * Bir istemcinin kendi yazmasından sonra okumalarının primary'ye gittiği süre
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Yazma yanıtlarına eklenen, pencerenin bitiş zamanını taşıyan cookie
+     */
+    private String readYourWritesCookie = "product-rw";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public Duration getMaxReplicationLag() {
+        return maxReplicationLag;
+    }
+
+    public void setMaxReplicationLag(Duration maxReplicationLag) {
+        this.maxReplicationLag = maxReplicationLag;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public String getReadYourWritesCookie() {
+        return readYourWritesCookie;
+    }
+
+    public void setReadYourWritesCookie(String readYourWritesCookie) {
+        this.readYourWritesCookie = readYourWritesCookie;
+    }
+
+    public static class Replica {
+        /**
+         * Metrik tag'i ve Hikari havuz adı - boşsa replica-<sıra>
+         */
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.turkcell.product_service.infrastructure.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read Replicas
+ * Salt okunur bağlantılar için sağlık kontrollü round-robin replica seçimi
+ * Sağlık kontrolü her aralıkta bağlantıyı ve (lag-query verildiyse) replikasyon gecikmesini ölçer;
+ * bağlantı alınamayan ya da gecikmesi max-replication-lag'i aşan replica bir sonraki başarılı kontrole kadar atlanır
+ * Hiç sağlıklı replica yoksa ya da istemci read-your-writes penceresindeyse okuma primary'ye gider
+ */
+public class ReadReplicas implements SmartLifecycle, MeterBinder, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicas.class);
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration healthCheckInterval;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder readYourWritesReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+    private volatile ScheduledExecutorService healthChecker;
+
+    /**
+     * @param replicas ad -> DataSource, sıra korunur
+     */
+    public ReadReplicas(Map<String, DataSource> replicas, ReadReplicaProperties properties) {
+        if (properties.getMaxReplicationLag().compareTo(properties.getReadYourWritesWindow()) > 0) {
+            // Pencere bittiğinde istemcinin yazması her sağlıklı replica'da görünür olmalı
+            throw new IllegalStateException("product.read-replicas.max-replication-lag ("
+                    + properties.getMaxReplicationLag() + ") read-your-writes-window'dan ("
+                    + properties.getReadYourWritesWindow() + ") büyük olamaz");
+        }
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.healthCheckInterval = properties.getHealthCheckInterval();
+        this.lagQuery = properties.getLagQuery();
+        this.maxLagSeconds = properties.getMaxReplicationLag().toNanos() / 1_000_000_000.0;
+    }
+
+    /**
+     * Salt okunur transaction'ın fiziksel bağlantısı
+     */
+    public Connection readConnection(DataSource primary) throws SQLException {
+        if (ReadYourWrites.isPrimaryRequired()) {
+            readYourWritesReads.increment();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException ex) {
+                // Sonraki sağlık kontrolüne kadar atlanır - her okuma bağlantı zaman aşımını beklemesin
+                replica.update(false, Double.NaN, ex);
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Tüm replica'ları kontrol eder - zamanlanmış olarak ve açılışta bir kez çalışır
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                double lag = lagSeconds(connection);
+                replica.update(lag <= maxLagSeconds, lag, null);
+            } catch (SQLException | RuntimeException ex) {
+                replica.update(false, Double.NaN, ex);
+            }
+        }
+    }
+
+    /**
+     * Replica havuzlarının toplam boyutu (yalnızca Hikari havuzları)
+     */
+    public int getTotalPoolSize() {
+        return replicas.stream()
+                .mapToInt(replica -> replica.dataSource instanceof HikariDataSource hikari
+                        ? hikari.getMaximumPoolSize()
+                        : 0)
+                .sum();
+    }
+
+    public List<ReplicaStatus> status() {
+        return replicas.stream()
+                .map(replica -> new ReplicaStatus(replica.name, replica.healthy, replica.lagSeconds,
+                        replica.reads.sum()))
+                .toList();
+    }
+
+    @Override
+    public void start() {
+        checkHealth();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("read-replica-health").factory());
+        long intervalMillis = healthCheckInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        healthChecker = executor;
+        log.info("{} read replica, sağlık kontrolü {}ms aralıkla", replicas.size(), intervalMillis);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = healthChecker;
+        healthChecker = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return healthChecker != null;
+    }
+
+    @Override
+    public void close() throws Exception {
+        stop();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("product.db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("product.db.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("product.db.reads", replica.reads, LongAdder::sum)
+                    .tags("target", replica.name, "reason", "round-robin")
+                    .register(registry);
+            if (replica.dataSource instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null) {
+                // Boot'un hikaricp.* metrikleri yalnızca DataSource bean'ine bağlanır - replica havuzları burada eklenir
+                try {
+                    hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                } catch (RuntimeException ex) {
+                    log.debug("Replica '{}' havuz metrikleri bağlanamadı", replica.name, ex);
+                }
+            }
+        }
+        FunctionCounter.builder("product.db.reads", readYourWritesReads, LongAdder::sum)
+                .tags("target", "primary", "reason", "read-your-writes")
+                .register(registry);
+        FunctionCounter.builder("product.db.reads", fallbackReads, LongAdder::sum)
+                .tags("target", "primary", "reason", "no-healthy-replica")
+                .register(registry);
+    }
+
+    private double lagSeconds(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            if (!connection.isValid((int) Math.max(1, healthCheckInterval.toSeconds()))) {
+                throw new SQLException("Replica bağlantısı geçersiz");
+            }
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? resultSet.getDouble(1) : 0;
+        }
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder reads = new LongAdder();
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void update(boolean nowHealthy, double lag, Exception failure) {
+            boolean wasHealthy = healthy;
+            lagSeconds = lag;
+            healthy = nowHealthy;
+            if (wasHealthy && !nowHealthy) {
+                if (failure != null) {
+                    log.warn("Read replica '{}' devre dışı: {}", name, failure.getMessage());
+                } else {
+                    log.warn("Read replica '{}' devre dışı: replikasyon gecikmesi {}s", name, lag);
+                }
+            } else if (!wasHealthy && nowHealthy) {
+                log.info("Read replica '{}' okumalara açıldı (gecikme {}s)", name, lag);
+            }
+        }
+    }
+
+    public record ReplicaStatus(String name, boolean healthy, double lagSeconds, long reads) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.turkcell.product_service.infrastructure.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read/Write Routing DataSource
+ * Fiziksel bağlantı ilk statement'a kadar alınmaz: transaction manager'ın setReadOnly(true) çağırdığı
+ * (@Transactional(readOnly = true)) transaction'lar ReadReplicas'tan, diğer her şey primary'den bağlantı alır
+ * Transaction dışındaki çağrılar ve yazmalar her zaman primary'dedir
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+    private final DataSource primary;
+    private final ReadReplicas replicas;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReadReplicas replicas) {
+        super(primary);
+        this.primary = primary;
+        this.replicas = replicas;
+        setReadOnlyDataSource(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return replicas.readConnection(primary);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLException("Replica bağlantıları yapılandırılmış kullanıcı ile açılır");
+            }
+        });
+    }
+
+    public ReadReplicas getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Primary ve replica havuzlarının toplam boyutu - eşzamanlılık sınırı okumaları da kapsar
+     */
+    public int getTotalPoolSize() {
+        int primaryPoolSize = primary instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 0;
+        return primaryPoolSize + replicas.getTotalPoolSize();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
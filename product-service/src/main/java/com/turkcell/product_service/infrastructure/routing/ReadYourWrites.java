@@ -0,0 +1,25 @@
+package com.turkcell.product_service.infrastructure.routing;
+
+/**
+ * Read Your Writes
+ * Geçerli thread'deki okumaların replica yerine primary'ye gitmesi gerektiğini işaretler
+ * ReadYourWritesFilter, kendi yazmasının üzerinden henüz read-your-writes-window geçmemiş istemcinin isteği için açar
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
@@ -0,0 +1,33 @@
+package com.turkcell.product_service.infrastructure.routing;
+
+import com.turkcell.product_service.application.ports.ReadConsistencyPort;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Read Your Writes Adapter
+ * ReadConsistencyPort'u ReadYourWrites bayrağı üzerinden uygular
+ * Read replica'lar kapalıyken bayrağı okuyan bir routing DataSource olmadığı için tüm okumalar zaten primary'dedir
+ */
+@Component
+public class ReadYourWritesAdapter implements ReadConsistencyPort {
+
+    @Override
+    public boolean isPrimaryRequired() {
+        return ReadYourWrites.isPrimaryRequired();
+    }
+
+    @Override
+    public <T> T readFromPrimary(Supplier<T> read) {
+        if (ReadYourWrites.isPrimaryRequired()) {
+            return read.get();
+        }
+        ReadYourWrites.requirePrimary();
+        try {
+            return read.get();
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.turkcell.product_service.infrastructure.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read Your Writes Filter
+ * Yazma isteklerinin yanıtına pencerenin bitiş zamanını (epoch ms) taşıyan bir cookie ekler;
+ * cookie'si henüz dolmamış istemcinin okumaları replica yerine primary'ye gider
+ * Durum istemcide taşındığı için hangi instance'a düşerse düşsün aynı istemcinin okumaları yönlendirilir
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final String cookieName;
+    private final Duration window;
+
+    public ReadYourWritesFilter(String cookieName, Duration window) {
+        this.cookieName = cookieName;
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            // Yanıt gövdesi yazılmadan önce eklenir - yazma başarısız olsa da pencere zararsızdır
+            long until = System.currentTimeMillis() + window.toMillis();
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(cookieName, Long.toString(until))
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .maxAge(window)
+                    .build()
+                    .toString());
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!withinWindow(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ReadYourWrites.requirePrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private boolean withinWindow(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,215 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Product Shards
+ * Shard veritabanları, ProductId -> shard yerleşimi (ShardRing) ve scatter-gather yürütücüsü
+ * Nokta işlemleri tek shard'a gider; liste/sayım sorguları her shard'da virtual thread'lerde paralel çalışır
+ * Resharding sırasında (previousRing doluyken) satır henüz taşınmadıysa önceki sahibinde bulunur
+ */
+public class ProductShards implements MeterBinder, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ProductShards.class);
+
+    private final Map<String, Shard> shards = new LinkedHashMap<>();
+    private final ShardRing ring;
+    private final ShardRing previousRing;
+    private final Duration scatterTimeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param dataSources  ad -> DataSource, ring'de olmayan (boşaltılan) shard'lar dahil tüm shard'lar
+     * @param ring         Güncel ring'in shard adları
+     * @param previousRing Resharding öncesi ring'in shard adları - boşsa taşıma yoktur
+     */
+    public ProductShards(Map<String, DataSource> dataSources, List<String> ring, List<String> previousRing,
+            int virtualNodes, Duration scatterTimeout) {
+        dataSources.forEach((name, dataSource) -> shards.put(name, new Shard(name, dataSource,
+                new JdbcTemplate(dataSource))));
+        for (String name : ring) {
+            requireConfigured(name);
+        }
+        for (String name : previousRing) {
+            requireConfigured(name);
+        }
+        this.ring = new ShardRing(ring, virtualNodes);
+        this.previousRing = previousRing.isEmpty() ? null : new ShardRing(previousRing, virtualNodes);
+        for (String name : shards.keySet()) {
+            if (!ring.contains(name) && !previousRing.contains(name)) {
+                // Hiçbir ring'de olmayan shard'ın satırlarına erişilemez
+                throw new IllegalStateException("Shard '" + name + "' ne güncel ne de önceki ring'de");
+            }
+        }
+        this.scatterTimeout = scatterTimeout;
+    }
+
+    /**
+     * ID'nin güncel ring'deki sahibi
+     */
+    public Shard owner(String id) {
+        return shards.get(ring.owner(id));
+    }
+
+    /**
+     * Resharding sürerken ID'nin önceki sahibi - taşıma yoksa ya da sahip değişmediyse null
+     */
+    public Shard previousOwner(String id) {
+        if (previousRing == null) {
+            return null;
+        }
+        String previous = previousRing.owner(id);
+        return previous.equals(ring.owner(id)) ? null : shards.get(previous);
+    }
+
+    /**
+     * Satırın bulunabileceği shard'lar - önce güncel sahip
+     */
+    public List<Shard> candidates(String id) {
+        Shard previous = previousOwner(id);
+        return previous == null ? List.of(owner(id)) : List.of(owner(id), previous);
+    }
+
+    public List<Shard> all() {
+        return List.copyOf(shards.values());
+    }
+
+    public ShardRing getRing() {
+        return ring;
+    }
+
+    public boolean isResharding() {
+        return previousRing != null;
+    }
+
+    /**
+     * Sorguyu tüm shard'larda paralel çalıştırır, sonuçları shard sırasıyla döner
+     * Bir shard hata verir ya da scatter-timeout içinde yanıt vermezse sorgu başarısız olur -
+     * eksik shard'la hesaplanmış bir liste/sayı sessizce yanlış olurdu
+     */
+    public <T> List<T> scatter(Function<Shard, T> query) {
+        List<Shard> targets = all();
+        if (targets.size() == 1) {
+            return List.of(query.apply(targets.get(0)));
+        }
+        List<Future<T>> futures = new ArrayList<>(targets.size());
+        for (Shard shard : targets) {
+            futures.add(executor.submit(() -> query.apply(shard)));
+        }
+        long deadline = System.nanoTime() + scatterTimeout.toNanos();
+        List<T> results = new ArrayList<>(targets.size());
+        int index = 0;
+        try {
+            for (; index < futures.size(); index++) {
+                results.add(futures.get(index).get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new DataAccessResourceFailureException(
+                    "Shard '" + targets.get(index).name() + "' sorgusu başarısız", ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new QueryTimeoutException("Shard '" + targets.get(index).name() + "' " + scatterTimeout.toMillis()
+                    + "ms içinde yanıt vermedi");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Scatter-gather sorgusu kesildi", ex);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Resharding sırasında hem güncel hem önceki sahibinde bulunan satırların fazla kopya sayısı -
+     * shard sayımlarının toplamından düşülür; yalnızca sahibi değişen ID'ler belleğe alınır
+     *
+     * @param matchingIds Shard'da sorguyla eşleşen satırlardan verilen filtreyi geçenlerin ID'leri
+     * @return Taşıma yoksa 0
+     */
+    public long duplicateCount(BiFunction<Shard, Predicate<String>, List<String>> matchingIds) {
+        if (!isResharding()) {
+            return 0;
+        }
+        long copies = 0;
+        Set<String> distinct = new HashSet<>();
+        for (List<String> ids : scatter(shard -> matchingIds.apply(shard, id -> previousOwner(id) != null))) {
+            copies += ids.size();
+            distinct.addAll(ids);
+        }
+        return copies - distinct.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Shard shard : shards.values()) {
+            HikariDataSource hikari = unwrapHikari(shard.dataSource());
+            if (hikari != null && hikari.getMetricsTrackerFactory() == null) {
+                // hikaricp.* metrikleri yalnızca DataSource bean'ine bağlanır - shard havuzları burada eklenir
+                try {
+                    hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                } catch (RuntimeException ex) {
+                    log.debug("Shard '{}' havuz metrikleri bağlanamadı", shard.name(), ex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdownNow();
+        for (Shard shard : shards.values()) {
+            HikariDataSource hikari = unwrapHikari(shard.dataSource());
+            if (hikari != null) {
+                hikari.close();
+            }
+        }
+    }
+
+    private void requireConfigured(String name) {
+        if (!shards.containsKey(name)) {
+            throw new IllegalStateException("Ring'deki shard '" + name + "' yapılandırılmamış");
+        }
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Tek bir shard veritabanı
+     */
+    public record Shard(String name, DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    }
+}
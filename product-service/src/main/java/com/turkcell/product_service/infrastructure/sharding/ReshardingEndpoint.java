@@ -0,0 +1,36 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * Resharding Endpoint
+ * GET /actuator/resharding - ring, shard başına tarama/taşıma ilerlemesi
+ * POST /actuator/resharding - her shard'da bir batch taşır (complete true olana kadar tekrarlanır)
+ * DELETE /actuator/resharding - ilerlemeyi sıfırlar, sonraki adım baştan tarar
+ */
+@Endpoint(id = "resharding")
+public class ReshardingEndpoint {
+    private final ShardRebalancer rebalancer;
+
+    public ReshardingEndpoint(ShardRebalancer rebalancer) {
+        this.rebalancer = rebalancer;
+    }
+
+    @ReadOperation
+    public ShardRebalancer.ReshardingStatus status() {
+        return rebalancer.status();
+    }
+
+    @WriteOperation
+    public ShardRebalancer.ReshardingStatus step() {
+        return rebalancer.step();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        rebalancer.reset();
+    }
+}
@@ -0,0 +1,183 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.sharding.ProductShards.Shard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shard Rebalancer - resharding aracı
+ * Her shard'ı id sırasıyla batch batch tarar, güncel ring'e göre başka shard'a ait satırları sahibine taşır
+ * Taşıma adım adımdır: her step() shard başına en fazla batchSize satır tarar, kaldığı yeri (cursor) hatırlar
+ *
+ * Bir satırın taşınması (kaynak S, hedef T, okunan sürüm v):
+ * 1. Satır T'ye eklenir (T'de zaten varsa ve eskiyse v ile güncellenir)
+ * 2. S'den "id = ? AND version = v" ile silinir
+ * 3. Silme 0 satır etkilediyse satır bu arada S'de güncellenmiştir: T'ye eklenen kopya (sürüm v) geri alınır,
+ *    satır sonraki turda tekrar denenir
+ * Yazmalar önce güncel sahibi denediği için (ShardedProductRepository) taşınmış satırın güncellemesi kaybolmaz
+ * Çakışma olan bir tur bittiğinde shard baştan taranır; çakışmasız tamamlanan shard done olur
+ * Adımlar ReentrantLock ile sıralanır: synchronized içinde shard'ları beklemek virtual thread'in carrier'ını sabitlerdi
+ */
+public class ShardRebalancer {
+    private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    private final ProductShards shards;
+    private final int batchSize;
+    private final Map<String, Progress> progress = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ShardRebalancer(ProductShards shards, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize pozitif olmalı: " + batchSize);
+        }
+        this.shards = shards;
+        this.batchSize = batchSize;
+        shards.all().forEach(shard -> progress.put(shard.name(), new Progress()));
+    }
+
+    /**
+     * Tamamlanmamış her shard'da bir batch tarar ve yanlış yerdeki satırları taşır - shard'lar paralel işlenir
+     */
+    public ReshardingStatus step() {
+        lock.lock();
+        try {
+            shards.scatter(shard -> {
+                Progress shardProgress = progress.get(shard.name());
+                if (!shardProgress.done) {
+                    step(shard, shardProgress);
+                }
+                return shardProgress;
+            });
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tüm shard'lar çakışmasız bir turu tamamlayana kadar step() çalıştırır
+     */
+    public ReshardingStatus runToCompletion() {
+        ReshardingStatus status = step();
+        while (!status.complete()) {
+            status = step();
+        }
+        return status;
+    }
+
+    /**
+     * İlerlemeyi sıfırlar - sonraki step() tüm shard'ları baştan tarar
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            progress.replaceAll((name, old) -> new Progress());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public ReshardingStatus status() {
+        lock.lock();
+        try {
+            List<ShardProgress> shardProgress = progress.entrySet().stream()
+                    .map(entry -> entry.getValue().report(entry.getKey()))
+                    .toList();
+            boolean complete = shardProgress.stream().allMatch(ShardProgress::done);
+            return new ReshardingStatus(shards.getRing().getShards(), shards.isResharding(), complete, shardProgress);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void step(Shard source, Progress progress) {
+        List<ProductEntity> rows = source.jdbcTemplate().query(
+                ShardedProductRepository.SELECT + " WHERE id > ? ORDER BY id LIMIT ?",
+                ShardedProductRepository.ENTITY_MAPPER, progress.cursor, batchSize);
+        for (ProductEntity row : rows) {
+            progress.scanned++;
+            Shard owner = shards.owner(row.getId());
+            if (owner.name().equals(source.name())) {
+                continue;
+            }
+            if (move(row, source, owner)) {
+                progress.moved++;
+            } else {
+                progress.conflicts++;
+            }
+        }
+        if (!rows.isEmpty()) {
+            progress.cursor = rows.get(rows.size() - 1).getId();
+        }
+        if (rows.size() < batchSize) {
+            progress.passes++;
+            if (progress.conflicts == 0) {
+                progress.done = true;
+                log.info("Shard '{}' taşıması tamamlandı: {} satır tarandı, {} satır taşındı", source.name(),
+                        progress.scanned, progress.moved);
+            } else {
+                // Eşzamanlı güncellenen satırlar kaynakta kaldı - shard baştan taranır
+                log.info("Shard '{}' turunda {} çakışma, yeniden taranacak", source.name(), progress.conflicts);
+                progress.cursor = "";
+                progress.conflicts = 0;
+            }
+        }
+    }
+
+    private boolean move(ProductEntity row, Shard source, Shard target) {
+        try {
+            ShardedProductRepository.insert(target, row);
+        } catch (DuplicateKeyException ex) {
+            // Yarıda kalmış bir önceki taşımanın kopyası ya da hedefte güncellenmiş satır
+            List<Long> targetVersion = target.jdbcTemplate().queryForList(
+                    "SELECT version FROM products WHERE id = ?", Long.class, row.getId());
+            if (!targetVersion.isEmpty() && targetVersion.get(0) < row.getVersion()) {
+                target.jdbcTemplate().update("UPDATE products SET name = ?, description = ?, price_amount = ?, "
+                        + "price_currency = ?, stock_quantity = ?, version = ? WHERE id = ? AND version = ?",
+                        row.getName(), row.getDescription(), row.getPriceAmount(), row.getPriceCurrency(),
+                        row.getStockQuantity(), row.getVersion(), row.getId(), targetVersion.get(0));
+            }
+        }
+        int deleted = source.jdbcTemplate().update("DELETE FROM products WHERE id = ? AND version = ?",
+                row.getId(), row.getVersion());
+        if (deleted == 0) {
+            target.jdbcTemplate().update("DELETE FROM products WHERE id = ? AND version = ?", row.getId(),
+                    row.getVersion());
+            return false;
+        }
+        return true;
+    }
+
+    private static class Progress {
+        private String cursor = "";
+        private long scanned;
+        private long moved;
+        private long conflicts;
+        private int passes;
+        private boolean done;
+
+        ShardProgress report(String name) {
+            return new ShardProgress(name, cursor, scanned, moved, conflicts, passes, done);
+        }
+    }
+
+    /**
+     * @param ring       Güncel ring'in shard'ları
+     * @param resharding Önceki ring tanımlı mı (okumalar önceki sahibe de bakıyor mu)
+     * @param complete   Tüm shard'lar çakışmasız bir tur tamamladı - previous-shards artık kaldırılabilir
+     */
+    public record ReshardingStatus(List<String> ring, boolean resharding, boolean complete,
+            List<ShardProgress> shards) {
+    }
+
+    public record ShardProgress(String name, String cursor, long scanned, long moved, long conflicts, int passes,
+            boolean done) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Shard Ring - consistent hashing
+ * Her shard ring üzerine adından türetilen virtualNodes kadar nokta koyar; bir anahtar saat yönünde
+ * kendisinden sonraki ilk noktanın shard'ına aittir
+ * Shard eklemek/çıkarmak yalnızca o shard'ın aralıklarındaki (~1/N) anahtarları taşır
+ * Hash kalıcı yerleşimi belirler: JVM'den ve sürümden bağımsız olmalıdır (String.hashCode kullanılmaz)
+ */
+public final class ShardRing {
+    private final TreeMap<Long, String> points = new TreeMap<>();
+    private final List<String> shards;
+
+    public ShardRing(Collection<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("Ring en az bir shard içermeli");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes pozitif olmalı: " + virtualNodes);
+        }
+        this.shards = List.copyOf(shards);
+        for (String shard : this.shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                String previous = points.putIfAbsent(hash(shard + "#" + i), shard);
+                if (previous != null && !previous.equals(shard)) {
+                    // 64 bit'te pratikte olmaz - olursa sahiplik tanımsız kalmasın diye açılışta durulur
+                    throw new IllegalStateException("Ring noktası çakışması: " + previous + " / " + shard);
+                }
+            }
+        }
+    }
+
+    /**
+     * Anahtarın sahibi olan shard'ın adı
+     */
+    public String owner(String key) {
+        Map.Entry<Long, String> point = points.ceilingEntry(hash(key));
+        return (point != null ? point : points.firstEntry()).getValue();
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * FNV-1a 64 + MurmurHash3 fmix64 - UUID metinleri için hızlı ve iyi dağılımlı, platformdan bağımsız
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,218 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductFields.Field;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import com.turkcell.product_service.infrastructure.sharding.ProductShards.Shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Sharded Product Query Adapter
+ * ProductQueryPort'un shard'lı karşılığı - her shard için bir JdbcProductQueryAdapter'a delege eder
+ * ID ile okumalar sahip shard'dan, listeler ve aramalar tüm shard'lardan paralel okunup birleştirilir
+ *
+ * Arama: her shard'dan ilk (page + 1) * size satır aynı sıralamayla istenir, sonuçlar birleştirilip sıralanır
+ * ve istenen sayfa kesilir; toplam eşleşme sayısı shard toplamlarının toplamıdır
+ * Resharding sırasında iki shard'da birden bulunan satır sayfada bir kez (yüksek sürümüyle) görünür ve bir kez sayılır
+ * Ad sıralamasının shard'lar arasında tutarlı olması için veritabanı sıralaması ikili (C collation) olmalıdır
+ */
+public class ShardedProductQueryAdapter implements ProductQueryPort {
+    /**
+     * Bir aramanın shard başına okuyabileceği en fazla satır - daha derin sayfalar reddedilir
+     */
+    static final int MAX_SCATTER_WINDOW = 10_000;
+
+    private final ProductShards shards;
+    private final Map<String, JdbcProductQueryAdapter> adapters = new HashMap<>();
+
+    public ShardedProductQueryAdapter(ProductShards shards) {
+        this.shards = shards;
+        for (Shard shard : shards.all()) {
+            adapters.put(shard.name(), new JdbcProductQueryAdapter(shard.jdbcTemplate()));
+        }
+    }
+
+    @Override
+    public Optional<ProductResponse> findById(Product.ProductId id, ProductFields fields) {
+        for (Shard shard : shards.candidates(id.toString())) {
+            Optional<ProductResponse> product = adapter(shard).findById(id, fields);
+            if (product.isPresent()) {
+                return product;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<ProductResponse> findAll(ProductFields fields) {
+        return gather(shard -> adapter(shard).findAll(fields), ProductResponse::getId, ProductResponse::getVersion);
+    }
+
+    @Override
+    public List<ProductResponse> findPageAfter(String afterId, int limit) {
+        // Her shard'ın ilk limit satırı birleştirilir - genel ilk limit satır bunların içindedir
+        return gather(shard -> adapter(shard).findPageAfter(afterId, limit), ProductResponse::getId,
+                ProductResponse::getVersion).stream()
+                .sorted(Comparator.comparing(ProductResponse::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public ProductPageResponse search(ProductSearchCriteria criteria, ProductFields fields) {
+        long window = (long) (criteria.page() + 1) * criteria.size();
+        if (window > MAX_SCATTER_WINDOW) {
+            throw new IllegalArgumentException("Sayfa çok derin: (page + 1) * size en fazla " + MAX_SCATTER_WINDOW
+                    + " olabilir - filtreyi daraltın");
+        }
+        ProductSearchCriteria shardCriteria = new ProductSearchCriteria(criteria.name(), criteria.minPrice(),
+                criteria.maxPrice(), criteria.currency(), criteria.inStock(), criteria.sort(), 0, (int) window);
+        // Birleştirme sıralama alanını okur - istenmediyse shard'lardan alınır, yanıttan çıkarılır
+        Field sortField = sortField(criteria.sort());
+        boolean widened = sortField != null && !fields.contains(sortField);
+        ProductFields shardFields = widened ? with(fields, sortField) : fields;
+
+        List<ProductPageResponse> pages = shards.scatter(shard -> adapter(shard).search(shardCriteria, shardFields));
+        long totalCount = 0;
+        List<ProductResponse> merged = new ArrayList<>();
+        for (ProductPageResponse page : pages) {
+            totalCount += page.getTotalCount();
+            merged.addAll(page.getProducts());
+        }
+        if (shards.isResharding()) {
+            merged = latest(merged, ProductResponse::getId, ProductResponse::getVersion);
+            totalCount -= shards.duplicateCount((shard, moving) -> adapter(shard).findMatchingIds(shardCriteria,
+                    moving));
+        }
+        List<ProductResponse> products = merged.stream()
+                .sorted(order(criteria.sort()))
+                .skip((long) criteria.page() * criteria.size())
+                .limit(criteria.size())
+                .toList();
+        if (widened) {
+            products.forEach(product -> clear(product, sortField));
+        }
+        return new ProductPageResponse(new ArrayList<>(products), criteria.page(), criteria.size(), totalCount);
+    }
+
+    @Override
+    public Optional<Long> findVersion(Product.ProductId id) {
+        for (Shard shard : shards.candidates(id.toString())) {
+            Optional<Long> version = adapter(shard).findVersion(id);
+            if (version.isPresent()) {
+                return version;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<ProductVersion> findAllVersions() {
+        return gather(shard -> adapter(shard).findAllVersions(), ProductVersion::id, ProductVersion::version);
+    }
+
+    @Override
+    public List<ProductResponse> findByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // ID'ler bulunabilecekleri shard'lara dağıtılır - her shard yalnızca kendi payını tek IN sorgusuyla okur
+        Map<String, List<String>> idsByShard = new HashMap<>();
+        for (String id : ids) {
+            for (Shard shard : shards.candidates(id)) {
+                idsByShard.computeIfAbsent(shard.name(), name -> new ArrayList<>()).add(id);
+            }
+        }
+        return gather(shard -> adapter(shard).findByIds(idsByShard.getOrDefault(shard.name(), List.of())),
+                ProductResponse::getId, ProductResponse::getVersion);
+    }
+
+    private JdbcProductQueryAdapter adapter(Shard shard) {
+        return adapters.get(shard.name());
+    }
+
+    /**
+     * Shard sonuçlarını shard sırasıyla birleştirir - resharding sırasında iki shard'da görülen satırın
+     * yüksek sürümlü olanı tutulur
+     */
+    private <T> List<T> gather(Function<Shard, List<T>> query, Function<T, String> id, ToLongFunction<T> version) {
+        List<T> merged = new ArrayList<>();
+        shards.scatter(query).forEach(merged::addAll);
+        return shards.isResharding() ? latest(merged, id, version) : merged;
+    }
+
+    /**
+     * Aynı ID'nin kopyalarından yüksek sürümlü olanı tutar - ilk görülme sırası korunur
+     */
+    private static <T> List<T> latest(List<T> items, Function<T, String> id, ToLongFunction<T> version) {
+        Map<String, T> byId = new LinkedHashMap<>();
+        for (T item : items) {
+            byId.merge(id.apply(item), item, (a, b) -> version.applyAsLong(a) >= version.applyAsLong(b) ? a : b);
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    /**
+     * ProductSearchQuery'deki ORDER BY'ın bellekteki karşılığı - eşitlikte id ile tamamlanır
+     */
+    static Comparator<ProductResponse> order(ProductSearchCriteria.Sort sort) {
+        Comparator<ProductResponse> byId = Comparator.comparing(ProductResponse::getId);
+        if (sort == null) {
+            return byId;
+        }
+        Comparator<ProductResponse> order = switch (sort.getField()) {
+            case "name" -> Comparator.comparing(ProductResponse::getName);
+            case "price" -> Comparator.comparing((ProductResponse product) -> product.getPrice().getAmount());
+            case "stock" -> Comparator.comparingInt((ProductResponse product) -> product.getStock().getQuantity());
+            default -> throw new IllegalArgumentException("Geçersiz sıralama: " + sort);
+        };
+        order = order.thenComparing(byId);
+        return sort.isDescending() ? order.reversed() : order;
+    }
+
+    private static Field sortField(ProductSearchCriteria.Sort sort) {
+        if (sort == null) {
+            return null;
+        }
+        return switch (sort.getField()) {
+            case "name" -> Field.NAME;
+            case "price" -> Field.PRICE;
+            case "stock" -> Field.STOCK;
+            default -> throw new IllegalArgumentException("Geçersiz sıralama: " + sort);
+        };
+    }
+
+    private static ProductFields with(ProductFields fields, Field extra) {
+        StringJoiner names = new StringJoiner(",");
+        fields.getFields().forEach(field -> names.add(field.getJsonName()));
+        names.add(extra.getJsonName());
+        return ProductFields.parse(names.toString());
+    }
+
+    private static void clear(ProductResponse product, Field field) {
+        switch (field) {
+            case NAME -> product.setName(null);
+            case PRICE -> product.setPrice(null);
+            case STOCK -> product.setStock(null);
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import com.turkcell.product_service.infrastructure.sharding.ProductShards.Shard;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Sharded Product Repository
+ * ProductRepository'nin shard'lı implementasyonu - JPA yerine her shard'da JdbcTemplate ile çalışır
+ * (shard başına ayrı EntityManagerFactory gerekmez, SQL'ler ProductRepositoryImpl'in ürettikleriyle aynıdır)
+ * ID ile yapılan işlemler yalnızca sahip shard'a, filtre/sayım sorguları tüm shard'lara paralel gider
+ * Optimistic locking JPA'daki gibidir: UPDATE ... WHERE version = ? 0 satır etkilerse
+ * OptimisticLockingFailureException fırlar
+ * Siparişlerin processed_orders kaydı ürünün güncellendiği shard'da, güncellemeyle aynı transaction'da yazılır
+ */
+public class ShardedProductRepository implements ProductRepository {
+    static final String SELECT = "SELECT id, name, description, price_amount, price_currency, stock_quantity, version"
+            + " FROM products";
+    private static final String INSERT_PROCESSED_ORDER = "INSERT INTO processed_orders (order_id, product_id, "
+            + "processed_at) VALUES (?, ?, ?)";
+
+    static final RowMapper<ProductEntity> ENTITY_MAPPER = (ResultSet rs, int rowNum) -> new ProductEntity(
+            rs.getString(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getBigDecimal(4),
+            rs.getString(5),
+            rs.getInt(6),
+            rs.getLong(7));
+
+    private static final RowMapper<Product> ROW_MAPPER = (ResultSet rs, int rowNum) ->
+            ProductMapper.toDomain(ENTITY_MAPPER.mapRow(rs, rowNum));
+
+    private final ProductShards shards;
+
+    public ShardedProductRepository(ProductShards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Product save(Product product) {
+        ProductEntity entity = ProductMapper.toEntity(product);
+        if (entity.getVersion() == null) {
+            entity.setVersion(0L);
+            insert(shards.owner(entity.getId()), entity);
+            return ProductMapper.toDomain(entity);
+        }
+        long expectedVersion = entity.getVersion();
+        for (Shard shard : updateCandidates(entity.getId())) {
+            if (update(shard, entity, expectedVersion) > 0) {
+                entity.setVersion(expectedVersion + 1);
+                return ProductMapper.toDomain(entity);
+            }
+        }
+        throw versionConflict(entity, expectedVersion);
+    }
+
+    @Override
+    public Optional<Product> saveForOrder(Product product, String orderId) {
+        ProductEntity entity = ProductMapper.toEntity(product);
+        long expectedVersion = entity.getVersion();
+        for (Shard shard : updateCandidates(entity.getId())) {
+            TransactionTemplate transaction = new TransactionTemplate(
+                    new DataSourceTransactionManager(shard.dataSource()));
+            boolean updated;
+            try {
+                updated = transaction.execute(status -> {
+                    if (update(shard, entity, expectedVersion) == 0) {
+                        return false;
+                    }
+                    shard.jdbcTemplate().update(INSERT_PROCESSED_ORDER, orderId,
+                            entity.getId(), System.currentTimeMillis());
+                    return true;
+                });
+            } catch (DuplicateKeyException ex) {
+                return Optional.empty();
+            }
+            if (updated) {
+                entity.setVersion(expectedVersion + 1);
+                return Optional.of(ProductMapper.toDomain(entity));
+            }
+        }
+        throw versionConflict(entity, expectedVersion);
+    }
+
+    @Override
+    public boolean isOrderProcessed(String orderId, Product.ProductId productId) {
+        for (Shard shard : shards.candidates(productId.toString())) {
+            if (!shard.jdbcTemplate().queryForList("SELECT 1 FROM processed_orders WHERE order_id = ?",
+                    Integer.class, orderId).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Product> findById(Product.ProductId id) {
+        for (Shard shard : shards.candidates(id.toString())) {
+            List<Product> result = shard.jdbcTemplate().query(SELECT + " WHERE id = ?", ROW_MAPPER, id.toString());
+            if (!result.isEmpty()) {
+                return Optional.of(result.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return gather(shard -> shard.jdbcTemplate().query(SELECT, ROW_MAPPER));
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        String pattern = "%" + escapeLike(name) + "%";
+        return gather(shard -> shard.jdbcTemplate().query(SELECT + " WHERE name LIKE ? ESCAPE '\\'", ROW_MAPPER,
+                pattern));
+    }
+
+    @Override
+    public List<Product> findInStockProducts() {
+        return gather(shard -> shard.jdbcTemplate().query(SELECT + " WHERE stock_quantity > 0", ROW_MAPPER));
+    }
+
+    @Override
+    public List<Product> findOutOfStockProducts() {
+        return gather(shard -> shard.jdbcTemplate().query(SELECT + " WHERE stock_quantity = 0", ROW_MAPPER));
+    }
+
+    @Override
+    @Deprecated
+    public List<Product> findByPriceRange(double minPrice, double maxPrice) {
+        BigDecimal min = BigDecimal.valueOf(minPrice);
+        BigDecimal max = BigDecimal.valueOf(maxPrice);
+        return gather(shard -> shard.jdbcTemplate().query(SELECT + " WHERE price_amount BETWEEN ? AND ?", ROW_MAPPER,
+                min, max));
+    }
+
+    @Override
+    public List<Product> findByPriceRange(Price minPrice, Price maxPrice) {
+        if (minPrice.isGreaterThan(maxPrice)) {
+            return List.of();
+        }
+        String currency = minPrice.getCurrency().getCode();
+        return gather(shard -> shard.jdbcTemplate().query(
+                SELECT + " WHERE price_currency = ? AND price_amount BETWEEN ? AND ?", ROW_MAPPER,
+                currency, minPrice.getAmount(), maxPrice.getAmount()));
+    }
+
+    @Override
+    public void deleteById(Product.ProductId id) {
+        for (Shard shard : shards.candidates(id.toString())) {
+            shard.jdbcTemplate().update("DELETE FROM products WHERE id = ?", id.toString());
+        }
+    }
+
+    @Override
+    public boolean deleteByIdAndVersion(Product.ProductId id, long version) {
+        for (Shard shard : shards.candidates(id.toString())) {
+            if (shard.jdbcTemplate().update("DELETE FROM products WHERE id = ? AND version = ?", id.toString(),
+                    version) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean existsById(Product.ProductId id) {
+        for (Shard shard : shards.candidates(id.toString())) {
+            if (!shard.jdbcTemplate().queryForList("SELECT 1 FROM products WHERE id = ?", Integer.class,
+                    id.toString()).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long count() {
+        return countDistinct("");
+    }
+
+    @Override
+    public long countInStockProducts() {
+        return countDistinct(" WHERE stock_quantity > 0");
+    }
+
+    static void insert(Shard shard, ProductEntity entity) {
+        shard.jdbcTemplate().update("INSERT INTO products (id, name, description, price_amount, price_currency, "
+                + "stock_quantity, version) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                entity.getId(), entity.getName(), entity.getDescription(), entity.getPriceAmount(),
+                entity.getPriceCurrency(), entity.getStockQuantity(), entity.getVersion());
+    }
+
+    /**
+     * Satır resharding sırasında önceki sahibinden taşınıyor olabilir - sonda sahip bir kez daha denenir
+     */
+    private List<Shard> updateCandidates(String id) {
+        List<Shard> candidates = new ArrayList<>(shards.candidates(id));
+        if (candidates.size() > 1) {
+            candidates.add(candidates.get(0));
+        }
+        return candidates;
+    }
+
+    private static int update(Shard shard, ProductEntity entity, long expectedVersion) {
+        return shard.jdbcTemplate().update("UPDATE products SET name = ?, description = ?, "
+                + "price_amount = ?, price_currency = ?, stock_quantity = ?, version = version + 1 "
+                + "WHERE id = ? AND version = ?",
+                entity.getName(), entity.getDescription(), entity.getPriceAmount(), entity.getPriceCurrency(),
+                entity.getStockQuantity(), entity.getId(), expectedVersion);
+    }
+
+    private static OptimisticLockingFailureException versionConflict(ProductEntity entity, long expectedVersion) {
+        return new OptimisticLockingFailureException("Ürün " + entity.getId() + " " + expectedVersion
+                + ". sürümde değil ya da silinmiş");
+    }
+
+    /**
+     * Shard sonuçlarını birleştirir - resharding sırasında taşınmakta olan bir satır iki shard'da birden
+     * görülebilir, yüksek sürümlü olan tutulur
+     */
+    private List<Product> gather(Function<Shard, List<Product>> query) {
+        List<List<Product>> results = shards.scatter(query);
+        if (!shards.isResharding()) {
+            List<Product> products = new ArrayList<>();
+            results.forEach(products::addAll);
+            return products;
+        }
+        Map<Product.ProductId, Product> byId = new LinkedHashMap<>();
+        for (List<Product> result : results) {
+            for (Product product : result) {
+                byId.merge(product.getId(), product, (a, b) -> a.getVersion() >= b.getVersion() ? a : b);
+            }
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    /**
+     * Shard sayımlarının toplamı - resharding sırasında iki shard'da bulunan satır bir kez sayılır
+     */
+    private long countDistinct(String where) {
+        long total = shards.scatter(shard -> shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM products"
+                + where, Long.class)).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        return total - shards.duplicateCount((shard, moving) -> {
+            List<String> ids = new ArrayList<>();
+            shard.jdbcTemplate().query("SELECT id FROM products" + where, (ResultSet rs) -> {
+                String id = rs.getString(1);
+                if (moving.test(id)) {
+                    ids.add(id);
+                }
+            });
+            return ids;
+        });
+    }
+
+    /**
+     * Spring Data'nın Containing sorgusu gibi LIKE joker karakterlerini düz metin olarak arar
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,121 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import com.turkcell.product_service.infrastructure.observability.ObservedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding Configuration
+ * product.sharding.enabled=true ise ProductRepository ve ProductQueryPort shard'lı implementasyonlarla değiştirilir
+ * (ProductRepositoryImpl ve JdbcProductQueryAdapter bean'leri oluşturulmaz)
+ * Her shard'ın şeması açılışta spring.flyway ayarlarıyla migrate edilir; spring.datasource JPA altyapısı için kalır
+ * Shard havuzları varsa ana DataSource'un QueryMetrics'ini paylaşır - statement metrikleri tüm shard'ları kapsar
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+    private static final Logger log = LoggerFactory.getLogger(ShardingConfig.class);
+
+    @Bean
+    public ProductShards productShards(ShardingProperties properties, DataSource dataSource, Environment environment) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("product.sharding.enabled=true fakat shards listesi boş");
+        }
+        FlywayProperties flyway = Binder.get(environment).bindOrCreate("spring.flyway", FlywayProperties.class);
+        ObservedDataSource observed = unwrap(dataSource, ObservedDataSource.class);
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        List<String> ring = new ArrayList<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            if (!StringUtils.hasText(shard.getName())) {
+                throw new IllegalStateException("Shard adı zorunludur (ring yerleşimi addan hesaplanır): "
+                        + shard.getUrl());
+            }
+            if (dataSources.containsKey(shard.getName())) {
+                throw new IllegalStateException("Shard adı tekrar ediyor: " + shard.getName());
+            }
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("shard-" + shard.getName());
+            pool.setJdbcUrl(shard.getUrl());
+            pool.setUsername(shard.getUsername());
+            pool.setPassword(shard.getPassword());
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            if (flyway.isEnabled()) {
+                migrate(pool, shard.getUrl(), flyway);
+            }
+            dataSources.put(shard.getName(),
+                    observed != null ? new ObservedDataSource(pool, observed.getMetrics()) : pool);
+            if (!shard.isDraining()) {
+                ring.add(shard.getName());
+            }
+        }
+        log.info("Ürünler {} shard'a dağıtılıyor: {}{}", ring.size(), ring,
+                properties.getPreviousShards().isEmpty() ? "" : " (önceki ring " + properties.getPreviousShards()
+                        + " - resharding sürüyor)");
+        return new ProductShards(dataSources, ring, properties.getPreviousShards(), properties.getVirtualNodes(),
+                properties.getScatterTimeout());
+    }
+
+    @Bean
+    public ShardedProductRepository shardedProductRepository(ProductShards productShards) {
+        return new ShardedProductRepository(productShards);
+    }
+
+    @Bean
+    public ShardedProductQueryAdapter shardedProductQueryAdapter(ProductShards productShards) {
+        return new ShardedProductQueryAdapter(productShards);
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ProductShards productShards, ShardingProperties properties) {
+        return new ShardRebalancer(productShards, properties.getRebalanceBatchSize());
+    }
+
+    @Bean
+    public ReshardingEndpoint reshardingEndpoint(ShardRebalancer shardRebalancer) {
+        return new ReshardingEndpoint(shardRebalancer);
+    }
+
+    /**
+     * Ana veritabanıyla aynı migration'lar - {vendor} shard'ın URL'inden çözülür
+     */
+    private static void migrate(DataSource dataSource, String url, FlywayProperties flyway) {
+        String vendor = DatabaseDriver.fromJdbcUrl(url).getId();
+        String[] locations = flyway.getLocations().stream()
+                .map(location -> location.replace("{vendor}", vendor))
+                .toArray(String[]::new);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations(locations)
+                .baselineOnMigrate(flyway.isBaselineOnMigrate())
+                .baselineVersion(flyway.getBaselineVersion())
+                .load()
+                .migrate();
+    }
+
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
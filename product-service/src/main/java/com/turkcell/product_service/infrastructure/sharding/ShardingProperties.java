@@ -0,0 +1,158 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharding Properties
+ * products tablosunun ProductId'nin consistent hash'ine göre dağıtıldığı veritabanları
+ */
+@ConfigurationProperties(prefix = "product.sharding")
+public class ShardingProperties {
+    /**
+     * false ise ürünler spring.datasource'taki tek veritabanında tutulur
+     */
+    private boolean enabled = false;
+
+    /**
+     * Shard'lar - yerleşim shard adlarından hesaplanır, sıra ve URL değişikliği satır taşımaz
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Shard başına ring üzerindeki nokta sayısı - arttıkça dağılım dengelenir
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Resharding sırasında önceki ring'in shard adları - boşsa taşıma yoktur
+     * Doluyken yerinde bulunamayan satırlar önceki sahibinde de aranır; taşıma bitince kaldırılır
+     */
+    private List<String> previousShards = new ArrayList<>();
+
+    /**
+     * Scatter-gather sorgularında tüm shard'ların yanıt vermesi için beklenen en uzun süre
+     */
+    private Duration scatterTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Resharding adımında shard başına taranan satır sayısı
+     */
+    private int rebalanceBatchSize = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public List<String> getPreviousShards() {
+        return previousShards;
+    }
+
+    public void setPreviousShards(List<String> previousShards) {
+        this.previousShards = previousShards;
+    }
+
+    public Duration getScatterTimeout() {
+        return scatterTimeout;
+    }
+
+    public void setScatterTimeout(Duration scatterTimeout) {
+        this.scatterTimeout = scatterTimeout;
+    }
+
+    public int getRebalanceBatchSize() {
+        return rebalanceBatchSize;
+    }
+
+    public void setRebalanceBatchSize(int rebalanceBatchSize) {
+        this.rebalanceBatchSize = rebalanceBatchSize;
+    }
+
+    public static class Shard {
+        /**
+         * Ring üzerindeki kimlik, metrik tag'i ve Hikari havuz adı - verisi olan bir shard'ın adı değiştirilmez
+         */
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        /**
+         * true ise shard güncel ring'de yer almaz: yeni satır almaz, mevcut satırları resharding ile taşınır
+         * (shard çıkarılırken previous-shards ile birlikte kullanılır)
+         */
+        private boolean draining = false;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public boolean isDraining() {
+            return draining;
+        }
+
+        public void setDraining(boolean draining) {
+            this.draining = draining;
+        }
+    }
+}
@@ -1,20 +1,67 @@
 package com.turkcell.product_service.messaging.consumer;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.turkcell.product_service.application.ports.ProductServicePort;
+import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Order Created Consumer
+ * order-topic'teki her sipariş için ürünün stokunu düşer
+ * Bilinmeyen ürün ve yetersiz stok loglanıp atlanır - tekrar denemek sonucu değiştirmez ve partition'ı tıkar;
+ * diğer hatalar binder'ın yeniden deneme mekanizmasına bırakılır
+ * Stok sipariş ID'siyle düşülür: yeniden deneme ya da rebalance sonrası tekrar teslim edilen sipariş atlanır
+ * Siparişin oluşturulmasından stokun düşülmesine kadar geçen süre product.order.stock.latency olarak ölçülür
+ */
 @Configuration
 public class OrderCreatedConsumer {
+	private static final Logger log = LoggerFactory.getLogger(OrderCreatedConsumer.class);
+
 	@Bean
-	public Consumer<OrderCreatedEvent> orderCreated() {
+	public Consumer<OrderCreatedEvent> orderCreated(ProductServicePort productService, MeterRegistry meterRegistry) {
+		Timer latency = Timer.builder("product.order.stock.latency")
+				.description("Siparişin oluşturulmasından stokun düşülmesine kadar geçen süre")
+				.publishPercentiles(0.5, 0.9, 0.99)
+				.register(meterRegistry);
 		return event -> {
-			System.out.println("Yeni bir order create edildi");
-			System.out.println(event.productId());
+			if (event == null || event.productId() == null) {
+				log.warn("Ürün ID'si olmayan sipariş olayı atlandı: {}", event);
+				return;
+			}
+			try {
+				if (productService.reduceStock(event.orderId(), event.productId(), event.quantityOrDefault())
+						.isEmpty()) {
+					log.debug("Sipariş {} daha önce işlendi - tekrar teslim atlandı", event.orderId());
+					return;
+				}
+			} catch (ProductNotFoundException | IllegalArgumentException ex) {
+				log.warn("Sipariş {} için stok düşülemedi ({}): {}", event.orderId(), event.productId(),
+						ex.getMessage());
+				return;
+			}
+			if (event.createdAt() > 0) {
+				latency.record(System.currentTimeMillis() - event.createdAt(), TimeUnit.MILLISECONDS);
+			}
 		};
 	}
 
-	record OrderCreatedEvent(String productId) {
+	/**
+	 * @param quantity  Eski olaylarda yoktur - 1 kabul edilir
+	 * @param createdAt Siparişin oluşturulduğu an (epoch ms) - eski olaylarda 0
+	 */
+	record OrderCreatedEvent(String orderId, String productId, int quantity, long createdAt) {
+
+		int quantityOrDefault() {
+			return quantity == 0 ? 1 : quantity;
+		}
 	}
-}
\ No newline at end of file
+}
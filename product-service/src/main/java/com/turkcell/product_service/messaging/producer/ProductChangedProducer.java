@@ -0,0 +1,48 @@
+package com.turkcell.product_service.messaging.producer;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.cloud.stream.function.StreamOperations;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.KafkaNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+
+/**
+ * Product Changed Producer
+ * Ürün değişikliklerini productChanged-out-0 binding'i üzerinden Kafka'ya gönderir
+ * Her kayıt ürün ID'siyle anahtarlanır: aynı ürünün olayları aynı partition'a gönderildikleri sırayla yazılır ve
+ * log-compacted topic'te ürün başına son durum kalır
+ * Silmede DELETED olayının ardından aynı anahtarla tombstone (boş değer) gönderilir - compaction ürünü topic'ten siler
+ */
+@Component
+public class ProductChangedProducer implements ProductEventPublisherPort {
+	static final String BINDING = "productChanged-out-0";
+
+	private final StreamOperations streamBridge;
+
+	public ProductChangedProducer(StreamOperations streamBridge) {
+		this.streamBridge = streamBridge;
+	}
+
+	@Override
+	public void publish(ProductChangedEvent event) {
+		streamBridge.send(BINDING, keyed(event.productId(), event));
+		if (event.type() == ProductChangedEvent.ChangeType.DELETED) {
+			streamBridge.send(BINDING, keyed(event.productId(), KafkaNull.INSTANCE));
+		}
+	}
+
+	/**
+	 * Binder'ın key serializer'ı byte dizisi bekler
+	 */
+	private static Message<?> keyed(String productId, Object payload) {
+		return MessageBuilder.withPayload(payload)
+				.setHeader(KafkaHeaders.KEY, productId.getBytes(StandardCharsets.UTF_8))
+				.build();
+	}
+}
@@ -0,0 +1,51 @@
+package com.turkcell.product_service.messaging.producer;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.application.dtos.ProductChangesBackfill;
+import com.turkcell.product_service.application.usecases.BackfillProductChangesUseCase;
+
+/**
+ * Product Changes Backfill Endpoint
+ * Deploy'dan önce var olan ürünleri product-changes topic'ine bir kez göndermek için
+ * GET /actuator/productchanges - ilerleme
+ * POST /actuator/productchanges {"pages": 20, "pageSize": 500} - en fazla pages sayfa gönderir
+ * (complete true olana kadar tekrarlanır)
+ * DELETE /actuator/productchanges - ilerlemeyi sıfırlar, sonraki gönderim kataloğun başından başlar
+ */
+@Component
+@Endpoint(id = "productchanges")
+public class ProductChangesBackfillEndpoint {
+	private static final int DEFAULT_PAGE_SIZE = 500;
+
+	private final BackfillProductChangesUseCase backfill;
+
+	public ProductChangesBackfillEndpoint(BackfillProductChangesUseCase backfill) {
+		this.backfill = backfill;
+	}
+
+	@ReadOperation
+	public ProductChangesBackfill status() {
+		return backfill.status();
+	}
+
+	@WriteOperation
+	public ProductChangesBackfill publish(@Nullable Integer pages, @Nullable Integer pageSize) {
+		int size = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+		ProductChangesBackfill status = backfill.step(size);
+		for (int page = 1; page < (pages == null ? 1 : pages) && !status.complete(); page++) {
+			status = backfill.step(size);
+		}
+		return status;
+	}
+
+	@DeleteOperation
+	public void reset() {
+		backfill.reset();
+	}
+}
@@ -1,14 +1,33 @@
 package com.turkcell.product_service.web.controllers;
 
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest;
 import com.turkcell.product_service.application.dtos.CreateProductRequest;
-import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductImportReport;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.RepricingJob;
 import com.turkcell.product_service.application.dtos.UpdateProductRequest;
 import com.turkcell.product_service.application.ports.ProductServicePort;
+import com.turkcell.product_service.web.json.ProductJsonCache;
+import com.turkcell.product_service.web.json.VersionedJson;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Product REST Controller
@@ -19,29 +38,78 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/products")
 public class ProductController {
     private final ProductServicePort productService;
+    private final ProductJsonCache productJsonCache;
 
-    public ProductController(ProductServicePort productService) {
+    public ProductController(ProductServicePort productService, ProductJsonCache productJsonCache) {
         this.productService = productService;
+        this.productJsonCache = productJsonCache;
     }
 
     /**
-     * Tüm ürünleri listeler
-     * GET /api/v1/products
+     * Tüm ürünleri listeler (ProductListResponse JSON'u, önceden serileştirilmiş parçalardan)
+     * GET /api/v1/products?fields=name,price
+     * fields verilirse yalnızca bu alanlar (ve id) okunur ve döner
+     * ETag yalnızca (id, version) listesinden üretilir; If-None-Match eşleşirse gövde kurulmadan 304 döner
      */
     @GetMapping
-    public ResponseEntity<ProductListResponse> getAllProducts() {
-        ProductListResponse response = productService.getAllProducts();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getAllProducts(@RequestParam(required = false) String fields, WebRequest request) {
+        ProductFields productFields = ProductFields.parse(fields);
+        ProductJsonCache.Listing listing = productJsonCache.listing();
+        String eTag = ProductETags.list(listing.versions(), productFields);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (productFields.isAll()) {
+            return ResponseEntity.ok().eTag(eTag).body(productJsonCache.products(listing));
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getAllProducts(productFields));
+    }
+
+    /**
+     * Filtreli, sıralı ve sayfalı ürün araması - tek bir SQL sorgusuyla veritabanında yapılır
+     * GET /api/v1/products/search?name=klavye&minPrice=100&maxPrice=500&currency=TRY&inStock=true&sort=-price&page=0&size=20
+     * Fiyat filtresi para birimiyle birlikte verilmelidir; fields ile sparse fieldset desteklenir
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductPageResponse> searchProducts(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
+        ProductSearchCriteria criteria = new ProductSearchCriteria(name, minPrice, maxPrice, currency, inStock,
+                ProductSearchCriteria.Sort.parse(sort), page, size);
+        return ResponseEntity.ok(productService.searchProducts(criteria, ProductFields.parse(fields)));
     }
 
     /**
-     * ID'ye göre ürün getirir
-     * GET /api/v1/products/{id}
+     * ID'ye göre ürün getirir (ProductResponse JSON'u, önceden serileştirilmiş)
+     * GET /api/v1/products/{id}?fields=name,price
+     * If-None-Match varsa önce yalnızca version kolonu okunur, eşleşirse 304 döner; eşleşmezse gövde bu sürümle
+     * eşleşen cache girdisinden ya da veritabanından kurulur
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable String id) {
-        ProductResponse response = productService.getProductById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getProductById(@PathVariable String id, @RequestParam(required = false) String fields,
+            WebRequest request) {
+        ProductFields productFields = ProductFields.parse(fields);
+        Long currentVersion = null;
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            currentVersion = productJsonCache.version(id);
+            if (request.checkNotModified(ProductETags.product(currentVersion, productFields))) {
+                return null;
+            }
+        }
+        if (productFields.isAll()) {
+            VersionedJson json = currentVersion != null ? productJsonCache.product(id, currentVersion)
+                    : productJsonCache.product(id);
+            return ResponseEntity.ok().eTag(ProductETags.product(json.version(), productFields)).body(json.segments());
+        }
+        ProductResponse response = productService.getProductById(id, productFields);
+        return ResponseEntity.ok().eTag(ProductETags.product(response.getVersion(), productFields)).body(response);
     }
 
     /**
@@ -51,28 +119,109 @@ public class ProductController {
     @PostMapping
     public ResponseEntity<ProductResponse> createProduct(@Valid @RequestBody CreateProductRequest request) {
         ProductResponse response = productService.createProduct(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ProductETags.product(response.getVersion(), ProductFields.ALL))
+                .body(response);
     }
 
     /**
      * Ürün günceller
      * PUT /api/v1/products/{id}
+     * If-Match verilirse ürün yalnızca o sürümdeyse güncellenir, değilse 412 döner
      */
     @PutMapping("/{id}")
     public ResponseEntity<ProductResponse> updateProduct(
             @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateProductRequest request) {
-        ProductResponse response = productService.updateProduct(id, request);
-        return ResponseEntity.ok(response);
+        ProductResponse response = productService.updateProduct(id, request, ProductETags.ifMatchVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ProductETags.product(response.getVersion(), ProductFields.ALL))
+                .body(response);
     }
 
     /**
      * Ürün siler
      * DELETE /api/v1/products/{id}
+     * If-Match verilirse ürün yalnızca o sürümdeyse silinir, değilse 412 döner
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProduct(@PathVariable String id) {
-        productService.deleteProduct(id);
+    public ResponseEntity<Void> deleteProduct(
+            @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        productService.deleteProduct(id, ProductETags.ifMatchVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Filtreye uyan tüm ürünlerin fiyatını aynı yüzdeyle değiştiren işi başlatır
+     * POST /api/v1/products/repricing
+     * Fiyatlar veritabanında chunk'lar hâlinde güncellenir; 202 ile dönen işin ilerlemesi Location'dan izlenir
+     */
+    @PostMapping("/repricing")
+    public ResponseEntity<RepricingJob> startRepricing(@Valid @RequestBody BulkRepricingRequest request) {
+        RepricingJob job = productService.startRepricing(request);
+        return ResponseEntity.accepted().location(repricingLocation(job)).body(job);
+    }
+
+    /**
+     * Toplu fiyat değişikliği işinin durumu ve ilerlemesi
+     * GET /api/v1/products/repricing/{jobId}
+     */
+    @GetMapping("/repricing/{jobId}")
+    public ResponseEntity<RepricingJob> getRepricingJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(productService.getRepricingJob(jobId));
+    }
+
+    /**
+     * Yarıda kalmış ya da başarısız işi kaldığı chunk'tan devam ettirir
+     * POST /api/v1/products/repricing/{jobId}/resume
+     * İş tamamlanmışsa ya da başka bir instance'ta çalışıyorsa 409 döner
+     */
+    @PostMapping("/repricing/{jobId}/resume")
+    public ResponseEntity<RepricingJob> resumeRepricing(@PathVariable String jobId) {
+        RepricingJob job = productService.resumeRepricing(jobId);
+        return ResponseEntity.accepted().location(repricingLocation(job)).body(job);
+    }
+
+    /**
+     * CSV katalog içe aktarımı
+     * POST /api/v1/products/imports (Content-Type: text/csv, UTF-8)
+     * Gövde okundukça yazılır - dosya boyutu bellekle sınırlı değildir; reddedilen satırlar raporda sayılır,
+     * nedenleri /imports/{id}/errors'tan indirilir
+     */
+    @PostMapping(value = "/imports", consumes = "text/csv")
+    public ResponseEntity<ProductImportReport> importProducts(InputStream body) {
+        ProductImportReport report = productService.importProducts(
+                new InputStreamReader(body, StandardCharsets.UTF_8));
+        return ResponseEntity.created(URI.create("/api/v1/products/imports/" + report.id())).body(report);
+    }
+
+    /**
+     * İçe aktarım raporu
+     * GET /api/v1/products/imports/{importId}
+     */
+    @GetMapping("/imports/{importId}")
+    public ResponseEntity<ProductImportReport> getImport(@PathVariable String importId) {
+        return ResponseEntity.ok(productService.getImport(importId));
+    }
+
+    /**
+     * Reddedilen satırlar (line, reason, raw) CSV olarak
+     * GET /api/v1/products/imports/{importId}/errors
+     */
+    @GetMapping(value = "/imports/{importId}/errors", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> getImportErrors(@PathVariable String importId) {
+        // Akış başlamadan önce bilinmeyen içe aktarım için 404
+        productService.getImport(importId);
+        StreamingResponseBody body = out -> productService.writeImportErrors(importId,
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    private static URI repricingLocation(RepricingJob job) {
+        return URI.create("/api/v1/products/repricing/" + job.id());
+    }
 }
@@ -0,0 +1,76 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Product ETags
+ * Ürün sürümlerinden strong ETag üretir ve If-Match değerini çözümler
+ *
+ * Tek ürün: "3" (tam gövde) veya "3;id,name,price" (sparse fieldset - farklı gösterim, farklı ETag)
+ * Liste: "L42-1f3a..." - ürün sayısı ve sıralı (id, version) listesinin 64 bit özeti
+ * Bir ürünün sürümü değiştiğinde özet kesin olarak değişir (31 tabanlı polinom, tek terim farkı mod 2^64 sıfır olamaz)
+ */
+final class ProductETags {
+
+    private ProductETags() {
+    }
+
+    static String product(long version, ProductFields fields) {
+        return quote(Long.toString(version), fields);
+    }
+
+    static String list(List<ProductVersion> versions, ProductFields fields) {
+        long hash = 1;
+        for (ProductVersion version : versions) {
+            hash = 31 * hash + version.id().hashCode();
+            hash = 31 * hash + version.version();
+        }
+        return quote("L" + versions.size() + "-" + Long.toHexString(hash), fields);
+    }
+
+    /**
+     * If-Match header'ındaki sürüm
+     *
+     * @return Header yoksa veya "*" ise null; ürün ETag'i olmayan (weak, liste veya tanınmayan) değerler için -1,
+     *         hiçbir sürümle eşleşmez ve 412 ile sonuçlanır
+     */
+    static Long ifMatchVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.indexOf(',') >= 0) {
+            throw new IllegalArgumentException("If-Match tek bir ETag içermelidir");
+        }
+        // Strong karşılaştırma: weak ETag'ler (W/"...") hiçbir zaman eşleşmez
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return -1L;
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int separator = value.indexOf(';');
+        String version = separator < 0 ? value : value.substring(0, separator);
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static String quote(String value, ProductFields fields) {
+        if (fields.isAll()) {
+            return "\"" + value + "\"";
+        }
+        StringJoiner joiner = new StringJoiner(",", "\"" + value + ";", "\"");
+        for (ProductFields.Field field : fields.getFields()) {
+            joiner.add(field.getJsonName());
+        }
+        return joiner.toString();
+    }
+}
@@ -1,12 +1,14 @@
 package com.turkcell.product_service.web.exceptions;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -60,6 +62,91 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * If-Match sürüm uyuşmazlıklarını yönetir
+     */
+    @ExceptionHandler(ProductVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleProductVersionMismatchException(
+            ProductVersionMismatchException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition Failed",
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    /**
+     * Okuma ile kayıt arasında başka bir istekle değişen ürünleri yönetir
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "Ürün eşzamanlı olarak güncellendi, güncel sürümü okuyup tekrar deneyin",
+                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Bulunamayan toplu fiyat değişikliği işlerini yönetir
+     */
+    @ExceptionHandler(RepricingJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleRepricingJobNotFoundException(
+            RepricingJobNotFoundException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Devam ettirilemeyen (tamamlanmış ya da çalışan) toplu fiyat değişikliği işlerini yönetir
+     */
+    @ExceptionHandler(RepricingJobConflictException.class)
+    public ResponseEntity<ErrorResponse> handleRepricingJobConflictException(
+            RepricingJobConflictException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Bulunamayan katalog içe aktarımlarını yönetir
+     */
+    @ExceptionHandler(ProductImportNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleProductImportNotFoundException(
+            ProductImportNotFoundException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     /**
      * IllegalArgumentException hatalarını yönetir
      */
@@ -77,6 +164,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Tipine çevrilemeyen path/query parametrelerini yönetir (ör. minPrice=abc)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz parametre: " + ex.getName(),
+                request.getRequestURI());
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * RuntimeException hatalarını yönetir
      */
@@ -0,0 +1,11 @@
+package com.turkcell.product_service.web.exceptions;
+
+/**
+ * Product Import Not Found Exception
+ * Katalog içe aktarımı bulunamadığında fırlatılır (404)
+ */
+public class ProductImportNotFoundException extends RuntimeException {
+    public ProductImportNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.turkcell.product_service.web.exceptions;
+
+/**
+ * Product Version Mismatch Exception
+ * If-Match ile gönderilen sürüm ürünün güncel sürümüyle eşleşmediğinde fırlatılır (412)
+ */
+public class ProductVersionMismatchException extends RuntimeException {
+    public ProductVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.turkcell.product_service.web.exceptions;
+
+/**
+ * Repricing Job Conflict Exception
+ * İş tamamlanmış ya da başka bir runner tarafından çalıştırılıyorsa devam ettirme isteğinde fırlatılır (409)
+ */
+public class RepricingJobConflictException extends RuntimeException {
+    public RepricingJobConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.turkcell.product_service.web.exceptions;
+
+/**
+ * Repricing Job Not Found Exception
+ * Toplu fiyat değişikliği işi bulunamadığında fırlatılır (404)
+ */
+public class RepricingJobNotFoundException extends RuntimeException {
+    public RepricingJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.turkcell.product_service.web.json;
+
+import java.util.List;
+
+/**
+ * JSON Segments
+ * Hazır UTF-8 JSON parçaları - JsonSegmentsHttpMessageConverter bunları sırayla, kopyalamadan yanıt gövdesine yazar
+ */
+public record JsonSegments(List<byte[]> segments) {
+
+    public static JsonSegments of(byte[] json) {
+        return new JsonSegments(List.of(json));
+    }
+
+    public long length() {
+        long length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        return length;
+    }
+}
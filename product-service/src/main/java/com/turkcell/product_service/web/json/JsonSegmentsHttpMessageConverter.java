@@ -0,0 +1,49 @@
+package com.turkcell.product_service.web.json;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * JSON Segments HTTP Message Converter
+ * JsonSegments yanıtlarını Jackson'a uğramadan doğrudan output stream'e yazar, Content-Length önceden bilinir
+ */
+public class JsonSegmentsHttpMessageConverter extends AbstractHttpMessageConverter<JsonSegments> {
+
+    public JsonSegmentsHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonSegments.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonSegments readInternal(Class<? extends JsonSegments> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JsonSegments yalnızca yanıt için kullanılır", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(JsonSegments segments, MediaType contentType) {
+        return segments.length();
+    }
+
+    @Override
+    protected void writeInternal(JsonSegments segments, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = outputMessage.getBody();
+        for (byte[] segment : segments.segments()) {
+            body.write(segment);
+        }
+    }
+}
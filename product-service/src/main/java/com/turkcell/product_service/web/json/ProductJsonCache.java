@@ -0,0 +1,225 @@
+package com.turkcell.product_service.web.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.application.ports.ProductReadCachePort;
+import com.turkcell.product_service.application.ports.ReadConsistencyPort;
+import com.turkcell.product_service.application.usecases.GetProductByIdUseCase;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Product JSON Cache
+ * Her ürünün ProductResponse JSON'unu UTF-8 byte olarak tutar - değişmeyen ürün tekrar serileştirilmez
+ * Liste yanıtı cache'teki parçaların arasına sabit ayraçlar eklenerek kurulur, içerik Jackson çıktısıyla aynıdır
+ *
+ * Her girdi ürünün sürümüyle birlikte tutulur: liste yanıtı her istekte okunan (id, version) listesiyle eşleşmeyen
+ * girdileri kullanmaz, böylece başka bir instance'ın yaptığı güncellemeler de listede hemen görünür
+ *
+ * Geçersiz kılma: yazma use case'leri commit sonrası evict çağırır. Evict önce epoch'u artırır, sonra girdiyi siler;
+ * veritabanından okumaya başlamadan önce epoch'u kaydeden okuyucu, arada bir yazma olduysa sonucunu cache'e koymaz
+ *
+ * Read replica'lar: cache yalnızca primary'den okunan girdilerle doldurulur - replica gecikmesi cache'e taşınıp
+ * TTL boyunca sunulmaz. Read-your-writes penceresindeki istemcinin istekleri cache'i hiç kullanmaz (okuma da yazma da);
+ * yazma başka bir instance'ta yapıldıysa bu instance'taki girdi evict edilmemiş olabilir
+ */
+public class ProductJsonCache implements ProductReadCachePort {
+    private static final byte[] LIST_START = "{\"products\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMMA = { ',' };
+    private static final byte[] TOTAL_COUNT = "],\"totalCount\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OBJECT_END = { '}' };
+
+    private final ProductQueryPort productQueryPort;
+    private final GetProductByIdUseCase getProductByIdUseCase;
+    private final ReadConsistencyPort readConsistency;
+    private final ObjectWriter writer;
+    private final Cache<String, VersionedJson> cache;
+    private final boolean enabled;
+    private final AtomicLong epoch = new AtomicLong();
+
+    public ProductJsonCache(ProductQueryPort productQueryPort, GetProductByIdUseCase getProductByIdUseCase,
+            ReadConsistencyPort readConsistency, ObjectMapper objectMapper, ProductJsonCacheProperties properties) {
+        this.productQueryPort = productQueryPort;
+        this.getProductByIdUseCase = getProductByIdUseCase;
+        this.readConsistency = readConsistency;
+        this.writer = objectMapper.writerFor(ProductResponse.class);
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String id, VersionedJson entry) -> id.length() + entry.json().length)
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * GET /api/v1/products/{id} gövdesi ve sürümü
+     */
+    public VersionedJson product(String id) {
+        if (readConsistency.isPrimaryRequired()) {
+            return read(id);
+        }
+        // Anahtarlar kanonik UUID metinleridir - hit olan ID'nin ayrıca parse edilmesine gerek yok
+        VersionedJson cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return load(id);
+    }
+
+    /**
+     * GET /api/v1/products/{id} gövdesi - cache'teki girdi yalnızca sürümü veritabanından okunan sürümle aynıysa kullanılır
+     */
+    public VersionedJson product(String id, long version) {
+        if (readConsistency.isPrimaryRequired()) {
+            return read(id);
+        }
+        VersionedJson cached = cache.getIfPresent(id);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        return load(id);
+    }
+
+    /**
+     * Ürünün veritabanındaki güncel sürümü - yalnızca version kolonu okunur (If-None-Match kontrolü)
+     * Cache'e bakılmaz: başka bir instance'ın yaptığı yazma yerel girdiyi TTL dolana kadar eski bırakır
+     */
+    public long version(String id) {
+        return productQueryPort.findVersion(Product.ProductId.fromString(id))
+                .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
+    }
+
+    /**
+     * Tüm ürünlerin (id, version) listesi - liste yanıtının ETag'i ve gövdesi bundan üretilir
+     */
+    public Listing listing() {
+        long seenEpoch = epoch.get();
+        return new Listing(seenEpoch, productQueryPort.findAllVersions());
+    }
+
+    /**
+     * GET /api/v1/products gövdesi
+     */
+    public JsonSegments products() {
+        return products(listing());
+    }
+
+    /**
+     * GET /api/v1/products gövdesi - listing() ile okunmuş listeden kurulur
+     * Sürümü listedekiyle aynı olan girdiler kullanılır, eksik veya eski olanlar tek sorguda tamamlanır
+     */
+    public JsonSegments products(Listing listing) {
+        return products(listing.epoch(), listing.versions());
+    }
+
+    private JsonSegments products(long seenEpoch, List<ProductVersion> versions) {
+        boolean bypass = readConsistency.isPrimaryRequired();
+        byte[][] jsons = new byte[versions.size()][];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < jsons.length; i++) {
+            ProductVersion version = versions.get(i);
+            VersionedJson cached = bypass ? null : cache.getIfPresent(version.id());
+            if (cached != null && cached.version() == version.version()) {
+                jsons[i] = cached.json();
+            } else {
+                missing.add(version.id());
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, byte[]> loaded = new HashMap<>();
+            // Liste replica'dan okunmuş olabilir; gövde primary'den tamamlanır, replica'dan gelen satır cache'e girmez
+            List<ProductResponse> responses = readConsistency.readFromPrimary(
+                    () -> productQueryPort.findByIds(missing));
+            for (ProductResponse response : responses) {
+                VersionedJson entry = toEntry(response);
+                if (!bypass) {
+                    store(response.getId(), entry, seenEpoch);
+                }
+                loaded.put(response.getId(), entry.json());
+            }
+            for (int i = 0; i < jsons.length; i++) {
+                if (jsons[i] == null) {
+                    jsons[i] = loaded.get(versions.get(i).id());
+                }
+            }
+        }
+
+        List<byte[]> segments = new ArrayList<>(jsons.length * 2 + 3);
+        segments.add(LIST_START);
+        int count = 0;
+        for (byte[] json : jsons) {
+            // ID listesi okunduktan sonra silinen ürün
+            if (json == null) {
+                continue;
+            }
+            if (count++ > 0) {
+                segments.add(COMMA);
+            }
+            segments.add(json);
+        }
+        segments.add(TOTAL_COUNT);
+        segments.add(Integer.toString(count).getBytes(StandardCharsets.US_ASCII));
+        segments.add(OBJECT_END);
+        return new JsonSegments(segments);
+    }
+
+    @Override
+    public void evict(Product.ProductId id) {
+        epoch.incrementAndGet();
+        cache.asMap().remove(id.toString());
+    }
+
+    private VersionedJson load(String id) {
+        String key = Product.ProductId.fromString(id).toString();
+        long seenEpoch = epoch.get();
+        VersionedJson entry = readConsistency.readFromPrimary(() -> read(id));
+        store(key, entry, seenEpoch);
+        return entry;
+    }
+
+    private VersionedJson read(String id) {
+        return toEntry(getProductByIdUseCase.execute(id));
+    }
+
+    Cache<String, VersionedJson> getCache() {
+        return cache;
+    }
+
+    private void store(String id, VersionedJson entry, long seenEpoch) {
+        if (!enabled) {
+            return;
+        }
+        // compute evict'teki remove ile aynı anahtar üzerinde sıralanır - epoch kontrolü ile put arasına yazma giremez
+        // Daha yeni sürümlü bir girdi eski bir okumayla ezilmez
+        cache.asMap().compute(id, (key, current) -> epoch.get() == seenEpoch
+                && (current == null || current.version() <= entry.version()) ? entry : current);
+    }
+
+    private VersionedJson toEntry(ProductResponse response) {
+        try {
+            return new VersionedJson(response.getVersion(), writer.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Ürün JSON'a çevrilemedi: " + response.getId(), e);
+        }
+    }
+
+    /**
+     * (id, version) listesi ve okunmaya başlandığı andaki epoch
+     */
+    public record Listing(long epoch, List<ProductVersion> versions) {
+    }
+}
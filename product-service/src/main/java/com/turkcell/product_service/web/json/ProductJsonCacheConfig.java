@@ -0,0 +1,39 @@
+package com.turkcell.product_service.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.application.ports.ReadConsistencyPort;
+import com.turkcell.product_service.application.usecases.GetProductByIdUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Product JSON Cache Config
+ * Cache bean'i, product.json cache metrikleri ve JsonSegments converter'ının MVC'ye eklenmesi
+ */
+@Configuration
+@EnableConfigurationProperties(ProductJsonCacheProperties.class)
+public class ProductJsonCacheConfig implements WebMvcConfigurer {
+
+    @Bean
+    public ProductJsonCache productJsonCache(ProductQueryPort productQueryPort,
+            GetProductByIdUseCase getProductByIdUseCase, ReadConsistencyPort readConsistency,
+            ObjectMapper objectMapper, ProductJsonCacheProperties properties, MeterRegistry meterRegistry) {
+        ProductJsonCache productJsonCache = new ProductJsonCache(productQueryPort, getProductByIdUseCase,
+                readConsistency, objectMapper, properties);
+        CaffeineCacheMetrics.monitor(meterRegistry, productJsonCache.getCache(), "product.json");
+        return productJsonCache;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new JsonSegmentsHttpMessageConverter());
+    }
+}
@@ -0,0 +1,52 @@
+package com.turkcell.product_service.web.json;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Product JSON Cache Properties
+ * Önceden serileştirilmiş ürün JSON'larının tutulduğu cache'in ayarları
+ */
+@ConfigurationProperties(prefix = "product.json-cache")
+public class ProductJsonCacheProperties {
+    /**
+     * Kapalıysa yanıtlar her istekte serileştirilir (içerik aynıdır)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cache'teki JSON byte'larının toplam üst sınırı
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Girdilerin yaşam süresi - başka bir instance'ın yaptığı yazmalar yerel cache'i ancak bu süre sonunda yeniler
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+}
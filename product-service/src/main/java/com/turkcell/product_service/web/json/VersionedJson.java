@@ -0,0 +1,12 @@
+package com.turkcell.product_service.web.json;
+
+/**
+ * Versioned JSON
+ * Bir ürünün serileştirilmiş ProductResponse JSON'u ve o JSON'un ait olduğu ürün sürümü (ETag kaynağı)
+ */
+public record VersionedJson(long version, byte[] json) {
+
+    public JsonSegments segments() {
+        return JsonSegments.of(json);
+    }
+}
@@ -0,0 +1,91 @@
+package com.turkcell.product_service.web.reactive;
+
+import com.turkcell.product_service.application.ports.ProductReactiveQueryPort.ProductFilter;
+import com.turkcell.product_service.application.usecases.ReactiveProductQueryUseCase;
+import com.turkcell.product_service.web.exceptions.ErrorResponse;
+import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Product Reactive Handler
+ * Fonksiyonel WebFlux endpoint'lerinin handler'ı - MVC tarafındaki ProductController'ın okuma karşılığı
+ * Hata eşlemesi GlobalExceptionHandler ile aynıdır (404 / 400 / 500)
+ */
+public class ProductReactiveHandler {
+    private static final Logger log = LoggerFactory.getLogger(ProductReactiveHandler.class);
+
+    private final ReactiveProductQueryUseCase queryUseCase;
+    private final int defaultPageSize;
+
+    public ProductReactiveHandler(ReactiveProductQueryUseCase queryUseCase, int defaultPageSize) {
+        this.queryUseCase = queryUseCase;
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    /**
+     * GET /api/v1/products/{id}
+     */
+    public Mono<ServerResponse> getProductById(ServerRequest request) {
+        return queryUseCase.getById(request.pathVariable("id"))
+                .flatMap(product -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(product))
+                .onErrorResume(ex -> error(request, ex));
+    }
+
+    /**
+     * GET /api/v1/products?page=0&size=20&minPrice=10&maxPrice=100&currency=TRY&inStock=true
+     */
+    public Mono<ServerResponse> getProducts(ServerRequest request) {
+        return Mono.fromCallable(() -> new ProductFilter(
+                        decimalParam(request, "minPrice"),
+                        decimalParam(request, "maxPrice"),
+                        request.queryParam("currency").orElse(null),
+                        request.queryParam("inStock").map(Boolean::parseBoolean).orElse(null)))
+                .flatMap(filter -> queryUseCase.getPage(
+                        filter,
+                        intParam(request, "page").orElse(0),
+                        intParam(request, "size").orElse(defaultPageSize)))
+                .flatMap(page -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(page))
+                .onErrorResume(ex -> error(request, ex));
+    }
+
+    private Mono<ServerResponse> error(ServerRequest request, Throwable ex) {
+        if (ex instanceof ProductNotFoundException) {
+            return error(request, HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return error(request, HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage());
+        }
+        log.error("Reaktif okuma hatası: {} {}", request.method(), request.path(), ex);
+        return error(request, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "Beklenmeyen bir hata oluştu");
+    }
+
+    private static Mono<ServerResponse> error(ServerRequest request, HttpStatus status, String error, String message) {
+        ErrorResponse body = new ErrorResponse(status.value(), error, message, request.path());
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    private static BigDecimal decimalParam(ServerRequest request, String name) {
+        return request.queryParam(name).map(value -> parse(name, () -> new BigDecimal(value))).orElse(null);
+    }
+
+    private static Optional<Integer> intParam(ServerRequest request, String name) {
+        return request.queryParam(name).map(value -> parse(name, () -> Integer.parseInt(value)));
+    }
+
+    private static <T> T parse(String name, java.util.function.Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Geçersiz sayısal parametre: " + name);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.turkcell.product_service.web.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Reactive Read Properties
+ * Non-blocking okuma API'sinin çalıştığı ayrı Reactor Netty sunucusunun ayarları
+ */
+@ConfigurationProperties(prefix = "product.reactive-read")
+public class ReactiveReadProperties {
+    /**
+     * Reaktif okuma sunucusu ve R2DBC havuzu açık mı - açıksa product.reactive-read.r2dbc.url tanımlı olmalıdır
+     */
+    private boolean enabled = false;
+
+    /**
+     * Reaktif okuma sunucusunun portu - servlet (Tomcat) portundan ayrıdır
+     */
+    private int port = 8091;
+
+    /**
+     * Varsayılan sayfa boyutu
+     */
+    private int defaultPageSize = 20;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getDefaultPageSize() {
+        return defaultPageSize;
+    }
+
+    public void setDefaultPageSize(int defaultPageSize) {
+        this.defaultPageSize = defaultPageSize;
+    }
+}
@@ -0,0 +1,49 @@
+package com.turkcell.product_service.web.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.usecases.ReactiveProductQueryUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Reactive Read Router Configuration
+ * Uygulama servlet tipinde olduğu için WebFlux auto-configuration devreye girmez -
+ * router burada HttpHandler'a çevrilip ReactiveReadServer ile ayrı portta yayınlanır
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.reactive-read", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+public class ReactiveReadRouterConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveProductRoutes(ReactiveProductQueryUseCase queryUseCase,
+            ReactiveReadProperties properties) {
+        ProductReactiveHandler handler = new ProductReactiveHandler(queryUseCase, properties.getDefaultPageSize());
+        return RouterFunctions.route()
+                .GET("/api/v1/products/{id}", handler::getProductById)
+                .GET("/api/v1/products", handler::getProducts)
+                .build();
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(RouterFunction<ServerResponse> reactiveProductRoutes,
+            ObjectMapper objectMapper, ReactiveReadProperties properties) {
+        // MVC tarafıyla aynı JSON çıktısı için Boot'un ObjectMapper'ı kullanılır
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveReadServer(RouterFunctions.toHttpHandler(reactiveProductRoutes, strategies),
+                properties.getPort());
+    }
+}
@@ -0,0 +1,17 @@
+-- products tablosu (ProductEntity)
+-- ddl-auto ile oluşturulmuş mevcut veritabanları sıfır sürümünden baseline alır ve bu dosya onlarda da çalışır:
+-- bu yüzden tüm ifadeler IF NOT EXISTS ile idempotenttir
+
+CREATE TABLE IF NOT EXISTS products (
+    id             VARCHAR(255)   NOT NULL,
+    name           VARCHAR(255)   NOT NULL,
+    description    VARCHAR(1000)  NOT NULL,
+    price_amount   NUMERIC(19, 2) NOT NULL,
+    price_currency VARCHAR(3)     NOT NULL,
+    stock_quantity INTEGER        NOT NULL,
+    version        BIGINT         DEFAULT 0 NOT NULL,
+    CONSTRAINT products_pkey PRIMARY KEY (id)
+);
+
+-- Optimistic locking kolonu sonradan eklendi - eski şemalarda mevcut satırlar 0. sürümden başlar
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,8 @@
+-- Ürün araması (ProductSearchQuery) ve JpaProductRepository filtreleri için index'ler
+
+-- Para birimi + fiyat aralığı / fiyat sıralaması (findByPriceCurrencyAndPriceAmountBetween, /search?currency=&minPrice=)
+-- id, eşit fiyatlarda sayfa sırasını index'ten okumayı sağlar
+CREATE INDEX IF NOT EXISTS idx_products_currency_price ON products (price_currency, price_amount, id);
+
+-- Ad sıralaması ve önek aramaları
+CREATE INDEX IF NOT EXISTS idx_products_name ON products (name, id);
@@ -0,0 +1,28 @@
+-- Toplu fiyat değişikliği işleri (BulkRepricingUseCase, RepricingStore)
+-- Ürünler id sırasıyla chunk chunk güncellenir; cursor_id son güncellenen id'dir ve chunk'la aynı transaction'da ilerler
+-- published_cursor_id: change event'leri yayınlanmış son id - cursor'ın gerisindeyse devam eden iş önce aradakileri yayınlar
+-- lease_owner / lease_until: işi çalıştıran runner ve kirasının bittiği an (epoch ms) - kirası dolan iş devralınabilir
+-- Sharding açıkken her shard'da aynı id ile bir satır bulunur; her shard kendi ürünlerinin cursor'ını tutar
+
+CREATE TABLE IF NOT EXISTS price_change_jobs (
+    id                  VARCHAR(36)    NOT NULL,
+    status              VARCHAR(16)    NOT NULL,
+    basis_points        BIGINT         NOT NULL,
+    rounding            VARCHAR(16)    NOT NULL,
+    currency            VARCHAR(3),
+    min_price           NUMERIC(19, 2),
+    max_price           NUMERIC(19, 2),
+    in_stock            BOOLEAN,
+    total_count         BIGINT         NOT NULL,
+    updated_count       BIGINT         DEFAULT 0 NOT NULL,
+    published_count     BIGINT         DEFAULT 0 NOT NULL,
+    cursor_id           VARCHAR(255)   DEFAULT '' NOT NULL,
+    published_cursor_id VARCHAR(255)   DEFAULT '' NOT NULL,
+    scan_complete       BOOLEAN        DEFAULT FALSE NOT NULL,
+    lease_owner         VARCHAR(36),
+    lease_until         BIGINT,
+    error               VARCHAR(1000),
+    created_at          BIGINT         NOT NULL,
+    updated_at          BIGINT         NOT NULL,
+    CONSTRAINT price_change_jobs_pkey PRIMARY KEY (id)
+);
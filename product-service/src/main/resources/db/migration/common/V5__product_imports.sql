@@ -0,0 +1,25 @@
+-- CSV katalog içe aktarımları (ImportProductsUseCase, JdbcProductImportAdapter)
+-- product_imports: içe aktarım raporu - satır sayıları ve sonuç; sharding açıkken ilk shard'da tutulur
+-- product_import_errors: reddedilen satırlar (satır numarası, neden, ham satır) - GET /imports/{id}/errors
+
+CREATE TABLE IF NOT EXISTS product_imports (
+    id             VARCHAR(36)    NOT NULL,
+    status         VARCHAR(16)    NOT NULL,
+    rows_read      BIGINT         DEFAULT 0 NOT NULL,
+    accepted_count BIGINT         DEFAULT 0 NOT NULL,
+    rejected_count BIGINT         DEFAULT 0 NOT NULL,
+    inserted_count BIGINT         DEFAULT 0 NOT NULL,
+    updated_count  BIGINT         DEFAULT 0 NOT NULL,
+    error          VARCHAR(1000),
+    created_at     BIGINT         NOT NULL,
+    finished_at    BIGINT,
+    CONSTRAINT product_imports_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS product_import_errors (
+    import_id   VARCHAR(36)    NOT NULL,
+    line_number BIGINT         NOT NULL,
+    reason      VARCHAR(1000)  NOT NULL,
+    raw_line    VARCHAR(4000),
+    CONSTRAINT product_import_errors_pkey PRIMARY KEY (import_id, line_number)
+);
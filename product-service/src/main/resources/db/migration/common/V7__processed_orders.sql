@@ -0,0 +1,11 @@
+-- Stoğu düşülmüş siparişler (ReduceStockUseCase, ProductRepository.saveForOrder)
+-- Satır stok düşümüyle aynı transaction'da yazılır: aynı sipariş olayı tekrar teslim edilirse primary key çakışır,
+-- transaction geri alınır ve stok ikinci kez düşülmez
+-- Sharding açıkken satır ürünün bulunduğu shard'da tutulur
+
+CREATE TABLE IF NOT EXISTS processed_orders (
+    order_id     VARCHAR(64)    NOT NULL,
+    product_id   VARCHAR(36)    NOT NULL,
+    processed_at BIGINT         NOT NULL,
+    CONSTRAINT processed_orders_pkey PRIMARY KEY (order_id)
+);
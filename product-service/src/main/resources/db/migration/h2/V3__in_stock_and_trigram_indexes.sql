@@ -0,0 +1,4 @@
+-- H2 (testler ve yerel çalıştırma) karşılığı: db/migration/postgresql/V3
+-- H2 partial index ve trigram desteklemez: stok filtresi için düz index, ad içinde arama tablo taramasıyla yapılır
+
+CREATE INDEX IF NOT EXISTS idx_products_in_stock ON products (stock_quantity, price_currency, price_amount, id);
@@ -0,0 +1,10 @@
+-- PostgreSQL'e özgü index'ler (H2 karşılığı: db/migration/h2/V3)
+
+-- Yalnızca stoktaki ürünler: /search?inStock=true ve findByStockQuantityGreaterThan(0)
+-- Stoksuz satırlar index'e girmez, fiyat filtresi/sıralaması stokta olanlar içinde index'ten çözülür
+CREATE INDEX IF NOT EXISTS idx_products_in_stock ON products (price_currency, price_amount, id)
+    WHERE stock_quantity > 0;
+
+-- Ad içinde arama (LOWER(name) LIKE '%...%') b-tree kullanamaz - trigram GIN index'i kullanır
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (LOWER(name) gin_trgm_ops);
@@ -0,0 +1,19 @@
+-- CSV içe aktarımının ara tablosu (H2 karşılığı: db/migration/h2/V6)
+-- Doğrulanmış satırlar COPY ile buraya akar, ardından tek bir INSERT ... ON CONFLICT ile products'a yazılır
+-- ve içe aktarım bitince silinir: WAL'e yazılmaması (UNLOGGED) COPY'yi hızlandırır, çökmede içeriği kaybolur
+-- existed: ürün içe aktarımdan önce de vardı (UPDATED olayı) - merge'den hemen önce işaretlenir
+
+CREATE UNLOGGED TABLE IF NOT EXISTS product_import_staging (
+    import_id      VARCHAR(36)    NOT NULL,
+    line_number    BIGINT         NOT NULL,
+    id             VARCHAR(255)   NOT NULL,
+    name           VARCHAR(255)   NOT NULL,
+    description    VARCHAR(1000)  NOT NULL,
+    price_amount   NUMERIC(19, 2) NOT NULL,
+    price_currency VARCHAR(3)     NOT NULL,
+    stock_quantity INTEGER        NOT NULL,
+    existed        BOOLEAN        DEFAULT FALSE NOT NULL,
+    CONSTRAINT product_import_staging_pkey PRIMARY KEY (import_id, line_number)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_import_staging_id ON product_import_staging (import_id, id);
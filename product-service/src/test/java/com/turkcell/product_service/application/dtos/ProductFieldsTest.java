@@ -0,0 +1,42 @@
+package com.turkcell.product_service.application.dtos;
+
+import com.turkcell.product_service.application.dtos.ProductFields.Field;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * fields parametresinin çözümlenmesi - id her zaman dahil, tüm alanlar ALL'a eşit, bilinmeyen alan reddedilir
+ */
+class ProductFieldsTest {
+
+    @Test
+    void missingOrBlankFieldsMeanAllFields() {
+        assertThat(ProductFields.parse(null)).isSameAs(ProductFields.ALL);
+        assertThat(ProductFields.parse("  ")).isSameAs(ProductFields.ALL);
+        assertThat(ProductFields.ALL.isAll()).isTrue();
+    }
+
+    @Test
+    void selectedFieldsAlwaysIncludeTheId() {
+        ProductFields fields = ProductFields.parse(" Name ,PRICE,,name");
+
+        assertThat(fields.getFields()).containsExactly(Field.ID, Field.NAME, Field.PRICE);
+        assertThat(fields.isAll()).isFalse();
+        assertThat(ProductFields.parse("id").getFields()).containsExactly(Field.ID);
+    }
+
+    @Test
+    void namingEveryFieldIsTheSameAsAll() {
+        assertThat(ProductFields.parse("stock,price,description,name")).isSameAs(ProductFields.ALL);
+        assertThat(ProductFields.parse("id,name,description,price,stock")).isSameAs(ProductFields.ALL);
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        assertThatThrownBy(() -> ProductFields.parse("name,colour"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Bilinmeyen alan: colour");
+    }
+}
@@ -0,0 +1,136 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductChangesBackfill;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.events.ProductChangedEvent.ChangeType;
+import com.turkcell.product_service.application.ports.ReadConsistencyPort;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * product-changes backfill'i - Flyway ile migrate edilmiş H2 üzerinde JdbcProductQueryAdapter
+ * Katalog ID sırasıyla sayfa sayfa gönderilir; sayfa okunduktan sonra değişen ürünün son olayı güncel halidir
+ */
+class BackfillProductChangesUseCaseTest {
+    private JdbcTemplate jdbcTemplate;
+    private final List<ProductChangedEvent> sent = new ArrayList<>();
+    private Runnable beforeFirstPublish;
+    private BackfillProductChangesUseCase backfill;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:backfill-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        backfill = new BackfillProductChangesUseCase(new JdbcProductQueryAdapter(jdbcTemplate), event -> {
+            Runnable hook = beforeFirstPublish;
+            beforeFirstPublish = null;
+            if (hook != null) {
+                hook.run();
+            }
+            sent.add(event);
+        }, new PrimaryOnly());
+    }
+
+    @Test
+    void everyProductIsSentOnceInIdOrder() {
+        List<String> ids = insert(25);
+
+        assertThat(backfill.step(10)).isEqualTo(new ProductChangesBackfill(ids.get(9), 10, 0, false));
+        assertThat(backfill.step(10).complete()).isFalse();
+        ProductChangesBackfill status = backfill.step(10);
+
+        assertThat(status).isEqualTo(new ProductChangesBackfill(ids.get(24), 25, 0, true));
+        assertThat(sent).extracting(ProductChangedEvent::productId).containsExactlyElementsOf(ids);
+        assertThat(sent).allSatisfy(event -> {
+            assertThat(event.type()).isEqualTo(ChangeType.UPDATED);
+            assertThat(event.version()).isEqualTo(3L);
+            assertThat(event.product().getName()).isEqualTo("Ürün " + event.productId());
+        });
+        // Tamamlanan backfill yeniden göndermez; reset baştan başlatır
+        backfill.step(10);
+        assertThat(sent).hasSize(25);
+        backfill.reset();
+        assertThat(backfill.step(100)).isEqualTo(new ProductChangesBackfill(ids.get(24), 25, 0, true));
+        assertThat(sent).hasSize(50);
+    }
+
+    @Test
+    void productChangedAfterThePageWasReadEndsWithItsCurrentState() {
+        List<String> ids = insert(5);
+        // Sayfa okundu, olaylar gönderilmeden önce bir ürün güncellendi, biri silindi
+        beforeFirstPublish = () -> {
+            jdbcTemplate.update("UPDATE products SET stock_quantity = 1, version = 4 WHERE id = ?", ids.get(1));
+            jdbcTemplate.update("DELETE FROM products WHERE id = ?", ids.get(3));
+        };
+
+        ProductChangesBackfill status = backfill.step(10);
+
+        assertThat(status).isEqualTo(new ProductChangesBackfill(ids.get(4), 5, 2, true));
+        Map<String, ProductChangedEvent> last = new LinkedHashMap<>();
+        sent.forEach(event -> last.put(event.productId(), event));
+        assertThat(last.get(ids.get(1)).version()).isEqualTo(4L);
+        assertThat(last.get(ids.get(1)).product().getStock().getQuantity()).isEqualTo(1);
+        assertThat(last.get(ids.get(3)).type()).isEqualTo(ChangeType.DELETED);
+        assertThat(last.get(ids.get(0)).version()).isEqualTo(3L);
+    }
+
+    @Test
+    void failedPageIsRetriedFromTheSameCursor() {
+        List<String> ids = insert(4);
+        beforeFirstPublish = () -> {
+            throw new IllegalStateException("broker erişilemiyor");
+        };
+
+        assertThatThrownBy(() -> backfill.step(2)).hasMessage("broker erişilemiyor");
+        assertThat(backfill.status()).isEqualTo(new ProductChangesBackfill(null, 0, 0, false));
+
+        backfill.step(2);
+        assertThat(sent).extracting(ProductChangedEvent::productId).containsExactly(ids.get(0), ids.get(1));
+    }
+
+    /**
+     * Sıralı UUID'ler - ID sırası ekleme sırasıyla aynıdır
+     */
+    private List<String> insert(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String id = String.format("00000000-0000-4000-8000-%012d", i);
+            jdbcTemplate.update("INSERT INTO products (id, name, description, price_amount, price_currency, "
+                    + "stock_quantity, version) VALUES (?, ?, 'Açıklama', 10.00, 'TRY', 5, 3)", id, "Ürün " + id);
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static final class PrimaryOnly implements ReadConsistencyPort {
+        @Override
+        public boolean isPrimaryRequired() {
+            return true;
+        }
+
+        @Override
+        public <T> T readFromPrimary(Supplier<T> read) {
+            return read.get();
+        }
+    }
+}
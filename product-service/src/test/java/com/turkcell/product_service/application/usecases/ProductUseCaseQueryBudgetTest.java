@@ -0,0 +1,227 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.dtos.UpdateProductRequest;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+import com.turkcell.product_service.application.ports.ProductReadCachePort;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.infrastructure.observability.DbObservabilityConfig;
+import com.turkcell.product_service.infrastructure.observability.ObservedDataSource;
+import com.turkcell.product_service.infrastructure.observability.QueryBudget;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import com.turkcell.product_service.infrastructure.repositories.ProductRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Yazma ve okuma use case'lerinin sorgu bütçeleri - H2 PostgreSQL modu + Flyway + Hibernate
+ * Bütçe aşılırsa (fazladan SELECT, N+1) test, çalışan statement'ları listeleyerek kırılır
+ * Testler kendi transaction'ında çalışmaz; her use case'in flush/commit'i ölçüme dahildir
+ */
+@DataJpaTest(properties = {
+        // application.yml'deki config server import'u yüklenmesin - gereken ayarlar aşağıda
+        "spring.config.location=optional:classpath:/query-budget/",
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.locations=classpath:db/migration/common,classpath:db/migration/{vendor}",
+        "spring.jpa.hibernate.ddl-auto=validate" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ DbObservabilityConfig.class, ProductRepositoryImpl.class, JdbcProductQueryAdapter.class,
+        CreateProductUseCase.class, UpdateProductUseCase.class, DeleteProductUseCase.class,
+        GetProductByIdUseCase.class, GetAllProductsUseCase.class, ReduceStockUseCase.class,
+        ProductUseCaseQueryBudgetTest.Ports.class })
+class ProductUseCaseQueryBudgetTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CreateProductUseCase createProduct;
+    @Autowired
+    private UpdateProductUseCase updateProduct;
+    @Autowired
+    private DeleteProductUseCase deleteProduct;
+    @Autowired
+    private GetProductByIdUseCase getProductById;
+    @Autowired
+    private GetAllProductsUseCase getAllProducts;
+    @Autowired
+    private ReduceStockUseCase reduceStock;
+    @Autowired
+    private ProductRepository productRepository;
+
+    private QueryBudget budget;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        budget = QueryBudget.of(dataSource.unwrap(ObservedDataSource.class).getMetrics());
+    }
+
+    @Test
+    void createIsASingleInsert() {
+        budget.run(() -> createProduct.execute(request("Klavye")))
+                .assertAtMost("select", 0)
+                .assertAtMost("insert", 1)
+                .assertTotalAtMost(1);
+    }
+
+    @Test
+    void updateLoadsOnceAndWritesOnce() {
+        ProductResponse created = createProduct.execute(request("Mouse"));
+
+        budget.run(() -> updateProduct.execute(created.getId(), new UpdateProductRequest("Mouse", "Kablosuz mouse",
+                new PriceDto(new BigDecimal("899.00"), "TRY"), null), created.getVersion()))
+                // findById + Hibernate'in detached entity merge'ü için yüklemesi
+                .assertAtMost("select", 2)
+                .assertAtMost("update", 1)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    void stockReductionLoadsOnceAndWritesOnce() {
+        ProductResponse created = createProduct.execute(request("Kulaklık"));
+
+        budget.run(() -> assertThat(reduceStock.execute(null, created.getId(), 2).orElseThrow().getStock()
+                .getQuantity()).isEqualTo(created.getStock().getQuantity() - 2))
+                .assertAtMost("select", 2)
+                .assertAtMost("update", 1)
+                .assertTotalAtMost(3);
+        budget.run(() -> assertThatThrownBy(() -> reduceStock.execute(null, created.getId(), Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class))
+                .assertAtMost("update", 0);
+    }
+
+    @Test
+    void redeliveredOrderReducesStockOnce() {
+        ProductResponse created = createProduct.execute(request("Hoparlör"));
+        String orderId = UUID.randomUUID().toString();
+
+        // Sipariş kaydı kontrolü + yükleme + merge, ardından sipariş kaydı ve stok aynı transaction'da
+        budget.run(() -> assertThat(reduceStock.execute(orderId, created.getId(), 2).orElseThrow().getStock()
+                .getQuantity()).isEqualTo(3))
+                .assertAtMost("select", 3)
+                .assertAtMost("insert", 1)
+                .assertAtMost("update", 1)
+                .assertTotalAtMost(5);
+        // Tekrar teslim: yalnızca sipariş kaydına bakılır
+        budget.run(() -> assertThat(reduceStock.execute(orderId, created.getId(), 2)).isEmpty())
+                .assertAtMost("select", 1)
+                .assertTotalAtMost(1);
+
+        assertThat(stock(created.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void orderRecordIsWrittenInTheSameTransactionAsTheStock() {
+        ProductResponse created = createProduct.execute(request("Şarj Aleti"));
+        Product product = productRepository.findById(Product.ProductId.fromString(created.getId())).orElseThrow();
+        product.reduceStock(1);
+
+        // Kontrolden sonra aynı siparişin başka bir teslimi yazdı: ürün değişmez
+        jdbcTemplate.update("INSERT INTO processed_orders (order_id, product_id, processed_at) VALUES (?, ?, 0)",
+                "order-1", created.getId());
+        assertThat(productRepository.saveForOrder(product, "order-1")).isEmpty();
+        assertThat(stock(created.getId())).isEqualTo(5);
+
+        // Ürün arada değişti: optimistic lock hatası sipariş kaydını da geri alır
+        jdbcTemplate.update("UPDATE products SET version = version + 1 WHERE id = ?", created.getId());
+        assertThatThrownBy(() -> productRepository.saveForOrder(product, "order-2"))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(productRepository.isOrderProcessed("order-2", product.getId())).isFalse();
+        assertThat(stock(created.getId())).isEqualTo(5);
+    }
+
+    @Test
+    void conditionalDeleteIsASingleStatement() {
+        ProductResponse created = createProduct.execute(request("Monitör"));
+
+        budget.run(() -> deleteProduct.execute(created.getId(), created.getVersion()))
+                .assertAtMost("delete", 1)
+                .assertTotalAtMost(1);
+    }
+
+    @Test
+    void readsAreASingleSelectRegardlessOfRowCount() {
+        ProductResponse created = createProduct.execute(request("Kulaklık"));
+        for (int i = 0; i < 25; i++) {
+            createProduct.execute(request("Ürün " + i));
+        }
+
+        budget.run(() -> getProductById.execute(created.getId(), ProductFields.ALL)).assertTotalAtMost(1);
+        budget.run(() -> getAllProducts.execute(ProductFields.ALL)).assertTotalAtMost(1);
+    }
+
+    @Test
+    void exceedingTheBudgetListsTheStatements() {
+        assertThatThrownBy(() -> budget.run(() -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE stock_quantity > 0", Long.class);
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE stock_quantity > 5", Long.class);
+        }).assertAtMost("select", 1))
+                .isInstanceOf(AssertionError.class)
+                // Literal'ler şekle girmez - iki sorgu aynı şekil olarak sayılır
+                .hasMessageContaining("2x SELECT COUNT(*) FROM products WHERE stock_quantity > ?");
+    }
+
+    @Test
+    void rowsAndLatencyAreRecordedPerShape() throws SQLException {
+        createProduct.execute(request("Tablet"));
+
+        getAllProducts.execute(ProductFields.ALL);
+
+        assertThat(dataSource.unwrap(ObservedDataSource.class).getMetrics().report().shapes())
+                .anySatisfy(shape -> {
+                    assertThat(shape.operation()).isEqualTo("select");
+                    assertThat(shape.table()).isEqualTo("products");
+                    assertThat(shape.rows()).isPositive();
+                })
+                .anySatisfy(shape -> assertThat(shape.operation()).isEqualTo("insert"));
+    }
+
+    private int stock(String id) {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, id);
+    }
+
+    private static CreateProductRequest request(String name) {
+        return new CreateProductRequest(name, name + " açıklaması", new PriceDto(new BigDecimal("1249.90"), "TRY"),
+                new StockDto(5));
+    }
+
+    @TestConfiguration
+    static class Ports {
+        @Bean
+        ProductEventPublisherPort productEventPublisher() {
+            return event -> {
+            };
+        }
+
+        @Bean
+        ProductReadCachePort productReadCache() {
+            return id -> {
+            };
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.turkcell.product_service.domain.valueobjects;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Alt birim (long) fiyat aritmetiği - banker's rounding, scale > 2 girdiler, double hızlı yolu ve long sınırı
+ */
+class PriceTest {
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(Long.MAX_VALUE, Price.SCALE);
+
+    @Test
+    void divisionTiesRoundToEvenForPositiveAndNegativeDividends() {
+        assertThat(Price.divideHalfEven(5, 10)).isZero();
+        assertThat(Price.divideHalfEven(15, 10)).isEqualTo(2);
+        assertThat(Price.divideHalfEven(25, 10)).isEqualTo(2);
+        assertThat(Price.divideHalfEven(26, 10)).isEqualTo(3);
+
+        assertThat(Price.divideHalfEven(-5, 10)).isZero();
+        assertThat(Price.divideHalfEven(-15, 10)).isEqualTo(-2);
+        assertThat(Price.divideHalfEven(-25, 10)).isEqualTo(-2);
+        assertThat(Price.divideHalfEven(-14, 10)).isEqualTo(-1);
+        assertThat(Price.divideHalfEven(-16, 10)).isEqualTo(-2);
+    }
+
+    @Test
+    void percentageChangesRoundTiesToEven() {
+        // 1.50 * 1.01 = 1.515 -> 1.52, 2.50 * 1.01 = 2.525 -> 2.52
+        assertThat(tryPrice(150).increaseByPercentage(BigDecimal.ONE).getMinorUnits()).isEqualTo(152);
+        assertThat(tryPrice(250).increaseByPercentage(BigDecimal.ONE).getMinorUnits()).isEqualTo(252);
+        // 1.50 * 0.99 = 1.485 -> 1.48, 2.50 * 0.99 = 2.475 -> 2.48
+        assertThat(tryPrice(150).decreaseByPercentage(BigDecimal.ONE).getMinorUnits()).isEqualTo(148);
+        assertThat(tryPrice(250).decreaseByPercentage(BigDecimal.ONE).getMinorUnits()).isEqualTo(248);
+        assertThat(tryPrice(250).decreaseByBasisPoints(100)).isEqualTo(tryPrice(248));
+    }
+
+    @Test
+    void percentagesWithMoreThanTwoDecimalsTakeTheBigDecimalPathAndRoundTiesToEven() {
+        BigDecimal eighthOfAPercent = new BigDecimal("0.125");
+
+        // 4.00 * 1.00125 = 4.005 -> 4.00, 12.00 * 1.00125 = 12.015 -> 12.02
+        assertThat(tryPrice(400).increaseByPercentage(eighthOfAPercent).getMinorUnits()).isEqualTo(400);
+        assertThat(tryPrice(1200).increaseByPercentage(eighthOfAPercent).getMinorUnits()).isEqualTo(1202);
+        // 4.00 * 0.99875 = 3.995 -> 4.00, 12.00 * 0.99875 = 11.985 -> 11.98
+        assertThat(tryPrice(400).decreaseByPercentage(eighthOfAPercent).getMinorUnits()).isEqualTo(400);
+        assertThat(tryPrice(1200).decreaseByPercentage(eighthOfAPercent).getMinorUnits()).isEqualTo(1198);
+    }
+
+    @Test
+    void amountsWithMoreThanTwoDecimalsAreRoundedHalfEven() {
+        assertThat(new Price(new BigDecimal("0.125"), Currency.TRY).getMinorUnits()).isEqualTo(12);
+        assertThat(new Price(new BigDecimal("0.135"), Currency.TRY).getMinorUnits()).isEqualTo(14);
+        assertThat(new Price(new BigDecimal("10.005"), Currency.TRY).getMinorUnits()).isEqualTo(1000);
+        assertThat(new Price(new BigDecimal("10.015"), Currency.TRY).getMinorUnits()).isEqualTo(1002);
+        assertThat(new Price(new BigDecimal("1.234999"), Currency.TRY).getMinorUnits()).isEqualTo(123);
+
+        Price rounded = new Price(new BigDecimal("10.015"), Currency.TRY);
+        assertThat(rounded.getAmount()).isEqualTo(new BigDecimal("10.02"));
+        assertThat(new Price(new BigDecimal("5.5"), Currency.TRY).getAmount()).isEqualTo(new BigDecimal("5.50"));
+    }
+
+    @Test
+    void doubleFastPathMatchesTheExactBigDecimalConversion() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // En fazla 15 basamak: hızlı yolun kapsadığı aralık
+            long minorUnits = Math.floorMod(random.nextLong(), 1_000_000_000_000_000L);
+            assertExactConversion(BigDecimal.valueOf(minorUnits, Price.SCALE));
+        }
+        // double'da tam gösterilemeyen tipik değerler ve hızlı yolun sınırları
+        for (String amount : new String[] {"0.00", "0.01", "0.29", "1.15", "4.35", "1249.90", "9999999999999.99",
+                "10000000000000.00", "92233720368547758.07"}) {
+            assertExactConversion(new BigDecimal(amount));
+        }
+    }
+
+    @Test
+    void amountsBeyondTheLongRangeAreRejected() {
+        long maxWholeAmount = Long.MAX_VALUE / 100;
+        assertThat(new Price(BigDecimal.valueOf(maxWholeAmount), Currency.TRY).getMinorUnits())
+                .isEqualTo(maxWholeAmount * 100);
+        assertThat(new Price(MAX_AMOUNT, Currency.TRY).getMinorUnits()).isEqualTo(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> new Price(BigDecimal.valueOf(maxWholeAmount + 1), Currency.TRY))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("çok büyük");
+        assertThatThrownBy(() -> new Price(MAX_AMOUNT.add(new BigDecimal("0.01")), Currency.TRY))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("çok büyük");
+        // Yuvarlama sonucu sınırı aşan değer de reddedilir: .075 -> .08
+        assertThatThrownBy(() -> new Price(new BigDecimal("92233720368547758.075"), Currency.TRY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void arithmeticOverflowFailsInsteadOfWrapping() {
+        Price max = tryPrice(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.add(tryPrice(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> tryPrice(Long.MAX_VALUE / 100 + 1).multiply(100))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> tryPrice(Long.MAX_VALUE / 100).increaseByBasisPoints(1))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void amountIsWrittenAsAnExactTwoDecimalJsonNumberUpToTheLongLimit() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .build();
+
+        assertThat(json(objectMapper, tryPrice(Long.MAX_VALUE)))
+                .isEqualTo("{\"amount\":92233720368547758.07,\"currency\":\"TRY\"}");
+        assertThat(json(objectMapper, tryPrice(10))).isEqualTo("{\"amount\":0.10,\"currency\":\"TRY\"}");
+        assertThat(json(objectMapper, tryPrice(0))).isEqualTo("{\"amount\":0.00,\"currency\":\"TRY\"}");
+
+        PriceDto read = objectMapper.readValue(json(objectMapper, tryPrice(Long.MAX_VALUE)), PriceDto.class);
+        assertThat(new Price(read.getAmount(), Currency.fromCode(read.getCurrency())))
+                .isEqualTo(tryPrice(Long.MAX_VALUE));
+    }
+
+    private static void assertExactConversion(BigDecimal amount) {
+        assertThat(new Price(amount, Currency.TRY).getMinorUnits())
+                .as(amount.toPlainString())
+                .isEqualTo(amount.unscaledValue().longValueExact());
+    }
+
+    private static String json(ObjectMapper objectMapper, Price price) throws Exception {
+        return objectMapper.writeValueAsString(new PriceDto(price.getAmount(), price.getCurrency().getCode()));
+    }
+
+    private static Price tryPrice(long minorUnits) {
+        return Price.ofMinorUnits(minorUnits, Currency.TRY);
+    }
+}
@@ -0,0 +1,125 @@
+package com.turkcell.product_service.infrastructure.concurrency;
+
+import com.turkcell.product_service.infrastructure.observability.DbObservabilityProperties;
+import com.turkcell.product_service.infrastructure.observability.ObservedDataSource;
+import com.turkcell.product_service.infrastructure.observability.QueryMetrics;
+import org.h2.jdbc.JdbcConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DB semaphore'u - H2 üzerinde permit'in alınması, bir kez bırakılması ve sarmalayıcılar arasından unwrap
+ */
+class ConcurrencyLimitingDataSourceTest {
+    private final DriverManagerDataSource h2 = new DriverManagerDataSource(
+            "jdbc:h2:mem:limiter-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(h2).execute("SHUTDOWN");
+    }
+
+    @Test
+    void closingAConnectionTwiceReleasesItsPermitOnce() throws SQLException {
+        ConcurrencyLimitingDataSource limiter = limiter(h2, 2);
+
+        Connection connection = limiter.getConnection();
+        assertThat(limiter.getActive()).isEqualTo(1);
+        connection.close();
+        connection.close();
+
+        assertThat(limiter.getActive()).isZero();
+        // İkinci close fazladan permit üretseydi sınır 3 bağlantıya çıkardı
+        try (Connection first = limiter.getConnection(); Connection second = limiter.getConnection()) {
+            assertThat(limiter.getActive()).isEqualTo(2);
+            assertThatThrownBy(limiter::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        }
+        assertThat(limiter.getAcquired()).isEqualTo(3);
+    }
+
+    @Test
+    void permitIsReleasedWhenTheTargetFailsToConnect() {
+        // IFEXISTS: veritabanı olmadığı için bağlantı kurulamaz
+        ConcurrencyLimitingDataSource limiter = limiter(
+                new DriverManagerDataSource("jdbc:h2:mem:limiter-down;IFEXISTS=TRUE", "sa", ""), 1);
+
+        assertThatThrownBy(limiter::getConnection).isInstanceOf(SQLException.class)
+                .isNotInstanceOf(SQLTransientConnectionException.class);
+        assertThatThrownBy(() -> limiter.getConnection("sa", "")).isInstanceOf(SQLException.class)
+                .isNotInstanceOf(SQLTransientConnectionException.class);
+
+        assertThat(limiter.getActive()).isZero();
+        assertThat(limiter.getRejected()).isZero();
+    }
+
+    @Test
+    void permitIsReleasedWhenTheTargetThrowsARuntimeException() {
+        ConcurrencyLimitingDataSource limiter = limiter(new DelegatingDataSource(h2) {
+            @Override
+            public Connection getConnection() {
+                throw new IllegalStateException("havuz kapatıldı");
+            }
+        }, 1);
+
+        assertThatThrownBy(limiter::getConnection).hasMessage("havuz kapatıldı");
+        assertThatThrownBy(limiter::getConnection).hasMessage("havuz kapatıldı");
+
+        assertThat(limiter.getActive()).isZero();
+    }
+
+    @Test
+    void acquisitionIsRejectedOnceTheAcquireTimeoutElapses() throws SQLException {
+        ConcurrencyLimitingDataSource limiter = limiter(h2, 1);
+
+        try (Connection held = limiter.getConnection()) {
+            long start = System.nanoTime();
+            assertThatThrownBy(limiter::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class)
+                    .hasMessageContaining("1 aktif bağlantı");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+            assertThat(limiter.getRejected()).isEqualTo(1);
+        }
+        try (Connection next = limiter.getConnection()) {
+            assertThat(limiter.getActive()).isEqualTo(1);
+        }
+        assertThat(limiter.getAcquired()).isEqualTo(2);
+    }
+
+    @Test
+    void unwrapReachesTheDriverConnectionAndTheObservedDataSourceThroughTheLimiter() throws SQLException {
+        ObservedDataSource observed = new ObservedDataSource(h2, new QueryMetrics(new DbObservabilityProperties()));
+        ConcurrencyLimitingDataSource limiter = limiter(observed, 1);
+
+        // DbObservabilityConfig ve VirtualThreadConfig sarmalayıcıları bu yoldan bulur
+        assertThat(limiter.isWrapperFor(ObservedDataSource.class)).isTrue();
+        assertThat(limiter.unwrap(ObservedDataSource.class)).isSameAs(observed);
+        assertThat(limiter.isWrapperFor(ConcurrencyLimitingDataSource.class)).isTrue();
+        assertThat(limiter.isWrapperFor(Comparable.class)).isFalse();
+
+        try (Connection connection = limiter.getConnection()) {
+            assertThat(connection.isWrapperFor(Connection.class)).isTrue();
+            assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+            assertThat(connection.isWrapperFor(JdbcConnection.class)).isTrue();
+            assertThat(connection.unwrap(JdbcConnection.class)).isInstanceOf(JdbcConnection.class);
+            assertThat(connection).isEqualTo(connection).isNotEqualTo(connection.unwrap(JdbcConnection.class));
+        }
+        assertThat(limiter.getActive()).isZero();
+    }
+
+    private static ConcurrencyLimitingDataSource limiter(DataSource target, int permits) {
+        return new ConcurrencyLimitingDataSource(target, permits, Duration.ofMillis(50));
+    }
+}
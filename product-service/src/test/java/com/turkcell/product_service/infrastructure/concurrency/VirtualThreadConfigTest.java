@@ -0,0 +1,74 @@
+package com.turkcell.product_service.infrastructure.concurrency;
+
+import com.turkcell.product_service.infrastructure.observability.DbObservabilityProperties;
+import com.turkcell.product_service.infrastructure.observability.ObservedDataSource;
+import com.turkcell.product_service.infrastructure.observability.QueryMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DataSource bean'lerini semaphore ile saran post processor - permit sayısı ayardan ya da Hikari havuzundan gelir
+ * Havuz başlatılmaz: HikariDataSource ayarları ilk bağlantıya kadar yalnızca okunur
+ */
+class VirtualThreadConfigTest {
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    void poolBehindObservedDataSourceIsFoundByUnwrapAndSizesThePermits() throws SQLException {
+        ObservedDataSource observed = new ObservedDataSource(hikari(7),
+                new QueryMetrics(new DbObservabilityProperties()));
+
+        Object processed = process(observed);
+
+        assertThat(processed).isInstanceOfSatisfying(ConcurrencyLimitingDataSource.class, limiter -> {
+            assertThat(limiter.getMaxPermits()).isEqualTo(7);
+            assertThat(limiter.getActive()).isZero();
+        });
+        assertThat(((ConcurrencyLimitingDataSource) processed).unwrap(ObservedDataSource.class)).isSameAs(observed);
+    }
+
+    @Test
+    void configuredPermitsOverrideThePoolSize() {
+        environment.setProperty("product.virtual-threads.db-permits", "3");
+        environment.setProperty("product.virtual-threads.db-acquire-timeout", "10ms");
+
+        assertThat(process(hikari(7))).isInstanceOfSatisfying(ConcurrencyLimitingDataSource.class,
+                limiter -> assertThat(limiter.getMaxPermits()).isEqualTo(3));
+    }
+
+    @Test
+    void dataSourceWithoutAKnownPoolIsLeftAsIs() {
+        DriverManagerDataSource plain = new DriverManagerDataSource("jdbc:h2:mem:unpooled", "sa", "");
+
+        assertThat(process(plain)).isSameAs(plain);
+    }
+
+    @Test
+    void limiterAndOtherBeansAreNotWrappedAgain() {
+        ConcurrencyLimitingDataSource limiter = new ConcurrencyLimitingDataSource(hikari(5), 5, Duration.ofSeconds(1));
+        Object other = new Object();
+
+        assertThat(process(limiter)).isSameAs(limiter);
+        assertThat(process(other)).isSameAs(other);
+    }
+
+    private Object process(Object bean) {
+        BeanPostProcessor postProcessor = VirtualThreadConfig.concurrencyLimitingDataSourcePostProcessor(environment);
+        return postProcessor.postProcessAfterInitialization(bean, "dataSource");
+    }
+
+    private static HikariDataSource hikari(int maximumPoolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:never-opened");
+        pool.setMaximumPoolSize(maximumPoolSize);
+        return pool;
+    }
+}
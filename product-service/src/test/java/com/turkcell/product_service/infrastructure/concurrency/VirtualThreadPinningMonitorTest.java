@@ -0,0 +1,119 @@
+package com.turkcell.product_service.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pinning izleme - gerçek JFR stream'i üzerinde
+ * JDK 21'de synchronized içinde bloklanan virtual thread carrier'ını sabitler;
+ * olay stream'den birkaç saniye içinde gelir
+ */
+class VirtualThreadPinningMonitorTest {
+    private static final Duration EVENT_TIMEOUT = Duration.ofSeconds(15);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Object lock = new Object();
+    private VirtualThreadPinningMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        if (monitor != null) {
+            monitor.stop();
+        }
+    }
+
+    @Test
+    void pinningIsGroupedByTheApplicationFrameThatHeldTheMonitor() throws Exception {
+        monitor = start(100);
+
+        String site = VirtualThreadPinningMonitorTest.class.getName() + ".sleepWhileHoldingLock:";
+        pinned(this::sleepWhileHoldingLock);
+        // Aynı JVM'deki diğer testlerin virtual thread'leri de pinning üretebilir - yalnızca bu kaynağa bakılır
+        VirtualThreadPinningMonitor.PinningReport report = await(r -> r.sites().stream()
+                .anyMatch(s -> s.site().startsWith(site)));
+
+        assertThat(report.thresholdMillis()).isEqualTo(10);
+        assertThat(report.sites()).filteredOn(s -> s.site().startsWith(site)).singleElement().satisfies(s -> {
+            assertThat(s.reason()).isEqualTo("monitor");
+            assertThat(s.count()).isEqualTo(1);
+            assertThat(s.maxMillis()).isGreaterThan(10);
+            assertThat(s.sampleStack()).isNotEmpty();
+        });
+        double pinnedCount = meterRegistry.counter("product.virtualthread.pinned").count();
+        assertThat(pinnedCount).isGreaterThanOrEqualTo(1);
+
+        // reset raporu temizler, Micrometer sayaçları kalır
+        monitor.reset();
+        assertThat(monitor.report().sites()).noneMatch(s -> s.site().startsWith(site));
+        assertThat(meterRegistry.counter("product.virtualthread.pinned").count()).isGreaterThanOrEqualTo(pinnedCount);
+
+        monitor.stop();
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    @Test
+    void sitesBeyondTheLimitAreCountedUnderOther() throws Exception {
+        monitor = start(1);
+
+        pinned(this::sleepWhileHoldingLock);
+        await(r -> r.total() >= 1);
+        pinned(this::sleepLongerWhileHoldingLock);
+        VirtualThreadPinningMonitor.PinningReport report = await(r -> r.total() >= 2);
+
+        assertThat(report.sites()).extracting(VirtualThreadPinningMonitor.PinningSiteReport::site)
+                .hasSize(2)
+                .contains("other");
+    }
+
+    private VirtualThreadPinningMonitor start(int maxSites) {
+        VirtualThreadProperties properties = new VirtualThreadProperties();
+        properties.setPinningThreshold(Duration.ofMillis(10));
+        properties.setMaxPinningSites(maxSites);
+        VirtualThreadPinningMonitor started = new VirtualThreadPinningMonitor(properties, meterRegistry);
+        started.start();
+        assertThat(started.isRunning()).isTrue();
+        return started;
+    }
+
+    private static void pinned(Runnable task) throws InterruptedException {
+        Thread.ofVirtual().start(task).join();
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void sleepLongerWhileHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(60);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private VirtualThreadPinningMonitor.PinningReport await(Predicate<VirtualThreadPinningMonitor.PinningReport> done)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + EVENT_TIMEOUT.toNanos();
+        VirtualThreadPinningMonitor.PinningReport report = monitor.report();
+        while (!done.test(report) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            report = monitor.report();
+        }
+        assertThat(done).as("JFR olayı %s içinde gelmedi", EVENT_TIMEOUT).accepts(report);
+        return report;
+    }
+}
@@ -0,0 +1,124 @@
+package com.turkcell.product_service.infrastructure.entities;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * products şemasının Flyway migration'ları - H2 PostgreSQL modunda
+ * Boş veritabanı, ddl-auto ile oluşturulmuş eski şema ve tekrar çalıştırma senaryoları;
+ * sonuç şemanın ProductEntity ile uyumu Hibernate schema validation ile doğrulanır
+ */
+class ProductSchemaMigrationTest {
+    private static final String[] LOCATIONS = { "classpath:db/migration/common", "classpath:db/migration/h2" };
+
+    @Test
+    void migratesEmptyDatabaseAndMatchesEntity() {
+        DriverManagerDataSource dataSource = h2("empty");
+
+        MigrateResult result = flyway(dataSource).migrate();
+
+        assertThat(result.migrationsExecuted).isEqualTo(7);
+        assertThat(indexes(dataSource))
+                .contains("idx_products_currency_price", "idx_products_name", "idx_products_in_stock");
+        validateEntity(dataSource);
+    }
+
+    @Test
+    void upgradesSchemaCreatedByDdlAuto() {
+        DriverManagerDataSource dataSource = h2("legacy");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // version kolonu eklenmeden önceki ddl-auto: update çıktısı - index de yok
+        jdbcTemplate.execute("""
+                CREATE TABLE products (
+                    id VARCHAR(255) NOT NULL PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    description VARCHAR(1000) NOT NULL,
+                    price_amount NUMERIC(19, 2) NOT NULL,
+                    price_currency VARCHAR(3) NOT NULL,
+                    stock_quantity INTEGER NOT NULL)
+                """);
+        jdbcTemplate.update("INSERT INTO products VALUES ('3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01', 'Klavye', "
+                + "'Mekanik klavye', 1249.90, 'TRY', 5)");
+
+        MigrateResult result = flyway(dataSource).migrate();
+
+        assertThat(result.migrationsExecuted).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM products", Long.class)).isZero();
+        assertThat(indexes(dataSource)).contains("idx_products_currency_price", "idx_products_in_stock");
+        validateEntity(dataSource);
+    }
+
+    @Test
+    void secondRunAppliesNothing() {
+        DriverManagerDataSource dataSource = h2("rerun");
+        flyway(dataSource).migrate();
+
+        assertThat(flyway(dataSource).migrate().migrationsExecuted).isZero();
+    }
+
+    @Test
+    void everyVendorHasTheSameMigrationVersions() throws IOException {
+        assertThat(versions("postgresql")).isNotEmpty().isEqualTo(versions("h2"));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    /**
+     * Uygulamanın spring.flyway ayarlarıyla aynı yapılandırma
+     */
+    private static Flyway flyway(DriverManagerDataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations(LOCATIONS)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load();
+    }
+
+    private static Set<String> indexes(DriverManagerDataSource dataSource) {
+        return Set.copyOf(new JdbcTemplate(dataSource).queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = 'products'", String.class));
+    }
+
+    private static Set<String> versions(String vendor) throws IOException {
+        Resource[] scripts = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/" + vendor + "/V*.sql");
+        return Arrays.stream(scripts)
+                .map(script -> script.getFilename().substring(0, script.getFilename().indexOf("__")))
+                .collect(Collectors.toSet());
+    }
+
+    private static void validateEntity(DriverManagerDataSource dataSource) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.datasource", dataSource)
+                .applySetting("hibernate.hbm2ddl.auto", "validate")
+                .build();
+        try (SessionFactory ignored = new MetadataSources(registry)
+                .addAnnotatedClass(ProductEntity.class)
+                .buildMetadata()
+                .buildSessionFactory()) {
+            // Şema uyumsuzsa buildSessionFactory SchemaManagementException fırlatır
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.turkcell.product_service.infrastructure.imports;
+
+import com.turkcell.product_service.application.dtos.ProductImportReport;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+import com.turkcell.product_service.application.usecases.ImportProductsUseCase;
+import com.turkcell.product_service.domain.entities.Product;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CSV katalog içe aktarımı - Flyway ile migrate edilmiş H2 (PostgreSQL modu) üzerinde JDBC batch ve MERGE yolu
+ */
+class JdbcProductImportAdapterTest {
+    private final String prefix = "import-" + UUID.randomUUID() + "-";
+    private final List<ProductChangedEvent> events = new ArrayList<>();
+    private final List<Product.ProductId> evicted = new ArrayList<>();
+
+    @Test
+    void importsValidRowsAndReportsRejectedOnes() {
+        DataSource dataSource = database("single");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String existing = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO products (id, name, description, price_amount, price_currency, "
+                + "stock_quantity, version) VALUES (?, 'Eski ad', 'Eski açıklama', 10.00, 'TRY', 1, 3)", existing);
+        ImportProductsUseCase useCase = useCase(adapter(dataSource));
+
+        String csv = "\uFEFFstock,price,currency,name,description,id\r\n"
+                + "5,19.90,TRY,Kalem,\"Mavi, tükenmez\",\r\n"
+                + "7,25.5,usd,Defter,\"Çizgili \"\"A4\"\"\nçok satırlı\",\r\n"
+                + "\r\n"
+                + "1,-1,TRY,Silgi,Beyaz silgi,\r\n"
+                + "2,abc,TRY,Cetvel,30 cm,\r\n"
+                + "3,5.00,JPY,Kalemtıraş,Metal,\r\n"
+                + "4,5.00,TRY,,Adsız ürün,\r\n"
+                + "4,5.00,TRY,Fazla,alan,,x\r\n"
+                + "9,99.99,EUR,Güncel ad,Güncel açıklama," + existing + "\r\n"
+                + "8,98.00,EUR,Son satır kazanır,Aynı ID'nin ikinci satırı," + existing + "\r\n";
+        ProductImportReport report = useCase.execute(new StringReader(csv));
+
+        assertThat(report.status()).isEqualTo(ProductImportReport.Status.COMPLETED);
+        assertThat(report.rowsRead()).isEqualTo(9);
+        assertThat(report.acceptedCount()).isEqualTo(4);
+        assertThat(report.rejectedCount()).isEqualTo(5);
+        assertThat(report.insertedCount()).isEqualTo(2);
+        assertThat(report.updatedCount()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT description FROM products WHERE name = 'Defter'",
+                String.class)).isEqualTo("Çizgili \"A4\"\nçok satırlı");
+        assertThat(jdbcTemplate.queryForMap("SELECT price_amount, price_currency FROM products WHERE name = 'Kalem'"))
+                .containsEntry("price_amount", new BigDecimal("19.90"))
+                .containsEntry("price_currency", "TRY");
+        assertThat(jdbcTemplate.queryForMap("SELECT name, stock_quantity, version FROM products WHERE id = ?",
+                existing))
+                .containsEntry("name", "Son satır kazanır")
+                .containsEntry("stock_quantity", 8)
+                .containsEntry("version", 4L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_import_staging", Long.class))
+                .as("ara tablo temizlenir").isZero();
+
+        assertThat(events).extracting(ProductChangedEvent::type).containsExactlyInAnyOrder(
+                ProductChangedEvent.ChangeType.CREATED, ProductChangedEvent.ChangeType.CREATED,
+                ProductChangedEvent.ChangeType.UPDATED);
+        assertThat(evicted).hasSize(3).contains(Product.ProductId.fromString(existing));
+
+        StringWriter errors = new StringWriter();
+        useCase.writeErrors(report.id(), errors);
+        assertThat(errors.toString().split("\r\n")).containsExactly(
+                "line,reason,raw",
+                "6,\"Fiyat negatif olamaz\",\"1,-1,TRY,Silgi,Beyaz silgi,\"",
+                "7,\"Geçersiz fiyat: abc\",\"2,abc,TRY,Cetvel,30 cm,\"",
+                "8,\"Desteklenmeyen para birimi: JPY\",\"3,5.00,JPY,Kalemtıraş,Metal,\"",
+                "9,\"Ürün adı null veya boş olamaz\",\"4,5.00,TRY,,Adsız ürün,\"",
+                "10,\"Beklenen 6 alan, bulunan 7\",\"4,5.00,TRY,Fazla,alan,,x\"");
+        assertThat(useCase.get(report.id())).isEqualTo(report);
+    }
+
+    @Test
+    void rowsAreWrittenToTheirOwnersDatabase() {
+        DataSource first = database("a");
+        DataSource second = database("b");
+        JdbcProductImportAdapter adapter = new JdbcProductImportAdapter(
+                List.of(store("a", first), store("b", second)),
+                id -> Character.digit(id.charAt(0), 16) % 2 == 0 ? "a" : "b", 3, null);
+        StringBuilder csv = new StringBuilder("name,description,price,currency,stock\n");
+        for (int i = 0; i < 20; i++) {
+            csv.append("Ürün ").append(i).append(",Shard'lı içe aktarım,").append(i).append(".50,TRY,").append(i)
+                    .append('\n');
+        }
+
+        ProductImportReport report = useCase(adapter).execute(new StringReader(csv.toString()));
+
+        assertThat(report.insertedCount()).isEqualTo(20);
+        for (Map.Entry<String, DataSource> shard : Map.of("a", first, "b", second).entrySet()) {
+            new JdbcTemplate(shard.getValue()).queryForList("SELECT id FROM products", String.class)
+                    .forEach(id -> assertThat(Character.digit(id.charAt(0), 16) % 2 == 0 ? "a" : "b")
+                            .isEqualTo(shard.getKey()));
+        }
+        assertThat(events).hasSize(20);
+        assertThat(new JdbcTemplate(second).queryForObject("SELECT COUNT(*) FROM product_imports", Long.class))
+                .as("rapor ilk veritabanında").isZero();
+    }
+
+    @Test
+    void missingColumnsFailTheImportWithoutWritingProducts() {
+        DataSource dataSource = database("header");
+        ImportProductsUseCase useCase = useCase(adapter(dataSource));
+
+        assertThatThrownBy(() -> useCase.execute(new StringReader("name,price\nKalem,1.00\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("description, currency, stock");
+        assertThatThrownBy(() -> useCase.execute(new StringReader(
+                "name,description,price,currency,stock\nKalem,\"kapanmayan tırnak,1.00,TRY,1\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kapatılmamış tırnak");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM product_imports", String.class))
+                .containsOnly("FAILED").hasSize(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class)).isZero();
+    }
+
+    private ImportProductsUseCase useCase(JdbcProductImportAdapter adapter) {
+        return new ImportProductsUseCase(adapter, events::add, evicted::add);
+    }
+
+    private static JdbcProductImportAdapter adapter(DataSource dataSource) {
+        return new JdbcProductImportAdapter(List.of(store("default", dataSource)), id -> "default", 2, null);
+    }
+
+    private static ImportStore store(String name, DataSource dataSource) {
+        return new ImportStore(name, new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource), 2);
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + prefix + name
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        return dataSource;
+    }
+}
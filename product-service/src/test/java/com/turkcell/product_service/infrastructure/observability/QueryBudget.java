@@ -0,0 +1,82 @@
+package com.turkcell.product_service.infrastructure.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Query Budget
+ * Bir işlemin çalıştırdığı statement'ları QueryMetrics üzerinden sayar ve üst sınır koyar
+ * Örn. save() öncesine fazladan bir SELECT eklenirse ya da bir döngü N+1 sorguya dönerse test kırılır
+ *
+ * <pre>
+ * QueryBudget.of(metrics).run(() -> useCase.execute(request))
+ *         .assertAtMost("insert", 1)
+ *         .assertAtMost("select", 0);
+ * </pre>
+ *
+ * Sayım DataSource geneli olduğundan işlem sırasında başka thread'lerin sorgu çalıştırmadığı testlerde kullanılmalıdır
+ */
+public final class QueryBudget {
+    private final QueryMetrics metrics;
+
+    private QueryBudget(QueryMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public static QueryBudget of(QueryMetrics metrics) {
+        return new QueryBudget(metrics);
+    }
+
+    public Executed run(Runnable action) {
+        Map<StatementShape, Long> before = metrics.executionCounts();
+        action.run();
+        Map<StatementShape, Long> executed = new LinkedHashMap<>();
+        metrics.executionCounts().forEach((shape, count) -> {
+            long delta = count - before.getOrDefault(shape, 0L);
+            if (delta > 0) {
+                executed.put(shape, delta);
+            }
+        });
+        return new Executed(executed);
+    }
+
+    /**
+     * İşlem sırasında çalışan statement'lar - şekil başına çalıştırma sayısı
+     */
+    public record Executed(Map<StatementShape, Long> statements) {
+        public long total() {
+            return statements.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long count(String operation) {
+            return statements.entrySet().stream()
+                    .filter(entry -> entry.getKey().operation().equals(operation))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+        }
+
+        public Executed assertTotalAtMost(long max) {
+            if (total() > max) {
+                throw new AssertionError("Sorgu bütçesi aşıldı: en fazla " + max + " statement beklendi, "
+                        + total() + " çalıştı" + describe());
+            }
+            return this;
+        }
+
+        public Executed assertAtMost(String operation, long max) {
+            long count = count(operation);
+            if (count > max) {
+                throw new AssertionError("Sorgu bütçesi aşıldı: en fazla " + max + " " + operation + " beklendi, "
+                        + count + " çalıştı" + describe());
+            }
+            return this;
+        }
+
+        private String describe() {
+            return statements.entrySet().stream()
+                    .map(entry -> "\n  " + entry.getValue() + "x " + entry.getKey().sql())
+                    .collect(Collectors.joining());
+        }
+    }
+}
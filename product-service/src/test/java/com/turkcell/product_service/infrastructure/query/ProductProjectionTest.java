@@ -0,0 +1,140 @@
+package com.turkcell.product_service.infrastructure.query;
+
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.observability.DbObservabilityConfig;
+import com.turkcell.product_service.infrastructure.observability.ObservedDataSource;
+import com.turkcell.product_service.infrastructure.observability.QueryBudget;
+import com.turkcell.product_service.infrastructure.observability.StatementShape;
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sparse fieldset projeksiyonları ve LAZY description - H2 PostgreSQL modu + Flyway + Hibernate
+ * Her projeksiyon yalnızca istenen kolonları SELECT eder; çalışan SQL QueryBudget ile yakalanıp kolon listesi doğrulanır
+ */
+@DataJpaTest(properties = {
+        // application.yml'deki config server import'u yüklenmesin - gereken ayarlar aşağıda
+        "spring.config.location=optional:classpath:/query-budget/",
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:product-projection;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.locations=classpath:db/migration/common,classpath:db/migration/{vendor}",
+        "spring.jpa.hibernate.ddl-auto=validate" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ DbObservabilityConfig.class, JdbcProductQueryAdapter.class })
+class ProductProjectionTest {
+    private static final String ID = "3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01";
+    private static final String DESCRIPTION = "Uzun açıklama ".repeat(60);
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JdbcProductQueryAdapter queryAdapter;
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private QueryBudget budget;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        jdbcTemplate.update("INSERT INTO products (id, name, description, price_amount, price_currency, "
+                + "stock_quantity, version) VALUES (?, 'Klavye', ?, 1249.90, 'TRY', 5, 3)", ID, DESCRIPTION);
+        budget = QueryBudget.of(dataSource.unwrap(ObservedDataSource.class).getMetrics());
+    }
+
+    @Test
+    void eachProjectionSelectsOnlyTheRequestedColumns() {
+        Map<String, String> expectedColumns = new LinkedHashMap<>();
+        expectedColumns.put("id", "id, version");
+        expectedColumns.put("name", "id, version, name");
+        expectedColumns.put("description", "id, version, description");
+        expectedColumns.put("price", "id, version, price_amount, price_currency");
+        expectedColumns.put("stock", "id, version, stock_quantity");
+        expectedColumns.put("name,price,stock", "id, version, name, price_amount, price_currency, stock_quantity");
+        expectedColumns.put("", "id, version, name, description, price_amount, price_currency, stock_quantity");
+
+        expectedColumns.forEach((fields, columns) -> {
+            AtomicReference<ProductResponse> product = new AtomicReference<>();
+            String sql = singleSelect(budget.run(() -> product.set(
+                    queryAdapter.findById(Product.ProductId.fromString(ID), ProductFields.parse(fields)).orElseThrow())));
+
+            assertThat(sql).as(fields).isEqualTo("SELECT " + columns + " FROM products WHERE id = ?");
+            assertOnlyRequestedFields(product.get(), ProductFields.parse(fields));
+        });
+    }
+
+    @Test
+    void listProjectionSelectsOnlyTheRequestedColumns() {
+        ProductFields fields = ProductFields.parse("name,stock");
+        AtomicReference<ProductResponse> product = new AtomicReference<>();
+
+        String sql = singleSelect(budget.run(() -> product.set(queryAdapter.findAll(fields).get(0))));
+
+        assertThat(sql).isEqualTo("SELECT id, version, name, stock_quantity FROM products");
+        assertOnlyRequestedFields(product.get(), fields);
+    }
+
+    @Test
+    void lazyDescriptionIsLoadedOnlyWhenAccessed() {
+        // Satır birinci seviye cache'ten değil veritabanından okunsun
+        entityManager.clear();
+        AtomicReference<ProductEntity> entity = new AtomicReference<>();
+        String sql = singleSelect(budget.run(() -> entity.set(jpaProductRepository.findById(ID).orElseThrow())));
+        assertThat(sql).doesNotContain("description");
+
+        String lazyLoad = singleSelect(budget.run(() -> assertThat(entity.get().getDescription())
+                .isEqualTo(DESCRIPTION)));
+        assertThat(lazyLoad).contains("description");
+    }
+
+    @Test
+    void entityGraphLoadsTheDescriptionInTheSameSelect() {
+        entityManager.clear();
+        AtomicReference<ProductEntity> entity = new AtomicReference<>();
+        String sql = singleSelect(budget.run(() -> {
+            entity.set(jpaProductRepository.findWithDescriptionById(ID).orElseThrow());
+            assertThat(entity.get().getDescription()).isEqualTo(DESCRIPTION);
+        }));
+
+        assertThat(sql).contains("description");
+    }
+
+    private String singleSelect(QueryBudget.Executed executed) {
+        executed.assertAtMost("select", 1).assertTotalAtMost(1);
+        return executed.statements().keySet().stream().map(StatementShape::sql).findFirst().orElseThrow();
+    }
+
+    private static void assertOnlyRequestedFields(ProductResponse product, ProductFields fields) {
+        assertThat(product.getId()).isEqualTo(ID);
+        assertThat(product.getVersion()).isEqualTo(3);
+        assertThat(product.getName() != null).isEqualTo(fields.contains(ProductFields.Field.NAME));
+        assertThat(product.getDescription() != null).isEqualTo(fields.contains(ProductFields.Field.DESCRIPTION));
+        assertThat(product.getPrice() != null).isEqualTo(fields.contains(ProductFields.Field.PRICE));
+        assertThat(product.getStock() != null).isEqualTo(fields.contains(ProductFields.Field.STOCK));
+        if (product.getPrice() != null) {
+            assertThat(product.getPrice().getAmount()).isEqualByComparingTo(new BigDecimal("1249.90"));
+        }
+    }
+}
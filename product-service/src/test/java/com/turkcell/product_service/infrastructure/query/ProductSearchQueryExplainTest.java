@@ -0,0 +1,132 @@
+package com.turkcell.product_service.infrastructure.query;
+
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria.Sort;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductSearchQuery'nin ürettiği SQL'lerin EXPLAIN planları
+ * Şema uygulamanın Flyway migration'larıyla (H2, PostgreSQL modu) kurulur - test, migration'lardaki index'leri doğrular
+ * Sık kullanılan filtre kombinasyonlarının tablo taraması yerine index kullanması beklenir
+ */
+class ProductSearchQueryExplainTest {
+    private static final String URL = "jdbc:h2:mem:product-search;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String[] CURRENCIES = { "TRY", "USD", "EUR", "GBP" };
+    private static final String COLUMNS = "id, version, name, price_amount, price_currency, stock_quantity";
+    private static final int PRODUCT_COUNT = 4000;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        List<Object[]> rows = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            rows.add(new Object[] { UUID.nameUUIDFromBytes(new byte[] { (byte) i, (byte) (i >> 8) }).toString(),
+                    "Ürün " + i, "Açıklama " + i, BigDecimal.valueOf(100 + (i * 37L) % 100_000, 2),
+                    CURRENCIES[i % CURRENCIES.length], i % 5, 0L });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, name, description, price_amount, price_currency, "
+                + "stock_quantity, version) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void currencyAndPriceRangeUsesCurrencyPriceIndex() {
+        assertThat(plan(criteria(null, "100.00", "200.00", "TRY", null, null)))
+                .contains("IDX_PRODUCTS_CURRENCY_PRICE");
+    }
+
+    @Test
+    void currencyPriceRangeAndInStockUsesCurrencyPriceIndex() {
+        assertThat(plan(criteria(null, "100.00", "200.00", "TRY", true, null)))
+                .contains("IDX_PRODUCTS_CURRENCY_PRICE");
+    }
+
+    @Test
+    void currencySortedByPriceUsesCurrencyPriceIndex() {
+        assertThat(plan(criteria(null, null, null, "USD", null, Sort.PRICE_DESC)))
+                .contains("IDX_PRODUCTS_CURRENCY_PRICE");
+    }
+
+    @Test
+    void currencyAndMinPriceWithNameUsesCurrencyPriceIndex() {
+        assertThat(plan(criteria("ürün 1", "900.00", null, "EUR", true, Sort.PRICE_ASC)))
+                .contains("IDX_PRODUCTS_CURRENCY_PRICE");
+    }
+
+    @Test
+    void searchReturnsFilteredSortedPageWithTotalCount() {
+        JdbcProductQueryAdapter adapter = new JdbcProductQueryAdapter(jdbcTemplate);
+        ProductSearchCriteria criteria = new ProductSearchCriteria(null, new BigDecimal("100.00"),
+                new BigDecimal("500.00"), "TRY", true, Sort.PRICE_ASC, 1, 5);
+
+        ProductPageResponse page = adapter.search(criteria, ProductFields.ALL);
+
+        long expectedTotal = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE price_currency = 'TRY' "
+                + "AND price_amount BETWEEN 100.00 AND 500.00 AND stock_quantity > 0", Long.class);
+        assertThat(page.getTotalCount()).isEqualTo(expectedTotal);
+        assertThat(page.getProducts()).hasSize(5);
+        assertThat(page.getProducts()).allSatisfy(product -> {
+            assertThat(product.getPrice().getCurrency()).isEqualTo("TRY");
+            assertThat(product.getPrice().getAmount()).isBetween(new BigDecimal("100.00"), new BigDecimal("500.00"));
+            assertThat(product.getStock().getQuantity()).isPositive();
+        });
+        assertThat(page.getProducts()).extracting(product -> product.getPrice().getAmount()).isSorted();
+
+        ProductPageResponse beyondLastPage = adapter.search(new ProductSearchCriteria(null, new BigDecimal("100.00"),
+                new BigDecimal("500.00"), "TRY", true, Sort.PRICE_ASC, 10_000, 5), ProductFields.ALL);
+        assertThat(beyondLastPage.getProducts()).isEmpty();
+        assertThat(beyondLastPage.getTotalCount()).isEqualTo(expectedTotal);
+    }
+
+    @Test
+    void nameFilterMatchesCaseInsensitivelyAndTreatsWildcardsLiterally() {
+        JdbcProductQueryAdapter adapter = new JdbcProductQueryAdapter(jdbcTemplate);
+
+        ProductPageResponse matches = adapter.search(criteria("ÜRÜN 399", null, null, null, null, null),
+                ProductFields.parse("name"));
+        ProductPageResponse wildcard = adapter.search(criteria("%", null, null, null, null, null), ProductFields.ALL);
+
+        assertThat(matches.getProducts()).extracting(ProductResponse::getName)
+                .allMatch(name -> name.toLowerCase(Locale.ROOT).contains("ürün 399"))
+                .contains("Ürün 399", "Ürün 3990");
+        assertThat(matches.getProducts()).allSatisfy(product -> assertThat(product.getPrice()).isNull());
+        assertThat(wildcard.getTotalCount()).isZero();
+    }
+
+    private static ProductSearchCriteria criteria(String name, String minPrice, String maxPrice, String currency,
+            Boolean inStock, Sort sort) {
+        return new ProductSearchCriteria(name, minPrice == null ? null : new BigDecimal(minPrice),
+                maxPrice == null ? null : new BigDecimal(maxPrice), currency, inStock, sort, 0, 20);
+    }
+
+    private static String plan(ProductSearchCriteria criteria) {
+        ProductSearchQuery query = ProductSearchQuery.compile(criteria, COLUMNS);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + query.sql(), String.class, query.args());
+        assertThat(plan).as(plan).doesNotContain("tableScan");
+        return plan.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,197 @@
+package com.turkcell.product_service.infrastructure.repricing;
+
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest;
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest.Direction;
+import com.turkcell.product_service.application.dtos.BulkRepricingRequest.Rounding;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.RepricingJob;
+import com.turkcell.product_service.application.ports.ProductRepricingPort.RepricedChunk;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Toplu fiyat değişikliği - her veritabanı Flyway ile migrate edilmiş ayrı bir H2 (PostgreSQL modu)
+ * SQL'de hesaplanan fiyatlar Price'ın baz puan aritmetiğiyle karşılaştırılır
+ */
+class JdbcProductRepricingAdapterTest {
+    private final String prefix = "repricing-" + UUID.randomUUID() + "-";
+
+    @Test
+    void sqlArithmeticMatchesDomainForEveryRoundingMode() {
+        DataSource dataSource = database("rounding");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            // Küçük fiyatlarda yarım kuruş sınırı sık görülür
+            long minorUnits = i < 250 ? random.nextInt(1_000) : random.nextLong(100_000_000_000L);
+            insert(jdbcTemplate, minorUnits, "TRY", 1);
+        }
+
+        for (long basisPoints : new long[] { 1250, 5, 1, 333, -333, -1, -5000, -10_000, 250_000 }) {
+            for (Rounding rounding : Rounding.values()) {
+                jdbcTemplate.query("SELECT price_amount, " + RepricingStore.priceExpression(basisPoints, rounding)
+                        + " FROM products", (java.sql.ResultSet rs) -> {
+                            long minorUnits = rs.getBigDecimal(1).movePointRight(2).longValueExact();
+                            BigDecimal repriced = rs.getBigDecimal(2).setScale(2, RoundingMode.UNNECESSARY);
+                            assertThat(repriced)
+                                    .as("%d kuruş, %d bp, %s", minorUnits, basisPoints, rounding)
+                                    .isEqualByComparingTo(expected(minorUnits, basisPoints, rounding));
+                        });
+            }
+        }
+    }
+
+    @Test
+    void jobRepricesFilteredProductsInChunksAcrossDatabases() {
+        DataSource first = database("a");
+        DataSource second = database("b");
+        Map<String, Long> expected = new HashMap<>();
+        List<String> untouched = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(i % 2 == 0 ? first : second);
+            long minorUnits = 1_000 + i * 137L;
+            String currency = i % 5 == 0 ? "USD" : "TRY";
+            int stock = i % 4 == 0 ? 0 : 3;
+            String id = insert(jdbcTemplate, minorUnits, currency, stock);
+            if (currency.equals("TRY") && stock > 0 && minorUnits >= 2_000) {
+                expected.put(id, Price.ofMinorUnits(minorUnits, Currency.TRY).decreaseByPercentage(
+                        new BigDecimal("12.5")).getMinorUnits());
+            } else {
+                untouched.add(id);
+            }
+        }
+        JdbcProductRepricingAdapter adapter = new JdbcProductRepricingAdapter(
+                List.of(store("a", first), store("b", second)), 4, Duration.ofMinutes(1));
+        BulkRepricingRequest request = new BulkRepricingRequest(Direction.DECREASE, new BigDecimal("12.5"),
+                Rounding.HALF_EVEN, "TRY", new BigDecimal("20.00"), null, true);
+
+        RepricingJob created = adapter.create("job-1", request);
+        assertThat(created.status()).isEqualTo(RepricingJob.Status.PENDING);
+        assertThat(created.totalCount()).isEqualTo(expected.size());
+        assertThat(created.percentage()).isEqualByComparingTo("-12.50");
+
+        assertThat(adapter.claim("job-1", "runner")).isTrue();
+        assertThat(adapter.claim("job-1", "other")).as("kira dolmadan devralınamaz").isFalse();
+        List<String> published = new ArrayList<>();
+        Optional<RepricedChunk> chunk;
+        while ((chunk = adapter.repriceNextChunk("job-1", "runner")).isPresent()) {
+            assertThat(chunk.get().products()).hasSizeLessThanOrEqualTo(4);
+            chunk.get().products().forEach(product -> published.add(product.getId()));
+            adapter.markPublished("job-1", chunk.get());
+        }
+        adapter.complete("job-1", "runner");
+
+        assertThat(published).containsExactlyInAnyOrderElementsOf(expected.keySet());
+        expected.forEach((id, minorUnits) -> assertThat(row(first, second, id))
+                .containsEntry("price_amount", BigDecimal.valueOf(minorUnits, 2))
+                .containsEntry("version", 1L));
+        untouched.forEach(id -> assertThat(row(first, second, id)).containsEntry("version", 0L));
+        RepricingJob job = adapter.find("job-1").orElseThrow();
+        assertThat(job.status()).isEqualTo(RepricingJob.Status.COMPLETED);
+        assertThat(job.updatedCount()).isEqualTo(expected.size());
+        assertThat(job.publishedCount()).isEqualTo(expected.size());
+        assertThat(job.progress()).isEqualTo(1.0);
+        assertThat(adapter.claim("job-1", "runner")).as("tamamlanmış iş tekrar çalışmaz").isFalse();
+    }
+
+    @Test
+    void interruptedJobIsTakenOverAndRepublishesItsLastChunk() throws InterruptedException {
+        DataSource dataSource = database("resume");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 0; i < 10; i++) {
+            insert(jdbcTemplate, 10_000 + i, "TRY", 1);
+        }
+        JdbcProductRepricingAdapter adapter = new JdbcProductRepricingAdapter(List.of(store("default", dataSource)),
+                3, Duration.ofMillis(200));
+        adapter.create("job-2", new BulkRepricingRequest(Direction.INCREASE, new BigDecimal("10"), Rounding.HALF_EVEN,
+                null, null, null, null));
+
+        // İlk runner bir chunk fiyatlar ve olaylarını yayınlayamadan durur
+        assertThat(adapter.claim("job-2", "first")).isTrue();
+        List<String> firstChunk = adapter.repriceNextChunk("job-2", "first").orElseThrow().products().stream()
+                .map(ProductResponse::getId).toList();
+        Thread.sleep(300);
+        assertThat(adapter.find("job-2").orElseThrow().status()).isEqualTo(RepricingJob.Status.INTERRUPTED);
+
+        assertThat(adapter.claim("job-2", "second")).isTrue();
+        assertThatThrownBy(() -> adapter.repriceNextChunk("job-2", "first"))
+                .isInstanceOf(IllegalStateException.class);
+        List<RepricedChunk> unpublished = adapter.unpublished("job-2");
+        assertThat(unpublished).singleElement().satisfies(chunk -> assertThat(chunk.products())
+                .extracting(ProductResponse::getId).containsExactlyElementsOf(firstChunk));
+        adapter.markPublished("job-2", unpublished.get(0));
+        while (adapter.repriceNextChunk("job-2", "second").isPresent()) {
+            // olaylar yayınlanmış sayılır
+        }
+
+        assertThat(jdbcTemplate.queryForList("SELECT version FROM products", Long.class))
+                .as("her ürün tam bir kez fiyatlanır").hasSize(10).containsOnly(1L);
+        assertThat(adapter.find("job-2").orElseThrow().updatedCount()).isEqualTo(10);
+    }
+
+    private static BigDecimal expected(long minorUnits, long basisPoints, Rounding rounding) {
+        Price price = Price.ofMinorUnits(minorUnits, Currency.TRY);
+        if (rounding == Rounding.HALF_EVEN) {
+            return (basisPoints >= 0 ? price.increaseByBasisPoints(basisPoints)
+                    : price.decreaseByBasisPoints(-basisPoints)).getAmount();
+        }
+        return BigDecimal.valueOf(minorUnits)
+                .multiply(BigDecimal.valueOf(10_000 + basisPoints))
+                .divide(BigDecimal.valueOf(10_000), 0, RoundingMode.valueOf(rounding.name()))
+                .movePointLeft(2);
+    }
+
+    private static RepricingStore store(String name, DataSource dataSource) {
+        return new RepricingStore(name, new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource));
+    }
+
+    private static String insert(JdbcTemplate jdbcTemplate, long minorUnits, String currency, int stock) {
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO products (id, name, description, price_amount, price_currency, "
+                + "stock_quantity, version) VALUES (?, ?, ?, ?, ?, ?, 0)", id, "Ürün " + minorUnits,
+                "Toplu fiyatlama ürünü", BigDecimal.valueOf(minorUnits, 2), currency, stock);
+        return id;
+    }
+
+    private static Map<String, Object> row(DataSource first, DataSource second, String id) {
+        for (DataSource dataSource : List.of(first, second)) {
+            List<Map<String, Object>> rows = new JdbcTemplate(dataSource)
+                    .queryForList("SELECT price_amount, version FROM products WHERE id = ?", id);
+            if (!rows.isEmpty()) {
+                return rows.get(0);
+            }
+        }
+        throw new AssertionError("Ürün bulunamadı: " + id);
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + prefix + name
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        return dataSource;
+    }
+}
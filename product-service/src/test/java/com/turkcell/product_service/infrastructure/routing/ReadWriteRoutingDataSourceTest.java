@@ -0,0 +1,158 @@
+package com.turkcell.product_service.infrastructure.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Okuma/yazma yönlendirmesi - birbirinden bağımsız H2 veritabanları
+ * Her veritabanının origin tablosu kendi adını döner, böylece sorgunun nereye gittiği görülür
+ */
+class ReadWriteRoutingDataSourceTest {
+    private final List<String> databases = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        databases.forEach(name -> new JdbcTemplate(h2(name)).execute("SHUTDOWN"));
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndEverythingElseToPrimary() {
+        ReadWriteRoutingDataSource routing = routing(replicas("replica-1"), properties());
+
+        assertThat(readOnly(routing)).isEqualTo("replica-1");
+        assertThat(readWrite(routing)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(routing).queryForObject("SELECT name FROM origin", String.class))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    void healthyReplicasAreUsedRoundRobin() {
+        ReadWriteRoutingDataSource routing = routing(replicas("replica-1", "replica-2"), properties());
+
+        assertThat(List.of(readOnly(routing), readOnly(routing), readOnly(routing), readOnly(routing)))
+                .containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @Test
+    void clientInsideReadYourWritesWindowReadsFromPrimary() {
+        ReadWriteRoutingDataSource routing = routing(replicas("replica-1"), properties());
+
+        ReadYourWrites.requirePrimary();
+
+        assertThat(readOnly(routing)).isEqualTo("primary");
+    }
+
+    @Test
+    void unreachableReplicaIsSkippedUntilItRecovers() {
+        Map<String, DataSource> replicas = replicas("replica-1");
+        // IFEXISTS: veritabanı olmadığı için bağlantı kurulamaz
+        replicas.put("down", new DriverManagerDataSource("jdbc:h2:mem:routing-down;IFEXISTS=TRUE", "sa", ""));
+        ReadWriteRoutingDataSource routing = routing(replicas, properties());
+
+        assertThat(List.of(readOnly(routing), readOnly(routing), readOnly(routing)))
+                .containsOnly("replica-1");
+        assertThat(routing.getReplicas().status())
+                .extracting(ReadReplicas.ReplicaStatus::name, ReadReplicas.ReplicaStatus::healthy)
+                .containsExactly(tuple("replica-1", true), tuple("down", false));
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenNoReplicaIsHealthy() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("down", new DriverManagerDataSource("jdbc:h2:mem:routing-down;IFEXISTS=TRUE", "sa", ""));
+        ReadWriteRoutingDataSource routing = routing(replicas, properties());
+
+        assertThat(readOnly(routing)).isEqualTo("primary");
+    }
+
+    @Test
+    void replicaBehindMaxReplicationLagIsNotUsed() {
+        ReadReplicaProperties properties = properties();
+        properties.setLagQuery("SELECT seconds FROM replication_lag");
+        Map<String, DataSource> replicas = replicas("lagging", "current");
+        new JdbcTemplate(replicas.get("lagging")).update("UPDATE replication_lag SET seconds = 30");
+        ReadWriteRoutingDataSource routing = routing(replicas, properties);
+
+        assertThat(List.of(readOnly(routing), readOnly(routing))).containsOnly("current");
+
+        new JdbcTemplate(replicas.get("lagging")).update("UPDATE replication_lag SET seconds = 0.2");
+        routing.getReplicas().checkHealth();
+
+        assertThat(List.of(readOnly(routing), readOnly(routing))).contains("lagging", "current");
+    }
+
+    @Test
+    void maxReplicationLagMustFitInsideReadYourWritesWindow() {
+        ReadReplicaProperties properties = properties();
+        properties.setMaxReplicationLag(Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> new ReadReplicas(Map.of(), properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("max-replication-lag");
+    }
+
+    private ReadWriteRoutingDataSource routing(Map<String, DataSource> replicas, ReadReplicaProperties properties) {
+        ReadReplicas readReplicas = new ReadReplicas(replicas, properties);
+        readReplicas.checkHealth();
+        return new ReadWriteRoutingDataSource(database("primary"), readReplicas);
+    }
+
+    private Map<String, DataSource> replicas(String... names) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : names) {
+            replicas.put(name, database(name));
+        }
+        return replicas;
+    }
+
+    private DataSource database(String name) {
+        DataSource dataSource = h2(name);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE origin (name VARCHAR(32))");
+        jdbcTemplate.update("INSERT INTO origin VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replication_lag (seconds DOUBLE PRECISION)");
+        jdbcTemplate.update("INSERT INTO replication_lag VALUES (0)");
+        databases.add(name);
+        return dataSource;
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static ReadReplicaProperties properties() {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setMaxReplicationLag(Duration.ofSeconds(1));
+        properties.setReadYourWritesWindow(Duration.ofSeconds(5));
+        return properties;
+    }
+
+    private static String readOnly(DataSource dataSource) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(true);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM origin", String.class));
+    }
+
+    private static String readWrite(DataSource dataSource) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM origin", String.class));
+    }
+}
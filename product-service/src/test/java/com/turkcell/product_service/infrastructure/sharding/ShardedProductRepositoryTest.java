@@ -0,0 +1,330 @@
+package com.turkcell.product_service.infrastructure.sharding;
+
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Shard'lı ürün deposu - her shard Flyway ile migrate edilmiş ayrı bir H2 veritabanı
+ * Aramalar aynı satırları tutan tek veritabanlı JdbcProductQueryAdapter ile karşılaştırılır
+ */
+class ShardedProductRepositoryTest {
+    private static final List<String> THREE_SHARDS = List.of("a", "b", "c");
+
+    private final String prefix = "shard-" + UUID.randomUUID() + "-";
+    private final Map<String, DataSource> dataSources = new LinkedHashMap<>();
+
+    @Test
+    void ringSpreadsKeysEvenlyAndAddingAShardMovesOnlyItsShare() {
+        ShardRing four = new ShardRing(List.of("a", "b", "c", "d"), 128);
+        ShardRing five = new ShardRing(List.of("a", "b", "c", "d", "e"), 128);
+        Map<String, Integer> counts = new HashMap<>();
+        int moved = 0;
+        int keys = 20_000;
+        for (int i = 0; i < keys; i++) {
+            String id = UUID.randomUUID().toString();
+            counts.merge(four.owner(id), 1, Integer::sum);
+            if (!four.owner(id).equals(five.owner(id))) {
+                moved++;
+                assertThat(five.owner(id)).isEqualTo("e");
+            }
+        }
+
+        assertThat(counts.values())
+                .allSatisfy(count -> assertThat(count).isBetween(keys / 4 * 8 / 10, keys / 4 * 12 / 10));
+        assertThat(moved).isBetween(keys / 5 * 7 / 10, keys / 5 * 13 / 10);
+        assertThat(ShardRing.hash("3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01"))
+                .as("yerleşim kalıcıdır - hash değişirse mevcut satırlar yanlış shard'da kalır")
+                .isEqualTo(ShardRing.hash("3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01"))
+                .isNotEqualTo(ShardRing.hash("3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a02"));
+    }
+
+    @Test
+    void pointOperationsTouchOnlyTheOwnerShard() {
+        ProductShards shards = shards(THREE_SHARDS, List.of());
+        ShardedProductRepository repository = new ShardedProductRepository(shards);
+
+        Product saved = repository.save(product("Klavye", "129.90", 5));
+        String id = saved.getId().toString();
+        String owner = shards.owner(id).name();
+
+        assertThat(saved.getVersion()).isZero();
+        assertThat(rowsPerShard(id)).containsEntry(owner, 1).containsValues(1, 0, 0);
+        assertThat(repository.findById(saved.getId())).get().extracting(Product::getName).isEqualTo("Klavye");
+
+        saved.updateStock(new Stock(3));
+        Product updated = repository.save(saved);
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> repository.save(saved)).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(repository.deleteByIdAndVersion(saved.getId(), 0)).isFalse();
+        assertThat(repository.deleteByIdAndVersion(saved.getId(), 1)).isTrue();
+        assertThat(repository.existsById(saved.getId())).isFalse();
+    }
+
+    @Test
+    void orderIsRecordedOnTheProductsShardAndRedeliveryRollsBackTheStockUpdate() {
+        ProductShards shards = shards(THREE_SHARDS, List.of());
+        ShardedProductRepository repository = new ShardedProductRepository(shards);
+        Product product = repository.save(product("Klavye", "129.90", 5));
+        String owner = shards.owner(product.getId().toString()).name();
+
+        product.reduceStock(2);
+        assertThat(repository.saveForOrder(product, "order-1")).get().extracting(Product::getVersion).isEqualTo(1L);
+        assertThat(processedOrdersPerShard("order-1")).containsEntry(owner, 1).containsValues(1, 0, 0);
+        assertThat(repository.isOrderProcessed("order-1", product.getId())).isTrue();
+
+        // Tekrar teslim: ürün güncellenir, sipariş kaydı çakışır ve aynı transaction geri alınır
+        Product redelivered = repository.findById(product.getId()).orElseThrow();
+        redelivered.reduceStock(2);
+        assertThat(repository.saveForOrder(redelivered, "order-1")).isEmpty();
+        assertThat(repository.findById(product.getId())).get()
+                .extracting(Product::getVersion, p -> p.getStock().getQuantity())
+                .containsExactly(1L, 3);
+    }
+
+    @Test
+    void listsAndCountsGatherAllShards() {
+        ProductShards shards = shards(THREE_SHARDS, List.of());
+        ShardedProductRepository repository = new ShardedProductRepository(shards);
+        for (int i = 0; i < 30; i++) {
+            repository.save(product("Ürün " + i, "10.00", i % 3));
+        }
+
+        assertThat(repository.count()).isEqualTo(30);
+        assertThat(repository.countInStockProducts()).isEqualTo(20);
+        assertThat(repository.findAll()).hasSize(30);
+        assertThat(repository.findOutOfStockProducts()).hasSize(10);
+        assertThat(repository.findByNameContaining("Ürün 1")).hasSize(11);
+        assertThat(dataSources.keySet()).allSatisfy(name -> assertThat(count(name)).isPositive());
+    }
+
+    @Test
+    void searchPagesMatchSingleDatabase() {
+        ProductShards shards = shards(THREE_SHARDS, List.of());
+        ShardedProductRepository repository = new ShardedProductRepository(shards);
+        DataSource single = database("single");
+        for (int i = 0; i < 57; i++) {
+            Product product = repository.save(product("Ürün " + (char) ('A' + i % 26) + i,
+                    (10 + i % 7) + ".50", i % 4));
+            insertInto(single, product);
+        }
+        ShardedProductQueryAdapter sharded = new ShardedProductQueryAdapter(shards);
+        JdbcProductQueryAdapter reference = new JdbcProductQueryAdapter(new JdbcTemplate(single));
+
+        for (String sort : new String[] { null, "price", "-price", "name", "-stock" }) {
+            for (int page = 0; page < 5; page++) {
+                ProductSearchCriteria criteria = new ProductSearchCriteria(null, null, null, null, null,
+                        ProductSearchCriteria.Sort.parse(sort), page, 13);
+                assertSamePage(sharded.search(criteria, ProductFields.ALL),
+                        reference.search(criteria, ProductFields.ALL));
+            }
+        }
+        ProductSearchCriteria inStockByPrice = new ProductSearchCriteria(null, null, null, "TRY", true,
+                ProductSearchCriteria.Sort.PRICE_DESC, 1, 10);
+        ProductPageResponse idsOnly = sharded.search(inStockByPrice, ProductFields.parse("id"));
+        assertSamePage(idsOnly, reference.search(inStockByPrice, ProductFields.parse("id")));
+        assertThat(idsOnly.getProducts()).allSatisfy(product -> assertThat(product.getPrice())
+                .as("sıralama için okunan alan yanıtta yer almaz").isNull());
+    }
+
+    @Test
+    void searchAndCountsDuringReshardingSeeCopiedRowsOnce() {
+        ShardedProductRepository before = new ShardedProductRepository(shards(THREE_SHARDS, List.of()));
+        DataSource single = database("single");
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Product product = before.save(product("Ürün " + (char) ('A' + i % 26) + i, (10 + i % 7) + ".50", i % 4));
+            products.add(product);
+            insertInto(single, product);
+        }
+        ProductShards shards = shards(List.of("a", "b", "c", "d"), THREE_SHARDS);
+        // Taşıma yarıda: d'ye ait satırlar kopyalandı ama önceki sahiplerinden henüz silinmedi
+        List<Product> moving = products.stream()
+                .filter(product -> shards.owner(product.getId().toString()).name().equals("d"))
+                .toList();
+        moving.forEach(product -> insertInto(dataSources.get("d"), product));
+        assertThat(moving).isNotEmpty();
+        ShardedProductRepository repository = new ShardedProductRepository(shards);
+        // Kopyalanan satırın yalnızca yeni sahibindeki kopyası güncellenir - aramada yüksek sürümlü kopya görünür
+        Product updated = repository.findById(moving.get(0).getId()).orElseThrow();
+        updated.updateStock(new Stock(50));
+        repository.save(updated);
+        new JdbcTemplate(single).update("UPDATE products SET stock_quantity = 50, version = version + 1 WHERE id = ?",
+                updated.getId().toString());
+        assertThat(rowsPerShard(updated.getId().toString())).containsEntry("d", 1).containsValue(1);
+
+        ShardedProductQueryAdapter sharded = new ShardedProductQueryAdapter(shards);
+        JdbcProductQueryAdapter reference = new JdbcProductQueryAdapter(new JdbcTemplate(single));
+        for (String sort : new String[] { null, "-stock", "name" }) {
+            for (int page = 0; page < 4; page++) {
+                ProductSearchCriteria criteria = new ProductSearchCriteria(null, null, null, null, null,
+                        ProductSearchCriteria.Sort.parse(sort), page, 20);
+                ProductPageResponse result = sharded.search(criteria, ProductFields.ALL);
+                assertSamePage(result, reference.search(criteria, ProductFields.ALL));
+                assertThat(result.getProducts()).filteredOn(product -> product.getId().equals(
+                        updated.getId().toString())).allSatisfy(product -> assertThat(product.getStock()
+                        .getQuantity()).isEqualTo(50));
+            }
+        }
+        ProductSearchCriteria inStock = new ProductSearchCriteria(null, null, null, "TRY", true,
+                ProductSearchCriteria.Sort.PRICE_DESC, 0, 10);
+        assertSamePage(sharded.search(inStock, ProductFields.ALL), reference.search(inStock, ProductFields.ALL));
+
+        // ID sıralı keyset sayfaları da kopyaları bir kez döner
+        List<String> walked = new ArrayList<>();
+        List<ProductResponse> page = sharded.findPageAfter(null, 7);
+        while (!page.isEmpty()) {
+            page.forEach(product -> walked.add(product.getId()));
+            page = sharded.findPageAfter(walked.get(walked.size() - 1), 7);
+        }
+        assertThat(walked).containsExactlyElementsOf(reference.findPageAfter(null, 100).stream()
+                .map(ProductResponse::getId).toList());
+
+        assertThat(repository.count()).isEqualTo(60);
+        assertThat(repository.countInStockProducts()).isEqualTo(new JdbcTemplate(single)
+                .queryForObject("SELECT COUNT(*) FROM products WHERE stock_quantity > 0", Long.class));
+    }
+
+    @Test
+    void reshardingMovesRowsIncrementallyWhileReadsAndWritesKeepWorking() {
+        ShardedProductRepository before = new ShardedProductRepository(shards(THREE_SHARDS, List.of()));
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            products.add(before.save(product("Ürün " + i, "25.00", 10)));
+        }
+
+        ProductShards shards = shards(List.of("a", "b", "c", "d"), THREE_SHARDS);
+        ShardedProductRepository repository = new ShardedProductRepository(shards);
+        ShardRebalancer rebalancer = new ShardRebalancer(shards, 20);
+
+        assertThat(count("d")).isZero();
+        assertThat(products).allSatisfy(product -> assertThat(repository.findById(product.getId())).isPresent());
+
+        ShardRebalancer.ReshardingStatus status = rebalancer.step();
+        assertThat(status.complete()).isFalse();
+        assertThat(count("d")).isPositive();
+        // Taşıma sürerken güncellenen satır kaybolmaz
+        Product updated = repository.findById(products.get(0).getId()).orElseThrow();
+        updated.updateStock(new Stock(99));
+        repository.save(updated);
+
+        status = rebalancer.runToCompletion();
+
+        assertThat(status.complete()).isTrue();
+        assertThat(status.shards()).extracting(ShardRebalancer.ShardProgress::moved)
+                .satisfies(moved -> assertThat(moved.stream().mapToLong(Long::longValue).sum()).isPositive());
+        assertThat(repository.count()).isEqualTo(200);
+        assertThat(products).allSatisfy(product -> assertThat(rowsPerShard(product.getId().toString()))
+                .containsEntry(shards.owner(product.getId().toString()).name(), 1)
+                .containsValues(1, 0, 0, 0));
+        assertThat(repository.findById(products.get(0).getId())).get()
+                .extracting(product -> product.getStock().getQuantity()).isEqualTo(99);
+    }
+
+    @Test
+    void staleCopyLeftOnTargetIsReplacedByNewerSourceRow() {
+        ShardedProductRepository oldRepository = new ShardedProductRepository(shards(List.of("a", "b"), List.of()));
+        ProductShards shards = shards(List.of("a", "b", "c"), List.of("a", "b"));
+        // Yeni shard'a taşınacak bir ürün
+        Product product = oldRepository.save(product("Ürün", "5.00", 1));
+        while (!shards.owner(product.getId().toString()).name().equals("c")) {
+            product = oldRepository.save(product("Ürün", "5.00", 1));
+        }
+        String id = product.getId().toString();
+        product.updateStock(new Stock(7));
+        oldRepository.save(product);
+        // Yarıda kalmış bir taşımadan kalan eski kopya
+        new JdbcTemplate(dataSources.get("c")).update("INSERT INTO products (id, name, description, price_amount, "
+                + "price_currency, stock_quantity, version) VALUES (?, 'Eski', 'Eski kopya', 1.00, 'TRY', 0, 0)", id);
+
+        new ShardRebalancer(shards, 50).runToCompletion();
+
+        assertThat(rowsPerShard(id)).containsEntry("c", 1).containsValues(1, 0, 0);
+        assertThat(new ShardedProductRepository(shards).findById(product.getId())).get()
+                .extracting(Product::getVersion, p -> p.getStock().getQuantity(), Product::getName)
+                .containsExactly(1L, 7, "Ürün");
+    }
+
+    private ProductShards shards(List<String> ring, List<String> previousRing) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (String name : ring) {
+            shards.put(name, dataSources.computeIfAbsent(name, this::database));
+        }
+        for (String name : previousRing) {
+            shards.putIfAbsent(name, dataSources.computeIfAbsent(name, this::database));
+        }
+        return new ProductShards(shards, ring, previousRing, 64, Duration.ofSeconds(5));
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + prefix + name
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        return dataSource;
+    }
+
+    private Map<String, Integer> rowsPerShard(String id) {
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        dataSources.forEach((name, dataSource) -> rows.put(name, new JdbcTemplate(dataSource)
+                .queryForObject("SELECT COUNT(*) FROM products WHERE id = ?", Integer.class, id)));
+        return rows;
+    }
+
+    private Map<String, Integer> processedOrdersPerShard(String orderId) {
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        dataSources.forEach((name, dataSource) -> rows.put(name, new JdbcTemplate(dataSource)
+                .queryForObject("SELECT COUNT(*) FROM processed_orders WHERE order_id = ?", Integer.class, orderId)));
+        return rows;
+    }
+
+    private long count(String shard) {
+        return new JdbcTemplate(dataSources.get(shard)).queryForObject("SELECT COUNT(*) FROM products", Long.class);
+    }
+
+    private static void insertInto(DataSource dataSource, Product product) {
+        new JdbcTemplate(dataSource).update("INSERT INTO products (id, name, description, price_amount, "
+                + "price_currency, stock_quantity, version) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                product.getId().toString(), product.getName(), product.getDescription(), product.getPrice().getAmount(),
+                product.getPrice().getCurrency().getCode(), product.getStock().getQuantity(), product.getVersion());
+    }
+
+    private static void assertSamePage(ProductPageResponse actual, ProductPageResponse expected) {
+        assertThat(actual.getTotalCount()).isEqualTo(expected.getTotalCount());
+        assertThat(actual.getProducts()).extracting(ProductResponse::getId)
+                .containsExactlyElementsOf(expected.getProducts().stream().map(ProductResponse::getId).toList());
+    }
+
+    private static Product product(String name, String price, int stock) {
+        return Product.create(name, name + " açıklaması", new Price(new BigDecimal(price), Currency.TRY),
+                new Stock(stock));
+    }
+}
@@ -0,0 +1,71 @@
+package com.turkcell.product_service.messaging.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.stream.function.StreamOperations;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.KafkaNull;
+import org.springframework.messaging.Message;
+
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.events.ProductChangedEvent;
+
+/**
+ * Kayıtlar ürün ID'siyle anahtarlanır; silmede DELETED olayını aynı anahtarlı tombstone izler
+ */
+class ProductChangedProducerTest {
+	private static final String ID = "3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01";
+
+	private final List<Message<?>> sent = new ArrayList<>();
+	private final ProductChangedProducer producer = new ProductChangedProducer(recordingStreamBridge());
+
+	@Test
+	void updateIsSentKeyedByProductId() {
+		ProductChangedEvent event = ProductChangedEvent.updated(new ProductResponse(ID, "Klavye", null,
+				new PriceDto(new BigDecimal("1249.90"), "TRY"), new StockDto(5), 4L));
+
+		producer.publish(event);
+
+		assertThat(sent).hasSize(1);
+		assertThat(sent.get(0).getPayload()).isSameAs(event);
+		assertThat(key(sent.get(0))).isEqualTo(ID);
+	}
+
+	@Test
+	void deleteIsFollowedByATombstoneWithTheSameKey() {
+		ProductChangedEvent event = ProductChangedEvent.deleted(ID);
+
+		producer.publish(event);
+
+		assertThat(sent).hasSize(2);
+		assertThat(sent.get(0).getPayload()).isSameAs(event);
+		assertThat(sent.get(1).getPayload()).isSameAs(KafkaNull.INSTANCE);
+		assertThat(sent).extracting(ProductChangedProducerTest::key).containsOnly(ID);
+	}
+
+	private static String key(Message<?> message) {
+		return new String(message.getHeaders().get(KafkaHeaders.KEY, byte[].class), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Yalnızca send(binding, mesaj) desteklenir - başka bir binding'e gönderim testi başarısız kılar
+	 */
+	private StreamOperations recordingStreamBridge() {
+		return (StreamOperations) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { StreamOperations.class }, (proxy, method, args) -> {
+					assertThat(args).hasSize(2);
+					assertThat(args[0]).isEqualTo(ProductChangedProducer.BINDING);
+					sent.add((Message<?>) args[1]);
+					return true;
+				});
+	}
+}
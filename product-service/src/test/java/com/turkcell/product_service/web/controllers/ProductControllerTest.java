@@ -0,0 +1,249 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.dtos.UpdateProductRequest;
+import com.turkcell.product_service.application.ports.ProductEventPublisherPort;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.application.services.ProductService;
+import com.turkcell.product_service.application.usecases.CreateProductUseCase;
+import com.turkcell.product_service.application.usecases.DeleteProductUseCase;
+import com.turkcell.product_service.application.usecases.GetAllProductsUseCase;
+import com.turkcell.product_service.application.usecases.GetProductByIdUseCase;
+import com.turkcell.product_service.application.usecases.UpdateProductUseCase;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import com.turkcell.product_service.infrastructure.repositories.ProductRepositoryImpl;
+import com.turkcell.product_service.infrastructure.routing.ReadYourWritesAdapter;
+import com.turkcell.product_service.web.exceptions.GlobalExceptionHandler;
+import com.turkcell.product_service.web.json.JsonSegmentsHttpMessageConverter;
+import com.turkcell.product_service.web.json.ProductJsonCache;
+import com.turkcell.product_service.web.json.ProductJsonCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Ürün API'si MockMvc ile - gerçek use case'ler, Hibernate ve JSON cache, H2 PostgreSQL modu + Flyway
+ * Testler kendi transaction'ında çalışmaz; her istek commit edilmiş veriyi görür
+ * Başka bir instance'ın yazması, version'ı doğrudan SQL ile artırılarak (evict olmadan) taklit edilir
+ */
+@DataJpaTest(properties = {
+        // application.yml'deki config server import'u yüklenmesin - gereken ayarlar aşağıda
+        "spring.config.location=optional:classpath:/query-budget/",
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:product-controller;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.locations=classpath:db/migration/common,classpath:db/migration/{vendor}",
+        "spring.jpa.hibernate.ddl-auto=validate" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ProductRepositoryImpl.class, JdbcProductQueryAdapter.class, CreateProductUseCase.class,
+        UpdateProductUseCase.class, DeleteProductUseCase.class, GetProductByIdUseCase.class,
+        GetAllProductsUseCase.class, ProductControllerTest.Ports.class })
+class ProductControllerTest {
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    @Autowired
+    private CreateProductUseCase createProduct;
+    @Autowired
+    private UpdateProductUseCase updateProduct;
+    @Autowired
+    private DeleteProductUseCase deleteProduct;
+    @Autowired
+    private GetProductByIdUseCase getProductById;
+    @Autowired
+    private GetAllProductsUseCase getAllProducts;
+    @Autowired
+    private ProductJsonCache productJsonCache;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = mockMvc(updateProduct);
+    }
+
+    @Test
+    void unknownFieldIsRejectedWithBadRequest() throws Exception {
+        ProductResponse product = createProduct.execute(request("Klavye"));
+
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId()).param("fields", "name,colour"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Bilinmeyen alan: colour")));
+        mockMvc.perform(get("/api/v1/products").param("fields", "colour"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void sparseResponseContainsOnlyTheRequestedFields() throws Exception {
+        ProductResponse product = createProduct.execute(request("Mouse"));
+
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId()).param("fields", "name,stock"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + product.getVersion() + ";id,name,stock\""))
+                .andExpect(jsonPath("$.id").value(product.getId()))
+                .andExpect(jsonPath("$.name").value("Mouse"))
+                .andExpect(jsonPath("$.stock.quantity").value(5))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.price").doesNotExist());
+    }
+
+    @Test
+    void unchangedProductIsAnsweredWithNotModified() throws Exception {
+        ProductResponse product = createProduct.execute(request("Monitör"));
+        String eTag = "\"" + product.getVersion() + "\"";
+
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(jsonPath("$.name").value("Monitör"));
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void writeFromAnotherInstanceIsNotHiddenByTheCachedVersion() throws Exception {
+        ProductResponse product = createProduct.execute(request("Tablet"));
+        String eTag = "\"" + product.getVersion() + "\"";
+        // Girdi cache'e alınır, ardından başka bir instance ürünü günceller - bu instance'ta evict çalışmaz
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId())).andExpect(status().isOk());
+        jdbcTemplate.update("UPDATE products SET name = 'Tablet Pro', version = version + 1 WHERE id = ?",
+                product.getId());
+
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (product.getVersion() + 1) + "\""))
+                .andExpect(jsonPath("$.name").value("Tablet Pro"));
+    }
+
+    @Test
+    void writesWithAStaleIfMatchFailWithPreconditionFailed() throws Exception {
+        ProductResponse product = createProduct.execute(request("Kulaklık"));
+        String staleETag = "\"" + product.getVersion() + "\"";
+        updateProduct.execute(product.getId(), update("Kulaklık V2"));
+
+        mockMvc.perform(put("/api/v1/products/{id}", product.getId())
+                        .header(HttpHeaders.IF_MATCH, staleETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(OBJECT_MAPPER.writeValueAsBytes(update("Kulaklık V3"))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+        mockMvc.perform(delete("/api/v1/products/{id}", product.getId()).header(HttpHeaders.IF_MATCH, staleETag))
+                .andExpect(status().isPreconditionFailed());
+
+        String currentETag = "\"" + (product.getVersion() + 1) + "\"";
+        mockMvc.perform(put("/api/v1/products/{id}", product.getId())
+                        .header(HttpHeaders.IF_MATCH, currentETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(OBJECT_MAPPER.writeValueAsBytes(update("Kulaklık V3"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (product.getVersion() + 2) + "\""))
+                .andExpect(jsonPath("$.name").value("Kulaklık V3"));
+        assertThat(getProductById.execute(product.getId()).getName()).isEqualTo("Kulaklık V3");
+    }
+
+    @Test
+    void concurrentUpdateBetweenLoadAndSaveIsAConflict() throws Exception {
+        ProductResponse product = createProduct.execute(request("Hoparlör"));
+        // Ürün yüklendikten sonra, kaydedilmeden önce başka bir istek onu günceller
+        ProductRepository racingRepository = (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(), new Class<?>[] { ProductRepository.class },
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(productRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findById")) {
+                        jdbcTemplate.update("UPDATE products SET stock_quantity = 1, version = version + 1 "
+                                + "WHERE id = ?", product.getId());
+                    }
+                    return result;
+                });
+        MockMvc racingMockMvc = mockMvc(new UpdateProductUseCase(racingRepository, event -> {
+        }, productJsonCache));
+
+        racingMockMvc.perform(put("/api/v1/products/{id}", product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(OBJECT_MAPPER.writeValueAsBytes(update("Hoparlör V2"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+
+        ProductResponse stored = getProductById.execute(product.getId());
+        assertThat(stored.getName()).isEqualTo("Hoparlör");
+        assertThat(stored.getStock().getQuantity()).isEqualTo(1);
+    }
+
+    private MockMvc mockMvc(UpdateProductUseCase updateProductUseCase) {
+        // Arama, toplu fiyat, içe aktarım ve stok use case'leri bu testte kullanılmaz
+        ProductService productService = new ProductService(createProduct, getProductById, getAllProducts, null,
+                updateProductUseCase, deleteProduct, null, null, null);
+        return MockMvcBuilders.standaloneSetup(new ProductController(productService, productJsonCache))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new JsonSegmentsHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(OBJECT_MAPPER))
+                .build();
+    }
+
+    private static UpdateProductRequest update(String name) {
+        return new UpdateProductRequest(name, name + " açıklaması", null, null);
+    }
+
+    private static CreateProductRequest request(String name) {
+        return new CreateProductRequest(name, name + " açıklaması", new PriceDto(new BigDecimal("1249.90"), "TRY"),
+                new StockDto(5));
+    }
+
+    @TestConfiguration
+    static class Ports {
+        @Bean
+        ProductEventPublisherPort productEventPublisher() {
+            return event -> {
+            };
+        }
+
+        @Bean
+        ProductJsonCache productJsonCache(ProductQueryPort productQueryPort, GetProductByIdUseCase getProductById) {
+            return new ProductJsonCache(productQueryPort, getProductById, new ReadYourWritesAdapter(), OBJECT_MAPPER,
+                    new ProductJsonCacheProperties());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.turkcell.product_service.web.json;
+
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.application.ports.ReadConsistencyPort;
+import com.turkcell.product_service.application.usecases.GetProductByIdUseCase;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.query.JdbcProductQueryAdapter;
+import com.turkcell.product_service.infrastructure.routing.ReadReplicaProperties;
+import com.turkcell.product_service.infrastructure.routing.ReadReplicas;
+import com.turkcell.product_service.infrastructure.routing.ReadWriteRoutingDataSource;
+import com.turkcell.product_service.infrastructure.routing.ReadYourWrites;
+import com.turkcell.product_service.infrastructure.routing.ReadYourWritesAdapter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON cache + read replica'lar - primary ve henüz yetişmemiş (yazmayı görmeyen) bir replica, ayrı H2 veritabanları
+ * Replica'dan okunan eski satır cache'e girmez; read-your-writes penceresindeki yazar cache'i hiç kullanmaz
+ */
+class ProductJsonCacheReadYourWritesTest {
+    private static final String ID = "3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01";
+
+    private AnnotationConfigApplicationContext context;
+    private ProductJsonCache cache;
+    private JdbcTemplate primary;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(RoutingConfig.class);
+        cache = context.getBean(ProductJsonCache.class);
+        primary = new JdbcTemplate(context.getBean("primary", DataSource.class));
+        for (String database : new String[] {"primary", "replica"}) {
+            new JdbcTemplate(context.getBean(database, DataSource.class)).update("INSERT INTO products (id, name, "
+                    + "description, price_amount, price_currency, stock_quantity, version) "
+                    + "VALUES (?, 'Klavye', 'Eski açıklama', 1249.90, 'TRY', 5, 1)", ID);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        context.close();
+    }
+
+    @Test
+    void staleReplicaReadOfAnotherClientIsNotCachedAndTheWriterReadsItsWrite() {
+        // Yazma: primary'ye gider, replica henüz görmedi; yazma use case'i commit sonrası evict eder
+        write();
+        cache.evict(Product.ProductId.fromString(ID));
+
+        // Başka bir istemci: sürüm ve liste replica'dan okunur (eski), gövde cache'e primary'den girer
+        assertThat(cache.version(ID)).isEqualTo(1);
+        assertThat(body(cache.product(ID, 1))).contains("Yeni açıklama");
+        assertThat(body(cache.products())).contains("Yeni açıklama");
+        assertThat(cache.getCache().getIfPresent(ID).version()).isEqualTo(2);
+
+        // Yazar: read-your-writes penceresinde, her şey primary'den
+        ReadYourWrites.requirePrimary();
+        assertThat(cache.version(ID)).isEqualTo(2);
+        assertThat(cache.product(ID, 2).version()).isEqualTo(2);
+        assertThat(body(cache.products())).contains("Yeni açıklama");
+    }
+
+    @Test
+    void writerBypassesAnEntryThatAnotherInstanceDidNotEvict() {
+        cache.product(ID);
+        assertThat(cache.getCache().getIfPresent(ID).version()).isEqualTo(1);
+
+        // Yazma başka bir instance'ta yapıldı - bu instance'ın cache'i evict edilmedi
+        write();
+
+        ReadYourWrites.requirePrimary();
+        VersionedJson writerRead = cache.product(ID);
+        assertThat(writerRead.version()).isEqualTo(2);
+        assertThat(body(writerRead)).contains("Yeni açıklama");
+        assertThat(body(cache.products())).contains("Yeni açıklama");
+        // Pencere içindeki okumalar cache'e yazmaz
+        assertThat(cache.getCache().getIfPresent(ID).version()).isEqualTo(1);
+    }
+
+    private void write() {
+        primary.update("UPDATE products SET description = 'Yeni açıklama', version = 2 WHERE id = ?", ID);
+    }
+
+    private static String body(VersionedJson json) {
+        return new String(json.json(), StandardCharsets.UTF_8);
+    }
+
+    private static String body(JsonSegments segments) {
+        StringBuilder body = new StringBuilder();
+        segments.segments().forEach(segment -> body.append(new String(segment, StandardCharsets.UTF_8)));
+        return body.toString();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class RoutingConfig {
+        private final String prefix = "json-cache-ryw-" + System.nanoTime() + "-";
+
+        @Bean
+        DataSource primary() {
+            return database("primary");
+        }
+
+        @Bean
+        DataSource replica() {
+            return database("replica");
+        }
+
+        @Bean
+        ReadWriteRoutingDataSource dataSource() {
+            ReadReplicaProperties properties = new ReadReplicaProperties();
+            properties.setMaxReplicationLag(Duration.ofSeconds(1));
+            properties.setReadYourWritesWindow(Duration.ofSeconds(5));
+            ReadReplicas replicas = new ReadReplicas(Map.of("replica", replica()), properties);
+            replicas.checkHealth();
+            return new ReadWriteRoutingDataSource(primary(), replicas);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DataSourceTransactionManager(dataSource());
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate() {
+            return new JdbcTemplate(dataSource());
+        }
+
+        @Bean
+        JdbcProductQueryAdapter productQueryPort() {
+            return new JdbcProductQueryAdapter(jdbcTemplate());
+        }
+
+        @Bean
+        GetProductByIdUseCase getProductByIdUseCase(ProductQueryPort productQueryPort) {
+            return new GetProductByIdUseCase(productQueryPort);
+        }
+
+        @Bean
+        ReadConsistencyPort readConsistency() {
+            return new ReadYourWritesAdapter();
+        }
+
+        @Bean
+        ProductJsonCache productJsonCache(ProductQueryPort productQueryPort,
+                GetProductByIdUseCase getProductByIdUseCase) {
+            return new ProductJsonCache(productQueryPort, getProductByIdUseCase, readConsistency(),
+                    Jackson2ObjectMapperBuilder.json().build(), new ProductJsonCacheProperties());
+        }
+
+        private DataSource database(String name) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + prefix + name
+                    + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                    .load()
+                    .migrate();
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.turkcell.product_service.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductFields;
+import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchCriteria;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.application.usecases.GetProductByIdUseCase;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.routing.ReadYourWritesAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Önceden serileştirilmiş JSON parçaları - converter çıktısı Jackson'ın aynı DTO için ürettiği byte'larla aynı olmalı
+ * Geçersiz kılma: veritabanı okuması sürerken gelen evict, okunan (artık eski) sonucun cache'e girmesini engeller
+ */
+class ProductJsonCacheTest {
+    private static final String KEYBOARD = "3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01";
+    private static final String TEA_GLASS = "7a1c2d3e-4f50-4a6b-8c7d-9e0f1a2b3c4d";
+    private static final String CABLE = "c0ffee00-1234-4abc-9def-0123456789ab";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final InMemoryProductQueryPort port = new InMemoryProductQueryPort();
+    private final ProductJsonCache cache = new ProductJsonCache(port, new GetProductByIdUseCase(port),
+            new ReadYourWritesAdapter(), objectMapper, new ProductJsonCacheProperties());
+
+    @Test
+    void listIsWrittenByteForByteLikeJackson() throws IOException {
+        port.put(product(KEYBOARD, "Klavye", "Mekanik klavye", 1));
+        // Açıklaması olmayan ürün: null alan JSON'a yazılmaz
+        port.put(product(TEA_GLASS, "Çay Bardağı \"İnce Belli\" 6'lı – ğüşıöç 😀", null, 3));
+        port.put(product(CABLE, "Kablo\t\\ 2 m\n", "Satır\u0001sonu   ayraç", 7));
+
+        // İlk istek girdileri veritabanından doldurur, ikincisi tamamen cache'ten kurulur
+        assertWrittenLikeJackson(cache.products(), listResponse(port.all()));
+        assertWrittenLikeJackson(cache.products(), listResponse(port.all()));
+        assertThat(port.findByIdsCalls).isEqualTo(1);
+    }
+
+    @Test
+    void sparseAndPartiallyCachedListsAreWrittenLikeJackson() throws IOException {
+        // Projeksiyonlardan gelen, yalnızca bazı alanları dolu yanıtlar
+        port.put(new ProductResponse(KEYBOARD, "Klavye", null, null, null, 1L));
+        port.put(new ProductResponse(TEA_GLASS, null, null,
+                new PriceDto(new BigDecimal("49.90"), "TRY"), new StockDto(12), 1L));
+        cache.product(KEYBOARD);
+
+        assertWrittenLikeJackson(cache.products(), listResponse(port.all()));
+    }
+
+    @Test
+    void singleProductAndEmptyListAreWrittenLikeJackson() throws IOException {
+        assertWrittenLikeJackson(cache.products(), listResponse(List.of()));
+
+        ProductResponse tea = product(TEA_GLASS, "Çay Bardağı", null, 2);
+        port.put(tea);
+        VersionedJson json = cache.product(TEA_GLASS);
+
+        assertThat(json.version()).isEqualTo(2);
+        assertWrittenLikeJackson(json.segments(), tea);
+    }
+
+    @Test
+    void productLoadedWhileAnEvictHappensIsNotCached() {
+        port.put(product(KEYBOARD, "Klavye", "Eski açıklama", 1));
+        // Satır okunduktan sonra, sonuç cache'e konmadan önce başka bir istek ürünü güncelleyip evict ediyor
+        port.afterRead = () -> {
+            port.put(product(KEYBOARD, "Klavye", "Yeni açıklama", 2));
+            cache.evict(Product.ProductId.fromString(KEYBOARD));
+        };
+
+        assertThat(cache.product(KEYBOARD).version()).isEqualTo(1);
+        assertThat(cache.getCache().getIfPresent(KEYBOARD)).isNull();
+
+        port.afterRead = null;
+        assertThat(cache.product(KEYBOARD).version()).isEqualTo(2);
+        assertThat(cache.getCache().getIfPresent(KEYBOARD).version()).isEqualTo(2);
+    }
+
+    @Test
+    void listLoadedWhileAnEvictHappensIsNotCached() {
+        port.put(product(KEYBOARD, "Klavye", "Eski açıklama", 1));
+        port.put(product(CABLE, "Kablo", "2 m", 1));
+        ProductJsonCache.Listing listing = cache.listing();
+        port.put(product(KEYBOARD, "Klavye", "Yeni açıklama", 2));
+        cache.evict(Product.ProductId.fromString(KEYBOARD));
+
+        cache.products(listing);
+
+        assertThat(cache.getCache().asMap()).isEmpty();
+        cache.products();
+        assertThat(cache.getCache().asMap()).containsOnlyKeys(KEYBOARD, CABLE);
+        assertThat(cache.getCache().getIfPresent(KEYBOARD).version()).isEqualTo(2);
+    }
+
+    private void assertWrittenLikeJackson(JsonSegments segments, Object dto) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        new JsonSegmentsHttpMessageConverter().write(segments, MediaType.APPLICATION_JSON, output);
+
+        byte[] expected = objectMapper.writeValueAsBytes(dto);
+        assertThat(output.getBodyAsBytes()).isEqualTo(expected);
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(expected.length);
+    }
+
+    private static ProductListResponse listResponse(List<ProductResponse> products) {
+        return new ProductListResponse(products, products.size());
+    }
+
+    private static ProductResponse product(String id, String name, String description, long version) {
+        return new ProductResponse(id, name, description, new PriceDto(new BigDecimal("1249.90"), "TRY"),
+                new StockDto(5), version);
+    }
+
+    /**
+     * Ekleme sırasını koruyan, okumadan hemen sonra kanca çalıştırabilen sorgu portu
+     */
+    private static final class InMemoryProductQueryPort implements ProductQueryPort {
+        private final Map<String, ProductResponse> products = new LinkedHashMap<>();
+        private Runnable afterRead;
+        private int findByIdsCalls;
+
+        void put(ProductResponse product) {
+            products.put(product.getId(), product);
+        }
+
+        List<ProductResponse> all() {
+            return new ArrayList<>(products.values());
+        }
+
+        @Override
+        public Optional<ProductResponse> findById(Product.ProductId id, ProductFields fields) {
+            Optional<ProductResponse> product = Optional.ofNullable(products.get(id.toString()));
+            runAfterRead();
+            return product;
+        }
+
+        @Override
+        public List<ProductResponse> findAll(ProductFields fields) {
+            return all();
+        }
+
+        @Override
+        public List<ProductResponse> findPageAfter(String afterId, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProductPageResponse search(ProductSearchCriteria criteria, ProductFields fields) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Long> findVersion(Product.ProductId id) {
+            return Optional.ofNullable(products.get(id.toString())).map(ProductResponse::getVersion);
+        }
+
+        @Override
+        public List<ProductVersion> findAllVersions() {
+            return products.values().stream()
+                    .map(product -> new ProductVersion(product.getId(), product.getVersion()))
+                    .toList();
+        }
+
+        @Override
+        public List<ProductResponse> findByIds(Collection<String> ids) {
+            findByIdsCalls++;
+            List<ProductResponse> found = ids.stream().map(products::get).filter(product -> product != null).toList();
+            runAfterRead();
+            return found;
+        }
+
+        private void runAfterRead() {
+            Runnable hook = afterRead;
+            if (hook != null) {
+                hook.run();
+            }
+        }
+    }
+}
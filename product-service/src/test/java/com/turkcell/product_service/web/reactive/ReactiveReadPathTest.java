@@ -0,0 +1,177 @@
+package com.turkcell.product_service.web.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.usecases.ReactiveProductQueryUseCase;
+import com.turkcell.product_service.infrastructure.reactive.R2dbcConfig;
+import com.turkcell.product_service.infrastructure.reactive.R2dbcProductQueryAdapter;
+import com.turkcell.product_service.infrastructure.reactive.R2dbcReadProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reaktif okuma yolu uçtan uca: JDBC ile yazılan satırlar R2DBC havuzu, use case, router ve ayrı Reactor Netty
+ * sunucusu üzerinden okunur - H2 PostgreSQL modunda, uygulamanın Flyway şemasıyla
+ * Reaktif okuma kapalıyken R2DBC URL'si olmadan context'in açıldığı da doğrulanır
+ */
+class ReactiveReadPathTest {
+    private static final String KEYBOARD = "3f2b8c1e-9a47-4d2e-b6a1-0c5d7e8f9a01";
+    private static final String MOUSE = "7a1c2d3e-4f50-4a6b-8c7d-9e0f1a2b3c4d";
+    private static final String CABLE = "c0ffee00-1234-4abc-9def-0123456789ab";
+    private static final String ADAPTER = "d1e2f3a4-5b6c-4d7e-8f90-a1b2c3d4e5f6";
+
+    private static R2dbcConfig.ReadConnectionPool pool;
+    private static ReactiveReadServer server;
+    private static WebTestClient client;
+
+    @BeforeAll
+    static void startReadPath() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:reactive-read;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        insert(jdbcTemplate, KEYBOARD, "Klavye", "1249.90", "TRY", 5);
+        insert(jdbcTemplate, MOUSE, "Fare", "349.50", "TRY", 0);
+        insert(jdbcTemplate, CABLE, "Kablo", "89.99", "TRY", 40);
+        insert(jdbcTemplate, ADAPTER, "Adaptör", "120.00", "USD", 3);
+
+        R2dbcReadProperties r2dbc = new R2dbcReadProperties();
+        r2dbc.setUrl("r2dbc:h2:mem:///reactive-read;DB_CLOSE_DELAY=-1");
+        r2dbc.setUsername("sa");
+        r2dbc.setInitialSize(1);
+        r2dbc.setMaxSize(2);
+        R2dbcConfig r2dbcConfig = new R2dbcConfig();
+        pool = r2dbcConfig.readConnectionPool(r2dbc);
+        ReactiveProductQueryUseCase useCase = new ReactiveProductQueryUseCase(
+                new R2dbcProductQueryAdapter(r2dbcConfig.readDatabaseClient(pool)));
+
+        ReactiveReadProperties properties = new ReactiveReadProperties();
+        properties.setEnabled(true);
+        properties.setPort(0);
+        properties.setDefaultPageSize(2);
+        ReactiveReadRouterConfig routerConfig = new ReactiveReadRouterConfig();
+        server = routerConfig.reactiveReadServer(routerConfig.reactiveProductRoutes(useCase, properties),
+                Jackson2ObjectMapperBuilder.json().build(), properties);
+        server.start();
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + server.getPort()).build();
+    }
+
+    @AfterAll
+    static void stopReadPath() {
+        server.stop();
+        pool.destroy();
+    }
+
+    @Test
+    void readsAProductById() {
+        client.get().uri("/api/v1/products/{id}", KEYBOARD).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(KEYBOARD)
+                .jsonPath("$.name").isEqualTo("Klavye")
+                .jsonPath("$.price.amount").isEqualTo(1249.90)
+                .jsonPath("$.price.currency").isEqualTo("TRY")
+                .jsonPath("$.stock.quantity").isEqualTo(5)
+                // version gövdeye yazılmaz - MVC tarafındaki yanıtla aynı şekil
+                .jsonPath("$.version").doesNotExist();
+    }
+
+    @Test
+    void mapsMissingAndMalformedIdsLikeTheServletApi() {
+        client.get().uri("/api/v1/products/{id}", "00000000-0000-4000-8000-000000000000").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo("/api/v1/products/00000000-0000-4000-8000-000000000000");
+
+        client.get().uri("/api/v1/products/{id}", "not-a-uuid").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void pagesAndFiltersProducts() {
+        client.get().uri("/api/v1/products").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.products.length()").isEqualTo(2)
+                .jsonPath("$.size").isEqualTo(2)
+                .jsonPath("$.totalCount").isEqualTo(4);
+
+        // 120 USD'lik adaptör TRY aralığına girmez
+        client.get().uri("/api/v1/products?minPrice=100&currency=TRY&inStock=true").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.products.length()").isEqualTo(1)
+                .jsonPath("$.products[0].id").isEqualTo(KEYBOARD)
+                .jsonPath("$.totalCount").isEqualTo(1);
+
+        client.get().uri("/api/v1/products?maxPrice=400&currency=try&page=1&size=1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.products.length()").isEqualTo(1)
+                .jsonPath("$.page").isEqualTo(1)
+                .jsonPath("$.totalCount").isEqualTo(2);
+
+        client.get().uri("/api/v1/products?currency=USD").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.products[0].id").isEqualTo(ADAPTER)
+                .jsonPath("$.products[0].price.currency").isEqualTo("USD")
+                .jsonPath("$.totalCount").isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidPagingAndFilters() {
+        client.get().uri("/api/v1/products?size=" + (ReactiveProductQueryUseCase.MAX_PAGE_SIZE + 1)).exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/api/v1/products?minPrice=500&maxPrice=100&currency=TRY").exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/api/v1/products?minPrice=100").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Fiyat filtresi için para birimi (currency) gereklidir");
+        client.get().uri("/api/v1/products?maxPrice=100&currency=XYZ").exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/api/v1/products?minPrice=ucuz").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void disabledReadPathNeedsNoR2dbcUrl() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(R2dbcConfig.class, R2dbcProductQueryAdapter.class,
+                        ReactiveProductQueryUseCase.class, ReactiveReadRouterConfig.class)
+                .withBean(ObjectMapper.class, () -> Jackson2ObjectMapperBuilder.json().build());
+
+        runner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(R2dbcConfig.ReadConnectionPool.class);
+            assertThat(context).doesNotHaveBean(ReactiveReadServer.class);
+        });
+        runner.withPropertyValues("product.reactive-read.enabled=true").run(context -> assertThat(context)
+                .getFailure()
+                .rootCause()
+                .hasMessageContaining("product.reactive-read.r2dbc.url"));
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, String id, String name, String price, String currency,
+            int stock) {
+        jdbcTemplate.update("INSERT INTO products (id, name, description, price_amount, price_currency, "
+                + "stock_quantity, version) VALUES (?, ?, ?, ?, ?, ?, 0)",
+                id, name, name + " açıklaması", new BigDecimal(price), currency, stock);
+    }
+}
@@ -0,0 +1,104 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GET /api/v1/products/{id} için kapalı model yük testi
+ * Verilen sayıda eşzamanlı istemci (virtual thread) süre boyunca istek atar; throughput ve gecikme yüzdeliklerini yazar
+ *
+ * Kullanım: java scripts/ProductByIdLoadTest.java <baseUrl> <id[,id...]> [eşzamanlılık=400] [süre sn=30] [ısınma sn=5]
+ */
+public class ProductByIdLoadTest {
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 2) {
+			System.err.println("Kullanım: java ProductByIdLoadTest.java <baseUrl> <id[,id...]> [eşzamanlılık] [süre sn] [ısınma sn]");
+			System.exit(1);
+		}
+		String baseUrl = args[0].replaceAll("/$", "");
+		String[] ids = args[1].split(",");
+		int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 400;
+		Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 30);
+		Duration warmup = Duration.ofSeconds(args.length > 4 ? Long.parseLong(args[4]) : 5);
+
+		HttpClient client = HttpClient.newBuilder()
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+
+		run(client, baseUrl, ids, concurrency, warmup, null);
+		List<long[]> samples = new ArrayList<>();
+		Result result = run(client, baseUrl, ids, concurrency, duration, samples);
+
+		long[] latencies = samples.stream().flatMapToLong(Arrays::stream).filter(v -> v > 0).sorted().toArray();
+		System.out.printf("eşzamanlılık=%d süre=%ds%n", concurrency, duration.toSeconds());
+		System.out.printf("istek=%d hata=%d throughput=%.1f req/s%n", result.ok + result.failed, result.failed,
+				(result.ok + result.failed) / (double) duration.toSeconds());
+		System.out.printf("gecikme ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+				percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+				percentile(latencies, 99.9), latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+	}
+
+	private static Result run(HttpClient client, String baseUrl, String[] ids, int concurrency, Duration duration,
+			List<long[]> samples) throws InterruptedException {
+		long deadline = System.nanoTime() + duration.toNanos();
+		LongAdder ok = new LongAdder();
+		LongAdder failed = new LongAdder();
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				long[] latencies = new long[1 << 16];
+				if (samples != null) {
+					synchronized (samples) {
+						samples.add(latencies);
+					}
+				}
+				workers.submit(() -> {
+					int n = 0;
+					while (System.nanoTime() < deadline) {
+						String id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+						HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/products/" + id))
+								.timeout(Duration.ofSeconds(30))
+								.GET()
+								.build();
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() == 200) {
+								ok.increment();
+							} else {
+								failed.increment();
+							}
+						} catch (Exception ex) {
+							failed.increment();
+						}
+						if (n < latencies.length) {
+							latencies[n++] = System.nanoTime() - start;
+						}
+					}
+					return null;
+				});
+			}
+		}
+		return new Result(ok.sum(), failed.sum());
+	}
+
+	private static double percentile(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+	}
+
+	private record Result(long ok, long failed) {
+	}
+}
@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Bir servisi hızlı açılış modunda başlatır (Spring AOT + AppCDS arşivi)
+# Önce: (cd <modül> && mvn -Pfast-start package)
+# Kullanım: scripts/fast-start.sh <modül> [uygulama argümanları...]
+set -euo pipefail
+
+module="${1:?modül adı gerekli (ör. product-service)}"
+shift
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+dir="$root/$module/target/fast-start"
+jar="$(find "$dir" -maxdepth 1 -name '*.jar' | head -n 1)"
+
+if [[ -z "$jar" ]]; then
+	echo "$dir bulunamadı - önce: (cd $module && mvn -Pfast-start package)" >&2
+	exit 1
+fi
+
+cds=()
+if [[ -f "$dir/application.jsa" ]]; then
+	cds+=(-XX:SharedArchiveFile="$dir/application.jsa" -Xlog:cds=off -Xlog:cds+dynamic=off)
+else
+	# -Dfast-start.skip-training=true ile derlendi - yalnızca AOT
+	echo "$dir/application.jsa yok, CDS arşivi olmadan başlatılıyor" >&2
+fi
+
+args=()
+if [[ "$module" == "config-server" ]]; then
+	# AOT build'i filesystem backend'i ile yapıldı - runtime profili aynı olmalı
+	args+=(--spring.profiles.active=filesystem)
+fi
+
+# Working directory modül dizini - config-server'ın ../configurations yolu buna göre çözülür
+cd "$root/$module"
+exec java \
+	"${cds[@]}" \
+	-Dspring.aot.enabled=true \
+	-Dspring.cloud.refresh.enabled=false \
+	${JAVA_OPTS:-} \
+	-jar "$jar" "${args[@]}" "$@"
@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# REST yollarının (GET /api/v1/products, GET /{id}, POST, PUT) gecikmesini doğrudan product-service'e ve
+# gateway-server üzerinden açık model yükle ölçer; uç nokta başına HDR histogram raporu yazar
+#
+# Gömülü Kafka broker'ı (KRaft), H2 ve gateway için process içi discovery taklidiyle tek makinede çalışır - Docker,
+# Postgres, config-server, Eureka gerekmez
+# Servis jar'ları yoksa ya da eskiyse paketlenir; bağımlılıklar bir kez indirildikten sonra MVN_OPTS=-o ile ağsız çalışır
+# Servis JVM'lerine JAVA_OPTS aktarılır
+#
+# Kullanım: scripts/http-load-test.sh [--products=1000000] [--rate=500] [--duration=60] [--skew=0.99] ...
+#   (tüm seçenekler: benchmarks/src/main/java/.../http/LoadTestOptions.java)
+# Örnekler:
+#   scripts/http-load-test.sh --products=5000000 --rate=2000 --mix=get:90,update:10
+#   scripts/http-load-test.sh --targets=gateway --out=target/http-bulkhead-400 \
+#     --gateway-arg=--resilience4j.bulkhead.configs.product-service.max-concurrent-calls=400
+#   scripts/http-load-test.sh --products=10000 --mix=list:1 --rate=20    # tüm kataloğu dönen liste
+#   scripts/http-load-test.sh --catalog-only=true                        # yalnızca katalog CSV'si
+# Sonuçlar: target/http-load-test/ (summary.csv, <hedef>-<uç nokta>.hgrm, katalog CSV'si, servis logları)
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+
+catalog_only=false
+targets="direct,gateway"
+for arg in "$@"; do
+	case "$arg" in
+		--catalog-only=*) catalog_only="${arg#--catalog-only=}" ;;
+		--targets=*) targets="${arg#--targets=}" ;;
+	esac
+done
+
+if [[ "$catalog_only" != true ]]; then
+	modules=(product-service)
+	if [[ ",$targets," == *,gateway,* ]]; then
+		modules+=(gateway-server)
+	fi
+	for module in "${modules[@]}"; do
+		# Jar yoksa ya da kaynaklar jar'dan yeniyse yeniden paketlenir - eski kod ölçülmesin
+		jar="$(ls -t "$root/$module"/target/*.jar 2> /dev/null | head -n 1 || true)"
+		if [[ -z "$jar" || -n "$(find "$root/$module/src/main" "$root/$module/pom.xml" -newer "$jar" -print -quit)" ]]; then
+			echo "$module paketleniyor..."
+			(cd "$root/$module" && mvn -B -q ${MVN_OPTS:-} -DskipTests package)
+		fi
+	done
+fi
+
+args=("--root=$root")
+for arg in "$@"; do
+	# Göreli --out depo köküne göre
+	if [[ "$arg" == --out=* && "${arg#--out=}" != /* ]]; then
+		arg="--out=$root/${arg#--out=}"
+	fi
+	args+=("$arg")
+done
+
+cd "$root/benchmarks"
+exec mvn -B -q ${MVN_OPTS:-} compile exec:exec -Dbenchmark.main=com.turkcell.benchmarks.http.HttpLoadTest \
+	-Dbenchmark.args="${args[*]}"
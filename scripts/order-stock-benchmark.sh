@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Sipariş → stok hattının (order-service → order-topic → product-service) sürdürülebilir throughput'unu,
+# uçtan uca gecikme yüzdeliklerini ve consumer lag'ini ölçer
+#
+# Gömülü Kafka broker'ı (KRaft) ve H2 ile tek makinede çalışır - Docker, Postgres, config-server, Eureka gerekmez
+# Servis jar'ları yoksa paketlenir; bağımlılıklar bir kez indirildikten sonra MVN_OPTS=-o ile ağsız çalışır
+# Servis JVM'lerine JAVA_OPTS aktarılır
+#
+# Kullanım: scripts/order-stock-benchmark.sh [--rates=200,500,1000] [--duration=30] [--skew=1.0] ...
+#   (tüm seçenekler: benchmarks/src/main/java/.../orderstock/BenchmarkOptions.java)
+# Örnek: consumer eşzamanlılığını karşılaştırmak için
+#   scripts/order-stock-benchmark.sh --out=target/osb-c1
+#   scripts/order-stock-benchmark.sh --out=target/osb-c3 \
+#     --product-service-arg=--spring.cloud.stream.bindings.orderCreated-in-0.consumer.concurrency=3
+# Sonuçlar: target/order-stock-benchmark/ (summary.csv, timeline.csv, e2e-<hız>.hgrm, servis logları)
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+
+for module in product-service order-service; do
+	if ! ls "$root/$module"/target/*.jar > /dev/null 2>&1; then
+		echo "$module paketleniyor..."
+		(cd "$root/$module" && mvn -B -q ${MVN_OPTS:-} -DskipTests package)
+	fi
+done
+
+args=("--root=$root")
+for arg in "$@"; do
+	# Göreli --out depo köküne göre
+	if [[ "$arg" == --out=* && "${arg#--out=}" != /* ]]; then
+		arg="--out=$root/${arg#--out=}"
+	fi
+	args+=("$arg")
+done
+
+cd "$root/benchmarks"
+exec mvn -B -q ${MVN_OPTS:-} compile exec:exec -Dbenchmark.main=com.turkcell.benchmarks.orderstock.OrderStockBenchmark \
+	-Dbenchmark.args="${args[*]}"
@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# product-service'i platform thread ve virtual thread modunda ayrı ayrı başlatıp
+# GET /api/v1/products/{id} üzerinde aynı yükü uygular (önce/sonra karşılaştırması)
+#
+# Önkoşullar: config-server ve docker compose (Postgres, Kafka) ayakta, product-service paketlenmiş
+#   (cd product-service && mvn -DskipTests package)
+# Kullanım: scripts/product-load-test.sh <id[,id...]> [eşzamanlılık=400] [süre sn=30]
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+ids="${1:?en az bir ürün id'si gerekli}"
+concurrency="${2:-400}"
+seconds="${3:-30}"
+jar="$(find "$root/product-service/target" -maxdepth 1 -name 'product-service-*.jar' | head -n 1)"
+
+run_mode() {
+	local virtual="$1" log="$root/target/product-load-$1.log"
+	mkdir -p "$root/target"
+	java -jar "$jar" --spring.threads.virtual.enabled="$virtual" > "$log" 2>&1 &
+	local pid=$!
+	until curl -s -o /dev/null "http://localhost:8081/actuator/health"; do
+		kill -0 "$pid" 2>/dev/null || { echo "product-service açılamadı - bkz. $log" >&2; exit 1; }
+		sleep 0.5
+	done
+	echo "== spring.threads.virtual.enabled=$virtual"
+	java "$root/scripts/ProductByIdLoadTest.java" http://localhost:8081 "$ids" "$concurrency" "$seconds"
+	if [[ "$virtual" == "true" ]]; then
+		echo "-- pinning:"
+		curl -s "http://localhost:8081/actuator/vtpinning"
+		echo
+	fi
+	echo "-- DB limiter:"
+	for metric in product.db.limiter.queued product.db.limiter.rejected hikaricp.connections.pending; do
+		curl -s "http://localhost:8081/actuator/metrics/$metric" | grep -o '"measurements":\[[^]]*\]' || true
+	done
+	kill "$pid"
+	wait "$pid" 2>/dev/null || true
+}
+
+run_mode false
+run_mode true
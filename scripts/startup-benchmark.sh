@@ -0,0 +1,113 @@
+#!/usr/bin/env bash
+# Her servis için normal jar ve hızlı açılış modu (AOT + AppCDS) arasında
+# time-to-first-successful-request ölçer
+#
+# "Başarılı istek": /actuator/health'in HTTP yanıt vermesi (200 veya bağımlılık DOWN ise 503)
+# Süre JVM process'inin başlatılmasından ilk yanıta kadardır (duvar saati)
+#
+# Önkoşullar:
+#   - Her modülde: mvn -Pfast-start -DskipTests package
+#   - product-service/order-service için docker compose up (Postgres, Kafka)
+#   - config-server dışındaki servisler config-server'a ihtiyaç duyar - script onu ölçümler
+#     arasında arka planda hızlı modda ayakta tutar
+#
+# Kullanım: scripts/startup-benchmark.sh [tekrar sayısı] [modül...]
+# Sonuçlar: target/startup-benchmark.csv
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+runs="${1:-5}"
+shift || true
+modules=("$@")
+if [[ ${#modules[@]} -eq 0 ]]; then
+	modules=(config-server discovery-server gateway-server product-service order-service)
+fi
+
+declare -A ports=(
+	[config-server]=8787
+	[discovery-server]=8761
+	[gateway-server]=8888
+	[product-service]=8081
+	[order-service]=8080
+)
+
+out="$root/target/startup-benchmark.csv"
+mkdir -p "$root/target"
+echo "module,mode,run,millis" > "$out"
+
+now_ms() {
+	date +%s%3N
+}
+
+wait_for_port_free() {
+	local port="$1"
+	while curl -s -o /dev/null "http://localhost:$port/actuator/health"; do
+		sleep 0.2
+	done
+}
+
+# Process'i başlatır, ilk yanıta kadar bekler, süreyi (ms) stdout'a yazar ve process'i durdurur
+measure() {
+	local module="$1" mode="$2" port="${ports[$1]}"
+	local jar pid start code log="$root/target/startup-$module-$mode.log"
+
+	wait_for_port_free "$port"
+	start="$(now_ms)"
+	if [[ "$mode" == "fast" ]]; then
+		"$root/scripts/fast-start.sh" "$module" > "$log" 2>&1 &
+	else
+		jar="$(find "$root/$module/target" -maxdepth 1 -name '*.jar' ! -name '*.original' | head -n 1)"
+		extra=()
+		[[ "$module" == "config-server" ]] && extra+=(--spring.profiles.active=filesystem)
+		(cd "$root/$module" && exec java ${JAVA_OPTS:-} -jar "$jar" "${extra[@]}") > "$log" 2>&1 &
+	fi
+	pid=$!
+
+	for _ in $(seq 1 1200); do
+		code="$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$port/actuator/health" || true)"
+		if [[ "$code" == "200" || "$code" == "503" ]]; then
+			echo $(( $(now_ms) - start ))
+			kill "$pid" 2>/dev/null || true
+			wait "$pid" 2>/dev/null || true
+			return 0
+		fi
+		if ! kill -0 "$pid" 2>/dev/null; then
+			echo "$module ($mode) açılmadan sonlandı - bkz. $log" >&2
+			return 1
+		fi
+		sleep 0.05
+	done
+	kill "$pid" 2>/dev/null || true
+	echo "$module ($mode) 60 sn içinde yanıt vermedi - bkz. $log" >&2
+	return 1
+}
+
+config_pid=""
+cleanup() {
+	[[ -n "$config_pid" ]] && kill "$config_pid" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+for module in "${modules[@]}"; do
+	if [[ "$module" != "config-server" && -z "$config_pid" ]]; then
+		"$root/scripts/fast-start.sh" config-server > "$root/target/startup-config-server-infra.log" 2>&1 &
+		config_pid=$!
+		until curl -s -o /dev/null "http://localhost:8787/actuator/health"; do sleep 0.2; done
+	fi
+
+	for mode in baseline fast; do
+		for run in $(seq 1 "$runs"); do
+			millis="$(measure "$module" "$mode")"
+			echo "$module,$mode,$run,$millis" >> "$out"
+			printf '%-18s %-9s run %-2s %6s ms\n' "$module" "$mode" "$run" "$millis"
+		done
+	done
+done
+
+echo
+echo "Medyanlar:"
+for module in "${modules[@]}"; do
+	base="$(awk -F, -v m="$module" '$1==m && $2=="baseline" {print $4}' "$out" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+	fast="$(awk -F, -v m="$module" '$1==m && $2=="fast" {print $4}' "$out" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+	printf '%-18s baseline %6s ms   fast %6s ms   (%s%%)\n' "$module" "$base" "$fast" "$(( fast * 100 / base ))"
+done